@@ -31,20 +31,26 @@ import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
 import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
 import org.springframework.boot.actuate.metrics.jdbc.DataSourcePoolMetrics;
+import org.springframework.boot.actuate.metrics.jdbc.InstrumentedDataSource;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.jdbc.DataSourceUnwrapper;
 import org.springframework.boot.jdbc.metadata.DataSourcePoolMetadataProvider;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.log.LogMessage;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
 import org.springframework.util.StringUtils;
 
 /**
@@ -61,12 +67,25 @@ import org.springframework.util.StringUtils;
 @ConditionalOnBean({ DataSource.class, MeterRegistry.class })
 public class DataSourcePoolMetricsAutoConfiguration {
 
+	private static final String DATASOURCE_SUFFIX = "dataSource";
+
+	/**
+	 * Get the name of a DataSource based on its {@code beanName}.
+	 * @param beanName the name of the data source bean
+	 * @return a name for the given data source
+	 */
+	private static String getDataSourceName(String beanName) {
+		if (beanName.length() > DATASOURCE_SUFFIX.length()
+				&& StringUtils.endsWithIgnoreCase(beanName, DATASOURCE_SUFFIX)) {
+			return beanName.substring(0, beanName.length() - DATASOURCE_SUFFIX.length());
+		}
+		return beanName;
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	@ConditionalOnBean(DataSourcePoolMetadataProvider.class)
 	static class DataSourcePoolMetadataMetricsConfiguration {
 
-		private static final String DATASOURCE_SUFFIX = "dataSource";
-
 		@Autowired
 		void bindDataSourcesToRegistry(Map<String, DataSource> dataSources, MeterRegistry registry,
 				ObjectProvider<DataSourcePoolMetadataProvider> metadataProviders) {
@@ -83,19 +102,6 @@ public class DataSourcePoolMetricsAutoConfiguration {
 					.bindTo(registry);
 		}
 
-		/**
-		 * Get the name of a DataSource based on its {@code beanName}.
-		 * @param beanName the name of the data source bean
-		 * @return a name for the given data source
-		 */
-		private String getDataSourceName(String beanName) {
-			if (beanName.length() > DATASOURCE_SUFFIX.length()
-					&& StringUtils.endsWithIgnoreCase(beanName, DATASOURCE_SUFFIX)) {
-				return beanName.substring(0, beanName.length() - DATASOURCE_SUFFIX.length());
-			}
-			return beanName;
-		}
-
 	}
 
 	@Configuration(proxyBeanMethods = false)
@@ -134,4 +140,40 @@ public class DataSourcePoolMetricsAutoConfiguration {
 
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(DelegatingDataSource.class)
+	@ConditionalOnProperty(prefix = "management.metrics.jdbc", name = "instrument-connections", havingValue = "true")
+	static class InstrumentedDataSourceConfiguration {
+
+		@Bean
+		static InstrumentedDataSourceBeanPostProcessor instrumentedDataSourceBeanPostProcessor(
+				ObjectProvider<MeterRegistry> registry) {
+			return new InstrumentedDataSourceBeanPostProcessor(registry);
+		}
+
+	}
+
+	/**
+	 * {@link BeanPostProcessor} that wraps {@link DataSource DataSources} in an
+	 * {@link InstrumentedDataSource}.
+	 */
+	static class InstrumentedDataSourceBeanPostProcessor implements BeanPostProcessor {
+
+		private final ObjectProvider<MeterRegistry> registry;
+
+		InstrumentedDataSourceBeanPostProcessor(ObjectProvider<MeterRegistry> registry) {
+			this.registry = registry;
+		}
+
+		@Override
+		public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+			if (bean instanceof DataSource && !(bean instanceof InstrumentedDataSource)) {
+				return new InstrumentedDataSource((DataSource) bean, this.registry.getObject(),
+						getDataSourceName(beanName), Collections.emptyList());
+			}
+			return bean;
+		}
+
+	}
+
 }
@@ -38,6 +38,8 @@ import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.docu
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.preprocessResponse;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -67,6 +69,19 @@ class BeansEndpointDocumentationTests extends MockMvcEndpointDocumentationTests
 						responseFields));
 	}
 
+	@Test
+	void pagedBeans() throws Exception {
+		this.mockMvc
+				.perform(get("/actuator/beans").param("pattern", "Endpoint$").param("offset", "0").param("limit", "1"))
+				.andExpect(status().isOk())
+				.andDo(document("beans/paged", requestParameters(
+						parameterWithName("pattern")
+								.description("Regular expression that bean names must contain a match for.").optional(),
+						parameterWithName("offset").description("Number of matching beans to skip. Defaults to 0.")
+								.optional(),
+						parameterWithName("limit").description("Maximum number of beans to return.").optional())));
+	}
+
 	private boolean isIndependentBean(Entry<String, Map<String, Object>> bean) {
 		return CollectionUtils.isEmpty((Collection<?>) bean.getValue().get("aliases"))
 				&& CollectionUtils.isEmpty((Collection<?>) bean.getValue().get("dependencies"));
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -35,6 +35,8 @@ import static org.springframework.restdocs.operation.preprocess.Preprocessors.pr
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.subsectionWithPath;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -191,6 +193,64 @@ class ThreadDumpEndpointDocumentationTests extends MockMvcEndpointDocumentationT
 						}))));
 	}
 
+	@Test
+	void jsonThreadSamples() throws Exception {
+		this.mockMvc
+				.perform(get("/actuator/threaddump/samples").param("count", "5").param("interval", "10")
+						.param("depth", "32").accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andDo(MockMvcRestDocumentation.document("threaddump/samples/json",
+						preprocessResponse(limit("stacks"), limit("threads")),
+						requestParameters(
+								parameterWithName("count").description("Number of samples to take. Defaults to 10.")
+										.optional(),
+								parameterWithName("interval")
+										.description("Interval between samples, in milliseconds. Defaults to 50.")
+										.optional(),
+								parameterWithName("depth")
+										.description("Maximum depth of each sampled stack. Defaults to 64.")
+										.optional()),
+						responseFields(fieldWithPath("samples").description("Number of samples that were taken."),
+								fieldWithPath("durationMillis")
+										.description("Time taken to take the samples, in milliseconds."),
+								fieldWithPath("stacks").description("Distinct stacks that were sampled, most "
+										+ "frequent first."),
+								fieldWithPath("stacks[].state").description("State of the thread when the stack was "
+										+ "sampled (" + describeEnumValues(Thread.State.class) + ")."),
+								fieldWithPath("stacks[].count")
+										.description("Number of times the stack was sampled."),
+								fieldWithPath("stacks[].frames").description("Frames of the stack, innermost first."),
+								fieldWithPath("threads").description("Activity of the sampled threads."),
+								fieldWithPath("threads[].threadId").description("ID of the thread."),
+								fieldWithPath("threads[].threadName").description("Name of the thread."),
+								fieldWithPath("threads[].cpuTimeNanos").description(
+										"CPU time used by the thread while sampling, in nanoseconds, or -1 if CPU "
+												+ "time measurement is not supported or not enabled."),
+								fieldWithPath("threads[].blockedCount")
+										.description("Number of times the thread blocked while sampling."),
+								fieldWithPath("threads[].blockedTimeMillis")
+										.description("Time the thread spent blocked while sampling, in milliseconds, "
+												+ "or -1 if thread contention monitoring is not enabled."),
+								fieldWithPath("threads[].waitedCount")
+										.description("Number of times the thread waited while sampling."),
+								fieldWithPath("threads[].waitedTimeMillis")
+										.description("Time the thread spent waiting while sampling, in milliseconds, "
+												+ "or -1 if thread contention monitoring is not enabled."))));
+	}
+
+	@Test
+	void textThreadSamples() throws Exception {
+		this.mockMvc
+				.perform(get("/actuator/threaddump/samples").param("count", "5").param("interval", "10")
+						.accept(MediaType.TEXT_PLAIN))
+				.andExpect(status().isOk())
+				.andDo(MockMvcRestDocumentation.document("threaddump/samples/text",
+						preprocessResponse(new ContentModifyingOperationPreprocessor((bytes, mediaType) -> {
+							String content = new String(bytes, StandardCharsets.UTF_8);
+							return content.substring(0, content.indexOf('\n') + 1).getBytes();
+						}))));
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	@Import(BaseDocumentationConfiguration.class)
 	static class TestConfiguration {
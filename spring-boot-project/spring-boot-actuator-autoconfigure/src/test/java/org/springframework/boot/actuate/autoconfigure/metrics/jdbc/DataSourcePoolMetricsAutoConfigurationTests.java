@@ -31,6 +31,7 @@ import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.actuate.autoconfigure.metrics.test.MetricsRun;
+import org.springframework.boot.actuate.metrics.jdbc.InstrumentedDataSource;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.autoconfigure.sql.init.SqlInitializationAutoConfiguration;
@@ -91,6 +92,34 @@ class DataSourcePoolMetricsAutoConfigurationTests {
 				});
 	}
 
+	@Test
+	void connectionsAreNotInstrumentedByDefault() {
+		this.contextRunner.withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+				.run((context) -> {
+					assertThat(context.getBean(DataSource.class)).isNotInstanceOf(InstrumentedDataSource.class);
+					MeterRegistry registry = context.getBean(MeterRegistry.class);
+					assertThat(registry.find("jdbc.connections.acquire").meter()).isNull();
+				});
+	}
+
+	@Test
+	void connectionsCanBeInstrumented() {
+		this.contextRunner.withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+				.withUserConfiguration(TwoDataSourcesConfiguration.class)
+				.withPropertyValues("management.metrics.jdbc.instrument-connections=true").run((context) -> {
+					DataSource dataSource = context.getBean("firstDataSource", DataSource.class);
+					assertThat(dataSource).isInstanceOf(InstrumentedDataSource.class);
+					dataSource.getConnection().close();
+					MeterRegistry registry = context.getBean(MeterRegistry.class);
+					assertThat(registry.get("jdbc.connections.acquire").tags("name", "first").timer().count())
+							.isEqualTo(1);
+					assertThat(registry.get("jdbc.connections.usage").tags("name", "first").timer().count())
+							.isEqualTo(1);
+					registry.get("jdbc.connections.pending").tags("name", "secondOne").gauge();
+					registry.get("jdbc.connections.max").tags("name", "first").meter();
+				});
+	}
+
 	@Test
 	void autoConfiguredHikariDataSourceIsInstrumented() {
 		this.contextRunner.withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
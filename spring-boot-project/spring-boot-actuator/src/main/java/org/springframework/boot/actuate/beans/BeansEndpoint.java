@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,16 +16,21 @@
 
 package org.springframework.boot.actuate.beans;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.actuate.endpoint.Pagination;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
 /**
@@ -51,12 +56,30 @@ public class BeansEndpoint {
 		this.context = context;
 	}
 
-	@ReadOperation
 	public ApplicationBeans beans() {
-		Map<String, ContextBeans> contexts = new HashMap<>();
+		return beans(null, null, null);
+	}
+
+	/**
+	 * Describe the beans whose names match the given {@code pattern}, or all beans if no
+	 * pattern is given. Beans are ordered by name within each context, starting with the
+	 * context of this endpoint and followed by its ancestors, and the {@code offset} and
+	 * {@code limit} apply across all of the contexts.
+	 * @param pattern a regular expression that bean names must contain a match for
+	 * @param offset the number of matching beans to skip
+	 * @param limit the maximum number of beans to describe
+	 * @return the matching beans
+	 * @since 2.5.0
+	 */
+	@ReadOperation
+	public ApplicationBeans beans(@Nullable String pattern, @Nullable Integer offset, @Nullable Integer limit) {
+		Predicate<String> beanNamePredicate = StringUtils.hasText(pattern) ? Pattern.compile(pattern).asPredicate()
+				: (name) -> true;
+		Predicate<String> pageFilter = Pagination.of(offset, limit).createFilter();
+		Map<String, ContextBeans> contexts = new LinkedHashMap<>();
 		ConfigurableApplicationContext context = this.context;
 		while (context != null) {
-			contexts.put(context.getId(), ContextBeans.describing(context));
+			contexts.put(context.getId(), ContextBeans.describing(context, beanNamePredicate, pageFilter));
 			context = getConfigurableParent(context);
 		}
 		return new ApplicationBeans(contexts);
@@ -111,19 +134,27 @@ public class BeansEndpoint {
 			return this.beans;
 		}
 
-		private static ContextBeans describing(ConfigurableApplicationContext context) {
+		private static ContextBeans describing(ConfigurableApplicationContext context,
+				Predicate<String> beanNamePredicate, Predicate<String> pageFilter) {
 			if (context == null) {
 				return null;
 			}
 			ConfigurableApplicationContext parent = getConfigurableParent(context);
-			return new ContextBeans(describeBeans(context.getBeanFactory()), (parent != null) ? parent.getId() : null);
-		}
-
-		private static Map<String, BeanDescriptor> describeBeans(ConfigurableListableBeanFactory beanFactory) {
-			Map<String, BeanDescriptor> beans = new HashMap<>();
-			for (String beanName : beanFactory.getBeanDefinitionNames()) {
+			return new ContextBeans(describeBeans(context.getBeanFactory(), beanNamePredicate, pageFilter),
+					(parent != null) ? parent.getId() : null);
+		}
+
+		private static Map<String, BeanDescriptor> describeBeans(ConfigurableListableBeanFactory beanFactory,
+				Predicate<String> beanNamePredicate, Predicate<String> pageFilter) {
+			Map<String, BeanDescriptor> beans = new LinkedHashMap<>();
+			String[] beanNames = beanFactory.getBeanDefinitionNames();
+			Arrays.sort(beanNames);
+			for (String beanName : beanNames) {
+				if (!beanNamePredicate.test(beanName)) {
+					continue;
+				}
 				BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
-				if (isBeanEligible(beanName, definition, beanFactory)) {
+				if (isBeanEligible(beanName, definition, beanFactory) && pageFilter.test(beanName)) {
 					beans.put(beanName, describeBean(beanName, definition, beanFactory));
 				}
 			}
@@ -22,11 +22,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
@@ -53,6 +55,7 @@ import org.apache.commons.logging.LogFactory;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
+import org.springframework.boot.actuate.endpoint.Pagination;
 import org.springframework.boot.actuate.endpoint.Sanitizer;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
@@ -73,6 +76,7 @@ import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.core.annotation.MergedAnnotation;
 import org.springframework.core.annotation.MergedAnnotations;
 import org.springframework.core.annotation.MergedAnnotations.SearchStrategy;
+import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
@@ -119,23 +123,44 @@ public class ConfigurationPropertiesReportEndpoint implements ApplicationContext
 		this.sanitizer.keysToSanitize(keysToSanitize);
 	}
 
-	@ReadOperation
 	public ApplicationConfigurationProperties configurationProperties() {
-		return extract(this.context, (bean) -> true);
+		return configurationProperties(null, null, null);
+	}
+
+	/**
+	 * Describe the {@link ConfigurationProperties @ConfigurationProperties} beans whose
+	 * names match the given {@code pattern}, or all of them if no pattern is given. Beans
+	 * are ordered by name within each context, starting with the context of this endpoint
+	 * and followed by its ancestors, and the {@code offset} and {@code limit} apply across
+	 * all of the contexts.
+	 * @param pattern a regular expression that bean names must contain a match for
+	 * @param offset the number of matching beans to skip
+	 * @param limit the maximum number of beans to describe
+	 * @return the matching beans
+	 * @since 2.5.0
+	 */
+	@ReadOperation
+	public ApplicationConfigurationProperties configurationProperties(@Nullable String pattern,
+			@Nullable Integer offset, @Nullable Integer limit) {
+		Predicate<String> beanNamePredicate = StringUtils.hasText(pattern) ? Pattern.compile(pattern).asPredicate()
+				: (name) -> true;
+		Predicate<ConfigurationPropertiesBean> pageFilter = Pagination.of(offset, limit).createFilter();
+		return extract(this.context, (bean) -> beanNamePredicate.test(bean.getName()), pageFilter);
 	}
 
 	@ReadOperation
 	public ApplicationConfigurationProperties configurationPropertiesWithPrefix(@Selector String prefix) {
-		return extract(this.context, (bean) -> bean.getAnnotation().prefix().startsWith(prefix));
+		return extract(this.context, (bean) -> bean.getAnnotation().prefix().startsWith(prefix), (bean) -> true);
 	}
 
 	private ApplicationConfigurationProperties extract(ApplicationContext context,
-			Predicate<ConfigurationPropertiesBean> beanFilterPredicate) {
+			Predicate<ConfigurationPropertiesBean> beanFilterPredicate,
+			Predicate<ConfigurationPropertiesBean> pageFilter) {
 		ObjectMapper mapper = getObjectMapper();
-		Map<String, ContextConfigurationProperties> contexts = new HashMap<>();
+		Map<String, ContextConfigurationProperties> contexts = new LinkedHashMap<>();
 		ApplicationContext target = context;
 		while (target != null) {
-			contexts.put(target.getId(), describeBeans(mapper, target, beanFilterPredicate));
+			contexts.put(target.getId(), describeBeans(mapper, target, beanFilterPredicate, pageFilter));
 			target = target.getParent();
 		}
 		return new ApplicationConfigurationProperties(contexts);
@@ -183,11 +208,13 @@ public class ConfigurationPropertiesReportEndpoint implements ApplicationContext
 	}
 
 	private ContextConfigurationProperties describeBeans(ObjectMapper mapper, ApplicationContext context,
-			Predicate<ConfigurationPropertiesBean> beanFilterPredicate) {
+			Predicate<ConfigurationPropertiesBean> beanFilterPredicate,
+			Predicate<ConfigurationPropertiesBean> pageFilter) {
 		Map<String, ConfigurationPropertiesBean> beans = ConfigurationPropertiesBean.getAll(context);
-		Map<String, ConfigurationPropertiesBeanDescriptor> descriptors = beans.values().stream()
-				.filter(beanFilterPredicate)
-				.collect(Collectors.toMap(ConfigurationPropertiesBean::getName, (bean) -> describeBean(mapper, bean)));
+		Map<String, ConfigurationPropertiesBeanDescriptor> descriptors = new LinkedHashMap<>();
+		beans.values().stream().filter(beanFilterPredicate)
+				.sorted(Comparator.comparing(ConfigurationPropertiesBean::getName)).filter(pageFilter)
+				.forEach((bean) -> descriptors.put(bean.getName(), describeBean(mapper, bean)));
 		return new ContextConfigurationProperties(descriptors,
 				(context.getParent() != null) ? context.getParent().getId() : null);
 	}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.endpoint;
+
+import java.util.function.Predicate;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * The {@code offset} and {@code limit} that an endpoint operation uses to return a
+ * single page of the items that it describes.
+ *
+ * @author Phillip Webb
+ * @since 2.5.0
+ */
+public final class Pagination {
+
+	/**
+	 * Pagination that includes all items.
+	 */
+	public static final Pagination UNPAGED = new Pagination(0, Integer.MAX_VALUE);
+
+	private final int offset;
+
+	private final int limit;
+
+	private Pagination(int offset, int limit) {
+		this.offset = offset;
+		this.limit = limit;
+	}
+
+	/**
+	 * Return the number of items that are skipped.
+	 * @return the offset
+	 */
+	public int getOffset() {
+		return this.offset;
+	}
+
+	/**
+	 * Return the maximum number of items that are included.
+	 * @return the limit
+	 */
+	public int getLimit() {
+		return this.limit;
+	}
+
+	/**
+	 * Create a new stateful filter that accepts the items that belong to the page. The
+	 * filter must be applied to the candidate items in order, after any other filtering.
+	 * @param <T> the item type
+	 * @return a new filter
+	 */
+	public <T> Predicate<T> createFilter() {
+		long end = (long) this.offset + this.limit;
+		int[] index = { 0 };
+		return (item) -> {
+			int current = index[0]++;
+			return current >= this.offset && current < end;
+		};
+	}
+
+	/**
+	 * Create a new {@link Pagination} from the given operation parameters.
+	 * @param offset the number of items to skip or {@code null}
+	 * @param limit the maximum number of items to include or {@code null}
+	 * @return the pagination
+	 * @throws InvalidEndpointRequestException if the offset is negative or the limit is
+	 * not positive
+	 */
+	public static Pagination of(@Nullable Integer offset, @Nullable Integer limit) {
+		if (offset == null && limit == null) {
+			return UNPAGED;
+		}
+		if (offset != null && offset < 0) {
+			throw new InvalidEndpointRequestException("Parameter 'offset' must not be negative but was " + offset,
+					"Parameter 'offset' must not be negative");
+		}
+		if (limit != null && limit < 1) {
+			throw new InvalidEndpointRequestException("Parameter 'limit' must be positive but was " + limit,
+					"Parameter 'limit' must be positive");
+		}
+		return new Pagination((offset != null) ? offset : 0, (limit != null) ? limit : Integer.MAX_VALUE);
+	}
+
+}
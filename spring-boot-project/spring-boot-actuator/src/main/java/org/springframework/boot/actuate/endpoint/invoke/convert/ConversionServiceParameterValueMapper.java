@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,15 +16,21 @@
 
 package org.springframework.boot.actuate.endpoint.invoke.convert;
 
+import java.util.Map;
+
 import org.springframework.boot.actuate.endpoint.invoke.OperationParameter;
 import org.springframework.boot.actuate.endpoint.invoke.ParameterMappingException;
 import org.springframework.boot.actuate.endpoint.invoke.ParameterValueMapper;
 import org.springframework.boot.convert.ApplicationConversionService;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
- * {@link ParameterValueMapper} backed by a {@link ConversionService}.
+ * {@link ParameterValueMapper} backed by a {@link ConversionService}. The target
+ * {@link TypeDescriptor} of each {@link OperationParameter} is resolved once and reused
+ * for subsequent conversions.
  *
  * @author Stephane Nicoll
  * @author Phillip Webb
@@ -34,6 +40,8 @@ public class ConversionServiceParameterValueMapper implements ParameterValueMapp
 
 	private final ConversionService conversionService;
 
+	private final Map<OperationParameter, TypeDescriptor> targetTypes = new ConcurrentReferenceHashMap<>();
+
 	/**
 	 * Create a new {@link ConversionServiceParameterValueMapper} instance.
 	 */
@@ -53,8 +61,13 @@ public class ConversionServiceParameterValueMapper implements ParameterValueMapp
 
 	@Override
 	public Object mapParameterValue(OperationParameter parameter, Object value) throws ParameterMappingException {
+		if (value != null && parameter.getType().isInstance(value)) {
+			return value;
+		}
 		try {
-			return this.conversionService.convert(value, parameter.getType());
+			TypeDescriptor targetType = this.targetTypes.computeIfAbsent(parameter,
+					(key) -> TypeDescriptor.valueOf(key.getType()));
+			return this.conversionService.convert(value, TypeDescriptor.forObject(value), targetType);
 		}
 		catch (Exception ex) {
 			throw new ParameterMappingException(parameter, value, ex);
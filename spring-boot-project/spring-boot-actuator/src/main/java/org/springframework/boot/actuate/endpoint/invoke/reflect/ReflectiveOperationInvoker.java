@@ -16,9 +16,13 @@
 
 package org.springframework.boot.actuate.endpoint.invoke.reflect;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.springframework.boot.actuate.endpoint.InvocationContext;
 import org.springframework.boot.actuate.endpoint.invoke.MissingParametersException;
@@ -30,7 +34,9 @@ import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 
 /**
- * An {@code OperationInvoker} that invokes an operation using reflection.
+ * An {@code OperationInvoker} that invokes an operation using reflection. The operation
+ * method and its parameters are bound once when the invoker is created so that each
+ * invocation only needs to resolve argument values and call a {@link MethodHandle}.
  *
  * @author Andy Wilkinson
  * @author Stephane Nicoll
@@ -45,6 +51,10 @@ public class ReflectiveOperationInvoker implements OperationInvoker {
 
 	private final ParameterValueMapper parameterValueMapper;
 
+	private final OperationParameter[] parameters;
+
+	private final MethodHandle methodHandle;
+
 	/**
 	 * Creates a new {@code ReflectiveOperationInvoker} that will invoke the given
 	 * {@code method} on the given {@code target}. The given {@code parameterMapper} will
@@ -59,25 +69,43 @@ public class ReflectiveOperationInvoker implements OperationInvoker {
 		Assert.notNull(target, "Target must not be null");
 		Assert.notNull(operationMethod, "OperationMethod must not be null");
 		Assert.notNull(parameterValueMapper, "ParameterValueMapper must not be null");
-		ReflectionUtils.makeAccessible(operationMethod.getMethod());
 		this.target = target;
 		this.operationMethod = operationMethod;
 		this.parameterValueMapper = parameterValueMapper;
+		this.parameters = operationMethod.getParameters().stream().toArray(OperationParameter[]::new);
+		this.methodHandle = createMethodHandle(target, operationMethod.getMethod(), this.parameters.length);
+	}
+
+	private static MethodHandle createMethodHandle(Object target, Method method, int parameterCount) {
+		ReflectionUtils.makeAccessible(method);
+		try {
+			MethodHandle methodHandle = MethodHandles.lookup().unreflect(method).asFixedArity();
+			if (!Modifier.isStatic(method.getModifiers())) {
+				methodHandle = methodHandle.bindTo(target);
+			}
+			return methodHandle.asSpreader(Object[].class, parameterCount)
+					.asType(MethodType.methodType(Object.class, Object[].class));
+		}
+		catch (IllegalAccessException ex) {
+			throw new IllegalStateException("Unable to access operation method " + method, ex);
+		}
 	}
 
 	@Override
 	public Object invoke(InvocationContext context) {
 		validateRequiredParameters(context);
-		Method method = this.operationMethod.getMethod();
-		Object[] resolvedArguments = resolveArguments(context);
-		ReflectionUtils.makeAccessible(method);
-		return ReflectionUtils.invokeMethod(method, this.target, resolvedArguments);
+		return invoke(resolveArguments(context));
 	}
 
 	private void validateRequiredParameters(InvocationContext context) {
-		Set<OperationParameter> missing = this.operationMethod.getParameters().stream()
-				.filter((parameter) -> isMissing(context, parameter)).collect(Collectors.toSet());
-		if (!missing.isEmpty()) {
+		Set<OperationParameter> missing = null;
+		for (OperationParameter parameter : this.parameters) {
+			if (isMissing(context, parameter)) {
+				missing = (missing != null) ? missing : new LinkedHashSet<>();
+				missing.add(parameter);
+			}
+		}
+		if (missing != null) {
 			throw new MissingParametersException(missing);
 		}
 	}
@@ -86,15 +114,18 @@ public class ReflectiveOperationInvoker implements OperationInvoker {
 		if (!parameter.isMandatory()) {
 			return false;
 		}
-		if (context.canResolve(parameter.getType())) {
+		if (context.getArguments().get(parameter.getName()) != null) {
 			return false;
 		}
-		return context.getArguments().get(parameter.getName()) == null;
+		return !context.canResolve(parameter.getType());
 	}
 
 	private Object[] resolveArguments(InvocationContext context) {
-		return this.operationMethod.getParameters().stream().map((parameter) -> resolveArgument(parameter, context))
-				.toArray();
+		Object[] resolvedArguments = new Object[this.parameters.length];
+		for (int i = 0; i < this.parameters.length; i++) {
+			resolvedArguments[i] = resolveArgument(this.parameters[i], context);
+		}
+		return resolvedArguments;
 	}
 
 	private Object resolveArgument(OperationParameter parameter, InvocationContext context) {
@@ -106,6 +137,16 @@ public class ReflectiveOperationInvoker implements OperationInvoker {
 		return this.parameterValueMapper.mapParameterValue(parameter, value);
 	}
 
+	private Object invoke(Object[] resolvedArguments) {
+		try {
+			return this.methodHandle.invokeExact(resolvedArguments);
+		}
+		catch (Throwable ex) {
+			ReflectionUtils.rethrowRuntimeException(ex);
+			return null;
+		}
+	}
+
 	@Override
 	public String toString() {
 		return new ToStringCreator(this).append("target", this.target).append("method", this.operationMethod)
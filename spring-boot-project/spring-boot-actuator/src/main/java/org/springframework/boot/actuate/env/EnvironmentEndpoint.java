@@ -27,6 +27,7 @@ import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 
+import org.springframework.boot.actuate.endpoint.Pagination;
 import org.springframework.boot.actuate.endpoint.Sanitizer;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
@@ -80,12 +81,27 @@ public class EnvironmentEndpoint {
 		this.sanitizer.keysToSanitize(keysToSanitize);
 	}
 
-	@ReadOperation
 	public EnvironmentDescriptor environment(@Nullable String pattern) {
-		if (StringUtils.hasText(pattern)) {
-			return getEnvironmentDescriptor(Pattern.compile(pattern).asPredicate());
-		}
-		return getEnvironmentDescriptor((name) -> true);
+		return environment(pattern, null, null);
+	}
+
+	/**
+	 * Describe the properties whose names match the given {@code pattern}, or all
+	 * properties if no pattern is given. The {@code offset} and {@code limit} apply across
+	 * all of the property sources, in the order in which they are searched.
+	 * @param pattern a regular expression that property names must contain a match for
+	 * @param offset the number of matching properties to skip
+	 * @param limit the maximum number of properties to describe
+	 * @return the matching properties
+	 * @since 2.5.0
+	 */
+	@ReadOperation
+	public EnvironmentDescriptor environment(@Nullable String pattern, @Nullable Integer offset,
+			@Nullable Integer limit) {
+		Predicate<String> propertyNamePredicate = StringUtils.hasText(pattern)
+				? Pattern.compile(pattern).asPredicate() : (name) -> true;
+		Predicate<String> pageFilter = Pagination.of(offset, limit).createFilter();
+		return getEnvironmentDescriptor(propertyNamePredicate.and(pageFilter));
 	}
 
 	@ReadOperation
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,8 +29,11 @@ import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.springframework.boot.actuate.management.ThreadSampler.StackCount;
+import org.springframework.boot.actuate.management.ThreadSampler.ThreadSamples;
+
 /**
- * Formats a thread dump as plain text.
+ * Formats a thread dump or thread samples as plain text.
  *
  * @author Andy Wilkinson
  */
@@ -46,6 +49,27 @@ class PlainTextThreadDumpFormatter {
 		return dump.toString();
 	}
 
+	String formatCollapsed(ThreadSamples samples) {
+		StringWriter dump = new StringWriter();
+		PrintWriter writer = new PrintWriter(dump);
+		for (StackCount stack : samples.getStacks()) {
+			writeCollapsedStack(writer, stack);
+		}
+		return dump.toString();
+	}
+
+	private void writeCollapsedStack(PrintWriter writer, StackCount stack) {
+		writer.print(stack.getState());
+		StackTraceElement[] stackTrace = stack.getStackTrace();
+		for (int i = stackTrace.length - 1; i >= 0; i--) {
+			writer.print(';');
+			writer.print(stackTrace[i].getClassName());
+			writer.print('.');
+			writer.print(stackTrace[i].getMethodName());
+		}
+		writer.printf(" %d%n", stack.getCount());
+	}
+
 	private void writePreamble(PrintWriter writer) {
 		DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 		writer.println(dateFormat.format(LocalDateTime.now()));
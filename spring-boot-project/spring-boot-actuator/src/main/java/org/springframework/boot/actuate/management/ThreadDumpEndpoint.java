@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,12 +18,21 @@ package org.springframework.boot.actuate.management;
 
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.management.ThreadSampler.StackCount;
+import org.springframework.boot.actuate.management.ThreadSampler.ThreadActivity;
+import org.springframework.boot.actuate.management.ThreadSampler.ThreadSamples;
+import org.springframework.lang.Nullable;
 
 /**
  * {@link Endpoint @Endpoint} to expose thread info.
@@ -35,8 +44,24 @@ import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 @Endpoint(id = "threaddump")
 public class ThreadDumpEndpoint {
 
+	private static final String SAMPLES = "samples";
+
+	private static final int DEFAULT_SAMPLE_COUNT = 10;
+
+	private static final int MAX_SAMPLE_COUNT = 1000;
+
+	private static final long DEFAULT_SAMPLE_INTERVAL = 50;
+
+	private static final long MAX_SAMPLE_INTERVAL = 10000;
+
+	private static final int DEFAULT_SAMPLE_DEPTH = 64;
+
+	private static final long MAX_SAMPLE_DURATION = 60000;
+
 	private final PlainTextThreadDumpFormatter plainTextFormatter = new PlainTextThreadDumpFormatter();
 
+	private final ThreadSampler sampler = new ThreadSampler(ManagementFactory.getThreadMXBean());
+
 	@ReadOperation
 	public ThreadDumpDescriptor threadDump() {
 		return getFormattedThreadDump(ThreadDumpDescriptor::new);
@@ -47,10 +72,78 @@ public class ThreadDumpEndpoint {
 		return getFormattedThreadDump(this.plainTextFormatter::format);
 	}
 
+	/**
+	 * Take a number of lightweight stack samples and return a histogram of the sampled
+	 * stacks along with per-thread CPU time and contention deltas.
+	 * @param mode the sampling mode (must be {@code samples})
+	 * @param count the number of samples to take
+	 * @param interval the interval between samples in milliseconds
+	 * @param depth the maximum stack depth to sample
+	 * @return the samples
+	 * @since 2.5.0
+	 */
+	@ReadOperation
+	public ThreadSamplesDescriptor threadSamples(@Selector String mode, @Nullable Integer count,
+			@Nullable Long interval, @Nullable Integer depth) {
+		return getFormattedThreadSamples(mode, count, interval, depth, ThreadSamplesDescriptor::new);
+	}
+
+	/**
+	 * Take a number of lightweight stack samples and return them in the collapsed stack
+	 * format that is consumed by flame graph tools.
+	 * @param mode the sampling mode (must be {@code samples})
+	 * @param count the number of samples to take
+	 * @param interval the interval between samples in milliseconds
+	 * @param depth the maximum stack depth to sample
+	 * @return the collapsed samples
+	 * @since 2.5.0
+	 */
+	@ReadOperation(produces = "text/plain;charset=UTF-8")
+	public String textThreadSamples(@Selector String mode, @Nullable Integer count, @Nullable Long interval,
+			@Nullable Integer depth) {
+		return getFormattedThreadSamples(mode, count, interval, depth, this.plainTextFormatter::formatCollapsed);
+	}
+
 	private <T> T getFormattedThreadDump(Function<ThreadInfo[], T> formatter) {
 		return formatter.apply(ManagementFactory.getThreadMXBean().dumpAllThreads(true, true));
 	}
 
+	private <T> T getFormattedThreadSamples(String mode, Integer count, Long interval, Integer depth,
+			Function<ThreadSamples, T> formatter) {
+		if (!SAMPLES.equals(mode)) {
+			throw new InvalidEndpointRequestException("Unsupported thread dump mode '" + mode + "'",
+					"Unsupported thread dump mode");
+		}
+		int sampleCount = (count != null) ? count : DEFAULT_SAMPLE_COUNT;
+		long sampleInterval = (interval != null) ? interval : DEFAULT_SAMPLE_INTERVAL;
+		int sampleDepth = (depth != null) ? depth : DEFAULT_SAMPLE_DEPTH;
+		assertInRange("count", sampleCount, 1, MAX_SAMPLE_COUNT);
+		assertInRange("interval", sampleInterval, 0, MAX_SAMPLE_INTERVAL);
+		assertInRange("depth", sampleDepth, 1, Integer.MAX_VALUE);
+		long duration = sampleCount * sampleInterval;
+		if (duration > MAX_SAMPLE_DURATION) {
+			throw new InvalidEndpointRequestException(
+					String.format("Sampling duration (count * interval) must not exceed %dms but was %dms",
+							MAX_SAMPLE_DURATION, duration),
+					String.format("Sampling duration (count * interval) must not exceed %dms", MAX_SAMPLE_DURATION));
+		}
+		try {
+			return formatter.apply(this.sampler.sample(sampleCount, Duration.ofMillis(sampleInterval), sampleDepth));
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while sampling threads", ex);
+		}
+	}
+
+	private void assertInRange(String name, long value, long min, long max) {
+		if (value < min || value > max) {
+			throw new InvalidEndpointRequestException(
+					String.format("Parameter '%s' must be between %d and %d but was %d", name, min, max, value),
+					String.format("Parameter '%s' must be between %d and %d", name, min, max));
+		}
+	}
+
 	/**
 	 * A description of a thread dump. Primarily intended for serialization to JSON.
 	 */
@@ -68,4 +161,142 @@ public class ThreadDumpEndpoint {
 
 	}
 
+	/**
+	 * A description of a set of thread samples. Primarily intended for serialization to
+	 * JSON.
+	 *
+	 * @since 2.5.0
+	 */
+	public static final class ThreadSamplesDescriptor {
+
+		private final int samples;
+
+		private final long durationMillis;
+
+		private final List<StackDescriptor> stacks;
+
+		private final List<ThreadActivityDescriptor> threads;
+
+		private ThreadSamplesDescriptor(ThreadSamples samples) {
+			this.samples = samples.getCount();
+			this.durationMillis = samples.getDuration().toMillis();
+			this.stacks = samples.getStacks().stream().map(StackDescriptor::new).collect(Collectors.toList());
+			this.threads = samples.getThreads().stream().map(ThreadActivityDescriptor::new)
+					.collect(Collectors.toList());
+		}
+
+		public int getSamples() {
+			return this.samples;
+		}
+
+		public long getDurationMillis() {
+			return this.durationMillis;
+		}
+
+		public List<StackDescriptor> getStacks() {
+			return this.stacks;
+		}
+
+		public List<ThreadActivityDescriptor> getThreads() {
+			return this.threads;
+		}
+
+	}
+
+	/**
+	 * A description of a distinct sampled stack.
+	 *
+	 * @since 2.5.0
+	 */
+	public static final class StackDescriptor {
+
+		private final Thread.State state;
+
+		private final int count;
+
+		private final List<String> frames;
+
+		private StackDescriptor(StackCount stack) {
+			this.state = stack.getState();
+			this.count = stack.getCount();
+			this.frames = Stream.of(stack.getStackTrace()).map(StackTraceElement::toString)
+					.collect(Collectors.toList());
+		}
+
+		public Thread.State getState() {
+			return this.state;
+		}
+
+		public int getCount() {
+			return this.count;
+		}
+
+		public List<String> getFrames() {
+			return this.frames;
+		}
+
+	}
+
+	/**
+	 * A description of the activity of a thread while it was being sampled. Times are
+	 * {@code -1} when the JVM does not support or has not enabled their measurement.
+	 *
+	 * @since 2.5.0
+	 */
+	public static final class ThreadActivityDescriptor {
+
+		private final long threadId;
+
+		private final String threadName;
+
+		private final long cpuTimeNanos;
+
+		private final long blockedCount;
+
+		private final long blockedTimeMillis;
+
+		private final long waitedCount;
+
+		private final long waitedTimeMillis;
+
+		private ThreadActivityDescriptor(ThreadActivity activity) {
+			this.threadId = activity.getThreadId();
+			this.threadName = activity.getThreadName();
+			this.cpuTimeNanos = activity.getCpuTime();
+			this.blockedCount = activity.getBlockedCount();
+			this.blockedTimeMillis = activity.getBlockedTime();
+			this.waitedCount = activity.getWaitedCount();
+			this.waitedTimeMillis = activity.getWaitedTime();
+		}
+
+		public long getThreadId() {
+			return this.threadId;
+		}
+
+		public String getThreadName() {
+			return this.threadName;
+		}
+
+		public long getCpuTimeNanos() {
+			return this.cpuTimeNanos;
+		}
+
+		public long getBlockedCount() {
+			return this.blockedCount;
+		}
+
+		public long getBlockedTimeMillis() {
+			return this.blockedTimeMillis;
+		}
+
+		public long getWaitedCount() {
+			return this.waitedCount;
+		}
+
+		public long getWaitedTimeMillis() {
+			return this.waitedTimeMillis;
+		}
+
+	}
+
 }
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.management;
+
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Takes a number of lightweight stack samples of all live threads and aggregates them.
+ * Unlike a full thread dump, samples are taken without lock information so that each
+ * sample is considerably cheaper to obtain.
+ *
+ * @author Phillip Webb
+ */
+class ThreadSampler {
+
+	private final ThreadMXBean threadMXBean;
+
+	ThreadSampler(ThreadMXBean threadMXBean) {
+		this.threadMXBean = threadMXBean;
+	}
+
+	ThreadSamples sample(int count, Duration interval, int maxDepth) throws InterruptedException {
+		boolean cpuTimeEnabled = isCpuTimeEnabled();
+		boolean contentionEnabled = isContentionMonitoringEnabled();
+		Map<String, StackCount> stacks = new LinkedHashMap<>();
+		Map<Long, ThreadActivity> activity = new LinkedHashMap<>();
+		long startTime = System.nanoTime();
+		for (int i = 0; i < count; i++) {
+			if (i > 0) {
+				Thread.sleep(interval.toMillis());
+			}
+			ThreadInfo[] threads = this.threadMXBean.getThreadInfo(this.threadMXBean.getAllThreadIds(), maxDepth);
+			for (ThreadInfo thread : threads) {
+				if (thread != null) {
+					addStack(stacks, thread);
+					long cpuTime = (cpuTimeEnabled) ? this.threadMXBean.getThreadCpuTime(thread.getThreadId()) : -1;
+					activity.computeIfAbsent(thread.getThreadId(), (id) -> new ThreadActivity(thread, cpuTime))
+							.update(thread, cpuTime, contentionEnabled);
+				}
+			}
+		}
+		Duration duration = Duration.ofNanos(System.nanoTime() - startTime);
+		List<StackCount> sortedStacks = new ArrayList<>(stacks.values());
+		sortedStacks.sort(Comparator.comparingInt(StackCount::getCount).reversed());
+		return new ThreadSamples(count, duration, sortedStacks, new ArrayList<>(activity.values()));
+	}
+
+	private void addStack(Map<String, StackCount> stacks, ThreadInfo thread) {
+		StackTraceElement[] stackTrace = thread.getStackTrace();
+		StringBuilder key = new StringBuilder(thread.getThreadState().name());
+		for (StackTraceElement element : stackTrace) {
+			key.append('\n').append(element);
+		}
+		stacks.computeIfAbsent(key.toString(), (k) -> new StackCount(thread.getThreadState(), stackTrace)).increment();
+	}
+
+	private boolean isCpuTimeEnabled() {
+		return this.threadMXBean.isThreadCpuTimeSupported() && this.threadMXBean.isThreadCpuTimeEnabled();
+	}
+
+	private boolean isContentionMonitoringEnabled() {
+		return this.threadMXBean.isThreadContentionMonitoringSupported()
+				&& this.threadMXBean.isThreadContentionMonitoringEnabled();
+	}
+
+	/**
+	 * The result of sampling.
+	 */
+	static final class ThreadSamples {
+
+		private final int count;
+
+		private final Duration duration;
+
+		private final List<StackCount> stacks;
+
+		private final List<ThreadActivity> threads;
+
+		private ThreadSamples(int count, Duration duration, List<StackCount> stacks, List<ThreadActivity> threads) {
+			this.count = count;
+			this.duration = duration;
+			this.stacks = Collections.unmodifiableList(stacks);
+			this.threads = Collections.unmodifiableList(threads);
+		}
+
+		int getCount() {
+			return this.count;
+		}
+
+		Duration getDuration() {
+			return this.duration;
+		}
+
+		List<StackCount> getStacks() {
+			return this.stacks;
+		}
+
+		List<ThreadActivity> getThreads() {
+			return this.threads;
+		}
+
+	}
+
+	/**
+	 * A distinct stack and the number of times that it was sampled.
+	 */
+	static final class StackCount {
+
+		private final Thread.State state;
+
+		private final StackTraceElement[] stackTrace;
+
+		private int count;
+
+		private StackCount(Thread.State state, StackTraceElement[] stackTrace) {
+			this.state = state;
+			this.stackTrace = stackTrace;
+		}
+
+		private void increment() {
+			this.count++;
+		}
+
+		Thread.State getState() {
+			return this.state;
+		}
+
+		StackTraceElement[] getStackTrace() {
+			return this.stackTrace;
+		}
+
+		int getCount() {
+			return this.count;
+		}
+
+	}
+
+	/**
+	 * CPU time and contention of a single thread over the sampling period.
+	 */
+	static final class ThreadActivity {
+
+		private final long threadId;
+
+		private final String threadName;
+
+		private final long initialCpuTime;
+
+		private final long initialBlockedCount;
+
+		private final long initialBlockedTime;
+
+		private final long initialWaitedCount;
+
+		private final long initialWaitedTime;
+
+		private long cpuTime = -1;
+
+		private long blockedCount;
+
+		private long blockedTime = -1;
+
+		private long waitedCount;
+
+		private long waitedTime = -1;
+
+		private ThreadActivity(ThreadInfo thread, long cpuTime) {
+			this.threadId = thread.getThreadId();
+			this.threadName = thread.getThreadName();
+			this.initialCpuTime = cpuTime;
+			this.initialBlockedCount = thread.getBlockedCount();
+			this.initialBlockedTime = thread.getBlockedTime();
+			this.initialWaitedCount = thread.getWaitedCount();
+			this.initialWaitedTime = thread.getWaitedTime();
+		}
+
+		private void update(ThreadInfo thread, long cpuTime, boolean contentionEnabled) {
+			if (cpuTime != -1 && this.initialCpuTime != -1) {
+				this.cpuTime = cpuTime - this.initialCpuTime;
+			}
+			this.blockedCount = thread.getBlockedCount() - this.initialBlockedCount;
+			this.waitedCount = thread.getWaitedCount() - this.initialWaitedCount;
+			if (contentionEnabled && this.initialBlockedTime != -1) {
+				this.blockedTime = thread.getBlockedTime() - this.initialBlockedTime;
+				this.waitedTime = thread.getWaitedTime() - this.initialWaitedTime;
+			}
+		}
+
+		long getThreadId() {
+			return this.threadId;
+		}
+
+		String getThreadName() {
+			return this.threadName;
+		}
+
+		long getCpuTime() {
+			return this.cpuTime;
+		}
+
+		long getBlockedCount() {
+			return this.blockedCount;
+		}
+
+		long getBlockedTime() {
+			return this.blockedTime;
+		}
+
+		long getWaitedCount() {
+			return this.waitedCount;
+		}
+
+		long getWaitedTime() {
+			return this.waitedTime;
+		}
+
+	}
+
+}
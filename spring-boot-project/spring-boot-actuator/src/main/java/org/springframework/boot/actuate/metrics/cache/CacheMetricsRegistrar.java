@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.binder.MeterBinder;
 
+import org.springframework.boot.cache.TwoLevelCache;
 import org.springframework.boot.util.LambdaSafe;
 import org.springframework.cache.Cache;
 import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
@@ -54,13 +55,29 @@ public class CacheMetricsRegistrar {
 
 	/**
 	 * Attempt to bind the specified {@link Cache} to the registry. Return {@code true} if
-	 * the cache is supported and was bound to the registry, {@code false} otherwise.
+	 * the cache is supported and was bound to the registry, {@code false} otherwise. The
+	 * local and remote caches of a {@link TwoLevelCache} are bound separately and tagged
+	 * with their {@code level}.
 	 * @param cache the cache to handle
 	 * @param tags the tags to associate with the metrics of that cache
 	 * @return {@code true} if the {@code cache} is supported and was registered
 	 */
 	public boolean bindCacheToRegistry(Cache cache, Tag... tags) {
-		MeterBinder meterBinder = getMeterBinder(unwrapIfNecessary(cache), Tags.of(tags));
+		Cache target = unwrapIfNecessary(cache);
+		if (target instanceof TwoLevelCache) {
+			return bindTwoLevelCacheToRegistry((TwoLevelCache) target, Tags.of(tags));
+		}
+		return bind(target, Tags.of(tags));
+	}
+
+	private boolean bindTwoLevelCacheToRegistry(TwoLevelCache cache, Tags tags) {
+		boolean localBound = bind(cache.getLocalCache(), tags.and("level", "local"));
+		boolean remoteBound = bind(cache.getRemoteCache(), tags.and("level", "remote"));
+		return localBound || remoteBound;
+	}
+
+	private boolean bind(Cache cache, Tags tags) {
+		MeterBinder meterBinder = getMeterBinder(cache, tags);
 		if (meterBinder != null) {
 			meterBinder.bindTo(this.registry);
 			return true;
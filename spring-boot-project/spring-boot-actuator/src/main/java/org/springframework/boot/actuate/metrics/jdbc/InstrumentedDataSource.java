@@ -0,0 +1,122 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link DataSource} that records how long it takes to acquire a connection from, and
+ * how long connections are held before being returned to, a target {@code DataSource}.
+ * The number of threads that are currently waiting for a connection is also recorded.
+ * Useful for connection pools that do not provide such metrics themselves.
+ * <p>
+ * The following meters are registered, each tagged with the name of the data source:
+ * <ul>
+ * <li>{@code jdbc.connections.acquire}: a {@link Timer} for calls to
+ * {@code getConnection()}</li>
+ * <li>{@code jdbc.connections.usage}: a {@link Timer} for the time between a connection
+ * being acquired and it being closed</li>
+ * <li>{@code jdbc.connections.pending}: a {@link Gauge} of the threads currently waiting
+ * for a connection</li>
+ * </ul>
+ *
+ * @author Phillip Webb
+ * @since 2.5.0
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+	private final Clock clock;
+
+	private final Timer acquireTimer;
+
+	private final Timer usageTimer;
+
+	private final AtomicInteger pending = new AtomicInteger();
+
+	/**
+	 * Create a new {@link InstrumentedDataSource} instance.
+	 * @param targetDataSource the target data source
+	 * @param registry the registry used to record metrics
+	 * @param dataSourceName the name of the data source
+	 * @param tags additional tags
+	 */
+	public InstrumentedDataSource(DataSource targetDataSource, MeterRegistry registry, String dataSourceName,
+			Iterable<Tag> tags) {
+		super(targetDataSource);
+		Assert.notNull(registry, "Registry must not be null");
+		Tags allTags = Tags.concat(tags, "name", dataSourceName);
+		this.clock = registry.config().clock();
+		this.acquireTimer = Timer.builder("jdbc.connections.acquire").tags(allTags)
+				.description("Time taken to acquire a connection from the data source.").register(registry);
+		this.usageTimer = Timer.builder("jdbc.connections.usage").tags(allTags)
+				.description("Time that connections are held before being closed.").register(registry);
+		Gauge.builder("jdbc.connections.pending", this.pending, AtomicInteger::get).tags(allTags)
+				.description("Number of threads currently waiting for a connection.").register(registry);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		long start = startAcquire();
+		try {
+			return instrument(obtainTargetDataSource().getConnection());
+		}
+		finally {
+			endAcquire(start);
+		}
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		long start = startAcquire();
+		try {
+			return instrument(obtainTargetDataSource().getConnection(username, password));
+		}
+		finally {
+			endAcquire(start);
+		}
+	}
+
+	private long startAcquire() {
+		this.pending.incrementAndGet();
+		return this.clock.monotonicTime();
+	}
+
+	private void endAcquire(long start) {
+		this.acquireTimer.record(this.clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+		this.pending.decrementAndGet();
+	}
+
+	private Connection instrument(Connection connection) {
+		return (connection != null) ? new UsageRecordingConnection(connection, this.clock, this.usageTimer) : null;
+	}
+
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.jdbc;
+
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+/**
+ * {@link Connection} that delegates to a target connection and records how long it was
+ * held when it is first closed.
+ *
+ * @author Phillip Webb
+ */
+final class UsageRecordingConnection implements ConnectionProxy {
+
+	private final Connection target;
+
+	private final Clock clock;
+
+	private final Timer usageTimer;
+
+	private final long acquired;
+
+	private final AtomicBoolean closed = new AtomicBoolean();
+
+	UsageRecordingConnection(Connection target, Clock clock, Timer usageTimer) {
+		this.target = target;
+		this.clock = clock;
+		this.usageTimer = usageTimer;
+		this.acquired = clock.monotonicTime();
+	}
+
+	@Override
+	public Connection getTargetConnection() {
+		return this.target;
+	}
+
+	@Override
+	public void close() throws SQLException {
+		if (this.closed.compareAndSet(false, true)) {
+			this.usageTimer.record(this.clock.monotonicTime() - this.acquired, TimeUnit.NANOSECONDS);
+		}
+		this.target.close();
+	}
+
+	@Override
+	public boolean isClosed() throws SQLException {
+		return this.target.isClosed();
+	}
+
+	@Override
+	public Statement createStatement() throws SQLException {
+		return this.target.createStatement();
+	}
+
+	@Override
+	public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+		return this.target.createStatement(resultSetType, resultSetConcurrency);
+	}
+
+	@Override
+	public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability)
+			throws SQLException {
+		return this.target.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql) throws SQLException {
+		return this.target.prepareStatement(sql);
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency)
+			throws SQLException {
+		return this.target.prepareStatement(sql, resultSetType, resultSetConcurrency);
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency,
+			int resultSetHoldability) throws SQLException {
+		return this.target.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+		return this.target.prepareStatement(sql, autoGeneratedKeys);
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+		return this.target.prepareStatement(sql, columnIndexes);
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+		return this.target.prepareStatement(sql, columnNames);
+	}
+
+	@Override
+	public CallableStatement prepareCall(String sql) throws SQLException {
+		return this.target.prepareCall(sql);
+	}
+
+	@Override
+	public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency)
+			throws SQLException {
+		return this.target.prepareCall(sql, resultSetType, resultSetConcurrency);
+	}
+
+	@Override
+	public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency,
+			int resultSetHoldability) throws SQLException {
+		return this.target.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+	}
+
+	@Override
+	public String nativeSQL(String sql) throws SQLException {
+		return this.target.nativeSQL(sql);
+	}
+
+	@Override
+	public void setAutoCommit(boolean autoCommit) throws SQLException {
+		this.target.setAutoCommit(autoCommit);
+	}
+
+	@Override
+	public boolean getAutoCommit() throws SQLException {
+		return this.target.getAutoCommit();
+	}
+
+	@Override
+	public void commit() throws SQLException {
+		this.target.commit();
+	}
+
+	@Override
+	public void rollback() throws SQLException {
+		this.target.rollback();
+	}
+
+	@Override
+	public void rollback(Savepoint savepoint) throws SQLException {
+		this.target.rollback(savepoint);
+	}
+
+	@Override
+	public Savepoint setSavepoint() throws SQLException {
+		return this.target.setSavepoint();
+	}
+
+	@Override
+	public Savepoint setSavepoint(String name) throws SQLException {
+		return this.target.setSavepoint(name);
+	}
+
+	@Override
+	public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+		this.target.releaseSavepoint(savepoint);
+	}
+
+	@Override
+	public DatabaseMetaData getMetaData() throws SQLException {
+		return this.target.getMetaData();
+	}
+
+	@Override
+	public void setReadOnly(boolean readOnly) throws SQLException {
+		this.target.setReadOnly(readOnly);
+	}
+
+	@Override
+	public boolean isReadOnly() throws SQLException {
+		return this.target.isReadOnly();
+	}
+
+	@Override
+	public void setCatalog(String catalog) throws SQLException {
+		this.target.setCatalog(catalog);
+	}
+
+	@Override
+	public String getCatalog() throws SQLException {
+		return this.target.getCatalog();
+	}
+
+	@Override
+	public void setSchema(String schema) throws SQLException {
+		this.target.setSchema(schema);
+	}
+
+	@Override
+	public String getSchema() throws SQLException {
+		return this.target.getSchema();
+	}
+
+	@Override
+	public void setTransactionIsolation(int level) throws SQLException {
+		this.target.setTransactionIsolation(level);
+	}
+
+	@Override
+	public int getTransactionIsolation() throws SQLException {
+		return this.target.getTransactionIsolation();
+	}
+
+	@Override
+	public SQLWarning getWarnings() throws SQLException {
+		return this.target.getWarnings();
+	}
+
+	@Override
+	public void clearWarnings() throws SQLException {
+		this.target.clearWarnings();
+	}
+
+	@Override
+	public Map<String, Class<?>> getTypeMap() throws SQLException {
+		return this.target.getTypeMap();
+	}
+
+	@Override
+	public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+		this.target.setTypeMap(map);
+	}
+
+	@Override
+	public void setHoldability(int holdability) throws SQLException {
+		this.target.setHoldability(holdability);
+	}
+
+	@Override
+	public int getHoldability() throws SQLException {
+		return this.target.getHoldability();
+	}
+
+	@Override
+	public Clob createClob() throws SQLException {
+		return this.target.createClob();
+	}
+
+	@Override
+	public Blob createBlob() throws SQLException {
+		return this.target.createBlob();
+	}
+
+	@Override
+	public NClob createNClob() throws SQLException {
+		return this.target.createNClob();
+	}
+
+	@Override
+	public SQLXML createSQLXML() throws SQLException {
+		return this.target.createSQLXML();
+	}
+
+	@Override
+	public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+		return this.target.createArrayOf(typeName, elements);
+	}
+
+	@Override
+	public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
+		return this.target.createStruct(typeName, attributes);
+	}
+
+	@Override
+	public boolean isValid(int timeout) throws SQLException {
+		return this.target.isValid(timeout);
+	}
+
+	@Override
+	public void setClientInfo(String name, String value) throws SQLClientInfoException {
+		this.target.setClientInfo(name, value);
+	}
+
+	@Override
+	public void setClientInfo(Properties properties) throws SQLClientInfoException {
+		this.target.setClientInfo(properties);
+	}
+
+	@Override
+	public String getClientInfo(String name) throws SQLException {
+		return this.target.getClientInfo(name);
+	}
+
+	@Override
+	public Properties getClientInfo() throws SQLException {
+		return this.target.getClientInfo();
+	}
+
+	@Override
+	public void abort(Executor executor) throws SQLException {
+		this.target.abort(executor);
+	}
+
+	@Override
+	public void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException {
+		this.target.setNetworkTimeout(executor, milliseconds);
+	}
+
+	@Override
+	public int getNetworkTimeout() throws SQLException {
+		return this.target.getNetworkTimeout();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		return iface.isInstance(this) ? (T) this : this.target.unwrap(iface);
+	}
+
+	@Override
+	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		return iface.isInstance(this) || this.target.isWrapperFor(iface);
+	}
+
+	@Override
+	public String toString() {
+		return "Instrumented connection [" + this.target + "]";
+	}
+
+}
@@ -17,11 +17,14 @@
 package org.springframework.boot.actuate.startup;
 
 import org.springframework.boot.SpringBootVersion;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
 import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
 import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.boot.context.metrics.buffering.StartupTimelineTraceEventWriter;
 
 /**
  * {@link Endpoint @Endpoint} to expose the timeline of the
@@ -35,8 +38,12 @@ import org.springframework.boot.context.metrics.buffering.StartupTimeline;
 @Endpoint(id = "startup")
 public class StartupEndpoint {
 
+	private static final String TRACE_FORMAT = "trace";
+
 	private final BufferingApplicationStartup applicationStartup;
 
+	private final StartupTimelineTraceEventWriter traceEventWriter = new StartupTimelineTraceEventWriter();
+
 	/**
 	 * Creates a new {@code StartupEndpoint} that will describe the timeline of buffered
 	 * application startup events.
@@ -52,6 +59,24 @@ public class StartupEndpoint {
 		return new StartupResponse(startupTimeline);
 	}
 
+	/**
+	 * Return a snapshot of the timeline in the given {@code format}. The only supported
+	 * format is {@code trace}, the Trace Event Format that is understood by tools such as
+	 * {@code chrome://tracing} and Perfetto.
+	 * @param format the format of the timeline
+	 * @return the formatted timeline
+	 * @since 2.5.0
+	 * @see StartupTimelineTraceEventWriter
+	 */
+	@ReadOperation(produces = "application/json")
+	public String startupSnapshotAs(@Selector String format) {
+		if (!TRACE_FORMAT.equals(format)) {
+			throw new InvalidEndpointRequestException("Unsupported startup format '" + format + "'",
+					"Unsupported startup format");
+		}
+		return this.traceEventWriter.toJson(this.applicationStartup.getBufferedTimeline());
+	}
+
 	@WriteOperation
 	public StartupResponse startup() {
 		StartupTimeline startupTimeline = this.applicationStartup.drainBufferedTimeline();
@@ -43,4 +43,18 @@ public interface MappingDescriptionProvider {
 	 */
 	Object describeMappings(ApplicationContext context);
 
+	/**
+	 * Filter the given mapping descriptions, previously produced by this provider, so
+	 * that only those that match the given {@code filter} remain. The given descriptions
+	 * must not be modified. The default implementation returns the descriptions
+	 * unchanged.
+	 * @param mappings the mapping descriptions to filter
+	 * @param filter the filter to apply
+	 * @return the filtered mapping descriptions
+	 * @since 2.5.0
+	 */
+	default Object filterMappings(Object mappings, MappingFilter filter) {
+		return mappings;
+	}
+
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.web.mappings;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.util.StringUtils;
+
+/**
+ * A filter that selects the mappings that can handle a request with a given path and
+ * HTTP method.
+ *
+ * @author Phillip Webb
+ * @since 2.5.0
+ * @see MappingDescriptionProvider#filterMappings(Object, MappingFilter)
+ */
+public final class MappingFilter {
+
+	/**
+	 * Filter that matches all mappings.
+	 */
+	public static final MappingFilter ALL = new MappingFilter(null, null);
+
+	private static final PathMatcher pathMatcher = new AntPathMatcher();
+
+	private final String path;
+
+	private final String method;
+
+	private MappingFilter(String path, String method) {
+		this.path = path;
+		this.method = method;
+	}
+
+	/**
+	 * Return whether this filter matches all mappings.
+	 * @return {@code true} if no path or method is being filtered on
+	 */
+	public boolean isAll() {
+		return this.path == null && this.method == null;
+	}
+
+	/**
+	 * Return whether the request path matches one of the given patterns. A pattern
+	 * matches if it is equal to the path or if the path is a match for it.
+	 * @param patterns the patterns of the mapping
+	 * @return {@code true} if the path matches
+	 */
+	public boolean matchesPath(Collection<String> patterns) {
+		if (this.path == null) {
+			return true;
+		}
+		for (String pattern : patterns) {
+			if (this.path.equals(pattern) || pathMatcher.match(pattern, this.path)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Return whether the request method matches one of the given methods. A mapping
+	 * without any methods matches all of them.
+	 * @param methods the methods of the mapping
+	 * @return {@code true} if the method matches
+	 */
+	public boolean matchesMethod(Collection<?> methods) {
+		if (this.method == null || methods.isEmpty()) {
+			return true;
+		}
+		for (Object candidate : methods) {
+			if (this.method.equalsIgnoreCase(candidate.toString())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Return whether the request path matches a mapping that is only described by its
+	 * predicate, such as a URL handler mapping or a router function. The predicate
+	 * matches if it is a pattern that the path matches or if it contains the path. As
+	 * the predicate does not reliably describe the HTTP methods of the mapping, the
+	 * method is not considered.
+	 * @param predicate the predicate of the mapping
+	 * @return {@code true} if the path matches
+	 */
+	public boolean matchesPredicate(String predicate) {
+		return this.path == null || matchesPath(Collections.singleton(predicate)) || predicate.contains(this.path);
+	}
+
+	/**
+	 * Create a new {@link MappingFilter} for the given request path and method.
+	 * @param path the request path or {@code null} to match any path
+	 * @param method the HTTP method or {@code null} to match any method
+	 * @return the filter
+	 */
+	public static MappingFilter of(@Nullable String path, @Nullable String method) {
+		String filteredPath = StringUtils.hasText(path) ? path : null;
+		String filteredMethod = StringUtils.hasText(method) ? method : null;
+		if (filteredPath == null && filteredMethod == null) {
+			return ALL;
+		}
+		return new MappingFilter(filteredPath, filteredMethod);
+	}
+
+}
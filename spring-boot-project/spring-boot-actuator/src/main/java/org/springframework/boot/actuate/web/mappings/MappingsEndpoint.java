@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,13 +19,17 @@ package org.springframework.boot.actuate.web.mappings;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.lang.Nullable;
 
 /**
- * {@link Endpoint @Endpoint} to expose HTTP request mappings.
+ * {@link Endpoint @Endpoint} to expose HTTP request mappings. Mapping descriptions are
+ * cached for each application context until it is refreshed.
  *
  * @author Andy Wilkinson
  * @since 2.0.0
@@ -37,22 +41,69 @@ public class MappingsEndpoint {
 
 	private final ApplicationContext context;
 
+	private final Map<ApplicationContext, CachedContextMappings> cache = new ConcurrentHashMap<>();
+
 	public MappingsEndpoint(Collection<MappingDescriptionProvider> descriptionProviders, ApplicationContext context) {
 		this.descriptionProviders = descriptionProviders;
 		this.context = context;
 	}
 
-	@ReadOperation
 	public ApplicationMappings mappings() {
+		return mappings(null, null);
+	}
+
+	/**
+	 * Describe the mappings that can handle a request with the given {@code path} and
+	 * HTTP {@code method}, or all mappings if neither is given.
+	 * @param path the request path, for example {@code /owners/1}
+	 * @param method the HTTP method, for example {@code GET}
+	 * @return the matching mappings
+	 * @since 2.5.0
+	 */
+	@ReadOperation
+	public ApplicationMappings mappings(@Nullable String path, @Nullable String method) {
+		MappingFilter filter = MappingFilter.of(path, method);
 		ApplicationContext target = this.context;
 		Map<String, ContextMappings> contextMappings = new HashMap<>();
 		while (target != null) {
-			contextMappings.put(target.getId(), mappingsForContext(target));
+			contextMappings.put(target.getId(), filter(getMappingsForContext(target), filter));
 			target = target.getParent();
 		}
 		return new ApplicationMappings(contextMappings);
 	}
 
+	private ContextMappings filter(ContextMappings contextMappings, MappingFilter filter) {
+		if (filter.isAll()) {
+			return contextMappings;
+		}
+		Map<String, Object> mappings = new HashMap<>();
+		this.descriptionProviders.forEach((provider) -> {
+			Object descriptions = contextMappings.getMappings().get(provider.getMappingName());
+			if (descriptions != null) {
+				mappings.put(provider.getMappingName(), provider.filterMappings(descriptions, filter));
+			}
+		});
+		return new ContextMappings(mappings, contextMappings.getParentId());
+	}
+
+	private ContextMappings getMappingsForContext(ApplicationContext applicationContext) {
+		long startupDate = applicationContext.getStartupDate();
+		CachedContextMappings cached = this.cache.get(applicationContext);
+		if (cached != null && cached.startupDate == startupDate) {
+			return cached.mappings;
+		}
+		ContextMappings mappings = mappingsForContext(applicationContext);
+		if (isActive(applicationContext)) {
+			this.cache.put(applicationContext, new CachedContextMappings(startupDate, mappings));
+		}
+		return mappings;
+	}
+
+	private boolean isActive(ApplicationContext applicationContext) {
+		return !(applicationContext instanceof ConfigurableApplicationContext)
+				|| ((ConfigurableApplicationContext) applicationContext).isActive();
+	}
+
 	private ContextMappings mappingsForContext(ApplicationContext applicationContext) {
 		Map<String, Object> mappings = new HashMap<>();
 		this.descriptionProviders.forEach(
@@ -61,6 +112,23 @@ public class MappingsEndpoint {
 				(applicationContext.getParent() != null) ? applicationContext.getId() : null);
 	}
 
+	/**
+	 * Mappings of an application context cached against the time at which the context
+	 * was last refreshed.
+	 */
+	private static final class CachedContextMappings {
+
+		private final long startupDate;
+
+		private final ContextMappings mappings;
+
+		private CachedContextMappings(long startupDate, ContextMappings mappings) {
+			this.startupDate = startupDate;
+			this.mappings = mappings;
+		}
+
+	}
+
 	/**
 	 * A description of an application's request mappings. Primarily intended for
 	 * serialization to JSON.
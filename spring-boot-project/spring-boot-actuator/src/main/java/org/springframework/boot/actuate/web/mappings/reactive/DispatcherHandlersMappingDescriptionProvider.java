@@ -30,6 +30,7 @@ import reactor.core.publisher.Mono;
 
 import org.springframework.boot.actuate.web.mappings.HandlerMethodDescription;
 import org.springframework.boot.actuate.web.mappings.MappingDescriptionProvider;
+import org.springframework.boot.actuate.web.mappings.MappingFilter;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.io.Resource;
 import org.springframework.web.method.HandlerMethod;
@@ -72,6 +73,27 @@ public class DispatcherHandlersMappingDescriptionProvider implements MappingDesc
 		return mappings;
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public Map<String, List<DispatcherHandlerMappingDescription>> filterMappings(Object mappings,
+			MappingFilter filter) {
+		Map<String, List<DispatcherHandlerMappingDescription>> filtered = new HashMap<>();
+		((Map<String, List<DispatcherHandlerMappingDescription>>) mappings)
+				.forEach((name, descriptions) -> filtered.put(name, descriptions.stream()
+						.filter((description) -> matches(description, filter)).collect(Collectors.toList())));
+		return filtered;
+	}
+
+	private boolean matches(DispatcherHandlerMappingDescription description, MappingFilter filter) {
+		DispatcherHandlerMappingDetails details = description.getDetails();
+		RequestMappingConditionsDescription conditions = (details != null) ? details.getRequestMappingConditions()
+				: null;
+		if (conditions == null) {
+			return filter.matchesPredicate(description.getPredicate());
+		}
+		return filter.matchesPath(conditions.getPatterns()) && filter.matchesMethod(conditions.getMethods());
+	}
+
 	private List<DispatcherHandlerMappingDescription> describeMappings(DispatcherHandler dispatcherHandler) {
 		return dispatcherHandler.getHandlerMappings().stream().flatMap(this::describe).collect(Collectors.toList());
 	}
@@ -30,6 +30,7 @@ import javax.servlet.Servlet;
 
 import org.springframework.boot.actuate.web.mappings.HandlerMethodDescription;
 import org.springframework.boot.actuate.web.mappings.MappingDescriptionProvider;
+import org.springframework.boot.actuate.web.mappings.MappingFilter;
 import org.springframework.boot.web.servlet.ServletRegistrationBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.web.context.WebApplicationContext;
@@ -74,6 +75,27 @@ public class DispatcherServletsMappingDescriptionProvider implements MappingDesc
 		return Collections.emptyMap();
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public Map<String, List<DispatcherServletMappingDescription>> filterMappings(Object mappings,
+			MappingFilter filter) {
+		Map<String, List<DispatcherServletMappingDescription>> filtered = new LinkedHashMap<>();
+		((Map<String, List<DispatcherServletMappingDescription>>) mappings)
+				.forEach((name, descriptions) -> filtered.put(name, descriptions.stream()
+						.filter((description) -> matches(description, filter)).collect(Collectors.toList())));
+		return filtered;
+	}
+
+	private boolean matches(DispatcherServletMappingDescription description, MappingFilter filter) {
+		DispatcherServletMappingDetails details = description.getDetails();
+		RequestMappingConditionsDescription conditions = (details != null) ? details.getRequestMappingConditions()
+				: null;
+		if (conditions == null) {
+			return filter.matchesPredicate(description.getPredicate());
+		}
+		return filter.matchesPath(conditions.getPatterns()) && filter.matchesMethod(conditions.getMethods());
+	}
+
 	private Map<String, List<DispatcherServletMappingDescription>> describeMappings(WebApplicationContext context) {
 		Map<String, List<DispatcherServletMappingDescription>> mappings = new HashMap<>();
 		determineDispatcherServlets(context).forEach((name, dispatcherServlet) -> mappings.put(name,
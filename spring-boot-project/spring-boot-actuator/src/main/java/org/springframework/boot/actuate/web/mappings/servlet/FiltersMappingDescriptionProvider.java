@@ -24,6 +24,7 @@ import javax.servlet.Filter;
 import javax.servlet.ServletContext;
 
 import org.springframework.boot.actuate.web.mappings.MappingDescriptionProvider;
+import org.springframework.boot.actuate.web.mappings.MappingFilter;
 import org.springframework.context.ApplicationContext;
 import org.springframework.web.context.WebApplicationContext;
 
@@ -45,6 +46,15 @@ public class FiltersMappingDescriptionProvider implements MappingDescriptionProv
 				.map(FilterRegistrationMappingDescription::new).collect(Collectors.toList());
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<FilterRegistrationMappingDescription> filterMappings(Object mappings, MappingFilter filter) {
+		return ((List<FilterRegistrationMappingDescription>) mappings).stream()
+				.filter((description) -> !description.getServletNameMappings().isEmpty()
+						|| filter.matchesPath(description.getUrlPatternMappings()))
+				.collect(Collectors.toList());
+	}
+
 	@Override
 	public String getMappingName() {
 		return "servletFilters";
@@ -24,6 +24,7 @@ import javax.servlet.Servlet;
 import javax.servlet.ServletContext;
 
 import org.springframework.boot.actuate.web.mappings.MappingDescriptionProvider;
+import org.springframework.boot.actuate.web.mappings.MappingFilter;
 import org.springframework.context.ApplicationContext;
 import org.springframework.web.context.WebApplicationContext;
 
@@ -45,6 +46,13 @@ public class ServletsMappingDescriptionProvider implements MappingDescriptionPro
 				.map(ServletRegistrationMappingDescription::new).collect(Collectors.toList());
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<ServletRegistrationMappingDescription> filterMappings(Object mappings, MappingFilter filter) {
+		return ((List<ServletRegistrationMappingDescription>) mappings).stream()
+				.filter((description) -> filter.matchesPath(description.getMappings())).collect(Collectors.toList());
+	}
+
 	@Override
 	public String getMappingName() {
 		return "servlets";
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,6 +28,7 @@ import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.boot.actuate.beans.BeansEndpoint.ApplicationBeans;
 import org.springframework.boot.actuate.beans.BeansEndpoint.BeanDescriptor;
 import org.springframework.boot.actuate.beans.BeansEndpoint.ContextBeans;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -35,6 +36,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * Tests for {@link BeansEndpoint}.
@@ -89,6 +91,52 @@ class BeansEndpointTests {
 		});
 	}
 
+	@Test
+	void beansWithNameMatchingPatternAreFound() {
+		ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+				.withUserConfiguration(EndpointConfiguration.class, BeanConfiguration.class);
+		contextRunner.run((context) -> {
+			ApplicationBeans result = context.getBean(BeansEndpoint.class).beans("^end", null, null);
+			Map<String, BeanDescriptor> beans = result.getContexts().get(context.getId()).getBeans();
+			assertThat(beans).containsOnlyKeys("endpoint");
+		});
+	}
+
+	@Test
+	void beansArePagedInNameOrder() {
+		ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+				.withUserConfiguration(EndpointConfiguration.class, PagedBeanConfiguration.class);
+		contextRunner.run((context) -> {
+			ApplicationBeans result = context.getBean(BeansEndpoint.class).beans("^(alpha|bravo|charlie)$", 1, 1);
+			Map<String, BeanDescriptor> beans = result.getContexts().get(context.getId()).getBeans();
+			assertThat(beans).containsOnlyKeys("bravo");
+		});
+	}
+
+	@Test
+	void beansArePagedAcrossContextHierarchy() {
+		ApplicationContextRunner parentRunner = new ApplicationContextRunner()
+				.withUserConfiguration(BeanConfiguration.class);
+		parentRunner.run((parent) -> {
+			new ApplicationContextRunner().withUserConfiguration(EndpointConfiguration.class).withParent(parent)
+					.run((child) -> {
+						ApplicationBeans result = child.getBean(BeansEndpoint.class).beans("^(bean|endpoint)$", 1,
+								null);
+						assertThat(result.getContexts().get(child.getId()).getBeans()).isEmpty();
+						assertThat(result.getContexts().get(parent.getId()).getBeans()).containsOnlyKeys("bean");
+					});
+		});
+	}
+
+	@Test
+	void beansWithNegativeOffsetThrowsException() {
+		ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+				.withUserConfiguration(EndpointConfiguration.class);
+		contextRunner.run((context) -> assertThatExceptionOfType(InvalidEndpointRequestException.class)
+				.isThrownBy(() -> context.getBean(BeansEndpoint.class).beans(null, -1, null))
+				.withMessageContaining("offset"));
+	}
+
 	@Test
 	void beansInParentContextAreFound() {
 		ApplicationContextRunner parentRunner = new ApplicationContextRunner()
@@ -123,6 +171,26 @@ class BeansEndpointTests {
 
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	static class PagedBeanConfiguration {
+
+		@Bean
+		String charlie() {
+			return "charlie";
+		}
+
+		@Bean
+		String alpha() {
+			return "alpha";
+		}
+
+		@Bean
+		String bravo() {
+			return "bravo";
+		}
+
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	static class LazyBeanConfiguration {
 
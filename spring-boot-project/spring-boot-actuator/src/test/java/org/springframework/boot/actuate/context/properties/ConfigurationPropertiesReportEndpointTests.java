@@ -30,6 +30,7 @@ import org.junit.jupiter.api.Test;
 
 import org.springframework.boot.actuate.context.properties.ConfigurationPropertiesReportEndpoint.ConfigurationPropertiesBeanDescriptor;
 import org.springframework.boot.actuate.context.properties.ConfigurationPropertiesReportEndpoint.ContextConfigurationProperties;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.ConstructorBinding;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -47,6 +48,7 @@ import org.springframework.core.env.Environment;
 import org.springframework.mock.env.MockPropertySource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.entry;
 
 /**
@@ -297,6 +299,41 @@ class ConfigurationPropertiesReportEndpointTests {
 				}));
 	}
 
+	@Test
+	void beansWithNameMatchingPatternAreDescribed() {
+		this.contextRunner.withUserConfiguration(TestPropertiesConfiguration.class,
+				BooleanPropertiesConfiguration.class).run((context) -> {
+					ConfigurationPropertiesReportEndpoint endpoint = context
+							.getBean(ConfigurationPropertiesReportEndpoint.class);
+					Map<String, ConfigurationPropertiesBeanDescriptor> beans = endpoint
+							.configurationProperties("^test-", null, null).getContexts().get(context.getId())
+							.getBeans();
+					assertThat(beans).hasSize(1);
+					assertThat(beans.values().iterator().next().getPrefix()).isEqualTo("test");
+				});
+	}
+
+	@Test
+	void beansArePagedInNameOrder() {
+		this.contextRunner.withUserConfiguration(TestPropertiesConfiguration.class,
+				BooleanPropertiesConfiguration.class, MixedCasePropertiesConfiguration.class).run((context) -> {
+					ConfigurationPropertiesReportEndpoint endpoint = context
+							.getBean(ConfigurationPropertiesReportEndpoint.class);
+					Map<String, ConfigurationPropertiesBeanDescriptor> beans = endpoint
+							.configurationProperties(null, 1, 1).getContexts().get(context.getId()).getBeans();
+					assertThat(beans).hasSize(1);
+					assertThat(beans.values().iterator().next().getPrefix()).isEqualTo("mixedcase");
+				});
+	}
+
+	@Test
+	void beansWithNegativeOffsetThrowsException() {
+		this.contextRunner.run((context) -> assertThatExceptionOfType(InvalidEndpointRequestException.class)
+				.isThrownBy(() -> context.getBean(ConfigurationPropertiesReportEndpoint.class)
+						.configurationProperties(null, -1, null))
+				.withMessageContaining("offset"));
+	}
+
 	private void initializeOriginParents(ConfigurableApplicationContext context) {
 		MockPropertySource propertySource = new OriginParentMockPropertySource();
 		propertySource.setProperty("sensible.string", "spring");
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,10 +19,12 @@ package org.springframework.boot.actuate.endpoint.invoke.convert;
 import java.time.OffsetDateTime;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import org.springframework.boot.actuate.endpoint.invoke.OperationParameter;
 import org.springframework.boot.actuate.endpoint.invoke.ParameterMappingException;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.format.support.DefaultFormattingConversionService;
 
@@ -32,7 +34,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
  * Tests for {@link ConversionServiceParameterValueMapper}.
@@ -47,14 +51,36 @@ class ConversionServiceParameterValueMapperTests {
 		ConversionServiceParameterValueMapper mapper = new ConversionServiceParameterValueMapper(conversionService);
 		Object mapped = mapper.mapParameterValue(new TestOperationParameter(Integer.class), "123");
 		assertThat(mapped).isEqualTo(123);
-		verify(conversionService).convert("123", Integer.class);
+		verify(conversionService).convert("123", TypeDescriptor.valueOf(String.class),
+				TypeDescriptor.valueOf(Integer.class));
+	}
+
+	@Test
+	void mapParameterShouldResolveTargetTypeOncePerParameter() {
+		DefaultFormattingConversionService conversionService = spy(new DefaultFormattingConversionService());
+		ConversionServiceParameterValueMapper mapper = new ConversionServiceParameterValueMapper(conversionService);
+		TestOperationParameter parameter = new TestOperationParameter(Integer.class);
+		assertThat(mapper.mapParameterValue(parameter, "123")).isEqualTo(123);
+		assertThat(mapper.mapParameterValue(parameter, "456")).isEqualTo(456);
+		ArgumentCaptor<TypeDescriptor> targetTypes = ArgumentCaptor.forClass(TypeDescriptor.class);
+		verify(conversionService, times(2)).convert(any(), any(TypeDescriptor.class), targetTypes.capture());
+		assertThat(targetTypes.getAllValues().get(0)).isSameAs(targetTypes.getAllValues().get(1));
+	}
+
+	@Test
+	void mapParameterWhenValueIsAlreadyOfRequiredTypeShouldNotUseConversionService() {
+		ConversionService conversionService = mock(ConversionService.class);
+		ConversionServiceParameterValueMapper mapper = new ConversionServiceParameterValueMapper(conversionService);
+		Object mapped = mapper.mapParameterValue(new TestOperationParameter(Integer.class), 123);
+		assertThat(mapped).isEqualTo(123);
+		verifyNoInteractions(conversionService);
 	}
 
 	@Test
 	void mapParameterWhenConversionServiceFailsShouldThrowParameterMappingException() {
 		ConversionService conversionService = mock(ConversionService.class);
 		RuntimeException error = new RuntimeException();
-		given(conversionService.convert(any(), any())).willThrow(error);
+		given(conversionService.convert(any(), any(TypeDescriptor.class), any(TypeDescriptor.class))).willThrow(error);
 		ConversionServiceParameterValueMapper mapper = new ConversionServiceParameterValueMapper(conversionService);
 		assertThatExceptionOfType(ParameterMappingException.class)
 				.isThrownBy(() -> mapper.mapParameterValue(new TestOperationParameter(Integer.class), "123"))
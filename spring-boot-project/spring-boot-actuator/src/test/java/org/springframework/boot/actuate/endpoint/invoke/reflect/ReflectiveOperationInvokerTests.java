@@ -16,6 +16,8 @@
 
 package org.springframework.boot.actuate.endpoint.invoke.reflect;
 
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.Collections;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -27,12 +29,14 @@ import org.springframework.boot.actuate.endpoint.OperationType;
 import org.springframework.boot.actuate.endpoint.SecurityContext;
 import org.springframework.boot.actuate.endpoint.invoke.MissingParametersException;
 import org.springframework.boot.actuate.endpoint.invoke.ParameterValueMapper;
+import org.springframework.boot.actuate.endpoint.invoke.reflect.sample.SampleEndpoints;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ReflectionUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -114,8 +118,71 @@ class ReflectiveOperationInvokerTests {
 		assertThat(result).isEqualTo("4321");
 	}
 
+	@Test
+	void invokeWhenMethodThrowsRuntimeExceptionShouldRethrowException() {
+		OperationMethod operationMethod = new OperationMethod(
+				ReflectionUtils.findMethod(Example.class, "fail", String.class), OperationType.READ);
+		ReflectiveOperationInvoker invoker = new ReflectiveOperationInvoker(this.target, operationMethod,
+				this.parameterValueMapper);
+		assertThatIllegalStateException().isThrownBy(() -> invoker
+				.invoke(new InvocationContext(mock(SecurityContext.class), Collections.singletonMap("name", "boot"))))
+				.withMessage("boot");
+	}
+
+	@Test
+	void invokeWhenMethodThrowsCheckedExceptionShouldThrowUndeclaredThrowableException() {
+		OperationMethod operationMethod = new OperationMethod(
+				ReflectionUtils.findMethod(Example.class, "failChecked", String.class), OperationType.READ);
+		ReflectiveOperationInvoker invoker = new ReflectiveOperationInvoker(this.target, operationMethod,
+				this.parameterValueMapper);
+		assertThatExceptionOfType(UndeclaredThrowableException.class).isThrownBy(() -> invoker
+				.invoke(new InvocationContext(mock(SecurityContext.class), Collections.singletonMap("name", "boot"))))
+				.withCauseInstanceOf(IOException.class);
+	}
+
+	@Test
+	void invokeWithNoParametersShouldInvokeMethod() {
+		OperationMethod operationMethod = new OperationMethod(ReflectionUtils.findMethod(Example.class, "hello"),
+				OperationType.READ);
+		ReflectiveOperationInvoker invoker = new ReflectiveOperationInvoker(this.target, operationMethod,
+				this.parameterValueMapper);
+		Object result = invoker.invoke(new InvocationContext(mock(SecurityContext.class), Collections.emptyMap()));
+		assertThat(result).isEqualTo("hello");
+	}
+
+	@Test
+	void invokeWhenOperationMethodIsPackagePrivateInAnotherPackageShouldInvokeMethod() {
+		assertThat(invokeEcho(SampleEndpoints.packagePrivateOperation())).isEqualTo("boot");
+	}
+
+	@Test
+	void invokeWhenEndpointClassIsPackagePrivateInAnotherPackageShouldInvokeMethod() {
+		assertThat(invokeEcho(SampleEndpoints.packagePrivateEndpoint())).isEqualTo("boot");
+	}
+
+	private Object invokeEcho(Object target) {
+		OperationMethod operationMethod = new OperationMethod(
+				ReflectionUtils.findMethod(target.getClass(), "echo", String.class), OperationType.READ);
+		ReflectiveOperationInvoker invoker = new ReflectiveOperationInvoker(target, operationMethod,
+				this.parameterValueMapper);
+		return invoker
+				.invoke(new InvocationContext(mock(SecurityContext.class), Collections.singletonMap("name", "boot")));
+	}
+
 	static class Example {
 
+		String hello() {
+			return "hello";
+		}
+
+		String fail(String name) {
+			throw new IllegalStateException(name);
+		}
+
+		String failChecked(String name) throws IOException {
+			throw new IOException(name);
+		}
+
 		String reverse(ApiVersion apiVersion, SecurityContext securityContext, String name) {
 			assertThat(apiVersion).isEqualTo(ApiVersion.LATEST);
 			assertThat(securityContext).isNotNull();
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.endpoint.invoke.reflect.sample;
+
+/**
+ * Sample endpoints with operations that are not accessible from other packages.
+ *
+ * @author Phillip Webb
+ */
+public final class SampleEndpoints {
+
+	private SampleEndpoints() {
+	}
+
+	/**
+	 * Return an endpoint with a public class and a package-private {@code echo}
+	 * operation.
+	 * @return the endpoint
+	 */
+	public static Object packagePrivateOperation() {
+		return new PackagePrivateOperationEndpoint();
+	}
+
+	/**
+	 * Return an endpoint with a package-private class and a public {@code echo}
+	 * operation.
+	 * @return the endpoint
+	 */
+	public static Object packagePrivateEndpoint() {
+		return new PackagePrivateEndpoint();
+	}
+
+	public static class PackagePrivateOperationEndpoint {
+
+		String echo(String name) {
+			return name;
+		}
+
+	}
+
+	static class PackagePrivateEndpoint {
+
+		public String echo(String name) {
+			return name;
+		}
+
+	}
+
+}
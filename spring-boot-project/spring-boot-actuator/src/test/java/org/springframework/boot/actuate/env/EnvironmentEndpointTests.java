@@ -27,6 +27,7 @@ import java.util.Map;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
 import org.springframework.boot.actuate.env.EnvironmentEndpoint.EnvironmentDescriptor;
 import org.springframework.boot.actuate.env.EnvironmentEndpoint.EnvironmentEntryDescriptor;
 import org.springframework.boot.actuate.env.EnvironmentEndpoint.PropertySourceDescriptor;
@@ -47,6 +48,7 @@ import org.springframework.core.io.InputStreamSource;
 import org.springframework.mock.env.MockPropertySource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * Tests for {@link EnvironmentEndpoint}.
@@ -291,6 +293,33 @@ class EnvironmentEndpointTests {
 		assertThat(sources.get("two").getProperties().get("a").getValue()).isEqualTo("apple");
 	}
 
+	@Test
+	void propertiesArePagedAcrossSources() {
+		ConfigurableEnvironment environment = emptyEnvironment();
+		Map<String, Object> one = new LinkedHashMap<>();
+		one.put("a", "alpha");
+		one.put("ignored", "ignored");
+		one.put("b", "bravo");
+		Map<String, Object> two = new LinkedHashMap<>();
+		two.put("c", "charlie");
+		two.put("d", "delta");
+		environment.getPropertySources().addLast(new MapPropertySource("one", one));
+		environment.getPropertySources().addLast(new MapPropertySource("two", two));
+		EnvironmentDescriptor descriptor = new EnvironmentEndpoint(environment).environment("^[a-d]$", 1, 2);
+		Map<String, PropertySourceDescriptor> sources = propertySources(descriptor);
+		assertThat(sources.keySet()).containsExactly("one", "two");
+		assertThat(sources.get("one").getProperties()).containsOnlyKeys("b");
+		assertThat(sources.get("two").getProperties()).containsOnlyKeys("c");
+	}
+
+	@Test
+	void propertiesWithZeroLimitThrowsException() {
+		ConfigurableEnvironment environment = emptyEnvironment();
+		assertThatExceptionOfType(InvalidEndpointRequestException.class)
+				.isThrownBy(() -> new EnvironmentEndpoint(environment).environment(null, null, 0))
+				.withMessageContaining("limit");
+	}
+
 	@Test
 	void uriPropertyWithSensitiveInfo() {
 		ConfigurableEnvironment environment = new StandardEnvironment();
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,7 +24,13 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.management.ThreadDumpEndpoint.StackDescriptor;
+import org.springframework.boot.actuate.management.ThreadDumpEndpoint.ThreadActivityDescriptor;
+import org.springframework.boot.actuate.management.ThreadDumpEndpoint.ThreadSamplesDescriptor;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * Tests for {@link ThreadDumpEndpoint}.
@@ -111,6 +117,45 @@ class ThreadDumpEndpointTests {
 								ReentrantReadWriteLock.class.getName().replace(".", "\\.")));
 	}
 
+	@Test
+	void sampleThreads() {
+		ThreadSamplesDescriptor samples = new ThreadDumpEndpoint().threadSamples("samples", 3, 1L, null);
+		assertThat(samples.getSamples()).isEqualTo(3);
+		assertThat(samples.getStacks()).isNotEmpty();
+		assertThat(samples.getStacks().stream().mapToInt(StackDescriptor::getCount).sum())
+				.isGreaterThanOrEqualTo(3);
+		assertThat(samples.getThreads()).extracting(ThreadActivityDescriptor::getThreadName)
+				.contains(Thread.currentThread().getName());
+	}
+
+	@Test
+	void sampleThreadsWithUnknownModeThrowsException() {
+		assertThatExceptionOfType(InvalidEndpointRequestException.class)
+				.isThrownBy(() -> new ThreadDumpEndpoint().threadSamples("unknown", null, null, null))
+				.withMessageContaining("Unsupported thread dump mode 'unknown'");
+	}
+
+	@Test
+	void sampleThreadsWithExcessiveDurationThrowsException() {
+		assertThatExceptionOfType(InvalidEndpointRequestException.class)
+				.isThrownBy(() -> new ThreadDumpEndpoint().threadSamples("samples", 1000, 61L, null))
+				.withMessageContaining("must not exceed 60000ms but was 61000ms");
+	}
+
+	@Test
+	void sampleThreadsWithInvalidCountThrowsException() {
+		assertThatExceptionOfType(InvalidEndpointRequestException.class)
+				.isThrownBy(() -> new ThreadDumpEndpoint().threadSamples("samples", 0, null, null))
+				.withMessageContaining("Parameter 'count' must be between 1 and 1000");
+	}
+
+	@Test
+	void sampleThreadsAsCollapsedText() {
+		String collapsed = new ThreadDumpEndpoint().textThreadSamples("samples", 2, 1L, null);
+		assertThat(collapsed).containsPattern(String.format("RUNNABLE;.*%s\\.sampleThreadsAsCollapsedText;.* 2%%n",
+				getClass().getName().replace(".", "\\.")));
+	}
+
 	private String hexIdentityHashCode(Object object) {
 		return Integer.toHexString(System.identityHashCode(object));
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -46,6 +46,39 @@ class ThreadDumpEndpointWebIntegrationTests {
 		assertThat(response).contains("Full thread dump");
 	}
 
+	@WebEndpointTest
+	void getSamplesRequestWithJsonAcceptHeaderShouldProduceJsonSamplesResponse(WebTestClient client) {
+		client.get().uri("/actuator/threaddump/samples?count=2&interval=1").accept(MediaType.APPLICATION_JSON)
+				.exchange().expectStatus().isOk().expectHeader().contentType(MediaType.APPLICATION_JSON).expectBody()
+				.jsonPath("samples").isEqualTo(2).jsonPath("stacks").isNotEmpty().jsonPath("threads").isNotEmpty();
+	}
+
+	@WebEndpointTest
+	void getSamplesRequestWithTextPlainAcceptHeaderShouldProduceCollapsedResponse(WebTestClient client) {
+		String response = client.get().uri("/actuator/threaddump/samples?count=2&interval=1")
+				.accept(MediaType.TEXT_PLAIN).exchange().expectStatus().isOk().expectHeader()
+				.contentType("text/plain;charset=UTF-8").expectBody(String.class).returnResult().getResponseBody();
+		assertThat(response).contains("RUNNABLE;");
+	}
+
+	@WebEndpointTest
+	void getSamplesRequestWithInvalidCountShouldReturnBadRequest(WebTestClient client) {
+		client.get().uri("/actuator/threaddump/samples?count=0").accept(MediaType.APPLICATION_JSON).exchange()
+				.expectStatus().isBadRequest();
+	}
+
+	@WebEndpointTest
+	void getSamplesRequestWithUnknownModeShouldReturnBadRequest(WebTestClient client) {
+		client.get().uri("/actuator/threaddump/unknown").accept(MediaType.APPLICATION_JSON).exchange().expectStatus()
+				.isBadRequest();
+	}
+
+	@WebEndpointTest
+	void getSamplesRequestWithExcessiveDurationShouldReturnBadRequest(WebTestClient client) {
+		client.get().uri("/actuator/threaddump/samples?count=1000&interval=10000").accept(MediaType.APPLICATION_JSON)
+				.exchange().expectStatus().isBadRequest();
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	public static class TestConfiguration {
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,7 +23,9 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.boot.cache.TwoLevelCache;
 import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -54,6 +56,18 @@ class CacheMetricsRegistrarTests {
 		assertThat(this.meterRegistry.get("cache.gets").tags("name", "test").meter()).isNotNull();
 	}
 
+	@Test
+	void bindToTwoLevelCacheBindsEachLevel() {
+		CacheMetricsRegistrar registrar = new CacheMetricsRegistrar(this.meterRegistry,
+				Collections.singleton(new CaffeineCacheMeterBinderProvider()));
+		TwoLevelCache cache = new TwoLevelCache("test", new CaffeineCache("test", Caffeine.newBuilder().build()),
+				new ConcurrentMapCache("test"), (cacheName, key) -> {
+				});
+		assertThat(registrar.bindCacheToRegistry(cache)).isTrue();
+		assertThat(this.meterRegistry.get("cache.gets").tags("name", "test", "level", "local").meter()).isNotNull();
+		assertThat(this.meterRegistry.find("cache.gets").tags("level", "remote").meter()).isNull();
+	}
+
 	@Test
 	void bindToUnsupportedCache() {
 		CacheMetricsRegistrar registrar = new CacheMetricsRegistrar(this.meterRegistry, Collections.emptyList());
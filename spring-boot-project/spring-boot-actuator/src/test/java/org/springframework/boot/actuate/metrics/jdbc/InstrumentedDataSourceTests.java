@@ -0,0 +1,99 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link InstrumentedDataSource}.
+ *
+ * @author Phillip Webb
+ */
+class InstrumentedDataSourceTests {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@Test
+	void getConnectionRecordsAcquisitionAndUsage() throws SQLException {
+		InstrumentedDataSource dataSource = new InstrumentedDataSource(createTargetDataSource(), this.registry,
+				"test", Collections.emptyList());
+		Connection connection = dataSource.getConnection();
+		connection.getMetaData();
+		assertThat(timer("jdbc.connections.acquire").count()).isEqualTo(1);
+		assertThat(timer("jdbc.connections.usage").count()).isEqualTo(0);
+		connection.close();
+		connection.close();
+		assertThat(timer("jdbc.connections.usage").count()).isEqualTo(1);
+		assertThat(this.registry.get("jdbc.connections.pending").tag("name", "test").gauge().value()).isEqualTo(0);
+	}
+
+	@Test
+	void getConnectionWhenTargetFailsRecordsAcquisition() throws SQLException {
+		DataSource target = mock(DataSource.class);
+		given(target.getConnection()).willThrow(new SQLException("timeout"));
+		InstrumentedDataSource dataSource = new InstrumentedDataSource(target, this.registry, "test",
+				Collections.emptyList());
+		assertThatExceptionOfType(SQLException.class).isThrownBy(dataSource::getConnection);
+		assertThat(timer("jdbc.connections.acquire").count()).isEqualTo(1);
+		Gauge pending = this.registry.get("jdbc.connections.pending").gauge();
+		assertThat(pending.value()).isEqualTo(0);
+	}
+
+	@Test
+	void connectionCanBeUnwrapped() throws SQLException {
+		DataSource target = createTargetDataSource();
+		InstrumentedDataSource dataSource = new InstrumentedDataSource(target, this.registry, "test",
+				Collections.emptyList());
+		try (Connection connection = dataSource.getConnection()) {
+			assertThat(connection).isInstanceOf(ConnectionProxy.class);
+			Connection targetConnection = DataSourceUtils.getTargetConnection(connection);
+			assertThat(targetConnection).isNotSameAs(connection);
+			assertThat(connection.isWrapperFor(targetConnection.getClass())).isTrue();
+			assertThat(connection).isEqualTo(connection).isNotEqualTo(targetConnection);
+		}
+	}
+
+	private Timer timer(String name) {
+		return this.registry.get(name).tag("name", "test").timer();
+	}
+
+	private DataSource createTargetDataSource() {
+		return DataSourceBuilder.create().type(SimpleDriverDataSource.class)
+				.url("jdbc:hsqldb:mem:" + UUID.randomUUID()).username("sa").build();
+	}
+
+}
@@ -21,6 +21,7 @@ import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.boot.SpringBootVersion;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
 import org.springframework.boot.actuate.startup.StartupEndpoint.StartupResponse;
 import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
@@ -29,6 +30,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.metrics.ApplicationStartup;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * Tests for {@link StartupEndpoint}.
@@ -69,6 +71,25 @@ class StartupEndpointTests {
 		});
 	}
 
+	@Test
+	void snapshotInTraceFormatIsNotDrained() {
+		BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(256);
+		testStartupEndpoint(applicationStartup, (startupEndpoint) -> {
+			String trace = startupEndpoint.startupSnapshotAs("trace");
+			assertThat(trace).startsWith("{\"traceEvents\":[{").contains("\"ph\":\"X\"");
+			assertThat(applicationStartup.getBufferedTimeline().getEvents()).isNotEmpty();
+		});
+	}
+
+	@Test
+	void snapshotInUnknownFormatThrowsException() {
+		BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(256);
+		testStartupEndpoint(applicationStartup,
+				(startupEndpoint) -> assertThatExceptionOfType(InvalidEndpointRequestException.class)
+						.isThrownBy(() -> startupEndpoint.startupSnapshotAs("jfr"))
+						.withMessage("Unsupported startup format 'jfr'"));
+	}
+
 	private void testStartupEndpoint(ApplicationStartup applicationStartup, Consumer<StartupEndpoint> startupEndpoint) {
 		ApplicationContextRunner contextRunner = new ApplicationContextRunner()
 				.withInitializer((context) -> context.setApplicationStartup(applicationStartup))
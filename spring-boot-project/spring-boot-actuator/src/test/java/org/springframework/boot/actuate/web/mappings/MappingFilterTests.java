@@ -0,0 +1,81 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.web.mappings;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.web.bind.annotation.RequestMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MappingFilter}.
+ *
+ * @author Phillip Webb
+ */
+class MappingFilterTests {
+
+	@Test
+	void ofWhenPathAndMethodAreEmptyReturnsAll() {
+		assertThat(MappingFilter.of(null, "")).isSameAs(MappingFilter.ALL);
+		assertThat(MappingFilter.ALL.isAll()).isTrue();
+		assertThat(MappingFilter.ALL.matchesPath(Collections.emptySet())).isTrue();
+	}
+
+	@Test
+	void matchesPathWhenPathMatchesPatternReturnsTrue() {
+		MappingFilter filter = MappingFilter.of("/owners/1", null);
+		assertThat(filter.matchesPath(Arrays.asList("/vets", "/owners/{id}"))).isTrue();
+	}
+
+	@Test
+	void matchesPathWhenPathEqualsPatternReturnsTrue() {
+		MappingFilter filter = MappingFilter.of("/owners/{id}", null);
+		assertThat(filter.matchesPath(Collections.singleton("/owners/{id}"))).isTrue();
+	}
+
+	@Test
+	void matchesPathWhenPathDoesNotMatchReturnsFalse() {
+		MappingFilter filter = MappingFilter.of("/owners", null);
+		assertThat(filter.matchesPath(Collections.singleton("/owners/{id}"))).isFalse();
+		assertThat(filter.matchesPath(Collections.emptySet())).isFalse();
+	}
+
+	@Test
+	void matchesMethodIgnoresCase() {
+		MappingFilter filter = MappingFilter.of(null, "get");
+		assertThat(filter.matchesMethod(Collections.singleton(RequestMethod.GET))).isTrue();
+		assertThat(filter.matchesMethod(Collections.singleton(RequestMethod.POST))).isFalse();
+	}
+
+	@Test
+	void matchesMethodWhenMappingHasNoMethodsReturnsTrue() {
+		MappingFilter filter = MappingFilter.of(null, "DELETE");
+		assertThat(filter.matchesMethod(Collections.emptySet())).isTrue();
+	}
+
+	@Test
+	void matchesPredicateWhenPredicateContainsPathReturnsTrue() {
+		MappingFilter filter = MappingFilter.of("/two", "GET");
+		assertThat(filter.matchesPredicate("(POST && /two)")).isTrue();
+		assertThat(filter.matchesPredicate("/webjars/**")).isFalse();
+	}
+
+}
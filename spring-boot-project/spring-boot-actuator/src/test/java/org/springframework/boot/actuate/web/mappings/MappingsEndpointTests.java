@@ -44,6 +44,7 @@ import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
 import org.springframework.boot.web.servlet.ServletRegistrationBean;
 import org.springframework.boot.web.servlet.context.AnnotationConfigServletWebApplicationContext;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.mock.web.MockServletConfig;
@@ -61,8 +62,11 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.util.pattern.PathPatternParser;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
 import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
 import static org.springframework.web.reactive.function.server.RouterFunctions.route;
@@ -135,6 +139,82 @@ class MappingsEndpointTests {
 				});
 	}
 
+	@Test
+	void servletWebMappingsFilteredByPath() {
+		Supplier<ConfigurableWebApplicationContext> contextSupplier = prepareContextSupplier();
+		new WebApplicationContextRunner(contextSupplier)
+				.withUserConfiguration(EndpointConfiguration.class, ServletWebConfiguration.class).run((context) -> {
+					MappingsEndpoint endpoint = context.getBean(MappingsEndpoint.class);
+					ContextMappings matching = endpoint.mappings("/three", null).getContexts().get(context.getId());
+					Map<String, List<DispatcherServletMappingDescription>> dispatcherServlets = mappings(matching,
+							"dispatcherServlets");
+					assertThat(dispatcherServlets.get("dispatcherServlet")).hasSize(1);
+					assertThat((List<?>) mappings(matching, "servlets")).isEmpty();
+					assertThat((List<?>) mappings(matching, "servletFilters")).isEmpty();
+					ContextMappings other = endpoint.mappings("/four", null).getContexts().get(context.getId());
+					dispatcherServlets = mappings(other, "dispatcherServlets");
+					assertThat(dispatcherServlets.get("dispatcherServlet")).isEmpty();
+				});
+	}
+
+	@Test
+	void reactiveWebMappingsFilteredByPath() {
+		new ReactiveWebApplicationContextRunner()
+				.withUserConfiguration(EndpointConfiguration.class, ReactiveWebConfiguration.class).run((context) -> {
+					ContextMappings contextMappings = context.getBean(MappingsEndpoint.class).mappings("/two", null)
+							.getContexts().get(context.getId());
+					Map<String, List<DispatcherHandlerMappingDescription>> dispatcherHandlers = mappings(
+							contextMappings, "dispatcherHandlers");
+					List<DispatcherHandlerMappingDescription> handlerMappings = dispatcherHandlers.get("webHandler");
+					assertThat(handlerMappings).hasSize(1);
+					assertThat(handlerMappings.get(0).getPredicate()).contains("/two");
+				});
+	}
+
+	@Test
+	void filteredMappingsUseCachedDescriptions() {
+		MappingDescriptionProvider provider = mock(MappingDescriptionProvider.class);
+		given(provider.getMappingName()).willReturn("test");
+		given(provider.describeMappings(any())).willReturn(Collections.emptyList());
+		given(provider.filterMappings(any(), any())).willReturn(Collections.emptyList());
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+			context.refresh();
+			MappingsEndpoint endpoint = new MappingsEndpoint(Collections.singletonList(provider), context);
+			endpoint.mappings();
+			endpoint.mappings("/one", "GET");
+			verify(provider, times(1)).describeMappings(context);
+			verify(provider).filterMappings(any(), any());
+		}
+	}
+
+	@Test
+	void mappingsAreCachedUntilContextIsRefreshed() {
+		MappingDescriptionProvider provider = mock(MappingDescriptionProvider.class);
+		given(provider.getMappingName()).willReturn("test");
+		given(provider.describeMappings(any())).willReturn(Collections.emptyList());
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+			context.refresh();
+			MappingsEndpoint endpoint = new MappingsEndpoint(Collections.singletonList(provider), context);
+			ApplicationMappings first = endpoint.mappings();
+			ApplicationMappings second = endpoint.mappings();
+			assertThat(second.getContexts().get(context.getId()))
+					.isSameAs(first.getContexts().get(context.getId()));
+			verify(provider, times(1)).describeMappings(context);
+		}
+	}
+
+	@Test
+	void mappingsAreNotCachedWhenContextIsNotActive() {
+		MappingDescriptionProvider provider = mock(MappingDescriptionProvider.class);
+		given(provider.getMappingName()).willReturn("test");
+		given(provider.describeMappings(any())).willReturn(Collections.emptyList());
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		MappingsEndpoint endpoint = new MappingsEndpoint(Collections.singletonList(provider), context);
+		endpoint.mappings();
+		endpoint.mappings();
+		verify(provider, times(2)).describeMappings(context);
+	}
+
 	@SuppressWarnings("unchecked")
 	private Supplier<ConfigurableWebApplicationContext> prepareContextSupplier() {
 		ServletContext servletContext = mock(ServletContext.class);
@@ -17,7 +17,10 @@
 package org.springframework.boot.autoconfigure;
 
 import java.nio.charset.StandardCharsets;
-import java.util.concurrent.CountDownLatch;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.validation.Configuration;
@@ -25,20 +28,36 @@ import javax.validation.Validation;
 
 import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
 import org.springframework.boot.context.event.ApplicationFailedEvent;
+import org.springframework.boot.context.event.ApplicationPreparedEvent;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.context.event.SpringApplicationEvent;
 import org.springframework.boot.context.logging.LoggingApplicationListener;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.ApplicationListener;
 import org.springframework.core.NativeDetector;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.format.support.DefaultFormattingConversionService;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.converter.support.AllEncompassingFormHttpMessageConverter;
 
 /**
- * {@link ApplicationListener} to trigger early initialization in a background thread of
+ * {@link ApplicationListener} to trigger early initialization in the background of
  * time consuming tasks.
  * <p>
+ * In addition to a number of built-in tasks, any {@link PreinitializationTask}
+ * registered in {@code META-INF/spring.factories} is run. Tasks are run on a pool that
+ * is sized according to the number of available processors, with each task starting
+ * once its {@link PreinitializationTask#getDependencies() dependencies} have completed.
+ * By default, completion is awaited before the {@link ApplicationReadyEvent} is
+ * published. Set the {@link #AWAIT_PROPERTY_NAME} property to {@code before-refresh} to
+ * wait before the application context is refreshed instead. The time taken by each
+ * task is recorded as a tag of a {@code spring.boot.preinitialization.await}
+ * {@link StartupStep}.
+ * <p>
  * Set the {@link #IGNORE_BACKGROUNDPREINITIALIZER_PROPERTY_NAME} system property to
  * {@code true} to disable this mechanism and let such initialization happen in the
  * foreground.
@@ -61,9 +80,17 @@ public class BackgroundPreinitializer implements ApplicationListener<SpringAppli
 	 */
 	public static final String IGNORE_BACKGROUNDPREINITIALIZER_PROPERTY_NAME = "spring.backgroundpreinitializer.ignore";
 
+	/**
+	 * Environment property that controls when the completion of pre-initialization is
+	 * awaited. Supported values are {@code before-ready} (default) and
+	 * {@code before-refresh}.
+	 * @since 2.5.0
+	 */
+	public static final String AWAIT_PROPERTY_NAME = "spring.backgroundpreinitializer.await";
+
 	private static final AtomicBoolean preinitializationStarted = new AtomicBoolean();
 
-	private static final CountDownLatch preinitializationComplete = new CountDownLatch(1);
+	private static final AtomicBoolean preinitializationAwaited = new AtomicBoolean();
 
 	private static final boolean ENABLED;
 
@@ -72,6 +99,10 @@ public class BackgroundPreinitializer implements ApplicationListener<SpringAppli
 				&& Runtime.getRuntime().availableProcessors() > 1;
 	}
 
+	private static volatile PreinitializationTaskRunner runner;
+
+	private static volatile Await await = Await.BEFORE_READY;
+
 	@Override
 	public void onApplicationEvent(SpringApplicationEvent event) {
 		if (!ENABLED) {
@@ -79,72 +110,91 @@ public class BackgroundPreinitializer implements ApplicationListener<SpringAppli
 		}
 		if (event instanceof ApplicationEnvironmentPreparedEvent
 				&& preinitializationStarted.compareAndSet(false, true)) {
+			ConfigurableEnvironment environment = ((ApplicationEnvironmentPreparedEvent) event).getEnvironment();
+			await = Binder.get(environment).bind(AWAIT_PROPERTY_NAME, Await.class).orElse(Await.BEFORE_READY);
 			performPreinitialization();
 		}
-		if ((event instanceof ApplicationReadyEvent || event instanceof ApplicationFailedEvent)
-				&& preinitializationStarted.get()) {
-			try {
-				preinitializationComplete.await();
-			}
-			catch (InterruptedException ex) {
-				Thread.currentThread().interrupt();
-			}
+		if (shouldAwait(event) && preinitializationStarted.get()) {
+			awaitPreinitialization(event.getSpringApplication().getApplicationStartup());
 		}
 	}
 
+	private boolean shouldAwait(SpringApplicationEvent event) {
+		if (event instanceof ApplicationPreparedEvent) {
+			return await == Await.BEFORE_REFRESH;
+		}
+		return event instanceof ApplicationReadyEvent || event instanceof ApplicationFailedEvent;
+	}
+
 	private void performPreinitialization() {
+		List<PreinitializationTask> tasks = new ArrayList<>();
+		tasks.add(new ConversionServiceInitializer());
+		tasks.add(new ValidationInitializer());
+		tasks.add(new JacksonInitializer());
+		tasks.add(new MessageConverterInitializer());
+		tasks.add(new CharsetInitializer());
+		tasks.addAll(SpringFactoriesLoader.loadFactories(PreinitializationTask.class,
+				BackgroundPreinitializer.class.getClassLoader()));
+		PreinitializationTaskRunner taskRunner = new PreinitializationTaskRunner(tasks);
+		runner = taskRunner;
 		try {
-			Thread thread = new Thread(new Runnable() {
-
-				@Override
-				public void run() {
-					runSafely(new ConversionServiceInitializer());
-					runSafely(new ValidationInitializer());
-					runSafely(new MessageConverterInitializer());
-					runSafely(new JacksonInitializer());
-					runSafely(new CharsetInitializer());
-					preinitializationComplete.countDown();
-				}
-
-				public void runSafely(Runnable runnable) {
-					try {
-						runnable.run();
-					}
-					catch (Throwable ex) {
-						// Ignore
-					}
-				}
-
-			}, "background-preinit");
-			thread.start();
+			taskRunner.start(Runtime.getRuntime().availableProcessors() - 1);
 		}
 		catch (Exception ex) {
 			// This will fail on GAE where creating threads is prohibited. We can safely
 			// continue but startup will be slightly slower as the initialization will now
 			// happen on the main thread.
-			preinitializationComplete.countDown();
+		}
+	}
+
+	private void awaitPreinitialization(ApplicationStartup applicationStartup) {
+		PreinitializationTaskRunner taskRunner = runner;
+		if (taskRunner == null) {
+			return;
+		}
+		boolean firstAwait = preinitializationAwaited.compareAndSet(false, true);
+		StartupStep step = (firstAwait) ? applicationStartup.start("spring.boot.preinitialization.await") : null;
+		try {
+			taskRunner.await();
+			if (step != null) {
+				taskRunner.getDurations()
+						.forEach((task, duration) -> step.tag(task.getClass().getName(), duration.toMillis() + "ms"));
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			if (step != null) {
+				step.end();
+			}
 		}
 	}
 
 	/**
 	 * Early initializer for Spring MessageConverters.
 	 */
-	private static class MessageConverterInitializer implements Runnable {
+	private static class MessageConverterInitializer implements PreinitializationTask {
 
 		@Override
-		public void run() {
+		public void preinitialize() {
 			new AllEncompassingFormHttpMessageConverter();
 		}
 
+		@Override
+		public Set<Class<? extends PreinitializationTask>> getDependencies() {
+			return Collections.singleton(JacksonInitializer.class);
+		}
+
 	}
 
 	/**
 	 * Early initializer for javax.validation.
 	 */
-	private static class ValidationInitializer implements Runnable {
+	private static class ValidationInitializer implements PreinitializationTask {
 
 		@Override
-		public void run() {
+		public void preinitialize() {
 			Configuration<?> configuration = Validation.byDefaultProvider().configure();
 			configuration.buildValidatorFactory().getValidator();
 		}
@@ -154,10 +204,10 @@ public class BackgroundPreinitializer implements ApplicationListener<SpringAppli
 	/**
 	 * Early initializer for Jackson.
 	 */
-	private static class JacksonInitializer implements Runnable {
+	private static class JacksonInitializer implements PreinitializationTask {
 
 		@Override
-		public void run() {
+		public void preinitialize() {
 			Jackson2ObjectMapperBuilder.json().build();
 		}
 
@@ -166,22 +216,42 @@ public class BackgroundPreinitializer implements ApplicationListener<SpringAppli
 	/**
 	 * Early initializer for Spring's ConversionService.
 	 */
-	private static class ConversionServiceInitializer implements Runnable {
+	private static class ConversionServiceInitializer implements PreinitializationTask {
 
 		@Override
-		public void run() {
+		public void preinitialize() {
 			new DefaultFormattingConversionService();
 		}
 
 	}
 
-	private static class CharsetInitializer implements Runnable {
+	/**
+	 * Early initializer for standard charsets.
+	 */
+	private static class CharsetInitializer implements PreinitializationTask {
 
 		@Override
-		public void run() {
+		public void preinitialize() {
 			StandardCharsets.UTF_8.name();
 		}
 
 	}
 
+	/**
+	 * The points at which the completion of pre-initialization can be awaited.
+	 */
+	private enum Await {
+
+		/**
+		 * Await completion before the application context is refreshed.
+		 */
+		BEFORE_REFRESH,
+
+		/**
+		 * Await completion before the application is ready.
+		 */
+		BEFORE_READY
+
+	}
+
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * A task that can be run by the {@link BackgroundPreinitializer} to warm up time
+ * consuming infrastructure before it is first needed. Implementations should be
+ * registered in {@code META-INF/spring.factories} and can be ordered using
+ * {@link org.springframework.core.Ordered} or
+ * {@link org.springframework.core.annotation.Order @Order}. Any exception thrown by a
+ * task is ignored and the work will instead happen in the foreground when it's needed.
+ *
+ * @author Phillip Webb
+ * @since 2.5.0
+ */
+@FunctionalInterface
+public interface PreinitializationTask {
+
+	/**
+	 * Perform pre-initialization.
+	 */
+	void preinitialize();
+
+	/**
+	 * Return the types of the tasks that must complete before this task is run.
+	 * Dependencies that have not been registered are ignored.
+	 * @return the task dependencies
+	 */
+	default Set<Class<? extends PreinitializationTask>> getDependencies() {
+		return Collections.emptySet();
+	}
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Runs {@link PreinitializationTask PreinitializationTasks} on a bounded pool of
+ * threads, starting each task only once all of its dependencies have completed.
+ *
+ * @author Phillip Webb
+ */
+class PreinitializationTaskRunner {
+
+	private final List<PreinitializationTask> tasks;
+
+	private final Map<PreinitializationTask, Duration> durations = new ConcurrentHashMap<>();
+
+	private final CountDownLatch complete = new CountDownLatch(1);
+
+	PreinitializationTaskRunner(List<PreinitializationTask> tasks) {
+		this.tasks = tasks;
+	}
+
+	/**
+	 * Start running the tasks in the background.
+	 * @param maxThreads the maximum number of threads to use
+	 */
+	void start(int maxThreads) {
+		int threads = Math.max(1, Math.min(maxThreads, this.tasks.size()));
+		ExecutorService executor = Executors.newFixedThreadPool(threads,
+				new CustomizableThreadFactory("background-preinit-"));
+		try {
+			Map<Class<?>, PreinitializationTask> tasksByType = new LinkedHashMap<>();
+			this.tasks.forEach((task) -> tasksByType.putIfAbsent(task.getClass(), task));
+			Map<Class<?>, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+			for (PreinitializationTask task : tasksByType.values()) {
+				schedule(task, tasksByType, futures, new HashSet<>(), executor);
+			}
+			CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]))
+					.whenComplete((result, ex) -> {
+						executor.shutdown();
+						this.complete.countDown();
+					});
+		}
+		catch (RuntimeException ex) {
+			executor.shutdownNow();
+			this.complete.countDown();
+			throw ex;
+		}
+	}
+
+	private CompletableFuture<Void> schedule(PreinitializationTask task,
+			Map<Class<?>, PreinitializationTask> tasksByType, Map<Class<?>, CompletableFuture<Void>> futures,
+			Set<Class<?>> scheduling, ExecutorService executor) {
+		CompletableFuture<Void> future = futures.get(task.getClass());
+		if (future != null) {
+			return future;
+		}
+		if (!scheduling.add(task.getClass())) {
+			throw new IllegalStateException(
+					"Preinitialization task " + task.getClass().getName() + " has a cyclic dependency");
+		}
+		List<CompletableFuture<Void>> dependencies = new ArrayList<>();
+		for (Class<? extends PreinitializationTask> dependencyType : task.getDependencies()) {
+			PreinitializationTask dependency = tasksByType.get(dependencyType);
+			if (dependency != null) {
+				dependencies.add(schedule(dependency, tasksByType, futures, scheduling, executor));
+			}
+		}
+		future = CompletableFuture.allOf(dependencies.toArray(new CompletableFuture<?>[0]))
+				.thenRunAsync(() -> run(task), executor);
+		futures.put(task.getClass(), future);
+		return future;
+	}
+
+	private void run(PreinitializationTask task) {
+		long start = System.nanoTime();
+		try {
+			task.preinitialize();
+		}
+		catch (Throwable ex) {
+			// Ignore
+		}
+		this.durations.put(task, Duration.ofNanos(System.nanoTime() - start));
+	}
+
+	/**
+	 * Wait for all tasks to complete.
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	void await() throws InterruptedException {
+		this.complete.await();
+	}
+
+	/**
+	 * Return the durations of the tasks that have been run, in the order in which the
+	 * tasks were registered.
+	 * @return the task durations
+	 */
+	Map<PreinitializationTask, Duration> getDurations() {
+		Map<PreinitializationTask, Duration> durations = new LinkedHashMap<>();
+		for (PreinitializationTask task : this.tasks) {
+			Duration duration = this.durations.get(task);
+			if (duration != null) {
+				durations.put(task, duration);
+			}
+		}
+		return Collections.unmodifiableMap(durations);
+	}
+
+}
@@ -43,6 +43,7 @@ final class CacheConfigurations {
 		mappings.put(CacheType.JCACHE, JCacheCacheConfiguration.class.getName());
 		mappings.put(CacheType.COUCHBASE, CouchbaseCacheConfiguration.class.getName());
 		mappings.put(CacheType.REDIS, RedisCacheConfiguration.class.getName());
+		mappings.put(CacheType.TWO_LEVEL, TwoLevelCacheConfiguration.class.getName());
 		mappings.put(CacheType.CAFFEINE, CaffeineCacheConfiguration.class.getName());
 		mappings.put(CacheType.SIMPLE, SimpleCacheConfiguration.class.getName());
 		mappings.put(CacheType.NONE, NoOpCacheConfiguration.class.getName());
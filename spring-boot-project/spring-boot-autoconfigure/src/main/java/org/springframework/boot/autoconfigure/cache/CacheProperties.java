@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -58,6 +58,8 @@ public class CacheProperties {
 
 	private final Redis redis = new Redis();
 
+	private final TwoLevel twoLevel = new TwoLevel();
+
 	public CacheType getType() {
 		return this.type;
 	}
@@ -98,6 +100,10 @@ public class CacheProperties {
 		return this.redis;
 	}
 
+	public TwoLevel getTwoLevel() {
+		return this.twoLevel;
+	}
+
 	/**
 	 * Resolve the config location if set.
 	 * @param config the config resource
@@ -304,4 +310,26 @@ public class CacheProperties {
 
 	}
 
+	/**
+	 * Two-level cache properties. The local level is configured using the Caffeine
+	 * properties and the remote level using the Redis properties.
+	 */
+	public static class TwoLevel {
+
+		/**
+		 * Name of the Redis channel used to notify other instances that an entry has been
+		 * updated or evicted.
+		 */
+		private String invalidationChannel = "spring-cache-invalidation";
+
+		public String getInvalidationChannel() {
+			return this.invalidationChannel;
+		}
+
+		public void setInvalidationChannel(String invalidationChannel) {
+			this.invalidationChannel = invalidationChannel;
+		}
+
+	}
+
 }
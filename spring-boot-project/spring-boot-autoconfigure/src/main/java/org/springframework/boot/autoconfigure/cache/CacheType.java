@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -61,6 +61,11 @@ public enum CacheType {
 	 */
 	REDIS,
 
+	/**
+	 * Two-level caching using a local Caffeine cache in front of a shared Redis cache.
+	 */
+	TWO_LEVEL,
+
 	/**
 	 * Caffeine backed caching.
 	 */
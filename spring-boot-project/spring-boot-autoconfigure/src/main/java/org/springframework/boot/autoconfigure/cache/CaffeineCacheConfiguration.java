@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -65,7 +65,7 @@ class CaffeineCacheConfiguration {
 		return cacheManager;
 	}
 
-	private void setCacheBuilder(CacheProperties cacheProperties, CaffeineSpec caffeineSpec,
+	static void setCacheBuilder(CacheProperties cacheProperties, CaffeineSpec caffeineSpec,
 			Caffeine<Object, Object> caffeine, CaffeineCacheManager cacheManager) {
 		String specification = cacheProperties.getCaffeine().getSpec();
 		if (StringUtils.hasText(specification)) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -70,14 +70,14 @@ class RedisCacheConfiguration {
 		return cacheManagerCustomizers.customize(builder.build());
 	}
 
-	private org.springframework.data.redis.cache.RedisCacheConfiguration determineConfiguration(
+	static org.springframework.data.redis.cache.RedisCacheConfiguration determineConfiguration(
 			CacheProperties cacheProperties,
 			ObjectProvider<org.springframework.data.redis.cache.RedisCacheConfiguration> redisCacheConfiguration,
 			ClassLoader classLoader) {
 		return redisCacheConfiguration.getIfAvailable(() -> createConfiguration(cacheProperties, classLoader));
 	}
 
-	private org.springframework.data.redis.cache.RedisCacheConfiguration createConfiguration(
+	private static org.springframework.data.redis.cache.RedisCacheConfiguration createConfiguration(
 			CacheProperties cacheProperties, ClassLoader classLoader) {
 		Redis redisProperties = cacheProperties.getRedis();
 		org.springframework.data.redis.cache.RedisCacheConfiguration config = org.springframework.data.redis.cache.RedisCacheConfiguration
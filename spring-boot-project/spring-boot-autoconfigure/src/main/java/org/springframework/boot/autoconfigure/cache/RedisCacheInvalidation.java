@@ -0,0 +1,121 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.cache;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.boot.cache.CacheInvalidationPublisher;
+import org.springframework.boot.cache.TwoLevelCacheManager;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Propagates {@link TwoLevelCacheManager} invalidations between instances using Redis
+ * pub/sub. Messages published by this instance are ignored when they are received so
+ * that only the local caches of other instances are invalidated. Keys that cannot be
+ * serialized are published as a request to clear the whole cache.
+ *
+ * @author Phillip Webb
+ */
+class RedisCacheInvalidation implements CacheInvalidationPublisher {
+
+	private static final Log logger = LogFactory.getLog(RedisCacheInvalidation.class);
+
+	private final String origin = UUID.randomUUID().toString();
+
+	private final RedisConnectionFactory connectionFactory;
+
+	private final String channel;
+
+	private final JdkSerializationRedisSerializer serializer;
+
+	RedisCacheInvalidation(RedisConnectionFactory connectionFactory, String channel, ClassLoader classLoader) {
+		this.connectionFactory = connectionFactory;
+		this.channel = channel;
+		this.serializer = new JdkSerializationRedisSerializer(classLoader);
+	}
+
+	String getChannel() {
+		return this.channel;
+	}
+
+	@Override
+	public void publish(String cacheName, Object key) {
+		byte[] message = serialize(new InvalidationMessage(this.origin, cacheName, key));
+		try (RedisConnection connection = this.connectionFactory.getConnection()) {
+			connection.publish(this.channel.getBytes(StandardCharsets.UTF_8), message);
+		}
+	}
+
+	private byte[] serialize(InvalidationMessage message) {
+		try {
+			return this.serializer.serialize(message);
+		}
+		catch (SerializationException ex) {
+			logger.debug("Unable to serialize key for cache '" + message.cacheName + "', clearing cache instead", ex);
+			return this.serializer.serialize(new InvalidationMessage(message.origin, message.cacheName, null));
+		}
+	}
+
+	/**
+	 * Return a {@link MessageListener} that applies invalidations received from other
+	 * instances to the given cache manager.
+	 * @param cacheManager the cache manager to invalidate
+	 * @return the message listener
+	 */
+	MessageListener createListener(TwoLevelCacheManager cacheManager) {
+		return (message, pattern) -> {
+			Object deserialized = this.serializer.deserialize(message.getBody());
+			if (deserialized instanceof InvalidationMessage) {
+				InvalidationMessage invalidation = (InvalidationMessage) deserialized;
+				if (!this.origin.equals(invalidation.origin)) {
+					cacheManager.invalidateLocal(invalidation.cacheName, invalidation.key);
+				}
+			}
+		};
+	}
+
+	/**
+	 * The message published for each invalidation.
+	 */
+	static final class InvalidationMessage implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String origin;
+
+		private final String cacheName;
+
+		private final Object key;
+
+		InvalidationMessage(String origin, String cacheName, Object key) {
+			this.origin = origin;
+			this.cacheName = cacheName;
+			this.key = key;
+		}
+
+	}
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.cache;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.cache.TwoLevelCacheManager;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager.RedisCacheManagerBuilder;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Two-level cache configuration with a local Caffeine cache in front of a shared Redis
+ * cache.
+ *
+ * @author Phillip Webb
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass({ Caffeine.class, CaffeineCacheManager.class, RedisConnectionFactory.class })
+@AutoConfigureAfter(RedisAutoConfiguration.class)
+@ConditionalOnBean(RedisConnectionFactory.class)
+@ConditionalOnMissingBean(CacheManager.class)
+@Conditional(CacheCondition.class)
+class TwoLevelCacheConfiguration {
+
+	@Bean
+	RedisCacheInvalidation twoLevelCacheInvalidation(CacheProperties cacheProperties,
+			RedisConnectionFactory redisConnectionFactory, ResourceLoader resourceLoader) {
+		return new RedisCacheInvalidation(redisConnectionFactory,
+				cacheProperties.getTwoLevel().getInvalidationChannel(), resourceLoader.getClassLoader());
+	}
+
+	@Bean
+	TwoLevelCacheManager cacheManager(CacheProperties cacheProperties, CacheManagerCustomizers customizers,
+			ObjectProvider<Caffeine<Object, Object>> caffeine, ObjectProvider<CaffeineSpec> caffeineSpec,
+			ObjectProvider<org.springframework.data.redis.cache.RedisCacheConfiguration> redisCacheConfiguration,
+			ObjectProvider<RedisCacheManagerBuilderCustomizer> redisCacheManagerBuilderCustomizers,
+			RedisConnectionFactory redisConnectionFactory, ResourceLoader resourceLoader,
+			RedisCacheInvalidation twoLevelCacheInvalidation) {
+		CaffeineCacheManager localCacheManager = new CaffeineCacheManager();
+		CaffeineCacheConfiguration.setCacheBuilder(cacheProperties, caffeineSpec.getIfAvailable(),
+				caffeine.getIfAvailable(), localCacheManager);
+		RedisCacheManager remoteCacheManager = createRemoteCacheManager(cacheProperties, redisCacheConfiguration,
+				redisCacheManagerBuilderCustomizers, redisConnectionFactory, resourceLoader);
+		TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(localCacheManager, remoteCacheManager);
+		cacheManager.setInvalidationPublisher(twoLevelCacheInvalidation);
+		return customizers.customize(cacheManager);
+	}
+
+	@Bean
+	RedisMessageListenerContainer twoLevelCacheInvalidationListenerContainer(
+			RedisConnectionFactory redisConnectionFactory, TwoLevelCacheManager cacheManager,
+			RedisCacheInvalidation twoLevelCacheInvalidation) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener(twoLevelCacheInvalidation.createListener(cacheManager),
+				new ChannelTopic(twoLevelCacheInvalidation.getChannel()));
+		return container;
+	}
+
+	private RedisCacheManager createRemoteCacheManager(CacheProperties cacheProperties,
+			ObjectProvider<org.springframework.data.redis.cache.RedisCacheConfiguration> redisCacheConfiguration,
+			ObjectProvider<RedisCacheManagerBuilderCustomizer> redisCacheManagerBuilderCustomizers,
+			RedisConnectionFactory redisConnectionFactory, ResourceLoader resourceLoader) {
+		RedisCacheManagerBuilder builder = RedisCacheManager.builder(redisConnectionFactory)
+				.cacheDefaults(RedisCacheConfiguration.determineConfiguration(cacheProperties,
+						redisCacheConfiguration, resourceLoader.getClassLoader()));
+		List<String> cacheNames = cacheProperties.getCacheNames();
+		if (!cacheNames.isEmpty()) {
+			builder.initialCacheNames(new LinkedHashSet<>(cacheNames));
+		}
+		if (cacheProperties.getRedis().isEnableStatistics()) {
+			builder.enableStatistics();
+		}
+		redisCacheManagerBuilderCustomizers.orderedStream().forEach((customizer) -> customizer.customize(builder));
+		RedisCacheManager cacheManager = builder.build();
+		cacheManager.afterPropertiesSet();
+		return cacheManager;
+	}
+
+}
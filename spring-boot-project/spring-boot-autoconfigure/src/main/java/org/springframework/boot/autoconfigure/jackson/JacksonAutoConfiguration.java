@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ package org.springframework.boot.autoconfigure.jackson;
 import java.lang.reflect.Field;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -39,10 +40,13 @@ import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.jackson.JacksonProperties.Acceleration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.jackson.JsonComponentModule;
+import org.springframework.boot.system.JavaVersion;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -78,6 +82,10 @@ public class JacksonAutoConfiguration {
 
 	private static final Map<?, Boolean> FEATURE_DEFAULTS;
 
+	private static final String AFTERBURNER_MODULE = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+
+	private static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
 	static {
 		Map<Object, Boolean> featureDefaults = new HashMap<>();
 		featureDefaults.put(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
@@ -97,8 +105,22 @@ public class JacksonAutoConfiguration {
 		@Bean
 		@Primary
 		@ConditionalOnMissingBean
-		ObjectMapper jacksonObjectMapper(Jackson2ObjectMapperBuilder builder) {
-			return builder.createXmlMapper(false).build();
+		ObjectMapper jacksonObjectMapper(Jackson2ObjectMapperBuilder builder, JacksonProperties jacksonProperties,
+				ObjectProvider<JsonComponentModule> jsonComponentModule) {
+			ObjectMapper objectMapper = builder.createXmlMapper(false).build();
+			if (jacksonProperties.getAcceleration() != Acceleration.NONE) {
+				jsonComponentModule.ifAvailable((module) -> prewarm(objectMapper, module));
+			}
+			return objectMapper;
+		}
+
+		private void prewarm(ObjectMapper objectMapper, JsonComponentModule jsonComponentModule) {
+			for (Class<?> type : jsonComponentModule.getSerializedTypes()) {
+				objectMapper.canSerialize(type);
+			}
+			for (Class<?> type : jsonComponentModule.getDeserializedTypes()) {
+				objectMapper.canDeserialize(objectMapper.constructType(type));
+			}
 		}
 
 	}
@@ -279,8 +301,44 @@ public class JacksonAutoConfiguration {
 			}
 
 			private void configureModules(Jackson2ObjectMapperBuilder builder) {
-				Collection<Module> moduleBeans = getBeans(this.applicationContext, Module.class);
-				builder.modulesToInstall(moduleBeans.toArray(new Module[0]));
+				List<Module> modules = new ArrayList<>(getBeans(this.applicationContext, Module.class));
+				Module accelerationModule = getAccelerationModule(this.jacksonProperties.getAcceleration());
+				if (accelerationModule != null) {
+					modules.add(accelerationModule);
+				}
+				builder.modulesToInstall(modules.toArray(new Module[0]));
+			}
+
+			private Module getAccelerationModule(Acceleration acceleration) {
+				switch (acceleration) {
+				case AUTO:
+					if (JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.ELEVEN)
+							&& isPresent(BLACKBIRD_MODULE)) {
+						return createModule(BLACKBIRD_MODULE);
+					}
+					return isPresent(AFTERBURNER_MODULE) ? createModule(AFTERBURNER_MODULE) : null;
+				case AFTERBURNER:
+					return createModule(AFTERBURNER_MODULE);
+				case BLACKBIRD:
+					return createModule(BLACKBIRD_MODULE);
+				default:
+					return null;
+				}
+			}
+
+			private boolean isPresent(String moduleClassName) {
+				return ClassUtils.isPresent(moduleClassName, this.applicationContext.getClassLoader());
+			}
+
+			private Module createModule(String moduleClassName) {
+				try {
+					ClassLoader classLoader = this.applicationContext.getClassLoader();
+					return (Module) BeanUtils.instantiateClass(ClassUtils.forName(moduleClassName, classLoader));
+				}
+				catch (ClassNotFoundException ex) {
+					throw new IllegalStateException("Unable to use Jackson acceleration module '" + moduleClassName
+							+ "' as it is not on the classpath", ex);
+				}
 			}
 
 			private void configureLocale(Jackson2ObjectMapperBuilder builder) {
@@ -103,6 +103,12 @@ public class JacksonProperties {
 	 */
 	private Locale locale;
 
+	/**
+	 * Bytecode generation module used to speed up bean serialization and
+	 * deserialization. The module must be on the classpath.
+	 */
+	private Acceleration acceleration = Acceleration.NONE;
+
 	public String getDateFormat() {
 		return this.dateFormat;
 	}
@@ -167,4 +173,41 @@ public class JacksonProperties {
 		this.locale = locale;
 	}
 
+	public Acceleration getAcceleration() {
+		return this.acceleration;
+	}
+
+	public void setAcceleration(Acceleration acceleration) {
+		this.acceleration = acceleration;
+	}
+
+	/**
+	 * Bytecode generation modules that can be used to speed up bean serialization and
+	 * deserialization.
+	 */
+	public enum Acceleration {
+
+		/**
+		 * Use Jackson's default reflection based property access.
+		 */
+		NONE,
+
+		/**
+		 * Use Blackbird on Java 11 and later and Afterburner on earlier versions, if
+		 * available.
+		 */
+		AUTO,
+
+		/**
+		 * Use the Afterburner module.
+		 */
+		AFTERBURNER,
+
+		/**
+		 * Use the Blackbird module.
+		 */
+		BLACKBIRD
+
+	}
+
 }
@@ -41,6 +41,8 @@ final class SettingsCreator {
 		settings.setContinueOnError(properties.isContinueOnError());
 		settings.setSeparator(properties.getSeparator());
 		settings.setEncoding(properties.getEncoding());
+		settings.setBatchSize(properties.getBatchSize());
+		settings.setParallel(properties.isParallel());
 		return settings;
 	}
 
@@ -74,6 +74,19 @@ public class SqlInitializationProperties {
 	 */
 	private Charset encoding;
 
+	/**
+	 * Number of statements to execute in a single JDBC batch, with each batch committed
+	 * in its own transaction. Batching requires scripts that do not contain queries. A
+	 * value of 0 or less disables batching.
+	 */
+	private int batchSize = 0;
+
+	/**
+	 * Whether independent schema scripts and independent data scripts may each be
+	 * applied in parallel using separate connections.
+	 */
+	private boolean parallel = false;
+
 	public List<String> getSchemaLocations() {
 		return this.schemaLocations;
 	}
@@ -138,4 +151,20 @@ public class SqlInitializationProperties {
 		this.encoding = encoding;
 	}
 
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	public boolean isParallel() {
+		return this.parallel;
+	}
+
+	public void setParallel(boolean parallel) {
+		this.parallel = parallel;
+	}
+
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link PreinitializationTaskRunner}.
+ *
+ * @author Phillip Webb
+ */
+class PreinitializationTaskRunnerTests {
+
+	private static final List<String> runOrder = new CopyOnWriteArrayList<>();
+
+	@Test
+	void startRunsAllTasks() throws Exception {
+		runOrder.clear();
+		PreinitializationTaskRunner runner = new PreinitializationTaskRunner(
+				Arrays.asList(new FirstTask(), new SecondTask()));
+		runner.start(2);
+		runner.await();
+		assertThat(runOrder).containsExactlyInAnyOrder("first", "second");
+		assertThat(runner.getDurations()).hasSize(2);
+	}
+
+	@Test
+	void startRunsDependenciesFirst() throws Exception {
+		runOrder.clear();
+		PreinitializationTaskRunner runner = new PreinitializationTaskRunner(
+				Arrays.asList(new DependentTask(), new SlowTask(), new FirstTask()));
+		runner.start(4);
+		runner.await();
+		assertThat(runOrder).hasSize(3);
+		assertThat(runOrder.indexOf("dependent")).isGreaterThan(runOrder.indexOf("slow"))
+				.isGreaterThan(runOrder.indexOf("first"));
+	}
+
+	@Test
+	void startWhenTaskFailsCompletesRemainingTasks() throws Exception {
+		runOrder.clear();
+		PreinitializationTaskRunner runner = new PreinitializationTaskRunner(
+				Arrays.asList(new FailingTask(), new SecondTask()));
+		runner.start(1);
+		runner.await();
+		assertThat(runOrder).containsExactly("second");
+		assertThat(runner.getDurations()).hasSize(2);
+	}
+
+	@Test
+	void startWhenDependencyIsNotRegisteredIgnoresDependency() throws Exception {
+		runOrder.clear();
+		PreinitializationTaskRunner runner = new PreinitializationTaskRunner(
+				Collections.singletonList(new DependentTask()));
+		runner.start(2);
+		runner.await();
+		assertThat(runOrder).containsExactly("dependent");
+	}
+
+	@Test
+	void startWhenCyclicDependencyThrowsException() {
+		PreinitializationTaskRunner runner = new PreinitializationTaskRunner(
+				Arrays.asList(new CyclicTask(), new OtherCyclicTask()));
+		assertThatIllegalStateException().isThrownBy(() -> runner.start(2)).withMessageContaining("cyclic dependency");
+	}
+
+	static class FirstTask implements PreinitializationTask {
+
+		@Override
+		public void preinitialize() {
+			runOrder.add("first");
+		}
+
+	}
+
+	static class SecondTask implements PreinitializationTask {
+
+		@Override
+		public void preinitialize() {
+			runOrder.add("second");
+		}
+
+	}
+
+	static class SlowTask implements PreinitializationTask {
+
+		@Override
+		public void preinitialize() {
+			try {
+				Thread.sleep(100);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			runOrder.add("slow");
+		}
+
+	}
+
+	static class DependentTask implements PreinitializationTask {
+
+		@Override
+		public void preinitialize() {
+			runOrder.add("dependent");
+		}
+
+		@Override
+		public Set<Class<? extends PreinitializationTask>> getDependencies() {
+			return new LinkedHashSet<>(Arrays.asList(SlowTask.class, FirstTask.class));
+		}
+
+	}
+
+	static class FailingTask implements PreinitializationTask {
+
+		@Override
+		public void preinitialize() {
+			throw new IllegalStateException("Failed");
+		}
+
+	}
+
+	static class CyclicTask implements PreinitializationTask {
+
+		@Override
+		public void preinitialize() {
+		}
+
+		@Override
+		public Set<Class<? extends PreinitializationTask>> getDependencies() {
+			return Collections.singleton(OtherCyclicTask.class);
+		}
+
+	}
+
+	static class OtherCyclicTask implements PreinitializationTask {
+
+		@Override
+		public void preinitialize() {
+		}
+
+		@Override
+		public Set<Class<? extends PreinitializationTask>> getDependencies() {
+			return Collections.singleton(CyclicTask.class);
+		}
+
+	}
+
+}
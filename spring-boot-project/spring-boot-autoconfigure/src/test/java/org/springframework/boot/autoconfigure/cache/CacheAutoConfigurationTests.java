@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.boot.autoconfigure.cache;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -44,6 +45,8 @@ import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.cache.support.MockCachingProvider;
 import org.springframework.boot.autoconfigure.cache.support.MockCachingProvider.MockCacheManager;
 import org.springframework.boot.autoconfigure.hazelcast.HazelcastAutoConfiguration;
+import org.springframework.boot.cache.TwoLevelCache;
+import org.springframework.boot.cache.TwoLevelCacheManager;
 import org.springframework.boot.test.context.assertj.AssertableApplicationContext;
 import org.springframework.boot.testsupport.classpath.ClassPathExclusions;
 import org.springframework.cache.Cache;
@@ -69,10 +72,14 @@ import org.springframework.data.couchbase.cache.CouchbaseCacheConfiguration;
 import org.springframework.data.couchbase.cache.CouchbaseCacheManager;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -316,6 +323,38 @@ class CacheAutoConfigurationTests extends AbstractCacheAutoConfigurationTests {
 				});
 	}
 
+	@Test
+	void twoLevelCacheExplicit() {
+		this.contextRunner.withUserConfiguration(RedisWithConnectionConfiguration.class)
+				.withPropertyValues("spring.cache.type=two-level", "spring.cache.cacheNames=foo",
+						"spring.cache.caffeine.spec=recordStats", "spring.cache.redis.time-to-live=15000")
+				.run((context) -> {
+					TwoLevelCacheManager cacheManager = getCacheManager(context, TwoLevelCacheManager.class);
+					assertThat(cacheManager.getCacheNames()).containsOnly("foo");
+					assertThat(cacheManager.getLocalCacheManager()).isInstanceOf(CaffeineCacheManager.class);
+					RedisCacheManager remoteCacheManager = (RedisCacheManager) cacheManager.getRemoteCacheManager();
+					assertThat(getDefaultRedisCacheConfiguration(remoteCacheManager).getTtl())
+							.isEqualTo(java.time.Duration.ofSeconds(15));
+					Cache foo = cacheManager.getCache("foo");
+					assertThat(foo).isInstanceOf(TwoLevelCache.class);
+					assertThat(((TwoLevelCache) foo).getLocalCache()).isInstanceOf(CaffeineCache.class);
+					assertThat(context).hasSingleBean(RedisMessageListenerContainer.class);
+				});
+	}
+
+	@Test
+	void twoLevelCachePublishesInvalidations() {
+		this.contextRunner.withUserConfiguration(RedisWithConnectionConfiguration.class)
+				.withPropertyValues("spring.cache.type=two-level",
+						"spring.cache.two-level.invalidation-channel=invalidations")
+				.run((context) -> {
+					TwoLevelCacheManager cacheManager = getCacheManager(context, TwoLevelCacheManager.class);
+					cacheManager.getCache("foo").evict("bar");
+					RedisConnection connection = context.getBean(RedisConnectionFactory.class).getConnection();
+					verify(connection).publish(eq("invalidations".getBytes(StandardCharsets.UTF_8)), any());
+				});
+	}
+
 	@Test
 	void noOpCacheExplicit() {
 		this.contextRunner.withUserConfiguration(DefaultCacheConfiguration.class)
@@ -766,6 +805,18 @@ class CacheAutoConfigurationTests extends AbstractCacheAutoConfigurationTests {
 
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	static class RedisWithConnectionConfiguration {
+
+		@Bean
+		RedisConnectionFactory redisConnectionFactory() {
+			RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+			given(connectionFactory.getConnection()).willReturn(mock(RedisConnection.class));
+			return connectionFactory;
+		}
+
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	@Import(RedisConfiguration.class)
 	static class RedisWithCacheConfigurationConfiguration {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -41,7 +41,10 @@ import com.fasterxml.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
 import com.fasterxml.jackson.databind.util.StdDateFormat;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 import org.junit.jupiter.api.Test;
 
@@ -49,6 +52,7 @@ import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
 import org.springframework.boot.jackson.JsonComponent;
 import org.springframework.boot.jackson.JsonObjectSerializer;
+import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -273,6 +277,79 @@ class JacksonAutoConfigurationTests {
 		});
 	}
 
+	@Test
+	void accelerationIsDisabledByDefault() {
+		this.contextRunner.run((context) -> {
+			ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+			assertThat(objectMapper.getRegisteredModuleIds()).doesNotContain(AfterburnerModule.class.getName(),
+					BlackbirdModule.class.getName());
+		});
+	}
+
+	@Test
+	void accelerationWithAfterburner() {
+		this.contextRunner.withPropertyValues("spring.jackson.acceleration:afterburner").run((context) -> {
+			ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+			assertThat(objectMapper.getRegisteredModuleIds()).contains(AfterburnerModule.class.getName());
+		});
+	}
+
+	@Test
+	void accelerationWithBlackbird() {
+		this.contextRunner.withPropertyValues("spring.jackson.acceleration:blackbird").run((context) -> {
+			ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+			assertThat(objectMapper.getRegisteredModuleIds()).contains(BlackbirdModule.class.getName());
+		});
+	}
+
+	@Test
+	void accelerationWithAutoFallsBackToAfterburner() {
+		this.contextRunner.withClassLoader(new FilteredClassLoader(BlackbirdModule.class))
+				.withPropertyValues("spring.jackson.acceleration:auto").run((context) -> {
+					ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+					assertThat(objectMapper.getRegisteredModuleIds()).contains(AfterburnerModule.class.getName());
+				});
+	}
+
+	@Test
+	void accelerationWithAutoWhenNoModuleIsAvailable() {
+		this.contextRunner.withClassLoader(new FilteredClassLoader(AfterburnerModule.class, BlackbirdModule.class))
+				.withPropertyValues("spring.jackson.acceleration:auto").run((context) -> {
+					ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+					assertThat(objectMapper.getRegisteredModuleIds()).doesNotContain(AfterburnerModule.class.getName(),
+							BlackbirdModule.class.getName());
+				});
+	}
+
+	@Test
+	void accelerationPrewarmsJsonComponentSerializers() {
+		this.contextRunner.withUserConfiguration(ModuleConfig.class)
+				.withPropertyValues("spring.jackson.acceleration:afterburner").run((context) -> {
+					ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+					DefaultSerializerProvider serializerProvider = (DefaultSerializerProvider) objectMapper
+							.getSerializerProvider();
+					assertThat(serializerProvider.cachedSerializersCount()).isGreaterThan(0);
+				});
+	}
+
+	@Test
+	void withoutAccelerationJsonComponentSerializersAreNotPrewarmed() {
+		this.contextRunner.withUserConfiguration(ModuleConfig.class).run((context) -> {
+			ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+			DefaultSerializerProvider serializerProvider = (DefaultSerializerProvider) objectMapper
+					.getSerializerProvider();
+			assertThat(serializerProvider.cachedSerializersCount()).isZero();
+		});
+	}
+
+	@Test
+	void accelerationWhenModuleIsMissingFails() {
+		this.contextRunner.withClassLoader(new FilteredClassLoader(AfterburnerModule.class))
+				.withPropertyValues("spring.jackson.acceleration:afterburner")
+				.run((context) -> assertThat(context).hasFailed().getFailure()
+						.hasMessageContaining("Unable to use Jackson acceleration module"));
+	}
+
 	@Test
 	void defaultSerializationInclusion() {
 		this.contextRunner.run((context) -> {
@@ -16,6 +16,7 @@
 
 package org.springframework.boot.buildpack.platform.build;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -75,6 +76,11 @@ public abstract class AbstractBuildLog implements BuildLog {
 		log(String.format(" > Pulled %s '%s'", imageType.getDescription(), getDigest(image)));
 	}
 
+	@Override
+	public Consumer<TotalProgressEvent> pullingImages() {
+		return getProgressConsumer(" > Pulling images");
+	}
+
 	@Override
 	public Consumer<TotalProgressEvent> pushingImage(ImageReference imageReference) {
 		return getProgressConsumer(String.format(" > Pushing image '%s'", imageReference));
@@ -85,6 +91,16 @@ public abstract class AbstractBuildLog implements BuildLog {
 		log(String.format(" > Pushed image '%s'", imageReference));
 	}
 
+	@Override
+	public void loadedBuilder(ImageReference builder, Duration duration) {
+		log(String.format(" > Loaded builder image '%s' in %s", builder, format(duration)));
+	}
+
+	@Override
+	public void reusingBuilder(ImageReference builder, Duration duration) {
+		log(String.format(" > Reusing builder image '%s', prepared in %s", builder, format(duration)));
+	}
+
 	@Override
 	public void executingLifecycle(BuildRequest request, LifecycleVersion version, VolumeName buildCacheVolume) {
 		log(" > Executing lifecycle version " + version);
@@ -99,6 +115,11 @@ public abstract class AbstractBuildLog implements BuildLog {
 		return (event) -> log(prefix + event);
 	}
 
+	@Override
+	public void completedPhase(String name, Duration duration) {
+		log(" > Completed " + name + " in " + format(duration));
+	}
+
 	@Override
 	public void skippingPhase(String name, String reason) {
 		log();
@@ -118,6 +139,10 @@ public abstract class AbstractBuildLog implements BuildLog {
 		return (digests.isEmpty() ? "" : digests.get(0));
 	}
 
+	private String format(Duration duration) {
+		return String.format("%d.%03ds", duration.getSeconds(), duration.toMillis() % 1000);
+	}
+
 	protected void log() {
 		log("");
 	}
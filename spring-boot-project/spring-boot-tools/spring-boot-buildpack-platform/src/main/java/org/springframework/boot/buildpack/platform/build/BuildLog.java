@@ -17,6 +17,7 @@
 package org.springframework.boot.buildpack.platform.build;
 
 import java.io.PrintStream;
+import java.time.Duration;
 import java.util.function.Consumer;
 
 import org.springframework.boot.buildpack.platform.docker.LogUpdateEvent;
@@ -99,6 +100,13 @@ public interface BuildLog {
 	 */
 	void pulledImage(Image image, ImageType imageType);
 
+	/**
+	 * Log that several images are being pulled concurrently.
+	 * @return a consumer for combined progress update events
+	 * @since 2.5.0
+	 */
+	Consumer<TotalProgressEvent> pullingImages();
+
 	/**
 	 * Log that an image is being pushed.
 	 * @param imageReference the image reference
@@ -112,6 +120,22 @@ public interface BuildLog {
 	 */
 	void pushedImage(ImageReference imageReference);
 
+	/**
+	 * Log that the ephemeral builder image has been created and loaded.
+	 * @param builder the ephemeral builder image reference
+	 * @param duration the time taken to create and load the image
+	 * @since 2.5.0
+	 */
+	void loadedBuilder(ImageReference builder, Duration duration);
+
+	/**
+	 * Log that an existing builder image with identical content is being reused.
+	 * @param builder the ephemeral builder image reference
+	 * @param duration the time taken to prepare the image content
+	 * @since 2.5.0
+	 */
+	void reusingBuilder(ImageReference builder, Duration duration);
+
 	/**
 	 * Log that the lifecycle is executing.
 	 * @param request the build request
@@ -128,6 +152,14 @@ public interface BuildLog {
 	 */
 	Consumer<LogUpdateEvent> runningPhase(BuildRequest request, String name);
 
+	/**
+	 * Log that a specific phase has completed.
+	 * @param name the name of the phase
+	 * @param duration the time taken to run the phase
+	 * @since 2.5.0
+	 */
+	void completedPhase(String name, Duration duration);
+
 	/**
 	 * Log that a specific phase is being skipped.
 	 * @param name the name of the phase
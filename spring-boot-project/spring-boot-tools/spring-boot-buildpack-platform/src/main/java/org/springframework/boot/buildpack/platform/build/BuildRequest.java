@@ -68,6 +68,8 @@ public class BuildRequest {
 
 	private final List<Binding> bindings;
 
+	private final boolean reuseBuilder;
+
 	BuildRequest(ImageReference name, Function<Owner, TarArchive> applicationContent) {
 		Assert.notNull(name, "Name must not be null");
 		Assert.notNull(applicationContent, "ApplicationContent must not be null");
@@ -83,12 +85,13 @@ public class BuildRequest {
 		this.creator = Creator.withVersion("");
 		this.buildpacks = Collections.emptyList();
 		this.bindings = Collections.emptyList();
+		this.reuseBuilder = false;
 	}
 
 	BuildRequest(ImageReference name, Function<Owner, TarArchive> applicationContent, ImageReference builder,
 			ImageReference runImage, Creator creator, Map<String, String> env, boolean cleanCache,
 			boolean verboseLogging, PullPolicy pullPolicy, boolean publish, List<BuildpackReference> buildpacks,
-			List<Binding> bindings) {
+			List<Binding> bindings, boolean reuseBuilder) {
 		this.name = name;
 		this.applicationContent = applicationContent;
 		this.builder = builder;
@@ -101,6 +104,7 @@ public class BuildRequest {
 		this.publish = publish;
 		this.buildpacks = buildpacks;
 		this.bindings = bindings;
+		this.reuseBuilder = reuseBuilder;
 	}
 
 	/**
@@ -112,7 +116,7 @@ public class BuildRequest {
 		Assert.notNull(builder, "Builder must not be null");
 		return new BuildRequest(this.name, this.applicationContent, builder.inTaggedOrDigestForm(), this.runImage,
 				this.creator, this.env, this.cleanCache, this.verboseLogging, this.pullPolicy, this.publish,
-				this.buildpacks, this.bindings);
+				this.buildpacks, this.bindings, this.reuseBuilder);
 	}
 
 	/**
@@ -123,7 +127,7 @@ public class BuildRequest {
 	public BuildRequest withRunImage(ImageReference runImageName) {
 		return new BuildRequest(this.name, this.applicationContent, this.builder, runImageName.inTaggedOrDigestForm(),
 				this.creator, this.env, this.cleanCache, this.verboseLogging, this.pullPolicy, this.publish,
-				this.buildpacks, this.bindings);
+				this.buildpacks, this.bindings, this.reuseBuilder);
 	}
 
 	/**
@@ -134,7 +138,8 @@ public class BuildRequest {
 	public BuildRequest withCreator(Creator creator) {
 		Assert.notNull(creator, "Creator must not be null");
 		return new BuildRequest(this.name, this.applicationContent, this.builder, this.runImage, creator, this.env,
-				this.cleanCache, this.verboseLogging, this.pullPolicy, this.publish, this.buildpacks, this.bindings);
+				this.cleanCache, this.verboseLogging, this.pullPolicy, this.publish, this.buildpacks, this.bindings,
+				this.reuseBuilder);
 	}
 
 	/**
@@ -150,7 +155,7 @@ public class BuildRequest {
 		env.put(name, value);
 		return new BuildRequest(this.name, this.applicationContent, this.builder, this.runImage, this.creator,
 				Collections.unmodifiableMap(env), this.cleanCache, this.verboseLogging, this.pullPolicy, this.publish,
-				this.buildpacks, this.bindings);
+				this.buildpacks, this.bindings, this.reuseBuilder);
 	}
 
 	/**
@@ -164,7 +169,7 @@ public class BuildRequest {
 		updatedEnv.putAll(env);
 		return new BuildRequest(this.name, this.applicationContent, this.builder, this.runImage, this.creator,
 				Collections.unmodifiableMap(updatedEnv), this.cleanCache, this.verboseLogging, this.pullPolicy,
-				this.publish, this.buildpacks, this.bindings);
+				this.publish, this.buildpacks, this.bindings, this.reuseBuilder);
 	}
 
 	/**
@@ -174,7 +179,8 @@ public class BuildRequest {
 	 */
 	public BuildRequest withCleanCache(boolean cleanCache) {
 		return new BuildRequest(this.name, this.applicationContent, this.builder, this.runImage, this.creator, this.env,
-				cleanCache, this.verboseLogging, this.pullPolicy, this.publish, this.buildpacks, this.bindings);
+				cleanCache, this.verboseLogging, this.pullPolicy, this.publish, this.buildpacks, this.bindings,
+				this.reuseBuilder);
 	}
 
 	/**
@@ -184,7 +190,8 @@ public class BuildRequest {
 	 */
 	public BuildRequest withVerboseLogging(boolean verboseLogging) {
 		return new BuildRequest(this.name, this.applicationContent, this.builder, this.runImage, this.creator, this.env,
-				this.cleanCache, verboseLogging, this.pullPolicy, this.publish, this.buildpacks, this.bindings);
+				this.cleanCache, verboseLogging, this.pullPolicy, this.publish, this.buildpacks, this.bindings,
+				this.reuseBuilder);
 	}
 
 	/**
@@ -194,7 +201,8 @@ public class BuildRequest {
 	 */
 	public BuildRequest withPullPolicy(PullPolicy pullPolicy) {
 		return new BuildRequest(this.name, this.applicationContent, this.builder, this.runImage, this.creator, this.env,
-				this.cleanCache, this.verboseLogging, pullPolicy, this.publish, this.buildpacks, this.bindings);
+				this.cleanCache, this.verboseLogging, pullPolicy, this.publish, this.buildpacks, this.bindings,
+				this.reuseBuilder);
 	}
 
 	/**
@@ -204,7 +212,8 @@ public class BuildRequest {
 	 */
 	public BuildRequest withPublish(boolean publish) {
 		return new BuildRequest(this.name, this.applicationContent, this.builder, this.runImage, this.creator, this.env,
-				this.cleanCache, this.verboseLogging, this.pullPolicy, publish, this.buildpacks, this.bindings);
+				this.cleanCache, this.verboseLogging, this.pullPolicy, publish, this.buildpacks, this.bindings,
+				this.reuseBuilder);
 	}
 
 	/**
@@ -227,7 +236,8 @@ public class BuildRequest {
 	public BuildRequest withBuildpacks(List<BuildpackReference> buildpacks) {
 		Assert.notNull(buildpacks, "Buildpacks must not be null");
 		return new BuildRequest(this.name, this.applicationContent, this.builder, this.runImage, this.creator, this.env,
-				this.cleanCache, this.verboseLogging, this.pullPolicy, this.publish, buildpacks, this.bindings);
+				this.cleanCache, this.verboseLogging, this.pullPolicy, this.publish, buildpacks, this.bindings,
+				this.reuseBuilder);
 	}
 
 	/**
@@ -250,7 +260,21 @@ public class BuildRequest {
 	public BuildRequest withBindings(List<Binding> bindings) {
 		Assert.notNull(bindings, "Bindings must not be null");
 		return new BuildRequest(this.name, this.applicationContent, this.builder, this.runImage, this.creator, this.env,
-				this.cleanCache, this.verboseLogging, this.pullPolicy, this.publish, this.buildpacks, bindings);
+				this.cleanCache, this.verboseLogging, this.pullPolicy, this.publish, this.buildpacks, bindings,
+				this.reuseBuilder);
+	}
+
+	/**
+	 * Return a new {@link BuildRequest} with an updated reuse builder setting.
+	 * @param reuseBuilder if the builder image should be kept and reused by later builds
+	 * when its content is unchanged
+	 * @return an updated build request
+	 * @since 2.5.0
+	 */
+	public BuildRequest withReuseBuilder(boolean reuseBuilder) {
+		return new BuildRequest(this.name, this.applicationContent, this.builder, this.runImage, this.creator, this.env,
+				this.cleanCache, this.verboseLogging, this.pullPolicy, this.publish, this.buildpacks, this.bindings,
+				reuseBuilder);
 	}
 
 	/**
@@ -328,6 +352,16 @@ public class BuildRequest {
 		return this.publish;
 	}
 
+	/**
+	 * Return if the builder image should be kept and reused by later builds when its
+	 * content is unchanged.
+	 * @return if the builder image should be reused
+	 * @since 2.5.0
+	 */
+	public boolean isReuseBuilder() {
+		return this.reuseBuilder;
+	}
+
 	/**
 	 * Return the image {@link PullPolicy} that the builder should use.
 	 * @return image pull policy
@@ -16,12 +16,25 @@
 
 package org.springframework.boot.buildpack.platform.build;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.springframework.boot.buildpack.platform.build.BuilderMetadata.Stack;
 import org.springframework.boot.buildpack.platform.docker.DockerApi;
+import org.springframework.boot.buildpack.platform.docker.TotalProgressAggregator;
 import org.springframework.boot.buildpack.platform.docker.TotalProgressEvent;
 import org.springframework.boot.buildpack.platform.docker.TotalProgressPullListener;
 import org.springframework.boot.buildpack.platform.docker.TotalProgressPushListener;
@@ -33,6 +46,7 @@ import org.springframework.boot.buildpack.platform.docker.type.ImageReference;
 import org.springframework.boot.buildpack.platform.io.IOBiConsumer;
 import org.springframework.boot.buildpack.platform.io.TarArchive;
 import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -45,6 +59,8 @@ import org.springframework.util.StringUtils;
  */
 public class Builder {
 
+	private static final int MAX_CONCURRENT_FETCHES = 4;
+
 	private final BuildLog log;
 
 	private final DockerApi docker;
@@ -101,13 +117,14 @@ public class Builder {
 		Image builderImage = imageFetcher.fetchImage(ImageType.BUILDER, request.getBuilder());
 		BuilderMetadata builderMetadata = BuilderMetadata.fromImage(builderImage);
 		request = withRunImageIfNeeded(request, builderMetadata.getStack());
-		Image runImage = imageFetcher.fetchImage(ImageType.RUNNER, request.getRunImage());
-		assertStackIdsMatch(runImage, builderImage);
-		BuildOwner buildOwner = BuildOwner.fromEnv(builderImage.getConfig().getEnv());
-		Buildpacks buildpacks = getBuildpacks(request, imageFetcher, builderMetadata);
-		EphemeralBuilder ephemeralBuilder = new EphemeralBuilder(buildOwner, builderImage, builderMetadata,
-				request.getCreator(), request.getEnv(), buildpacks);
-		this.docker.image().load(ephemeralBuilder.getArchive(), UpdateListener.none());
+		EphemeralBuilder ephemeralBuilder;
+		try (RunImageAndBuildpacks runImageAndBuildpacks = fetchRunImageAndBuildpacks(request, imageFetcher,
+				builderMetadata)) {
+			assertStackIdsMatch(runImageAndBuildpacks.getRunImage(), builderImage);
+			BuildOwner buildOwner = BuildOwner.fromEnv(builderImage.getConfig().getEnv());
+			ephemeralBuilder = createBuilder(request, builderImage, builderMetadata, buildOwner,
+					runImageAndBuildpacks.getBuildpacks());
+		}
 		try {
 			executeLifecycle(request, ephemeralBuilder);
 			if (request.isPublish()) {
@@ -115,7 +132,36 @@ public class Builder {
 			}
 		}
 		finally {
-			this.docker.image().remove(ephemeralBuilder.getName(), true);
+			if (!request.isReuseBuilder()) {
+				this.docker.image().remove(ephemeralBuilder.getName(), true);
+			}
+		}
+	}
+
+	private EphemeralBuilder createBuilder(BuildRequest request, Image builderImage, BuilderMetadata builderMetadata,
+			BuildOwner buildOwner, Buildpacks buildpacks) throws IOException {
+		long start = System.nanoTime();
+		EphemeralBuilder ephemeralBuilder = new EphemeralBuilder(buildOwner, builderImage, builderMetadata,
+				request.getCreator(), request.getEnv(), buildpacks, request.isReuseBuilder());
+		if (request.isReuseBuilder() && isLoaded(ephemeralBuilder.getName())) {
+			this.log.reusingBuilder(ephemeralBuilder.getName(), Duration.ofNanos(System.nanoTime() - start));
+			return ephemeralBuilder;
+		}
+		this.docker.image().load(ephemeralBuilder.getArchive(), UpdateListener.none());
+		this.log.loadedBuilder(ephemeralBuilder.getName(), Duration.ofNanos(System.nanoTime() - start));
+		return ephemeralBuilder;
+	}
+
+	private boolean isLoaded(ImageReference reference) throws IOException {
+		try {
+			this.docker.image().inspect(reference);
+			return true;
+		}
+		catch (DockerEngineException ex) {
+			if (ex.getStatusCode() == 404) {
+				return false;
+			}
+			throw ex;
 		}
 	}
 
@@ -139,9 +185,39 @@ public class Builder {
 				+ "' does not match builder stack '" + builderImageStackId + "'");
 	}
 
-	private Buildpacks getBuildpacks(BuildRequest request, ImageFetcher imageFetcher, BuilderMetadata builderMetadata) {
-		BuildpackResolverContext resolverContext = new BuilderResolverContext(imageFetcher, builderMetadata);
-		return BuildpackResolvers.resolveAll(resolverContext, request.getBuildpacks());
+	private RunImageAndBuildpacks fetchRunImageAndBuildpacks(BuildRequest request, ImageFetcher imageFetcher,
+			BuilderMetadata builderMetadata) throws IOException {
+		List<BuildpackReference> references = request.getBuildpacks();
+		if (CollectionUtils.isEmpty(references)) {
+			Image runImage = imageFetcher.fetchImage(ImageType.RUNNER, request.getRunImage());
+			return new RunImageAndBuildpacks(runImage, Buildpacks.EMPTY);
+		}
+		AggregatedPullProgress pullProgress = new AggregatedPullProgress();
+		ImageFetcher concurrentImageFetcher = imageFetcher.withPullProgress(pullProgress);
+		BuildpackResolverContext resolverContext = new BuilderResolverContext(concurrentImageFetcher, builderMetadata);
+		ConcurrentTasks tasks = new ConcurrentTasks(references.size() + 1);
+		try {
+			Future<Image> runImage = tasks
+					.submit(() -> concurrentImageFetcher.fetchImage(ImageType.RUNNER, request.getRunImage()));
+			List<Future<Buildpack>> buildpacks = new ArrayList<>(references.size());
+			for (BuildpackReference reference : references) {
+				buildpacks.add(tasks.submit(() -> BuildpackResolvers.resolve(resolverContext, reference)));
+			}
+			tasks.awaitAll();
+			List<Buildpack> resolved = new ArrayList<>(buildpacks.size());
+			for (Future<Buildpack> buildpack : buildpacks) {
+				resolved.add(tasks.get(buildpack));
+			}
+			return new RunImageAndBuildpacks(tasks.get(runImage), Buildpacks.of(resolved));
+		}
+		catch (IOException | RuntimeException ex) {
+			tasks.cancel(ex);
+			throw ex;
+		}
+		finally {
+			tasks.shutdown();
+			pullProgress.finish();
+		}
 	}
 
 	private void executeLifecycle(BuildRequest request, EphemeralBuilder builder) throws IOException {
@@ -178,10 +254,21 @@ public class Builder {
 
 		private final PullPolicy pullPolicy;
 
+		private final PullProgress pullProgress;
+
 		ImageFetcher(String domain, String authHeader, PullPolicy pullPolicy) {
+			this(domain, authHeader, pullPolicy, new LoggedPullProgress());
+		}
+
+		private ImageFetcher(String domain, String authHeader, PullPolicy pullPolicy, PullProgress pullProgress) {
 			this.domain = domain;
 			this.authHeader = authHeader;
 			this.pullPolicy = pullPolicy;
+			this.pullProgress = pullProgress;
+		}
+
+		ImageFetcher withPullProgress(PullProgress pullProgress) {
+			return new ImageFetcher(this.domain, this.authHeader, this.pullPolicy, pullProgress);
 		}
 
 		Image fetchImage(ImageType type, ImageReference reference) throws IOException {
@@ -206,14 +293,234 @@ public class Builder {
 
 		private Image pullImage(ImageReference reference, ImageType imageType) throws IOException {
 			TotalProgressPullListener listener = new TotalProgressPullListener(
-					Builder.this.log.pullingImage(reference, imageType));
+					this.pullProgress.pulling(reference, imageType));
 			Image image = Builder.this.docker.image().pull(reference, listener, this.authHeader);
-			Builder.this.log.pulledImage(image, imageType);
+			this.pullProgress.pulled(image, imageType);
 			return image;
 		}
 
 	}
 
+	/**
+	 * Strategy used to report the progress of image pulls.
+	 */
+	private interface PullProgress {
+
+		Consumer<TotalProgressEvent> pulling(ImageReference reference, ImageType imageType);
+
+		void pulled(Image image, ImageType imageType);
+
+	}
+
+	/**
+	 * {@link PullProgress} that logs the progress of each pull individually.
+	 */
+	private class LoggedPullProgress implements PullProgress {
+
+		@Override
+		public Consumer<TotalProgressEvent> pulling(ImageReference reference, ImageType imageType) {
+			return Builder.this.log.pullingImage(reference, imageType);
+		}
+
+		@Override
+		public void pulled(Image image, ImageType imageType) {
+			Builder.this.log.pulledImage(image, imageType);
+		}
+
+	}
+
+	/**
+	 * {@link PullProgress} that logs the combined progress of concurrent pulls. Pulled
+	 * images are logged once all pulls have finished so that the progress output isn't
+	 * interleaved. Pulls are abandoned if the pulling thread is interrupted.
+	 */
+	private class AggregatedPullProgress implements PullProgress {
+
+		private final List<Runnable> pulled = new ArrayList<>();
+
+		private TotalProgressAggregator aggregator;
+
+		@Override
+		public synchronized Consumer<TotalProgressEvent> pulling(ImageReference reference, ImageType imageType) {
+			if (this.aggregator == null) {
+				this.aggregator = new TotalProgressAggregator(Builder.this.log.pullingImages());
+			}
+			Consumer<TotalProgressEvent> consumer = this.aggregator.track();
+			return (event) -> {
+				if (event.getPercent() < 100 && Thread.currentThread().isInterrupted()) {
+					throw new IllegalStateException("Pull of image '" + reference + "' was cancelled");
+				}
+				consumer.accept(event);
+			};
+		}
+
+		@Override
+		public synchronized void pulled(Image image, ImageType imageType) {
+			this.pulled.add(() -> Builder.this.log.pulledImage(image, imageType));
+		}
+
+		synchronized void finish() {
+			if (this.aggregator != null) {
+				this.aggregator.finish();
+				this.pulled.forEach(Runnable::run);
+			}
+		}
+
+	}
+
+	/**
+	 * Internal utility class used to run fetch tasks concurrently. When any task fails
+	 * the remaining tasks are cancelled and waited for, and the results of tasks that
+	 * completed, either before or after the failure, are closed.
+	 */
+	private static class ConcurrentTasks {
+
+		private final ExecutorService executor;
+
+		private final CompletionService<Object> completionService;
+
+		private final List<Future<?>> futures = new ArrayList<>();
+
+		private final List<Object> completed = new ArrayList<>();
+
+		private boolean cancelled;
+
+		ConcurrentTasks(int count) {
+			AtomicInteger threadCount = new AtomicInteger();
+			this.executor = Executors.newFixedThreadPool(Math.min(count, MAX_CONCURRENT_FETCHES), (runnable) -> {
+				Thread thread = new Thread(runnable, "image-fetch-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+			this.completionService = new ExecutorCompletionService<>(this.executor);
+		}
+
+		@SuppressWarnings("unchecked")
+		<T> Future<T> submit(Callable<T> task) {
+			Future<T> future = (Future<T>) this.completionService.submit(() -> completed(task.call()));
+			this.futures.add(future);
+			return future;
+		}
+
+		private <T> T completed(T result) throws IOException {
+			synchronized (this.completed) {
+				if (!this.cancelled) {
+					this.completed.add(result);
+					return result;
+				}
+			}
+			close(result);
+			return result;
+		}
+
+		void awaitAll() throws IOException {
+			for (int i = 0; i < this.futures.size(); i++) {
+				try {
+					this.completionService.take().get();
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("Interrupted while fetching images", ex);
+				}
+				catch (ExecutionException ex) {
+					throw unwrap(ex);
+				}
+			}
+		}
+
+		<T> T get(Future<T> future) throws IOException {
+			try {
+				return future.get();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while fetching images", ex);
+			}
+			catch (ExecutionException ex) {
+				throw unwrap(ex);
+			}
+		}
+
+		private IOException unwrap(ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException) {
+				return (IOException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IllegalStateException(cause);
+		}
+
+		void cancel(Exception failure) {
+			List<Object> completed;
+			synchronized (this.completed) {
+				this.cancelled = true;
+				completed = new ArrayList<>(this.completed);
+			}
+			this.futures.forEach((future) -> future.cancel(true));
+			this.executor.shutdownNow();
+			try {
+				this.executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			for (Object result : completed) {
+				try {
+					close(result);
+				}
+				catch (IOException ex) {
+					failure.addSuppressed(ex);
+				}
+			}
+		}
+
+		private void close(Object result) throws IOException {
+			if (result instanceof Closeable) {
+				((Closeable) result).close();
+			}
+		}
+
+		void shutdown() {
+			this.executor.shutdownNow();
+		}
+
+	}
+
+	/**
+	 * The fetched run image and resolved buildpacks. Closing releases any resources held
+	 * by the buildpacks.
+	 */
+	private static class RunImageAndBuildpacks implements Closeable {
+
+		private final Image runImage;
+
+		private final Buildpacks buildpacks;
+
+		RunImageAndBuildpacks(Image runImage, Buildpacks buildpacks) {
+			this.runImage = runImage;
+			this.buildpacks = buildpacks;
+		}
+
+		Image getRunImage() {
+			return this.runImage;
+		}
+
+		Buildpacks getBuildpacks() {
+			return this.buildpacks;
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.buildpacks.close();
+		}
+
+	}
+
 	/**
 	 * {@link BuildpackResolverContext} implementation for the {@link Builder}.
 	 */
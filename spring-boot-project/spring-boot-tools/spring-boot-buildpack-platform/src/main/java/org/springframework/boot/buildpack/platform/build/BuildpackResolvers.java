@@ -66,7 +66,13 @@ final class BuildpackResolvers {
 		return Buildpacks.of(buildpacks);
 	}
 
-	private static Buildpack resolve(BuildpackResolverContext context, BuildpackReference reference) {
+	/**
+	 * Resolve a single {@link BuildpackReference} to a {@link Buildpack}.
+	 * @param context the resolver context
+	 * @param reference the reference to resolve
+	 * @return the resolved {@link Buildpack}
+	 */
+	static Buildpack resolve(BuildpackResolverContext context, BuildpackReference reference) {
 		Assert.notNull(reference, "Reference must not be null");
 		for (BuildpackResolver resolver : resolvers) {
 			Buildpack buildpack = resolver.resolve(context, reference);
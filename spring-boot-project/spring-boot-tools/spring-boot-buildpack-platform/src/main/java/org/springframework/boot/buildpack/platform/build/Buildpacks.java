@@ -16,6 +16,7 @@
 
 package org.springframework.boot.buildpack.platform.build;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
@@ -30,11 +31,13 @@ import org.springframework.util.StringUtils;
 
 /**
  * A collection of {@link Buildpack} instances that can be used to apply buildpack layers.
+ * Closing the collection releases any resources, such as temporary files, that are held by
+ * the buildpacks.
  *
  * @author Scott Frederick
  * @author Phillip Webb
  */
-final class Buildpacks {
+final class Buildpacks implements Closeable {
 
 	static final Buildpacks EMPTY = new Buildpacks(Collections.emptyList());
 
@@ -57,6 +60,15 @@ final class Buildpacks {
 		}
 	}
 
+	@Override
+	public void close() throws IOException {
+		for (Buildpack buildpack : this.buildpacks) {
+			if (buildpack instanceof Closeable) {
+				((Closeable) buildpack).close();
+			}
+		}
+	}
+
 	void addOrderLayerContent(Layout layout) throws IOException {
 		layout.file("/cnb/order.toml", Owner.ROOT, Content.of(getOrderToml()));
 	}
@@ -17,7 +17,15 @@
 package org.springframework.boot.buildpack.platform.build;
 
 import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 import org.springframework.boot.buildpack.platform.docker.type.Image;
 import org.springframework.boot.buildpack.platform.docker.type.ImageArchive;
@@ -34,6 +42,8 @@ import org.springframework.boot.buildpack.platform.io.Owner;
  */
 class EphemeralBuilder {
 
+	private static final String NAME_PREFIX = "pack.local/builder/";
+
 	private final BuildOwner buildOwner;
 
 	private final BuilderMetadata builderMetadata;
@@ -54,19 +64,39 @@ class EphemeralBuilder {
 	 */
 	EphemeralBuilder(BuildOwner buildOwner, Image builderImage, BuilderMetadata builderMetadata, Creator creator,
 			Map<String, String> env, Buildpacks buildpacks) throws IOException {
-		ImageReference name = ImageReference.random("pack.local/builder/").inTaggedForm();
+		this(buildOwner, builderImage, builderMetadata, creator, env, buildpacks, false);
+	}
+
+	/**
+	 * Create a new {@link EphemeralBuilder} instance.
+	 * @param buildOwner the build owner
+	 * @param builderImage the image
+	 * @param builderMetadata the builder metadata
+	 * @param creator the builder creator
+	 * @param env the builder env
+	 * @param buildpacks an optional set of buildpacks to apply
+	 * @param contentAddressed if the builder name should be derived from its content
+	 * rather than being random
+	 * @throws IOException on IO error
+	 */
+	EphemeralBuilder(BuildOwner buildOwner, Image builderImage, BuilderMetadata builderMetadata, Creator creator,
+			Map<String, String> env, Buildpacks buildpacks, boolean contentAddressed) throws IOException {
 		this.buildOwner = buildOwner;
 		this.creator = creator;
 		this.builderMetadata = builderMetadata.copy(this::updateMetadata);
 		this.archive = ImageArchive.from(builderImage, (update) -> {
 			update.withUpdatedConfig(this.builderMetadata::attachTo);
-			update.withTag(name);
+			List<Layer> layers = new ArrayList<>();
 			if (env != null && !env.isEmpty()) {
-				update.withNewLayer(getEnvLayer(env));
+				layers.add(getEnvLayer(env));
 			}
 			if (buildpacks != null) {
-				buildpacks.apply(update::withNewLayer);
+				buildpacks.apply(layers::add);
 			}
+			layers.forEach(update::withNewLayer);
+			ImageReference name = (contentAddressed) ? getContentAddressedName(builderImage, layers)
+					: ImageReference.random(NAME_PREFIX);
+			update.withTag(name.inTaggedForm());
 		});
 	}
 
@@ -74,6 +104,27 @@ class EphemeralBuilder {
 		update.withCreatedBy(this.creator.getName(), this.creator.getVersion());
 	}
 
+	private ImageReference getContentAddressedName(Image builderImage, List<Layer> layers) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			update(digest, builderImage.getLayers());
+			update(digest, new TreeMap<>(builderImage.getConfig().getLabels()));
+			update(digest, new TreeMap<>(builderImage.getConfig().getEnv()));
+			update(digest, this.creator);
+			update(digest, layers.stream().map(Layer::getId).collect(Collectors.toList()));
+			String hash = new BigInteger(1, digest.digest()).toString(16);
+			return ImageReference.of(NAME_PREFIX + hash.substring(0, Math.min(hash.length(), 20)));
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private void update(MessageDigest digest, Object value) {
+		digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
 	private Layer getEnvLayer(Map<String, String> env) throws IOException {
 		return Layer.of((layout) -> {
 			for (Map.Entry<String, String> entry : env.entrySet()) {
@@ -16,6 +16,7 @@
 
 package org.springframework.boot.buildpack.platform.build;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
@@ -45,7 +46,7 @@ import org.springframework.util.StreamUtils;
  * @author Scott Frederick
  * @author Phillip Webb
  */
-final class ImageBuildpack implements Buildpack {
+final class ImageBuildpack implements Buildpack, Closeable {
 
 	private static final String PREFIX = "docker://";
 
@@ -75,6 +76,11 @@ final class ImageBuildpack implements Buildpack {
 		this.exportedLayers.apply(layers);
 	}
 
+	@Override
+	public void close() throws IOException {
+		this.exportedLayers.close();
+	}
+
 	/**
 	 * A {@link BuildpackResolver} compatible method to resolve image buildpacks.
 	 * @param context the resolver context
@@ -96,13 +102,23 @@ final class ImageBuildpack implements Buildpack {
 		}
 	}
 
-	private static class ExportedLayers {
+	/**
+	 * Layers exported from the buildpack image to temporary files. The files are deleted
+	 * when the layers are closed.
+	 */
+	private static class ExportedLayers implements Closeable {
 
 		private final List<Path> layerFiles;
 
 		ExportedLayers(BuildpackResolverContext context, ImageReference imageReference) throws IOException {
 			List<Path> layerFiles = new ArrayList<>();
-			context.exportImageLayers(imageReference, (name, archive) -> layerFiles.add(copyToTemp(name, archive)));
+			try {
+				context.exportImageLayers(imageReference, (name, archive) -> layerFiles.add(copyToTemp(name, archive)));
+			}
+			catch (IOException | RuntimeException ex) {
+				delete(layerFiles);
+				throw ex;
+			}
 			this.layerFiles = Collections.unmodifiableList(layerFiles);
 		}
 
@@ -135,7 +151,17 @@ final class ImageBuildpack implements Buildpack {
 				}
 				tarOut.finish();
 			}
-			Files.delete(path);
+		}
+
+		@Override
+		public void close() throws IOException {
+			delete(this.layerFiles);
+		}
+
+		private static void delete(List<Path> layerFiles) throws IOException {
+			for (Path path : layerFiles) {
+				Files.deleteIfExists(path);
+			}
 		}
 
 	}
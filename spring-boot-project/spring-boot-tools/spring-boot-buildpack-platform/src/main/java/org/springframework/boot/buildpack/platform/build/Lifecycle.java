@@ -18,6 +18,7 @@ package org.springframework.boot.buildpack.platform.build;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.function.Consumer;
 
 import org.springframework.boot.buildpack.platform.docker.DockerApi;
@@ -163,12 +164,14 @@ class Lifecycle implements Closeable {
 		ContainerConfig containerConfig = ContainerConfig.of(this.builder.getName(), phase::apply);
 		ContainerReference reference = createContainer(containerConfig);
 		try {
+			long start = System.nanoTime();
 			this.docker.container().start(reference);
 			this.docker.container().logs(reference, logConsumer::accept);
 			ContainerStatus status = this.docker.container().wait(reference);
 			if (status.getStatusCode() != 0) {
 				throw new BuilderException(phase.getName(), status.getStatusCode());
 			}
+			this.log.completedPhase(phase.getName(), Duration.ofNanos(System.nanoTime() - start));
 		}
 		finally {
 			this.docker.container().remove(reference, true);
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.buildpack.platform.docker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.util.Assert;
+
+/**
+ * Aggregates the {@link TotalProgressEvent events} published by several
+ * {@link TotalProgressListener TotalProgressListeners} so that the combined progress of
+ * operations running concurrently can be reported to a single consumer. Combined progress
+ * never decreases and only reaches 100% once the aggregator is {@link #finish()
+ * finished}.
+ *
+ * @author Phillip Webb
+ * @since 2.5.0
+ */
+public class TotalProgressAggregator {
+
+	private final Consumer<TotalProgressEvent> consumer;
+
+	private final List<Progress> tracked = new ArrayList<>();
+
+	private int published = -1;
+
+	private boolean finished;
+
+	/**
+	 * Create a new {@link TotalProgressAggregator} that sends combined
+	 * {@link TotalProgressEvent events} to the given consumer.
+	 * @param consumer the consumer that receives combined {@link TotalProgressEvent
+	 * progress events}
+	 */
+	public TotalProgressAggregator(Consumer<TotalProgressEvent> consumer) {
+		Assert.notNull(consumer, "Consumer must not be null");
+		this.consumer = consumer;
+	}
+
+	/**
+	 * Start tracking a further operation.
+	 * @return a consumer that should receive the {@link TotalProgressEvent events} of the
+	 * operation
+	 */
+	public synchronized Consumer<TotalProgressEvent> track() {
+		Assert.state(!this.finished, "Aggregator has already finished");
+		Progress progress = new Progress();
+		this.tracked.add(progress);
+		return (event) -> update(progress, event.getPercent());
+	}
+
+	private synchronized void update(Progress progress, int percent) {
+		if (this.finished) {
+			return;
+		}
+		progress.percent = percent;
+		int total = 0;
+		for (Progress trackedProgress : this.tracked) {
+			total += trackedProgress.percent;
+		}
+		publish(Math.min(total / this.tracked.size(), 99));
+	}
+
+	/**
+	 * Finish aggregation, publishing a final 100% event.
+	 */
+	public synchronized void finish() {
+		if (!this.finished) {
+			this.finished = true;
+			publish(100);
+		}
+	}
+
+	private void publish(int percent) {
+		if (percent > this.published) {
+			this.published = percent;
+			this.consumer.accept(new TotalProgressEvent(percent));
+		}
+	}
+
+	/**
+	 * Progress of a single tracked operation.
+	 */
+	private static class Progress {
+
+		private int percent;
+
+	}
+
+}
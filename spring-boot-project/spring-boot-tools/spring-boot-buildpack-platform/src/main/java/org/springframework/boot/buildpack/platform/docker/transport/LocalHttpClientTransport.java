@@ -21,6 +21,7 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.UnknownHostException;
+import java.util.concurrent.TimeUnit;
 
 import com.sun.jna.Platform;
 import org.apache.http.HttpHost;
@@ -34,7 +35,7 @@ import org.apache.http.conn.socket.ConnectionSocketFactory;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
-import org.apache.http.impl.conn.BasicHttpClientConnectionManager;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.protocol.HttpContext;
 import org.apache.http.util.Args;
 
@@ -76,12 +77,19 @@ final class LocalHttpClientTransport extends HttpClientTransport {
 	}
 
 	/**
-	 * {@link HttpClientConnectionManager} for local Docker.
+	 * {@link HttpClientConnectionManager} for local Docker. Connections are pooled so that
+	 * concurrent operations, such as image pulls, can each use their own connection.
 	 */
-	private static class LocalConnectionManager extends BasicHttpClientConnectionManager {
+	private static class LocalConnectionManager extends PoolingHttpClientConnectionManager {
+
+		private static final int MAX_CONNECTIONS = 10;
 
 		LocalConnectionManager(String host) {
-			super(getRegistry(host), null, null, new LocalDnsResolver());
+			super(getRegistry(host), null, null, new LocalDnsResolver(), -1, TimeUnit.MILLISECONDS);
+			setMaxTotal(MAX_CONNECTIONS);
+			setDefaultMaxPerRoute(MAX_CONNECTIONS);
+			// Stale checks rely on socket timeouts that local sockets don't support
+			setValidateAfterInactivity(0);
 		}
 
 		private static Registry<ConnectionSocketFactory> getRegistry(String host) {
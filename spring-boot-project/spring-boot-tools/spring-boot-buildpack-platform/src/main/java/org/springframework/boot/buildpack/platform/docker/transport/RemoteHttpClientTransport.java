@@ -49,6 +49,8 @@ final class RemoteHttpClientTransport extends HttpClientTransport {
 
 	private static final String DOCKER_CERT_PATH = "DOCKER_CERT_PATH";
 
+	private static final int MAX_CONNECTIONS = 10;
+
 	private RemoteHttpClientTransport(CloseableHttpClient client, HttpHost host) {
 		super(client, host);
 	}
@@ -79,6 +81,8 @@ final class RemoteHttpClientTransport extends HttpClientTransport {
 	private static RemoteHttpClientTransport create(DockerHost host, SslContextFactory sslContextFactory,
 			HttpHost tcpHost) {
 		HttpClientBuilder builder = HttpClients.custom();
+		builder.setMaxConnTotal(MAX_CONNECTIONS);
+		builder.setMaxConnPerRoute(MAX_CONNECTIONS);
 		if (host.isSecure()) {
 			builder.setSSLSocketFactory(getSecureConnectionSocketFactory(host, sslContextFactory));
 		}
@@ -18,6 +18,7 @@ package org.springframework.boot.buildpack.platform.docker.type;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
@@ -36,7 +37,6 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import org.springframework.boot.buildpack.platform.io.Content;
 import org.springframework.boot.buildpack.platform.io.IOConsumer;
-import org.springframework.boot.buildpack.platform.io.InspectedContent;
 import org.springframework.boot.buildpack.platform.io.Layout;
 import org.springframework.boot.buildpack.platform.io.Owner;
 import org.springframework.boot.buildpack.platform.io.TarArchive;
@@ -142,10 +142,10 @@ public class ImageArchive implements TarArchive {
 		try {
 			ObjectNode config = createConfig(writtenLayers);
 			String json = this.objectMapper.writeValueAsString(config).replace("\r\n", "\n");
-			MessageDigest digest = MessageDigest.getInstance("SHA-256");
-			InspectedContent content = InspectedContent.of(Content.of(json), digest::update);
-			String name = "/" + LayerId.ofSha256Digest(digest.digest()).getHash() + ".json";
-			writer.file(name, Owner.ROOT, content);
+			byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+			String name = "/" + LayerId.ofSha256Digest(digest).getHash() + ".json";
+			writer.file(name, Owner.ROOT, Content.of(bytes));
 			return name;
 		}
 		catch (NoSuchAlgorithmException ex) {
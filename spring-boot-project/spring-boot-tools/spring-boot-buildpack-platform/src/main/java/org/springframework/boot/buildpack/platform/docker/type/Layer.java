@@ -23,27 +23,32 @@ import java.security.NoSuchAlgorithmException;
 
 import org.springframework.boot.buildpack.platform.io.Content;
 import org.springframework.boot.buildpack.platform.io.IOConsumer;
-import org.springframework.boot.buildpack.platform.io.InspectedContent;
 import org.springframework.boot.buildpack.platform.io.Layout;
 import org.springframework.boot.buildpack.platform.io.TarArchive;
 import org.springframework.util.Assert;
 
 /**
- * A layer that can be written to an {@link ImageArchive}.
+ * A layer that can be written to an {@link ImageArchive}. The layer content is not
+ * buffered, instead the underlying {@link TarArchive} is written once to calculate the
+ * size and digest of the layer and then again when the layer itself is written.
  *
  * @author Phillip Webb
  * @since 2.3.0
  */
 public class Layer implements Content {
 
-	private final Content content;
+	private final TarArchive tarArchive;
+
+	private final int size;
 
 	private final LayerId id;
 
 	Layer(TarArchive tarArchive) throws NoSuchAlgorithmException, IOException {
-		MessageDigest digest = MessageDigest.getInstance("SHA-256");
-		this.content = InspectedContent.of(tarArchive::writeTo, digest::update);
-		this.id = LayerId.ofSha256Digest(digest.digest());
+		DigestingOutputStream outputStream = new DigestingOutputStream(null);
+		tarArchive.writeTo(outputStream);
+		this.tarArchive = tarArchive;
+		this.size = outputStream.getSize();
+		this.id = LayerId.ofSha256Digest(outputStream.getDigest());
 	}
 
 	/**
@@ -56,12 +61,21 @@ public class Layer implements Content {
 
 	@Override
 	public int size() {
-		return this.content.size();
+		return this.size;
 	}
 
 	@Override
 	public void writeTo(OutputStream outputStream) throws IOException {
-		this.content.writeTo(outputStream);
+		try {
+			DigestingOutputStream digestingOutputStream = new DigestingOutputStream(outputStream);
+			this.tarArchive.writeTo(digestingOutputStream);
+			LayerId writtenId = LayerId.ofSha256Digest(digestingOutputStream.getDigest());
+			Assert.state(this.id.equals(writtenId),
+					() -> "Content of layer " + this.id + " changed while it was being written");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
 	}
 
 	/**
@@ -76,7 +90,8 @@ public class Layer implements Content {
 	}
 
 	/**
-	 * Factory method to create a new {@link Layer} from a {@link TarArchive}.
+	 * Factory method to create a new {@link Layer} from a {@link TarArchive}. The archive
+	 * may be written more than once and must produce the same content each time.
 	 * @param tarArchive the contents of the layer
 	 * @return a new layer instance
 	 * @throws IOException on error
@@ -91,4 +106,53 @@ public class Layer implements Content {
 		}
 	}
 
+	/**
+	 * {@link OutputStream} that calculates the size and SHA-256 digest of the content
+	 * written to it, optionally passing the content on to a delegate.
+	 */
+	private static final class DigestingOutputStream extends OutputStream {
+
+		private final OutputStream delegate;
+
+		private final MessageDigest digest;
+
+		private long size;
+
+		private DigestingOutputStream(OutputStream delegate) throws NoSuchAlgorithmException {
+			this.delegate = delegate;
+			this.digest = MessageDigest.getInstance("SHA-256");
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (this.delegate != null) {
+				this.delegate.write(b, off, len);
+			}
+			this.digest.update(b, off, len);
+			this.size += len;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			if (this.delegate != null) {
+				this.delegate.flush();
+			}
+		}
+
+		private int getSize() {
+			Assert.state(this.size <= Integer.MAX_VALUE, "Layer content is too large");
+			return (int) this.size;
+		}
+
+		private byte[] getDigest() {
+			return this.digest.digest();
+		}
+
+	}
+
 }
@@ -20,6 +20,14 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -37,6 +45,7 @@ import org.springframework.boot.buildpack.platform.docker.type.ContainerStatus;
 import org.springframework.boot.buildpack.platform.docker.type.Image;
 import org.springframework.boot.buildpack.platform.docker.type.ImageArchive;
 import org.springframework.boot.buildpack.platform.docker.type.ImageReference;
+import org.springframework.boot.buildpack.platform.io.IOBiConsumer;
 import org.springframework.boot.buildpack.platform.io.TarArchive;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -44,9 +53,11 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -276,6 +287,134 @@ class BuilderTests {
 		verify(docker.image(), times(2)).pull(any(), any(), isNull());
 	}
 
+	@Test
+	void buildWhenReuseBuilderAndBuilderIsLoadedReusesBuilder() throws Exception {
+		TestPrintStream out = new TestPrintStream();
+		DockerApi docker = mockDockerApi();
+		Image builderImage = loadImage("image.json");
+		Image runImage = loadImage("run-image.json");
+		given(docker.image().pull(eq(ImageReference.of(BuildRequest.DEFAULT_BUILDER_IMAGE_NAME)), any(), isNull()))
+				.willAnswer(withPulledImage(builderImage));
+		given(docker.image().pull(eq(ImageReference.of("docker.io/cloudfoundry/run:base-cnb")), any(), isNull()))
+				.willAnswer(withPulledImage(runImage));
+		given(docker.image().inspect(any())).willReturn(builderImage);
+		Builder builder = new Builder(BuildLog.to(out), docker, null);
+		BuildRequest request = getTestRequest().withReuseBuilder(true);
+		builder.build(request);
+		assertThat(out.toString()).contains("Reusing builder image 'pack.local/builder/");
+		assertThat(out.toString()).contains("Successfully built image 'docker.io/library/my-application:latest'");
+		verify(docker.image(), never()).load(any(), any());
+		verify(docker.image(), never()).remove(any(), anyBoolean());
+	}
+
+	@Test
+	void buildWhenReuseBuilderAndBuilderIsNotLoadedLoadsBuilder() throws Exception {
+		TestPrintStream out = new TestPrintStream();
+		DockerApi docker = mockDockerApi();
+		Image builderImage = loadImage("image.json");
+		Image runImage = loadImage("run-image.json");
+		given(docker.image().pull(eq(ImageReference.of(BuildRequest.DEFAULT_BUILDER_IMAGE_NAME)), any(), isNull()))
+				.willAnswer(withPulledImage(builderImage));
+		given(docker.image().pull(eq(ImageReference.of("docker.io/cloudfoundry/run:base-cnb")), any(), isNull()))
+				.willAnswer(withPulledImage(runImage));
+		given(docker.image().inspect(any())).willThrow(
+				new DockerEngineException("docker://localhost/", new URI("example"), 404, "NOT FOUND", null, null));
+		Builder builder = new Builder(BuildLog.to(out), docker, null);
+		BuildRequest request = getTestRequest().withReuseBuilder(true);
+		builder.build(request);
+		assertThat(out.toString()).contains("Loaded builder image 'pack.local/builder/");
+		ArgumentCaptor<ImageArchive> archive = ArgumentCaptor.forClass(ImageArchive.class);
+		verify(docker.image()).load(archive.capture(), any());
+		verify(docker.image()).inspect(archive.getValue().getTag());
+		verify(docker.image(), never()).remove(any(), anyBoolean());
+	}
+
+	@Test
+	void buildWithImageBuildpackPullsRunImageAndBuildpackImageConcurrently() throws Exception {
+		TestPrintStream out = new TestPrintStream();
+		DockerApi docker = mockDockerApi();
+		Image builderImage = loadImage("image.json");
+		Image runImage = loadImage("run-image.json");
+		Image buildpackImage = loadImage("buildpack-image.json");
+		given(docker.image().pull(eq(ImageReference.of(BuildRequest.DEFAULT_BUILDER_IMAGE_NAME)), any(), isNull()))
+				.willAnswer(withPulledImage(builderImage));
+		given(docker.image().pull(eq(ImageReference.of("docker.io/cloudfoundry/run:base-cnb")), any(), isNull()))
+				.willAnswer(withPulledImage(runImage));
+		given(docker.image().pull(eq(ImageReference.of("example/buildpack:1.0.0")), any(), isNull()))
+				.willAnswer(withPulledImage(buildpackImage));
+		Builder builder = new Builder(BuildLog.to(out), docker, null);
+		BuildpackReference reference = BuildpackReference.of("docker://example/buildpack:1.0.0");
+		BuildRequest request = getTestRequest().withBuildpacks(reference);
+		builder.build(request);
+		assertThat(out.toString()).contains("Pulling builder image");
+		assertThat(out.toString()).contains("Pulling images");
+		assertThat(out.toString()).contains("Pulled run image");
+		assertThat(out.toString()).contains("Pulled buildpack image");
+		assertThat(out.toString()).contains("Successfully built image 'docker.io/library/my-application:latest'");
+		verify(docker.image()).pull(eq(ImageReference.of("docker.io/cloudfoundry/run:base-cnb")), any(), isNull());
+		verify(docker.image()).pull(eq(ImageReference.of("example/buildpack:1.0.0")), any(), isNull());
+		verify(docker.image()).exportLayers(eq(ImageReference.of("example/buildpack:1.0.0")), any());
+	}
+
+	@Test
+	void buildWhenBuildpackImagePullFailsThrowsException() throws Exception {
+		TestPrintStream out = new TestPrintStream();
+		DockerApi docker = mockDockerApi();
+		Image builderImage = loadImage("image.json");
+		Image runImage = loadImage("run-image.json");
+		given(docker.image().pull(eq(ImageReference.of(BuildRequest.DEFAULT_BUILDER_IMAGE_NAME)), any(), isNull()))
+				.willAnswer(withPulledImage(builderImage));
+		given(docker.image().pull(eq(ImageReference.of("docker.io/cloudfoundry/run:base-cnb")), any(), isNull()))
+				.willAnswer(withPulledImage(runImage));
+		given(docker.image().pull(eq(ImageReference.of("example/buildpack:1.0.0")), any(), isNull()))
+				.willThrow(new IOException("pull failed"));
+		Builder builder = new Builder(BuildLog.to(out), docker, null);
+		BuildpackReference reference = BuildpackReference.of("docker://example/buildpack:1.0.0");
+		BuildRequest request = getTestRequest().withBuildpacks(reference);
+		assertThatIllegalArgumentException().isThrownBy(() -> builder.build(request))
+				.withMessageContaining("'docker.io/example/buildpack:1.0.0'");
+		verify(docker.image(), never()).load(any(), any());
+	}
+
+	@Test
+	void buildWhenBuildpackImagePullFailsDeletesExportedLayersOfOtherBuildpacks() throws Exception {
+		TestPrintStream out = new TestPrintStream();
+		DockerApi docker = mockDockerApi();
+		Image builderImage = loadImage("image.json");
+		Image runImage = loadImage("run-image.json");
+		Image buildpackImage = loadImage("buildpack-image.json");
+		CountDownLatch exported = new CountDownLatch(1);
+		CountDownLatch pullFailing = new CountDownLatch(1);
+		given(docker.image().pull(eq(ImageReference.of(BuildRequest.DEFAULT_BUILDER_IMAGE_NAME)), any(), isNull()))
+				.willAnswer(withPulledImage(builderImage));
+		given(docker.image().pull(eq(ImageReference.of("docker.io/cloudfoundry/run:base-cnb")), any(), isNull()))
+				.willAnswer(withPulledImage(runImage));
+		given(docker.image().pull(eq(ImageReference.of("example/buildpack:1.0.0")), any(), isNull()))
+				.willAnswer(withPulledImage(buildpackImage));
+		given(docker.image().pull(eq(ImageReference.of("example/buildpack:2.0.0")), any(), isNull()))
+				.willAnswer((invocation) -> {
+					awaitUninterruptibly(exported);
+					pullFailing.countDown();
+					throw new IOException("pull failed");
+				});
+		String layerName = "layer-" + UUID.randomUUID();
+		ImageApi imageApi = docker.image();
+		willAnswer((invocation) -> {
+			withExportedLayer(layerName).answer(invocation);
+			exported.countDown();
+			awaitUninterruptibly(pullFailing);
+			return null;
+		}).given(imageApi).exportLayers(eq(ImageReference.of("example/buildpack:1.0.0")), any());
+		Builder builder = new Builder(BuildLog.to(out), docker, null);
+		BuildRequest request = getTestRequest().withBuildpacks(
+				BuildpackReference.of("docker://example/buildpack:1.0.0"),
+				BuildpackReference.of("docker://example/buildpack:2.0.0"));
+		assertThatIllegalArgumentException().isThrownBy(() -> builder.build(request))
+				.withMessageContaining("'docker.io/example/buildpack:2.0.0'");
+		verify(docker.image()).exportLayers(eq(ImageReference.of("example/buildpack:1.0.0")), any());
+		assertThat(getExportedLayerFiles(layerName)).isEmpty();
+	}
+
 	@Test
 	void buildWhenStackIdDoesNotMatchThrowsException() throws Exception {
 		TestPrintStream out = new TestPrintStream();
@@ -292,6 +431,32 @@ class BuilderTests {
 				"Run image stack 'org.cloudfoundry.stacks.cfwindowsfs3' does not match builder stack 'io.buildpacks.stacks.bionic'");
 	}
 
+	@Test
+	void buildWhenStackIdDoesNotMatchDeletesExportedBuildpackLayers() throws Exception {
+		TestPrintStream out = new TestPrintStream();
+		DockerApi docker = mockDockerApi();
+		Image builderImage = loadImage("image.json");
+		Image runImage = loadImage("run-image-with-bad-stack.json");
+		Image buildpackImage = loadImage("buildpack-image.json");
+		given(docker.image().pull(eq(ImageReference.of(BuildRequest.DEFAULT_BUILDER_IMAGE_NAME)), any(), isNull()))
+				.willAnswer(withPulledImage(builderImage));
+		given(docker.image().pull(eq(ImageReference.of("docker.io/cloudfoundry/run:base-cnb")), any(), isNull()))
+				.willAnswer(withPulledImage(runImage));
+		given(docker.image().pull(eq(ImageReference.of("example/buildpack:1.0.0")), any(), isNull()))
+				.willAnswer(withPulledImage(buildpackImage));
+		String layerName = "layer-" + UUID.randomUUID();
+		ImageApi imageApi = docker.image();
+		willAnswer(withExportedLayer(layerName)).given(imageApi)
+				.exportLayers(eq(ImageReference.of("example/buildpack:1.0.0")), any());
+		Builder builder = new Builder(BuildLog.to(out), docker, null);
+		BuildpackReference reference = BuildpackReference.of("docker://example/buildpack:1.0.0");
+		BuildRequest request = getTestRequest().withBuildpacks(reference);
+		assertThatIllegalStateException().isThrownBy(() -> builder.build(request))
+				.withMessageContaining("does not match builder stack");
+		verify(docker.image()).exportLayers(eq(ImageReference.of("example/buildpack:1.0.0")), any());
+		assertThat(getExportedLayerFiles(layerName)).isEmpty();
+	}
+
 	@Test
 	void buildWhenBuilderReturnsErrorThrowsException() throws Exception {
 		TestPrintStream out = new TestPrintStream();
@@ -406,6 +571,37 @@ class BuilderTests {
 
 	}
 
+	private Answer<Void> withExportedLayer(String layerName) {
+		return (invocation) -> {
+			IOBiConsumer<String, TarArchive> exports = invocation.getArgument(1);
+			exports.accept(layerName + "/layer.tar", (outputStream) -> {
+			});
+			return null;
+		};
+	}
+
+	private void awaitUninterruptibly(CountDownLatch latch) {
+		boolean interrupted = false;
+		while (latch.getCount() > 0) {
+			try {
+				latch.await();
+			}
+			catch (InterruptedException ex) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private List<Path> getExportedLayerFiles(String layerName) throws IOException {
+		try (Stream<Path> files = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+			return files.filter((file) -> file.getFileName().toString().endsWith(layerName))
+					.collect(Collectors.toList());
+		}
+	}
+
 	static class TestPrintStream extends PrintStream {
 
 		TestPrintStream() {
@@ -18,6 +18,7 @@ package org.springframework.boot.buildpack.platform.build;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -55,6 +56,16 @@ class BuildpacksTests {
 		assertThat(buildpacks.getBuildpacks()).isEqualTo(buildpackList);
 	}
 
+	@Test
+	void closeClosesCloseableBuildpacks() throws Exception {
+		CloseableTestBuildpack closeable = new CloseableTestBuildpack("example/buildpack1", "0.0.1");
+		List<Buildpack> buildpackList = new ArrayList<>();
+		buildpackList.add(closeable);
+		buildpackList.add(new TestBuildpack("example/buildpack2", "0.0.2"));
+		Buildpacks.of(buildpackList).close();
+		assertThat(closeable.closed).isTrue();
+	}
+
 	@Test
 	void applyWritesLayersAndOrderLayer() throws Exception {
 		List<Buildpack> buildpackList = new ArrayList<>();
@@ -109,4 +120,19 @@ class BuildpacksTests {
 		return toml.toString();
 	}
 
+	static class CloseableTestBuildpack extends TestBuildpack implements Closeable {
+
+		private boolean closed;
+
+		CloseableTestBuildpack(String id, String version) {
+			super(id, version);
+		}
+
+		@Override
+		public void close() {
+			this.closed = true;
+		}
+
+	}
+
 }
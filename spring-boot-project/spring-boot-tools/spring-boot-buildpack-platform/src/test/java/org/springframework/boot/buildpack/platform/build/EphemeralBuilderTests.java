@@ -91,6 +91,20 @@ class EphemeralBuilderTests extends AbstractJsonTests {
 		assertThat(b1.getName().toString()).isNotEqualTo(b2.getName().toString());
 	}
 
+	@Test
+	void getNameWhenContentAddressedHasNameDerivedFromContent() throws Exception {
+		EphemeralBuilder b1 = new EphemeralBuilder(this.owner, this.image, this.metadata, this.creator, this.env,
+				this.buildpacks, true);
+		EphemeralBuilder b2 = new EphemeralBuilder(this.owner, this.image, this.metadata, this.creator, this.env,
+				this.buildpacks, true);
+		this.env.put("spring", "framework");
+		EphemeralBuilder b3 = new EphemeralBuilder(this.owner, this.image, this.metadata, this.creator, this.env,
+				this.buildpacks, true);
+		assertThat(b1.getName().toString()).startsWith("pack.local/builder/").endsWith(":latest");
+		assertThat(b1.getName()).isEqualTo(b2.getName());
+		assertThat(b1.getName()).isNotEqualTo(b3.getName());
+	}
+
 	@Test
 	void getArchiveHasCreatedByConfig() throws Exception {
 		EphemeralBuilder builder = new EphemeralBuilder(this.owner, this.image, this.metadata, this.creator, this.env,
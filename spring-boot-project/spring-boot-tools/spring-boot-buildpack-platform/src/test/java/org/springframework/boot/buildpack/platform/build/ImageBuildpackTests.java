@@ -18,6 +18,7 @@ package org.springframework.boot.buildpack.platform.build;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -34,6 +35,7 @@ import org.springframework.boot.buildpack.platform.json.AbstractJsonTests;
 import org.springframework.util.FileCopyUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -72,6 +74,19 @@ class ImageBuildpackTests extends AbstractJsonTests {
 		assertHasExpectedLayers(buildpack);
 	}
 
+	@Test
+	void closeDeletesExportedLayers() throws Exception {
+		Image image = Image.of(getContent("buildpack-image.json"));
+		BuildpackResolverContext resolverContext = mock(BuildpackResolverContext.class);
+		given(resolverContext.fetchImage(any(), any())).willReturn(image);
+		willAnswer(this::withMockLayers).given(resolverContext).exportImageLayers(any(), any());
+		BuildpackReference reference = BuildpackReference.of("docker://example/buildpack1:latest");
+		Buildpack buildpack = ImageBuildpack.resolve(resolverContext, reference);
+		((Closeable) buildpack).close();
+		assertThatIOException()
+				.isThrownBy(() -> buildpack.apply((layer) -> layer.writeTo(new ByteArrayOutputStream())));
+	}
+
 	@Test
 	void resolveWhenWhenImageNotPulledThrowsException() throws Exception {
 		BuildpackResolverContext resolverContext = mock(BuildpackResolverContext.class);
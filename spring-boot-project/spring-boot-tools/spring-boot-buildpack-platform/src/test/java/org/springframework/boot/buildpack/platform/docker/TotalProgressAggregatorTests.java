@@ -0,0 +1,85 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.buildpack.platform.docker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link TotalProgressAggregator}.
+ *
+ * @author Phillip Webb
+ */
+class TotalProgressAggregatorTests {
+
+	@Test
+	void createWhenConsumerIsNullThrowsException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new TotalProgressAggregator(null))
+				.withMessage("Consumer must not be null");
+	}
+
+	@Test
+	void publishesCombinedProgress() {
+		List<Integer> progress = new ArrayList<>();
+		TotalProgressAggregator aggregator = new TotalProgressAggregator((event) -> progress.add(event.getPercent()));
+		Consumer<TotalProgressEvent> first = aggregator.track();
+		Consumer<TotalProgressEvent> second = aggregator.track();
+		first.accept(new TotalProgressEvent(50));
+		second.accept(new TotalProgressEvent(50));
+		first.accept(new TotalProgressEvent(100));
+		second.accept(new TotalProgressEvent(100));
+		assertThat(progress).containsExactly(25, 50, 75, 99);
+		aggregator.finish();
+		assertThat(progress).containsExactly(25, 50, 75, 99, 100);
+	}
+
+	@Test
+	void combinedProgressNeverDecreases() {
+		List<Integer> progress = new ArrayList<>();
+		TotalProgressAggregator aggregator = new TotalProgressAggregator((event) -> progress.add(event.getPercent()));
+		aggregator.track().accept(new TotalProgressEvent(80));
+		aggregator.track().accept(new TotalProgressEvent(10));
+		assertThat(progress).containsExactly(80);
+	}
+
+	@Test
+	void eventsAfterFinishAreIgnored() {
+		List<Integer> progress = new ArrayList<>();
+		TotalProgressAggregator aggregator = new TotalProgressAggregator((event) -> progress.add(event.getPercent()));
+		Consumer<TotalProgressEvent> consumer = aggregator.track();
+		aggregator.finish();
+		consumer.accept(new TotalProgressEvent(50));
+		aggregator.finish();
+		assertThat(progress).containsExactly(100);
+	}
+
+	@Test
+	void trackWhenFinishedThrowsException() {
+		TotalProgressAggregator aggregator = new TotalProgressAggregator((event) -> {
+		});
+		aggregator.finish();
+		assertThatIllegalStateException().isThrownBy(aggregator::track).withMessage("Aggregator has already finished");
+	}
+
+}
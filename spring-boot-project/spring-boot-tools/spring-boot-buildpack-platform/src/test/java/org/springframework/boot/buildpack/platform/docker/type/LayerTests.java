@@ -18,6 +18,7 @@ package org.springframework.boot.buildpack.platform.docker.type;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.junit.jupiter.api.Test;
@@ -29,6 +30,7 @@ import org.springframework.boot.buildpack.platform.io.Owner;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 /**
  * Tests for {@link Layer}.
@@ -67,4 +69,22 @@ class LayerTests {
 		}
 	}
 
+	@Test
+	void writeToWritesContentWithoutChangingSizeOrId() throws Exception {
+		Layer layer = Layer.of((layout) -> layout.file("/file", Owner.ROOT, Content.of("test")));
+		ByteArrayOutputStream first = new ByteArrayOutputStream();
+		layer.writeTo(first);
+		ByteArrayOutputStream second = new ByteArrayOutputStream();
+		layer.writeTo(second);
+		assertThat(first.toByteArray()).hasSize(layer.size()).isEqualTo(second.toByteArray());
+	}
+
+	@Test
+	void writeToWhenContentHasChangedThrowsException() throws Exception {
+		AtomicInteger writes = new AtomicInteger();
+		Layer layer = Layer.fromTarArchive((outputStream) -> outputStream.write(writes.incrementAndGet()));
+		assertThatIllegalStateException().isThrownBy(() -> layer.writeTo(new ByteArrayOutputStream()))
+				.withMessageContaining("changed while it was being written");
+	}
+
 }
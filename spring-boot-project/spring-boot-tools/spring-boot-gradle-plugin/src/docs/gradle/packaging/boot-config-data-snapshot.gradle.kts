@@ -0,0 +1,10 @@
+plugins {
+	java
+	id("org.springframework.boot") version "{gradle-project-version}"
+}
+
+// tag::config-data-snapshot[]
+springBoot {
+	configDataSnapshot()
+}
+// end::config-data-snapshot[]
@@ -17,9 +17,12 @@
 package org.springframework.boot.gradle.dsl;
 
 import java.io.File;
+import java.util.Collections;
+import java.util.concurrent.Callable;
 
 import org.gradle.api.Action;
 import org.gradle.api.Project;
+import org.gradle.api.artifacts.Configuration;
 import org.gradle.api.model.ReplacedBy;
 import org.gradle.api.plugins.BasePlugin;
 import org.gradle.api.plugins.JavaPlugin;
@@ -32,6 +35,7 @@ import org.gradle.jvm.tasks.Jar;
 
 import org.springframework.boot.gradle.tasks.buildinfo.BuildInfo;
 import org.springframework.boot.gradle.tasks.buildinfo.BuildInfoProperties;
+import org.springframework.boot.gradle.tasks.config.ConfigDataSnapshot;
 
 /**
  * Entry point to Spring Boot's Gradle DSL.
@@ -134,9 +138,69 @@ public class SpringBootExtension {
 				() -> new File(determineMainSourceSetResourcesOutputDir(), "META-INF"));
 	}
 
+	/**
+	 * Creates a new {@link ConfigDataSnapshot} task named {@code bootConfigDataSnapshot}
+	 * that generates snapshots of the config files in the main source set's resources
+	 * output directory, and adds its destination directory to the main source set's
+	 * output so that the snapshots are packaged next to their config files.
+	 * <p>
+	 * By default, the task's destination directory will be
+	 * {@code build/config-data-snapshot/main} and its classpath will be the
+	 * {@code runtimeClasspath} configuration.
+	 * @since 2.5.0
+	 */
+	public void configDataSnapshot() {
+		configDataSnapshot(null);
+	}
+
+	/**
+	 * Creates a new {@link ConfigDataSnapshot} task named {@code bootConfigDataSnapshot}
+	 * that generates snapshots of the config files in the main source set's resources
+	 * output directory, and adds its destination directory to the main source set's
+	 * output so that the snapshots are packaged next to their config files. The task is
+	 * passed to the given {@code configurer} for further configuration.
+	 * <p>
+	 * By default, the task's destination directory will be
+	 * {@code build/config-data-snapshot/main} and its classpath will be the
+	 * {@code runtimeClasspath} configuration.
+	 * @param configurer the task configurer
+	 * @since 2.5.0
+	 */
+	public void configDataSnapshot(Action<ConfigDataSnapshot> configurer) {
+		TaskContainer tasks = this.project.getTasks();
+		TaskProvider<ConfigDataSnapshot> bootConfigDataSnapshot = tasks.register("bootConfigDataSnapshot",
+				ConfigDataSnapshot.class, this::configureConfigDataSnapshotTask);
+		this.project.getPlugins().withType(JavaPlugin.class, (plugin) -> {
+			Configuration runtimeClasspath = this.project.getConfigurations()
+					.getByName(JavaPlugin.RUNTIME_CLASSPATH_CONFIGURATION_NAME);
+			bootConfigDataSnapshot.configure((task) -> {
+				task.dependsOn(tasks.named(JavaPlugin.PROCESS_RESOURCES_TASK_NAME));
+				task.getSourceDirectory().convention(this.project.getLayout()
+						.dir(this.project.provider(this::determineMainSourceSetResourcesOutputDir)));
+				task.setClasspath(runtimeClasspath);
+			});
+			getMainSourceSet().getOutput().dir(Collections.singletonMap("builtBy", bootConfigDataSnapshot),
+					(Callable<File>) () -> bootConfigDataSnapshot.get().getDestinationDirectory().getAsFile().get());
+		});
+		if (configurer != null) {
+			bootConfigDataSnapshot.configure(configurer);
+		}
+	}
+
+	private void configureConfigDataSnapshotTask(ConfigDataSnapshot task) {
+		task.setGroup(BasePlugin.BUILD_GROUP);
+		task.setDescription("Generates snapshots of the application's config files.");
+		task.getDestinationDirectory()
+				.convention(this.project.getLayout().getBuildDirectory().dir("config-data-snapshot/main"));
+	}
+
 	private File determineMainSourceSetResourcesOutputDir() {
+		return getMainSourceSet().getOutput().getResourcesDir();
+	}
+
+	private SourceSet getMainSourceSet() {
 		return this.project.getConvention().getPlugin(JavaPluginConvention.class).getSourceSets()
-				.getByName(SourceSet.MAIN_SOURCE_SET_NAME).getOutput().getResourcesDir();
+				.getByName(SourceSet.MAIN_SOURCE_SET_NAME);
 	}
 
 	private String determineArtifactBaseName() {
@@ -46,6 +46,7 @@ import org.gradle.api.tasks.TaskProvider;
 
 import org.springframework.boot.gradle.dsl.SpringBootExtension;
 import org.springframework.boot.loader.tools.MainClassFinder;
+import org.springframework.boot.loader.tools.MainClassFinderCache;
 
 /**
  * {@link Task} for resolving the name of the application's main class.
@@ -124,13 +125,21 @@ public class ResolveMainClassName extends DefaultTask {
 		if (configuredMainClass != null) {
 			return configuredMainClass;
 		}
-		return getClasspath().filter(File::isDirectory).getFiles().stream().map(this::findMainClass)
-				.filter(Objects::nonNull).findFirst().orElse("");
+		MainClassFinderCache cache = MainClassFinderCache.load(new File(getTemporaryDir(), "main-class-finder.cache"));
+		String mainClassName = getClasspath().filter(File::isDirectory).getFiles().stream()
+				.map((directory) -> findMainClass(directory, cache)).filter(Objects::nonNull).findFirst().orElse("");
+		try {
+			cache.save();
+		}
+		catch (IOException ex) {
+			getLogger().debug("Failed to save main class finder cache", ex);
+		}
+		return mainClassName;
 	}
 
-	private String findMainClass(File file) {
+	private String findMainClass(File file, MainClassFinderCache cache) {
 		try {
-			return MainClassFinder.findSingleMainClass(file, SPRING_BOOT_APPLICATION_CLASS_NAME);
+			return MainClassFinder.findSingleMainClass(file, SPRING_BOOT_APPLICATION_CLASS_NAME, cache);
 		}
 		catch (IOException ex) {
 			return null;
@@ -20,8 +20,10 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
@@ -42,6 +44,8 @@ import org.gradle.api.tasks.WorkResult;
 import org.gradle.api.tasks.bundling.Jar;
 import org.gradle.api.tasks.util.PatternSet;
 
+import org.springframework.boot.loader.tools.ClassLoadingOrder;
+
 /**
  * Support class for implementations of {@link BootArchive}.
  *
@@ -110,6 +114,11 @@ class BootArchiveSupport {
 	}
 
 	CopyAction createCopyAction(Jar jar, LayerResolver layerResolver, String layerToolsLocation) {
+		return createCopyAction(jar, layerResolver, layerToolsLocation, null);
+	}
+
+	CopyAction createCopyAction(Jar jar, LayerResolver layerResolver, String layerToolsLocation,
+			ClassLoadingOrder classLoadingOrder) {
 		File output = jar.getArchiveFile().get().getAsFile();
 		Manifest manifest = jar.getManifest();
 		boolean preserveFileTimestamps = jar.isPreserveFileTimestamps();
@@ -123,6 +132,10 @@ class BootArchiveSupport {
 		CopyAction action = new BootZipCopyAction(output, manifest, preserveFileTimestamps, includeDefaultLoader,
 				layerToolsLocation, requiresUnpack, exclusions, launchScript, librarySpec, compressionResolver,
 				encoding, layerResolver);
+		if (classLoadingOrder != null) {
+			String classes = (String) jar.getManifest().getAttributes().get("Spring-Boot-Classes");
+			action = new ClassLoadingOrderCopyAction(action, classLoadingOrder, classes, librarySpec);
+		}
 		return jar.isReproducibleFileOrder() ? new ReproducibleOrderingCopyAction(action) : action;
 	}
 
@@ -158,7 +171,7 @@ class BootArchiveSupport {
 		}
 	}
 
-	private boolean isZip(File file) {
+	boolean isZip(File file) {
 		try {
 			try (FileInputStream fileInputStream = new FileInputStream(file)) {
 				return isZip(fileInputStream);
@@ -208,4 +221,52 @@ class BootArchiveSupport {
 
 	}
 
+	/**
+	 * {@link CopyAction} variant that sorts application classes and libraries into the
+	 * order in which they were loaded. Other entries keep their place.
+	 */
+	private static final class ClassLoadingOrderCopyAction implements CopyAction {
+
+		private final CopyAction delegate;
+
+		private final ClassLoadingOrder classLoadingOrder;
+
+		private final String classesLocation;
+
+		private final Spec<FileCopyDetails> librarySpec;
+
+		private ClassLoadingOrderCopyAction(CopyAction delegate, ClassLoadingOrder classLoadingOrder,
+				String classesLocation, Spec<FileCopyDetails> librarySpec) {
+			this.delegate = delegate;
+			this.classLoadingOrder = classLoadingOrder;
+			this.classesLocation = classesLocation;
+			this.librarySpec = librarySpec;
+		}
+
+		@Override
+		public WorkResult execute(CopyActionProcessingStream stream) {
+			return this.delegate.execute((action) -> {
+				List<FileCopyDetailsInternal> details = new ArrayList<>();
+				stream.process(details::add);
+				this.classLoadingOrder.sort(details, this::getPosition);
+				details.forEach(action::processFile);
+			});
+		}
+
+		private int getPosition(FileCopyDetails details) {
+			if (details.isDirectory()) {
+				return -1;
+			}
+			String name = details.getRelativePath().getPathString();
+			if (this.classesLocation != null && name.startsWith(this.classesLocation)) {
+				return this.classLoadingOrder.getClassEntryPosition(name.substring(this.classesLocation.length()));
+			}
+			if (this.librarySpec.isSatisfiedBy(details)) {
+				return this.classLoadingOrder.getLibraryPosition(details.getName());
+			}
+			return -1;
+		}
+
+	}
+
 }
@@ -82,6 +82,8 @@ public class BootBuildImage extends DefaultTask {
 
 	private boolean cleanCache;
 
+	private boolean reuseBuilder;
+
 	private boolean verboseLogging;
 
 	private PullPolicy pullPolicy;
@@ -249,6 +251,29 @@ public class BootBuildImage extends DefaultTask {
 		this.cleanCache = cleanCache;
 	}
 
+	/**
+	 * Returns whether the builder image should be kept and reused by later builds when
+	 * its content is unchanged.
+	 * @return whether the builder image should be reused
+	 * @since 2.5.0
+	 */
+	@Input
+	public boolean isReuseBuilder() {
+		return this.reuseBuilder;
+	}
+
+	/**
+	 * Sets whether the builder image should be kept and reused by later builds when its
+	 * content is unchanged.
+	 * @param reuseBuilder {@code true} to reuse the builder image, otherwise
+	 * {@code false}.
+	 * @since 2.5.0
+	 */
+	@Option(option = "reuseBuilder", description = "Reuse the builder image when its content is unchanged")
+	public void setReuseBuilder(boolean reuseBuilder) {
+		this.reuseBuilder = reuseBuilder;
+	}
+
 	/**
 	 * Whether verbose logging should be enabled while building the image.
 	 * @return whether verbose logging should be enabled
@@ -433,6 +458,7 @@ public class BootBuildImage extends DefaultTask {
 		request = customizeEnvironment(request);
 		request = customizeCreator(request);
 		request = request.withCleanCache(this.cleanCache);
+		request = request.withReuseBuilder(this.reuseBuilder);
 		request = request.withVerboseLogging(this.verboseLogging);
 		request = customizePullPolicy(request);
 		request = customizePublish(request);
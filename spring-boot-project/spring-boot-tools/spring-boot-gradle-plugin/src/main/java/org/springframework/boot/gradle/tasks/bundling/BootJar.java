@@ -17,11 +17,17 @@
 package org.springframework.boot.gradle.tasks.bundling;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.gradle.api.Action;
+import org.gradle.api.GradleException;
 import org.gradle.api.Project;
 import org.gradle.api.artifacts.ResolvableDependencies;
 import org.gradle.api.file.CopySpec;
@@ -31,10 +37,20 @@ import org.gradle.api.file.FileTreeElement;
 import org.gradle.api.internal.file.copy.CopyAction;
 import org.gradle.api.provider.Property;
 import org.gradle.api.specs.Spec;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFile;
 import org.gradle.api.tasks.Internal;
 import org.gradle.api.tasks.Nested;
+import org.gradle.api.tasks.Optional;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
 import org.gradle.api.tasks.bundling.Jar;
 
+import org.springframework.boot.loader.tools.ClassLoadingOrder;
+import org.springframework.boot.loader.tools.ClassReachabilityAnalyzer;
+import org.springframework.boot.loader.tools.Library;
+import org.springframework.boot.loader.tools.LibraryScope;
+
 /**
  * A custom {@link Jar} task that produces a Spring Boot executable jar.
  *
@@ -68,6 +84,14 @@ public class BootJar extends Jar implements BootArchive {
 
 	private LayeredSpec layered = new LayeredSpec();
 
+	private boolean reportUnusedLibraries;
+
+	private boolean pruneUnusedLibraries;
+
+	private Set<File> prunedLibraries = Collections.emptySet();
+
+	private File classLoadingTrace;
+
 	/**
 	 * Creates a new {@code BootJar} task.
 	 */
@@ -100,7 +124,7 @@ public class BootJar extends Jar implements BootArchive {
 	}
 
 	private Iterable<File> classpathFiles() {
-		return classpathEntries(File::isFile);
+		return classpathEntries((file) -> file.isFile() && !this.prunedLibraries.contains(file));
 	}
 
 	private Iterable<File> classpathEntries(Spec<File> filter) {
@@ -111,9 +135,48 @@ public class BootJar extends Jar implements BootArchive {
 	public void copy() {
 		this.support.configureManifest(getManifest(), getMainClass().get(), CLASSES_DIRECTORY, LIB_DIRECTORY,
 				CLASSPATH_INDEX, (isLayeredDisabled()) ? null : LAYERS_INDEX);
+		this.prunedLibraries = Collections.emptySet();
+		if (this.reportUnusedLibraries || this.pruneUnusedLibraries) {
+			List<File> unusedLibraries = findUnusedLibraries();
+			if (this.pruneUnusedLibraries) {
+				this.prunedLibraries = new HashSet<>(unusedLibraries);
+			}
+		}
 		super.copy();
 	}
 
+	private List<File> findUnusedLibraries() {
+		ClassReachabilityAnalyzer analyzer = new ClassReachabilityAnalyzer();
+		classpathDirectories().forEach(analyzer::addApplicationClasses);
+		for (File file : classpathEntries(File::isFile)) {
+			if (this.support.isZip(file)) {
+				analyzer.addLibrary(new Library(file, LibraryScope.COMPILE));
+			}
+		}
+		try {
+			List<File> unusedLibraries = analyzer.findUnusedLibraries(getMainClass().get()).stream()
+					.map(Library::getFile).collect(Collectors.toList());
+			logUnusedLibraries(unusedLibraries);
+			return unusedLibraries;
+		}
+		catch (IOException ex) {
+			throw new GradleException("Failed to analyze library usage", ex);
+		}
+	}
+
+	private void logUnusedLibraries(List<File> unusedLibraries) {
+		if (unusedLibraries.isEmpty()) {
+			getLogger().lifecycle("No unused libraries found");
+			return;
+		}
+		String action = (this.pruneUnusedLibraries) ? "Pruning" : "Found";
+		String noun = (unusedLibraries.size() != 1) ? "libraries" : "library";
+		getLogger().lifecycle(action + " " + unusedLibraries.size() + " unused " + noun);
+		for (File unusedLibrary : unusedLibraries) {
+			getLogger().lifecycle("  " + unusedLibrary.getName());
+		}
+	}
+
 	private boolean isLayeredDisabled() {
 		return this.layered != null && !this.layered.isEnabled();
 	}
@@ -123,9 +186,21 @@ public class BootJar extends Jar implements BootArchive {
 		if (!isLayeredDisabled()) {
 			LayerResolver layerResolver = new LayerResolver(this.resolvedDependencies, this.layered, this::isLibrary);
 			String layerToolsLocation = this.layered.isIncludeLayerTools() ? LIB_DIRECTORY : null;
-			return this.support.createCopyAction(this, layerResolver, layerToolsLocation);
+			return this.support.createCopyAction(this, layerResolver, layerToolsLocation, getClassLoadingOrder());
+		}
+		return this.support.createCopyAction(this, null, null, getClassLoadingOrder());
+	}
+
+	private ClassLoadingOrder getClassLoadingOrder() {
+		if (this.classLoadingTrace == null) {
+			return null;
+		}
+		try {
+			return ClassLoadingOrder.fromTrace(this.classLoadingTrace);
+		}
+		catch (IOException ex) {
+			throw new GradleException("Failed to read class loading trace " + this.classLoadingTrace, ex);
 		}
-		return this.support.createCopyAction(this);
 	}
 
 	@Override
@@ -180,6 +255,74 @@ public class BootJar extends Jar implements BootArchive {
 		return this.layered;
 	}
 
+	/**
+	 * Returns whether the libraries that are not used by classes reachable from the main
+	 * class, the component scanned packages and the classes listed in
+	 * {@code META-INF/spring.factories} and {@code META-INF/services} files should be
+	 * reported.
+	 * @return whether unused libraries are reported
+	 * @since 2.5.0
+	 */
+	@Input
+	public boolean isReportUnusedLibraries() {
+		return this.reportUnusedLibraries;
+	}
+
+	/**
+	 * Sets whether unused libraries should be reported.
+	 * @param reportUnusedLibraries whether unused libraries are reported
+	 * @since 2.5.0
+	 */
+	public void setReportUnusedLibraries(boolean reportUnusedLibraries) {
+		this.reportUnusedLibraries = reportUnusedLibraries;
+	}
+
+	/**
+	 * Returns whether libraries that are not used by classes reachable from the main class
+	 * should be left out of the jar. Libraries that are only loaded using names that are
+	 * computed at runtime cannot be detected so the report should be checked before
+	 * enabling pruning.
+	 * @return whether unused libraries are pruned
+	 * @since 2.5.0
+	 */
+	@Input
+	public boolean isPruneUnusedLibraries() {
+		return this.pruneUnusedLibraries;
+	}
+
+	/**
+	 * Sets whether unused libraries should be left out of the jar.
+	 * @param pruneUnusedLibraries whether unused libraries are pruned
+	 * @since 2.5.0
+	 */
+	public void setPruneUnusedLibraries(boolean pruneUnusedLibraries) {
+		this.pruneUnusedLibraries = pruneUnusedLibraries;
+	}
+
+	/**
+	 * Returns the trace of the classes loaded during a run of the application, as
+	 * produced by {@code -verbose:class}. When set, application classes and libraries are
+	 * written in the order that they were first loaded so that they can be read
+	 * sequentially during startup.
+	 * @return the class loading trace or {@code null}
+	 * @since 2.5.0
+	 */
+	@Optional
+	@InputFile
+	@PathSensitive(PathSensitivity.NONE)
+	public File getClassLoadingTrace() {
+		return this.classLoadingTrace;
+	}
+
+	/**
+	 * Sets the trace of the classes loaded during a run of the application.
+	 * @param classLoadingTrace the class loading trace
+	 * @since 2.5.0
+	 */
+	public void setClassLoadingTrace(File classLoadingTrace) {
+		this.classLoadingTrace = classLoadingTrace;
+	}
+
 	/**
 	 * Configures the jar to be layered using the default layering.
 	 * @since 2.3.0
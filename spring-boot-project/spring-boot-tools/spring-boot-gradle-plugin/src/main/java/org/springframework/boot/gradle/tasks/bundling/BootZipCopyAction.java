@@ -16,22 +16,33 @@
 
 package org.springframework.boot.gradle.tasks.bundling;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.util.ArrayDeque;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.GregorianCalendar;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 import java.util.zip.ZipEntry;
 
 import org.apache.commons.compress.archivers.zip.UnixStat;
@@ -70,6 +81,10 @@ class BootZipCopyAction implements CopyAction {
 	static final long CONSTANT_TIME_FOR_ZIP_ENTRIES = new GregorianCalendar(1980, Calendar.FEBRUARY, 1, 0, 0, 0)
 			.getTimeInMillis();
 
+	private static final long MAX_BUFFERED_ENTRY_SIZE = 16 * 1024 * 1024;
+
+	private static final long MAX_PENDING_SIZE = 128 * 1024 * 1024;
+
 	private final File output;
 
 	private final Manifest manifest;
@@ -137,17 +152,27 @@ class BootZipCopyAction implements CopyAction {
 	private void writeArchive(CopyActionProcessingStream copyActions, OutputStream output) throws IOException {
 		writeLaunchScriptIfNecessary(output);
 		ZipArchiveOutputStream zipOutput = new ZipArchiveOutputStream(output);
+		ExecutorService executor = createExecutor();
 		try {
 			setEncodingIfNecessary(zipOutput);
-			Processor processor = new Processor(zipOutput);
+			Processor processor = new Processor(zipOutput, executor);
 			copyActions.process(processor::process);
 			processor.finish();
 		}
 		finally {
+			executor.shutdownNow();
 			closeQuietly(zipOutput);
 		}
 	}
 
+	private ExecutorService createExecutor() {
+		return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), (runnable) -> {
+			Thread thread = new Thread(runnable, "boot-zip-copy");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
 	private void writeLaunchScriptIfNecessary(OutputStream outputStream) {
 		if (this.launchScript == null) {
 			return;
@@ -180,11 +205,20 @@ class BootZipCopyAction implements CopyAction {
 
 	/**
 	 * Internal process used to copy {@link FileCopyDetails file details} to the zip file.
+	 * The content of each file is read once on the calling thread and its CRC, size and
+	 * compressed data are then computed on the given executor. Entries are always written
+	 * in the order that they were processed so that the archive remains reproducible.
 	 */
 	private class Processor {
 
 		private final ZipArchiveOutputStream out;
 
+		private final ExecutorService executor;
+
+		private final Deque<PendingEntry> pendingEntries = new ArrayDeque<>();
+
+		private long pendingSize;
+
 		private final LayersIndex layerIndex;
 
 		private LoaderZipEntries.WrittenEntries writtenLoaderEntries;
@@ -193,8 +227,9 @@ class BootZipCopyAction implements CopyAction {
 
 		private final Set<String> writtenLibraries = new LinkedHashSet<>();
 
-		Processor(ZipArchiveOutputStream out) {
+		Processor(ZipArchiveOutputStream out, ExecutorService executor) {
 			this.out = out;
+			this.executor = executor;
 			this.layerIndex = (BootZipCopyAction.this.layerResolver != null)
 					? new LayersIndex(BootZipCopyAction.this.layerResolver.getLayers()) : null;
 		}
@@ -224,10 +259,12 @@ class BootZipCopyAction implements CopyAction {
 
 		private void processDirectory(FileCopyDetails details) throws IOException {
 			String name = details.getRelativePath().getPathString();
+			if (this.writtenDirectories.contains(name)) {
+				return;
+			}
 			ZipArchiveEntry entry = new ZipArchiveEntry(name + '/');
 			prepareEntry(entry, name, getTime(details), UnixStat.FILE_FLAG | details.getMode());
-			this.out.putArchiveEntry(entry);
-			this.out.closeArchiveEntry();
+			addPendingEntry(new PendingEntry(entry, null, 0));
 			this.writtenDirectories.add(name);
 		}
 
@@ -236,12 +273,12 @@ class BootZipCopyAction implements CopyAction {
 			ZipArchiveEntry entry = new ZipArchiveEntry(name);
 			prepareEntry(entry, name, getTime(details), UnixStat.FILE_FLAG | details.getMode());
 			ZipCompression compression = BootZipCopyAction.this.compressionResolver.apply(details);
-			if (compression == ZipCompression.STORED) {
-				prepareStoredEntry(details, entry);
+			if (details.getSize() <= MAX_BUFFERED_ENTRY_SIZE) {
+				processBufferedFile(details, entry, compression);
+			}
+			else {
+				processStreamedFile(details, entry, compression);
 			}
-			this.out.putArchiveEntry(entry);
-			details.copyTo(this.out);
-			this.out.closeArchiveEntry();
 			if (BootZipCopyAction.this.librarySpec.isSatisfiedBy(details)) {
 				this.writtenLibraries.add(name);
 			}
@@ -251,13 +288,92 @@ class BootZipCopyAction implements CopyAction {
 			}
 		}
 
+		private void processBufferedFile(FileCopyDetails details, ZipArchiveEntry entry, ZipCompression compression)
+				throws IOException {
+			ByteArrayOutputStream content = new ByteArrayOutputStream((int) details.getSize());
+			details.copyTo(content);
+			if (compression == ZipCompression.STORED && BootZipCopyAction.this.requiresUnpack.isSatisfiedBy(details)) {
+				entry.setComment("UNPACK:" + FileUtils.sha1Hash(details.getFile()));
+			}
+			byte[] bytes = content.toByteArray();
+			Future<byte[]> rawContent = this.executor.submit(() -> prepareRawContent(entry, bytes, compression));
+			addPendingEntry(new PendingEntry(entry, rawContent, bytes.length));
+		}
+
+		private byte[] prepareRawContent(ZipArchiveEntry entry, byte[] content, ZipCompression compression)
+				throws IOException {
+			CRC32 crc = new CRC32();
+			crc.update(content);
+			entry.setCrc(crc.getValue());
+			entry.setSize(content.length);
+			if (compression == ZipCompression.STORED) {
+				entry.setMethod(ZipEntry.STORED);
+				entry.setCompressedSize(content.length);
+				return content;
+			}
+			byte[] deflated = deflate(content);
+			entry.setMethod(ZipEntry.DEFLATED);
+			entry.setCompressedSize(deflated.length);
+			return deflated;
+		}
+
+		private byte[] deflate(byte[] content) throws IOException {
+			Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+			try {
+				ByteArrayOutputStream deflated = new ByteArrayOutputStream();
+				try (DeflaterOutputStream deflaterOutput = new DeflaterOutputStream(deflated, deflater)) {
+					deflaterOutput.write(content);
+				}
+				return deflated.toByteArray();
+			}
+			finally {
+				deflater.end();
+			}
+		}
+
+		private void processStreamedFile(FileCopyDetails details, ZipArchiveEntry entry, ZipCompression compression)
+				throws IOException {
+			writePendingEntries();
+			if (compression == ZipCompression.STORED) {
+				prepareStoredEntry(details, entry);
+			}
+			this.out.putArchiveEntry(entry);
+			details.copyTo(this.out);
+			this.out.closeArchiveEntry();
+		}
+
+		private void addPendingEntry(PendingEntry pendingEntry) throws IOException {
+			this.pendingEntries.addLast(pendingEntry);
+			this.pendingSize += pendingEntry.size;
+			while (!this.pendingEntries.isEmpty()
+					&& (this.pendingSize > MAX_PENDING_SIZE || this.pendingEntries.peekFirst().isDone())) {
+				writePendingEntry(this.pendingEntries.removeFirst());
+			}
+		}
+
+		private void writePendingEntries() throws IOException {
+			while (!this.pendingEntries.isEmpty()) {
+				writePendingEntry(this.pendingEntries.removeFirst());
+			}
+		}
+
+		private void writePendingEntry(PendingEntry pendingEntry) throws IOException {
+			this.pendingSize -= pendingEntry.size;
+			if (pendingEntry.rawContent == null) {
+				this.out.putArchiveEntry(pendingEntry.entry);
+				this.out.closeArchiveEntry();
+				return;
+			}
+			byte[] rawContent = pendingEntry.getRawContent();
+			this.out.addRawArchiveEntry(pendingEntry.entry, new ByteArrayInputStream(rawContent));
+		}
+
 		private void writeParentDirectoriesIfNecessary(String name, Long time) throws IOException {
 			String parentDirectory = getParentDirectory(name);
 			if (parentDirectory != null && this.writtenDirectories.add(parentDirectory)) {
 				ZipArchiveEntry entry = new ZipArchiveEntry(parentDirectory + '/');
 				prepareEntry(entry, parentDirectory, time, UnixStat.DIR_FLAG | UnixStat.DEFAULT_DIR_PERM);
-				this.out.putArchiveEntry(entry);
-				this.out.closeArchiveEntry();
+				addPendingEntry(new PendingEntry(entry, null, 0));
 			}
 		}
 
@@ -270,6 +386,7 @@ class BootZipCopyAction implements CopyAction {
 		}
 
 		void finish() throws IOException {
+			writePendingEntries();
 			writeLoaderEntriesIfNecessary(null);
 			writeJarToolsIfNecessary();
 			writeClassPathIndexIfNecessary();
@@ -285,6 +402,7 @@ class BootZipCopyAction implements CopyAction {
 				// Always write loader entries after META-INF directory (see gh-16698)
 				return;
 			}
+			writePendingEntries();
 			LoaderZipEntries loaderEntries = new LoaderZipEntries(getTime());
 			this.writtenLoaderEntries = loaderEntries.writeTo(this.out);
 			if (BootZipCopyAction.this.layerResolver != null) {
@@ -351,6 +469,7 @@ class BootZipCopyAction implements CopyAction {
 			ZipArchiveEntry entry = new ZipArchiveEntry(name);
 			prepareEntry(entry, name, getTime(), UnixStat.FILE_FLAG | UnixStat.DEFAULT_FILE_PERM);
 			entryCustomizer.customize(entry);
+			writePendingEntries();
 			this.out.putArchiveEntry(entry);
 			entryWriter.writeTo(this.out);
 			this.out.closeArchiveEntry();
@@ -395,6 +514,46 @@ class BootZipCopyAction implements CopyAction {
 
 	}
 
+	/**
+	 * An entry that is waiting to be written, possibly while its raw content is still being
+	 * prepared.
+	 */
+	private static final class PendingEntry {
+
+		private final ZipArchiveEntry entry;
+
+		private final Future<byte[]> rawContent;
+
+		private final long size;
+
+		PendingEntry(ZipArchiveEntry entry, Future<byte[]> rawContent, long size) {
+			this.entry = entry;
+			this.rawContent = rawContent;
+			this.size = size;
+		}
+
+		boolean isDone() {
+			return this.rawContent == null || this.rawContent.isDone();
+		}
+
+		byte[] getRawContent() throws IOException {
+			try {
+				return this.rawContent.get();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while preparing " + this.entry.getName());
+			}
+			catch (ExecutionException ex) {
+				if (ex.getCause() instanceof IOException) {
+					throw (IOException) ex.getCause();
+				}
+				throw new IllegalStateException("Failed to prepare " + this.entry.getName(), ex.getCause());
+			}
+		}
+
+	}
+
 	/**
 	 * Callback interface used to customize a {@link ZipArchiveEntry}.
 	 */
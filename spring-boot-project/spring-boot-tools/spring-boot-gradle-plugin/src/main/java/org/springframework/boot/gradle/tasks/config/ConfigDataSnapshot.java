@@ -0,0 +1,86 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.gradle.tasks.config;
+
+import java.io.File;
+import java.util.Arrays;
+
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.tasks.InputDirectory;
+import org.gradle.api.tasks.JavaExec;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Custom {@link JavaExec} task for generating binary snapshots of an application's
+ * {@code application.properties} and {@code application.yml} files. At runtime, a config
+ * file is read from its snapshot, rather than parsed, for as long as the snapshot is up
+ * to date. The task's classpath must contain {@code spring-boot} and the libraries that
+ * are needed to parse the config files.
+ *
+ * @author Phillip Webb
+ * @since 2.5.0
+ */
+public class ConfigDataSnapshot extends JavaExec {
+
+	private static final String GENERATOR_CLASS_NAME = "org.springframework.boot.env.PropertySourceSnapshotGenerator";
+
+	private final DirectoryProperty sourceDirectory;
+
+	private final DirectoryProperty destinationDirectory;
+
+	public ConfigDataSnapshot() {
+		this.sourceDirectory = getProject().getObjects().directoryProperty();
+		this.destinationDirectory = getProject().getObjects().directoryProperty();
+		getMainClass().set(GENERATOR_CLASS_NAME);
+	}
+
+	/**
+	 * Returns the directory containing the config files, typically the main source set's
+	 * resources output directory.
+	 * @return the source directory
+	 */
+	@InputDirectory
+	@PathSensitive(PathSensitivity.RELATIVE)
+	public DirectoryProperty getSourceDirectory() {
+		return this.sourceDirectory;
+	}
+
+	/**
+	 * Returns the directory to which the snapshots will be written, at the same relative
+	 * location as their config file.
+	 * @return the destination directory
+	 */
+	@OutputDirectory
+	public DirectoryProperty getDestinationDirectory() {
+		return this.destinationDirectory;
+	}
+
+	@Override
+	public void exec() {
+		File destination = this.destinationDirectory.getAsFile().get();
+		FileSystemUtils.deleteRecursively(destination);
+		destination.mkdirs();
+		setArgs(Arrays.asList(this.sourceDirectory.getAsFile().get().getAbsolutePath(),
+				destination.getAbsolutePath()));
+		super.exec();
+	}
+
+}
@@ -17,7 +17,9 @@
 package org.springframework.boot.gradle.tasks.run;
 
 import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Set;
 
 import org.gradle.api.file.SourceDirectorySet;
@@ -28,6 +30,8 @@ import org.gradle.api.tasks.SourceSet;
 import org.gradle.api.tasks.SourceSetOutput;
 import org.gradle.jvm.toolchain.JavaLauncher;
 
+import org.springframework.boot.loader.tools.LaunchCache;
+
 /**
  * Custom {@link JavaExec} task for running a Spring Boot application.
  *
@@ -38,6 +42,8 @@ public class BootRun extends JavaExec {
 
 	private boolean optimizedLaunch = true;
 
+	private boolean fastLaunch;
+
 	/**
 	 * Returns {@code true} if the JVM's launch should be optimized, otherwise
 	 * {@code false}. Defaults to {@code true}.
@@ -59,6 +65,33 @@ public class BootRun extends JavaExec {
 		this.optimizedLaunch = optimizedLaunch;
 	}
 
+	/**
+	 * Returns {@code true} if files that make subsequent launches faster should be kept
+	 * between runs, otherwise {@code false}. Defaults to {@code false}.
+	 * @return whether fast launch is enabled
+	 * @since 2.5.0
+	 */
+	@Input
+	public boolean isFastLaunch() {
+		return this.fastLaunch;
+	}
+
+	/**
+	 * Sets whether files that make subsequent launches faster should be kept between
+	 * runs. These are a class data sharing archive of the JDK and dependency classes
+	 * that are loaded and an argument file containing the classpath. Both are recreated
+	 * when the dependencies or the java executable change. Directories are moved after
+	 * jars on the classpath unless a directory contains a resource that is also in a jar
+	 * that follows it, in which case the archive is not used. Requires Java 13 or later.
+	 * Defaults to {@code false}.
+	 * @param fastLaunch {@code true} if fast launch should be enabled, otherwise
+	 * {@code false}
+	 * @since 2.5.0
+	 */
+	public void setFastLaunch(boolean fastLaunch) {
+		this.fastLaunch = fastLaunch;
+	}
+
 	/**
 	 * Adds the {@link SourceDirectorySet#getSrcDirs() source directories} of the given
 	 * {@code sourceSet's} {@link SourceSet#getResources() resources} to the start of the
@@ -81,6 +114,9 @@ public class BootRun extends JavaExec {
 			}
 			jvmArgs("-XX:TieredStopAtLevel=1");
 		}
+		if (this.fastLaunch) {
+			configureFastLaunch();
+		}
 		if (System.console() != null) {
 			// Record that the console is available here for AnsiOutput to detect later
 			getEnvironment().put("spring.output.ansi.console-available", true);
@@ -88,6 +124,43 @@ public class BootRun extends JavaExec {
 		super.exec();
 	}
 
+	private void configureFastLaunch() {
+		File directory = new File(getTemporaryDir(), "fast-launch");
+		try {
+			String javaExecutable = getJavaExecutable();
+			if (!LaunchCache.isSupported(directory, javaExecutable)) {
+				getLogger().warn("Fast launch requires Java 13 or later and has been disabled");
+				return;
+			}
+			LaunchCache launchCache = LaunchCache.prepare(directory, javaExecutable,
+					new ArrayList<>(getClasspath().getFiles()));
+			if (launchCache.getShadowingResource() != null) {
+				getLogger().warn("Fast launch is not using a class data sharing archive as '"
+						+ launchCache.getShadowingResource() + "' is in both a directory and a jar on the classpath "
+						+ "and placing the jars first would change which one is used");
+			}
+			setClasspath(getClasspath().filter((file) -> false));
+			jvmArgs(launchCache.getJvmArguments());
+			jvmArgs("@" + launchCache.getArgumentFile().getAbsolutePath());
+		}
+		catch (IOException ex) {
+			getLogger().warn("Fast launch has been disabled as its files could not be prepared", ex);
+		}
+	}
+
+	private String getJavaExecutable() {
+		try {
+			Property<JavaLauncher> javaLauncher = this.getJavaLauncher();
+			if (javaLauncher.isPresent()) {
+				return javaLauncher.get().getExecutablePath().getAsFile().getAbsolutePath();
+			}
+		}
+		catch (NoSuchMethodError ex) {
+			// Continue
+		}
+		return getExecutable();
+	}
+
 	private boolean isJava13OrLater() {
 		try {
 			Property<JavaLauncher> javaLauncher = this.getJavaLauncher();
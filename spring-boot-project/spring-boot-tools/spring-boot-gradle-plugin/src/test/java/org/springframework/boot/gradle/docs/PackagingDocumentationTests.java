@@ -128,6 +128,11 @@ class PackagingDocumentationTests {
 		}
 	}
 
+	@TestTemplate
+	void bootConfigDataSnapshotEvaluatesSuccessfully() {
+		this.gradleBuild.script("src/docs/gradle/packaging/boot-config-data-snapshot").build();
+	}
+
 	@TestTemplate
 	void bootJarIncludeLaunchScript() throws IOException {
 		this.gradleBuild.script("src/docs/gradle/packaging/boot-jar-include-launch-script").build("bootJar");
@@ -22,6 +22,7 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.PosixFilePermission;
@@ -68,6 +69,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.boot.loader.tools.DefaultLaunchScript;
 import org.springframework.boot.loader.tools.JarModeLibrary;
+import org.springframework.util.StreamUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -385,6 +387,30 @@ abstract class AbstractBootArchiveTests<T extends Jar & BootArchive> {
 		assertThat(textFiles).containsExactly("alpha.txt", "bravo.txt", "charlie.txt");
 	}
 
+	@Test
+	void archiveIsReproducibleAndEntriesHaveValidCrcAndSize() throws IOException {
+		this.task.getMainClass().set("com.example.Main");
+		File text = newFile("alpha.txt");
+		Files.write(text.toPath(), "alpha bravo charlie".getBytes(StandardCharsets.UTF_8));
+		this.task.from(text);
+		this.task.classpath(jarFile("one.jar"), jarFile("two.jar"));
+		executeTask();
+		File archive = this.task.getArchiveFile().get().getAsFile();
+		byte[] firstArchive = Files.readAllBytes(archive.toPath());
+		executeTask();
+		assertThat(Files.readAllBytes(archive.toPath())).isEqualTo(firstArchive);
+		Map<String, byte[]> contents = new HashMap<>();
+		try (ZipInputStream zipInputStream = new ZipInputStream(new FileInputStream(archive))) {
+			ZipEntry entry;
+			while ((entry = zipInputStream.getNextEntry()) != null) {
+				contents.put(entry.getName(), StreamUtils.copyToByteArray(zipInputStream));
+			}
+		}
+		assertThat(contents.get("alpha.txt")).isEqualTo("alpha bravo charlie".getBytes(StandardCharsets.UTF_8));
+		byte[] library = Files.readAllBytes(new File(this.temp, "one.jar").toPath());
+		assertThat(contents.get(this.libPath + "one.jar")).isEqualTo(library);
+	}
+
 	@Test
 	void devtoolsJarIsExcludedByDefault() throws IOException {
 		this.task.getMainClass().set("com.example.Main");
@@ -179,6 +179,17 @@ class BootBuildImageTests {
 		assertThat(this.buildImage.createRequest().isCleanCache()).isTrue();
 	}
 
+	@Test
+	void whenUsingDefaultConfigurationThenRequestHasReuseBuilderDisabled() {
+		assertThat(this.buildImage.createRequest().isReuseBuilder()).isFalse();
+	}
+
+	@Test
+	void whenReuseBuilderIsEnabledThenRequestHasReuseBuilderEnabled() {
+		this.buildImage.setReuseBuilder(true);
+		assertThat(this.buildImage.createRequest().isReuseBuilder()).isTrue();
+	}
+
 	@Test
 	void whenUsingDefaultConfigurationThenRequestHasPublishDisabled() {
 		assertThat(this.buildImage.createRequest().isPublish()).isFalse();
@@ -17,8 +17,13 @@
 package org.springframework.boot.gradle.tasks.bundling;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
 import java.util.zip.ZipEntry;
 
 import org.gradle.api.Action;
@@ -103,6 +108,62 @@ class BootJarTests extends AbstractBootArchiveTests<BootJar> {
 		}
 	}
 
+	@Test
+	void unusedLibrariesArePrunedWhenPruningIsEnabled() throws IOException {
+		BootJar bootJar = getTask();
+		bootJar.getMainClass().set("com.example.Application");
+		File classes = new File(this.temp, "classes");
+		File application = new File(classes, "com/example/Application.class");
+		application.getParentFile().mkdirs();
+		try (InputStream inputStream = getClass().getResourceAsStream("BootJarTests.class")) {
+			Files.copy(inputStream, application.toPath());
+		}
+		File unused = new File(this.temp, "unused.jar");
+		try (JarOutputStream jar = new JarOutputStream(new FileOutputStream(unused))) {
+			jar.putNextEntry(new ZipEntry("org/unused/Unused.class"));
+			jar.closeEntry();
+		}
+		File resources = jarFile("resources.jar");
+		bootJar.classpath(classes, unused, resources);
+		bootJar.setPruneUnusedLibraries(true);
+		bootJar.copy();
+		try (JarFile jarFile = new JarFile(bootJar.getArchiveFile().get().getAsFile())) {
+			assertThat(jarFile.getEntry("BOOT-INF/classes/com/example/Application.class")).isNotNull();
+			assertThat(jarFile.getEntry("BOOT-INF/lib/unused.jar")).isNull();
+			assertThat(jarFile.getEntry("BOOT-INF/lib/resources.jar")).isNotNull();
+			assertThat(entryLines(jarFile, "BOOT-INF/classpath.idx"))
+					.containsExactly("- \"BOOT-INF/lib/resources.jar\"");
+		}
+	}
+
+	@Test
+	void entriesAreOrderedByClassLoadingTrace() throws IOException {
+		BootJar bootJar = getTask();
+		bootJar.getMainClass().set("com.example.Application");
+		File classes = new File(this.temp, "classes");
+		for (String name : new String[] { "Application", "Loaded", "Unused" }) {
+			File file = new File(classes, "com/example/" + name + ".class");
+			file.getParentFile().mkdirs();
+			file.createNewFile();
+		}
+		File trace = new File(this.temp, "trace.txt");
+		Files.write(trace.toPath(),
+				Arrays.asList("[Loaded com.example.Loaded from file:/app/classes/]",
+						"[Loaded org.example.Second from /libs/second.jar]",
+						"[Loaded com.example.Application from file:/app/classes/]",
+						"[Loaded org.example.First from /libs/first.jar]"));
+		bootJar.classpath(classes, jarFile("first.jar"), jarFile("second.jar"));
+		bootJar.setClassLoadingTrace(trace);
+		bootJar.copy();
+		try (JarFile jarFile = new JarFile(bootJar.getArchiveFile().get().getAsFile())) {
+			assertThat(getEntryNames(jarFile)).containsSubsequence("BOOT-INF/classes/com/example/Loaded.class",
+					"BOOT-INF/classes/com/example/Application.class", "BOOT-INF/classes/com/example/Unused.class",
+					"BOOT-INF/lib/second.jar", "BOOT-INF/lib/first.jar");
+			assertThat(entryLines(jarFile, "BOOT-INF/classpath.idx"))
+					.containsExactly("- \"BOOT-INF/lib/second.jar\"", "- \"BOOT-INF/lib/first.jar\"");
+		}
+	}
+
 	private File createPopulatedJar() throws IOException {
 		addContent();
 		executeTask();
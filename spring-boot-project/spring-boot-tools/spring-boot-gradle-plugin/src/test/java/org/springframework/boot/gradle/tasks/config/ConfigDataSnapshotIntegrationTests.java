@@ -0,0 +1,117 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.gradle.tasks.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.logging.LogFactory;
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.TaskOutcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestTemplate;
+import org.yaml.snakeyaml.Yaml;
+
+import org.springframework.beans.factory.config.YamlProcessor;
+import org.springframework.boot.env.PropertySourceSnapshotGenerator;
+import org.springframework.boot.gradle.junit.GradleCompatibility;
+import org.springframework.boot.gradle.testkit.GradleBuild;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the {@link ConfigDataSnapshot} task.
+ *
+ * @author Phillip Webb
+ */
+@GradleCompatibility(configurationCache = true)
+class ConfigDataSnapshotIntegrationTests {
+
+	GradleBuild gradleBuild;
+
+	@BeforeEach
+	void writeConfigFiles() throws IOException {
+		write("src/main/resources/application.yml", "example:\n  name: test\n");
+		write("src/main/resources/config/application-dev.properties", "example.name=dev\n");
+		write("src/main/resources/other.yml", "example:\n  name: other\n");
+	}
+
+	@TestTemplate
+	void snapshotsAreGeneratedForApplicationConfigFiles() {
+		assertThat(build("bootConfigDataSnapshot").task(":bootConfigDataSnapshot").getOutcome())
+				.isEqualTo(TaskOutcome.SUCCESS);
+		File destination = new File(this.gradleBuild.getProjectDir(), "build/config-data-snapshot/main");
+		assertThat(new File(destination, "application.yml.snapshot")).isFile();
+		assertThat(new File(destination, "config/application-dev.properties.snapshot")).isFile();
+		assertThat(new File(destination, "other.yml.snapshot")).doesNotExist();
+	}
+
+	@TestTemplate
+	void upToDateWhenExecutedTwiceWithoutChanges() {
+		assertThat(build("bootConfigDataSnapshot").task(":bootConfigDataSnapshot").getOutcome())
+				.isEqualTo(TaskOutcome.SUCCESS);
+		assertThat(build("bootConfigDataSnapshot").task(":bootConfigDataSnapshot").getOutcome())
+				.isEqualTo(TaskOutcome.UP_TO_DATE);
+	}
+
+	@TestTemplate
+	void notUpToDateWhenConfigFileChanges() throws IOException {
+		assertThat(build("bootConfigDataSnapshot").task(":bootConfigDataSnapshot").getOutcome())
+				.isEqualTo(TaskOutcome.SUCCESS);
+		write("src/main/resources/application.yml", "example:\n  name: changed\n");
+		assertThat(build("bootConfigDataSnapshot").task(":bootConfigDataSnapshot").getOutcome())
+				.isEqualTo(TaskOutcome.SUCCESS);
+	}
+
+	@TestTemplate
+	void snapshotsArePackagedNextToTheirConfigFiles() throws IOException {
+		assertThat(build("bootJar").task(":bootConfigDataSnapshot").getOutcome()).isEqualTo(TaskOutcome.SUCCESS);
+		File jar = new File(this.gradleBuild.getProjectDir(),
+				"build/libs/" + this.gradleBuild.getProjectDir().getName() + ".jar");
+		try (JarFile jarFile = new JarFile(jar)) {
+			assertThat(jarFile.getEntry("BOOT-INF/classes/application.yml")).isNotNull();
+			assertThat(jarFile.getEntry("BOOT-INF/classes/application.yml.snapshot")).isNotNull();
+			assertThat(jarFile.getEntry("BOOT-INF/classes/config/application-dev.properties.snapshot")).isNotNull();
+		}
+	}
+
+	private BuildResult build(String task) {
+		String generatorClasspath = Stream
+				.of(PropertySourceSnapshotGenerator.class, SpringFactoriesLoader.class, YamlProcessor.class,
+						Yaml.class, LogFactory.class)
+				.map(this::pathOfJarContaining).map((path) -> "'" + path + "'").collect(Collectors.joining(", "));
+		return this.gradleBuild.scriptProperty("generatorClasspath", generatorClasspath).build(task);
+	}
+
+	private String pathOfJarContaining(Class<?> type) {
+		return new File(type.getProtectionDomain().getCodeSource().getLocation().getPath()).getAbsolutePath()
+				.replace('\\', '/');
+	}
+
+	private void write(String path, String content) throws IOException {
+		File file = new File(this.gradleBuild.getProjectDir(), path);
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
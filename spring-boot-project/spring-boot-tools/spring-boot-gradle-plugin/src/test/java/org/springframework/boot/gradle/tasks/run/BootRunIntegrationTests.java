@@ -28,6 +28,8 @@ import org.gradle.api.JavaVersion;
 import org.gradle.testkit.runner.BuildResult;
 import org.gradle.testkit.runner.TaskOutcome;
 import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 
 import org.springframework.boot.gradle.junit.GradleCompatibility;
 import org.springframework.boot.gradle.testkit.GradleBuild;
@@ -127,6 +129,32 @@ class BootRunIntegrationTests {
 		}
 	}
 
+	@TestTemplate
+	@EnabledForJreRange(min = JRE.JAVA_13)
+	void fastLaunchUsesArgumentFileAndClassDataSharingArchive() throws IOException {
+		copyJvmArgsApplication();
+		BuildResult first = this.gradleBuild.build("bootRun", "--info");
+		assertThat(first.task(":bootRun").getOutcome()).isEqualTo(TaskOutcome.SUCCESS);
+		assertThat(first.getOutput()).contains("-XX:DumpLoadedClassList=")
+				.contains("@" + canonicalPathOf("build/tmp/bootRun/fast-launch/classpath.args"));
+		BuildResult second = this.gradleBuild.build("bootRun", "--info");
+		assertThat(second.task(":bootRun").getOutcome()).isEqualTo(TaskOutcome.SUCCESS);
+		assertThat(second.getOutput()).contains("-XX:SharedArchiveFile=")
+				.contains("@" + canonicalPathOf("build/tmp/bootRun/fast-launch/classpath.args"));
+		assertThat(new File(this.gradleBuild.getProjectDir(), "build/tmp/bootRun/fast-launch/classpath.jsa"))
+				.isFile();
+	}
+
+	@TestTemplate
+	@EnabledForJreRange(max = JRE.JAVA_12)
+	void fastLaunchWhenJavaIsOlderThan13IsDisabledWithWarning() throws IOException {
+		copyJvmArgsApplication();
+		BuildResult result = this.gradleBuild.build("bootRun");
+		assertThat(result.task(":bootRun").getOutcome()).isEqualTo(TaskOutcome.SUCCESS);
+		assertThat(result.getOutput()).contains("Fast launch requires Java 13 or later and has been disabled")
+				.doesNotContain("-XX:DumpLoadedClassList=");
+	}
+
 	@TestTemplate
 	void jarTypeFilteringIsAppliedToTheClasspath() throws IOException {
 		copyClasspathApplication();
@@ -22,8 +22,13 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -64,18 +69,12 @@ class ExtractCommand extends Command {
 					mkDirs(new File(destination, layer));
 				}
 			}
-			try (ZipInputStream zip = new ZipInputStream(new FileInputStream(this.context.getArchiveFile()))) {
-				ZipEntry entry = zip.getNextEntry();
-				Assert.state(entry != null, "File '" + this.context.getArchiveFile().toString()
-						+ "' is not compatible with layertools; ensure jar file is valid and launch script is not enabled");
-				while (entry != null) {
-					if (!entry.isDirectory()) {
-						String layer = this.layers.getLayer(entry);
-						if (parameters.isEmpty() || parameters.contains(layer)) {
-							write(zip, entry, new File(destination, layer));
-						}
-					}
-					entry = zip.getNextEntry();
+			try (ZipArchive archive = ZipArchive.open(this.context.getArchiveFile())) {
+				if (archive != null) {
+					extract(archive, destination, parameters);
+				}
+				else {
+					extract(destination, parameters);
 				}
 			}
 		}
@@ -84,19 +83,90 @@ class ExtractCommand extends Command {
 		}
 	}
 
+	private void extract(ZipArchive archive, File destination, List<String> parameters) throws IOException {
+		ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+				(runnable) -> {
+					Thread thread = new Thread(runnable, "layertools-extract");
+					thread.setDaemon(true);
+					return thread;
+				});
+		try {
+			List<Future<Void>> extractions = new ArrayList<>();
+			for (ZipArchive.Entry entry : archive.getEntries()) {
+				if (!entry.isDirectory()) {
+					String layer = this.layers.getLayer(new ZipEntry(entry.getName()));
+					if (parameters.isEmpty() || parameters.contains(layer)) {
+						File file = getFile(entry.getName(), new File(destination, layer));
+						extractions.add(executor.submit(() -> {
+							archive.extract(entry, file.toPath());
+							return null;
+						}));
+					}
+				}
+			}
+			for (Future<Void> extraction : extractions) {
+				waitFor(extraction);
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void waitFor(Future<Void> extraction) throws IOException {
+		try {
+			extraction.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(ex);
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof IOException) {
+				throw (IOException) ex.getCause();
+			}
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+			throw new IllegalStateException(ex.getCause());
+		}
+	}
+
+	private void extract(File destination, List<String> parameters) throws IOException {
+		try (ZipInputStream zip = new ZipInputStream(new FileInputStream(this.context.getArchiveFile()))) {
+			ZipEntry entry = zip.getNextEntry();
+			Assert.state(entry != null, "File '" + this.context.getArchiveFile().toString()
+					+ "' is not compatible with layertools; ensure jar file is valid and launch script is not enabled");
+			while (entry != null) {
+				if (!entry.isDirectory()) {
+					String layer = this.layers.getLayer(entry);
+					if (parameters.isEmpty() || parameters.contains(layer)) {
+						write(zip, entry, new File(destination, layer));
+					}
+				}
+				entry = zip.getNextEntry();
+			}
+		}
+	}
+
 	private void write(ZipInputStream zip, ZipEntry entry, File destination) throws IOException {
+		File file = getFile(entry.getName(), destination);
+		try (OutputStream out = new FileOutputStream(file)) {
+			StreamUtils.copy(zip, out);
+		}
+		Files.setAttribute(file.toPath(), "creationTime", entry.getCreationTime());
+	}
+
+	private File getFile(String name, File destination) throws IOException {
 		String canonicalOutputPath = destination.getCanonicalPath() + File.separator;
-		File file = new File(destination, entry.getName());
+		File file = new File(destination, name);
 		String canonicalEntryPath = file.getCanonicalPath();
 		Assert.state(canonicalEntryPath.startsWith(canonicalOutputPath),
-				() -> "Entry '" + entry.getName() + "' would be written to '" + canonicalEntryPath
+				() -> "Entry '" + name + "' would be written to '" + canonicalEntryPath
 						+ "'. This is outside the output location of '" + canonicalOutputPath
 						+ "'. Verify the contents of your archive.");
 		mkParentDirs(file);
-		try (OutputStream out = new FileOutputStream(file)) {
-			StreamUtils.copy(zip, out);
-		}
-		Files.setAttribute(file.toPath(), "creationTime", entry.getCreationTime());
+		return file;
 	}
 
 	private void mkParentDirs(File file) throws IOException {
@@ -0,0 +1,399 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.jarmode.layertools;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipEntry;
+
+import org.springframework.util.StreamUtils;
+
+/**
+ * Provides random access to the entries of a zip archive using its central directory.
+ * Entries can be extracted concurrently, with stored entries being transferred directly
+ * between file channels.
+ *
+ * @author Phillip Webb
+ */
+final class ZipArchive implements Closeable {
+
+	private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+
+	private static final int CENTRAL_DIRECTORY_SIGNATURE = 0x02014b50;
+
+	private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+
+	private static final int LOCAL_HEADER_SIZE = 30;
+
+	private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+
+	private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+
+	private static final int MAX_COMMENT_SIZE = 0xFFFF;
+
+	private static final int EXTENDED_TIMESTAMP_ID = 0x5455;
+
+	private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+
+	private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+	private final FileChannel channel;
+
+	private final List<Entry> entries;
+
+	private ZipArchive(FileChannel channel, List<Entry> entries) {
+		this.channel = channel;
+		this.entries = entries;
+	}
+
+	/**
+	 * Return the entries of the archive in central directory order.
+	 * @return the entries
+	 */
+	List<Entry> getEntries() {
+		return this.entries;
+	}
+
+	/**
+	 * Extract the given entry to a file. This method may be called concurrently.
+	 * @param entry the entry to extract
+	 * @param file the destination file
+	 * @throws IOException on IO error
+	 */
+	void extract(Entry entry, Path file) throws IOException {
+		ByteBuffer header = read(entry.localHeaderOffset, LOCAL_HEADER_SIZE);
+		if (header.getInt(0) != LOCAL_HEADER_SIGNATURE) {
+			throw new IOException("Invalid local header for entry '" + entry.getName() + "'");
+		}
+		int nameLength = getUnsignedShort(header, 26);
+		int extraLength = getUnsignedShort(header, 28);
+		long dataOffset = entry.localHeaderOffset + LOCAL_HEADER_SIZE + nameLength + extraLength;
+		try (FileChannel destination = FileChannel.open(file, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			if (entry.method == ZipEntry.STORED) {
+				transfer(dataOffset, entry.compressedSize, destination);
+			}
+			else {
+				inflate(dataOffset, entry.compressedSize, destination);
+			}
+		}
+		FileTime creationTime = getCreationTime(read(entry.localHeaderOffset + LOCAL_HEADER_SIZE + nameLength,
+				extraLength));
+		if (creationTime != null) {
+			Files.setAttribute(file, "creationTime", creationTime);
+		}
+	}
+
+	private void transfer(long position, long length, FileChannel destination) throws IOException {
+		long transferred = 0;
+		while (transferred < length) {
+			long count = this.channel.transferTo(position + transferred, length - transferred, destination);
+			if (count <= 0) {
+				throw new EOFException("Unexpected end of archive");
+			}
+			transferred += count;
+		}
+	}
+
+	private void inflate(long position, long length, FileChannel destination) throws IOException {
+		try (InputStream inputStream = new EntryInflaterInputStream(new EntryInputStream(position, length))) {
+			StreamUtils.copy(inputStream, new ChannelOutputStream(destination));
+		}
+	}
+
+	private FileTime getCreationTime(ByteBuffer extra) {
+		int position = 0;
+		while (position + 4 <= extra.limit()) {
+			int id = getUnsignedShort(extra, position);
+			int size = getUnsignedShort(extra, position + 2);
+			int data = position + 4;
+			if (data + size > extra.limit()) {
+				return null;
+			}
+			if (id == EXTENDED_TIMESTAMP_ID && size > 0) {
+				byte flags = extra.get(data);
+				int offset = data + 1 + (((flags & 0x1) != 0) ? 4 : 0) + (((flags & 0x2) != 0) ? 4 : 0);
+				if ((flags & 0x4) != 0 && offset + 4 <= data + size) {
+					return FileTime.from(extra.getInt(offset), TimeUnit.SECONDS);
+				}
+			}
+			position = data + size;
+		}
+		return null;
+	}
+
+	private ByteBuffer read(long position, int length) throws IOException {
+		return read(this.channel, position, length);
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.channel.close();
+	}
+
+	/**
+	 * Open the given file as a {@link ZipArchive}.
+	 * @param file the file to open
+	 * @return the archive or {@code null} if the file does not have a central directory
+	 * that can be used for random access (for example, because it has a launch script or
+	 * uses zip64 extensions)
+	 * @throws IOException on IO error
+	 */
+	static ZipArchive open(File file) throws IOException {
+		FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+		boolean opened = false;
+		try {
+			List<Entry> entries = readEntries(channel);
+			if (entries == null) {
+				return null;
+			}
+			opened = true;
+			return new ZipArchive(channel, Collections.unmodifiableList(entries));
+		}
+		finally {
+			if (!opened) {
+				channel.close();
+			}
+		}
+	}
+
+	private static List<Entry> readEntries(FileChannel channel) throws IOException {
+		if (channel.size() < LOCAL_HEADER_SIZE || read(channel, 0, 4).getInt(0) != LOCAL_HEADER_SIGNATURE) {
+			return null;
+		}
+		ByteBuffer end = findEndOfCentralDirectory(channel);
+		if (end == null) {
+			return null;
+		}
+		int count = getUnsignedShort(end, 10);
+		long size = getUnsignedInt(end, 12);
+		long offset = getUnsignedInt(end, 16);
+		if (count == ZIP64_MAGIC_COUNT || size == ZIP64_MAGIC || offset == ZIP64_MAGIC
+				|| offset + size > channel.size()) {
+			return null;
+		}
+		ByteBuffer directory = read(channel, offset, (int) size);
+		List<Entry> entries = new ArrayList<>(count);
+		int position = 0;
+		for (int i = 0; i < count; i++) {
+			if (position + CENTRAL_DIRECTORY_HEADER_SIZE > size
+					|| directory.getInt(position) != CENTRAL_DIRECTORY_SIGNATURE) {
+				return null;
+			}
+			int method = getUnsignedShort(directory, position + 10);
+			long compressedSize = getUnsignedInt(directory, position + 20);
+			long localHeaderOffset = getUnsignedInt(directory, position + 42);
+			int nameLength = getUnsignedShort(directory, position + 28);
+			int extraLength = getUnsignedShort(directory, position + 30);
+			int commentLength = getUnsignedShort(directory, position + 32);
+			if ((method != ZipEntry.STORED && method != ZipEntry.DEFLATED) || compressedSize == ZIP64_MAGIC
+					|| localHeaderOffset == ZIP64_MAGIC) {
+				return null;
+			}
+			byte[] name = new byte[nameLength];
+			directory.position(position + CENTRAL_DIRECTORY_HEADER_SIZE);
+			directory.get(name);
+			entries.add(new Entry(new String(name, StandardCharsets.UTF_8), method, compressedSize,
+					localHeaderOffset));
+			position += CENTRAL_DIRECTORY_HEADER_SIZE + nameLength + extraLength + commentLength;
+		}
+		return entries;
+	}
+
+	private static ByteBuffer findEndOfCentralDirectory(FileChannel channel) throws IOException {
+		long fileSize = channel.size();
+		int length = (int) Math.min(fileSize, END_OF_CENTRAL_DIRECTORY_SIZE + MAX_COMMENT_SIZE);
+		ByteBuffer buffer = read(channel, fileSize - length, length);
+		for (int position = length - END_OF_CENTRAL_DIRECTORY_SIZE; position >= 0; position--) {
+			if (buffer.getInt(position) == END_OF_CENTRAL_DIRECTORY_SIGNATURE
+					&& position + END_OF_CENTRAL_DIRECTORY_SIZE + getUnsignedShort(buffer, position + 20) == length) {
+				buffer.position(position);
+				return buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+			}
+		}
+		return null;
+	}
+
+	private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) == -1) {
+				throw new EOFException("Unexpected end of archive");
+			}
+		}
+		buffer.clear();
+		return buffer;
+	}
+
+	private static int getUnsignedShort(ByteBuffer buffer, int index) {
+		return buffer.getShort(index) & 0xFFFF;
+	}
+
+	private static long getUnsignedInt(ByteBuffer buffer, int index) {
+		return buffer.getInt(index) & 0xFFFFFFFFL;
+	}
+
+	/**
+	 * A file entry in the archive.
+	 */
+	static final class Entry {
+
+		private final String name;
+
+		private final int method;
+
+		private final long compressedSize;
+
+		private final long localHeaderOffset;
+
+		private Entry(String name, int method, long compressedSize, long localHeaderOffset) {
+			this.name = name;
+			this.method = method;
+			this.compressedSize = compressedSize;
+			this.localHeaderOffset = localHeaderOffset;
+		}
+
+		String getName() {
+			return this.name;
+		}
+
+		boolean isDirectory() {
+			return this.name.endsWith("/");
+		}
+
+	}
+
+	/**
+	 * {@link InputStream} that reads a range of the archive using positional reads so
+	 * that several entries can be read at the same time.
+	 */
+	private class EntryInputStream extends InputStream {
+
+		private long position;
+
+		private long remaining;
+
+		EntryInputStream(long position, long remaining) {
+			this.position = position;
+			this.remaining = remaining;
+		}
+
+		@Override
+		public int read() throws IOException {
+			byte[] b = new byte[1];
+			return (read(b, 0, 1) != -1) ? b[0] & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (this.remaining <= 0) {
+				return -1;
+			}
+			ByteBuffer buffer = ByteBuffer.wrap(b, off, (int) Math.min(len, this.remaining));
+			int count = ZipArchive.this.channel.read(buffer, this.position);
+			if (count == -1) {
+				throw new EOFException("Unexpected end of archive");
+			}
+			this.position += count;
+			this.remaining -= count;
+			return count;
+		}
+
+	}
+
+	/**
+	 * {@link InflaterInputStream} for deflated entry data that releases its
+	 * {@link Inflater} when closed.
+	 */
+	private static class EntryInflaterInputStream extends InflaterInputStream {
+
+		private boolean extraBytesWritten;
+
+		EntryInflaterInputStream(InputStream inputStream) {
+			super(inputStream, new Inflater(true), 8192);
+		}
+
+		@Override
+		protected void fill() throws IOException {
+			try {
+				super.fill();
+			}
+			catch (EOFException ex) {
+				if (this.extraBytesWritten) {
+					throw ex;
+				}
+				// Raw inflation may need an additional dummy byte at the end of the data
+				this.len = 1;
+				this.buf[0] = 0x0;
+				this.extraBytesWritten = true;
+				this.inf.setInput(this.buf, 0, this.len);
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			super.close();
+			this.inf.end();
+		}
+
+	}
+
+	/**
+	 * {@link OutputStream} that writes to a {@link FileChannel}.
+	 */
+	private static class ChannelOutputStream extends OutputStream {
+
+		private final FileChannel channel;
+
+		ChannelOutputStream(FileChannel channel) {
+			this.channel = channel;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+			while (buffer.hasRemaining()) {
+				this.channel.write(buffer);
+			}
+		}
+
+	}
+
+}
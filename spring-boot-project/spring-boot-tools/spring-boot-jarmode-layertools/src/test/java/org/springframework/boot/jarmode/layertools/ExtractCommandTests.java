@@ -26,6 +26,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.function.Consumer;
 import java.util.jar.JarEntry;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -110,6 +111,50 @@ class ExtractCommandTests {
 		assertThat(new File(this.extract.getParentFile(), "e.jar")).doesNotExist();
 	}
 
+	@Test
+	void runExtractsStoredAndDeflatedEntryContent() throws Exception {
+		byte[] stored = "stored".getBytes();
+		byte[] deflated = "deflated".getBytes();
+		this.jarFile = createJarFile("test.jar", (out) -> {
+			try {
+				ZipEntry storedEntry = new ZipEntry("a/stored.jar");
+				storedEntry.setMethod(ZipEntry.STORED);
+				storedEntry.setSize(stored.length);
+				CRC32 crc = new CRC32();
+				crc.update(stored);
+				storedEntry.setCrc(crc.getValue());
+				out.putNextEntry(storedEntry);
+				out.write(stored);
+				out.closeEntry();
+				out.putNextEntry(new ZipEntry("b/deflated.txt"));
+				out.write(deflated);
+				out.closeEntry();
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException(ex);
+			}
+		});
+		given(this.context.getArchiveFile()).willReturn(this.jarFile);
+		given(this.context.getWorkingDir()).willReturn(this.extract);
+		this.command.run(Collections.emptyMap(), Collections.emptyList());
+		assertThat(new File(this.extract, "a/a/stored.jar")).hasBinaryContent(stored);
+		assertThat(new File(this.extract, "b/b/deflated.txt")).hasBinaryContent(deflated);
+	}
+
+	@Test
+	void runWithJarFileContainingLaunchScriptFails() throws Exception {
+		File file = new File(this.temp, "executable.jar");
+		try (FileOutputStream out = new FileOutputStream(file)) {
+			out.write("#!/bin/bash\n".getBytes());
+			out.write(FileCopyUtils.copyToByteArray(this.jarFile));
+		}
+		given(this.context.getArchiveFile()).willReturn(file);
+		given(this.context.getWorkingDir()).willReturn(this.extract);
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.command.run(Collections.emptyMap(), Collections.emptyList()))
+				.withMessageContaining("not compatible with layertools");
+	}
+
 	@Test
 	void runWithJarFileContainingNoEntriesFails() throws IOException {
 		File file = new File(this.temp, "empty.jar");
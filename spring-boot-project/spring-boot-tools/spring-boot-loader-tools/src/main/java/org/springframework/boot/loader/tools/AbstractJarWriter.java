@@ -27,8 +27,9 @@ import java.io.OutputStreamWriter;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
-import java.util.Enumeration;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.jar.JarEntry;
@@ -91,14 +92,17 @@ public abstract class AbstractJarWriter implements LoaderClassesWriter {
 	 * @throws IOException if the entries cannot be written
 	 */
 	public void writeEntries(JarFile jarFile) throws IOException {
-		writeEntries(jarFile, EntryTransformer.NONE, UnpackHandler.NEVER, (name) -> false);
+		writeEntries(jarFile, EntryTransformer.NONE, UnpackHandler.NEVER, (name) -> false, null);
 	}
 
 	final void writeEntries(JarFile jarFile, EntryTransformer entryTransformer, UnpackHandler unpackHandler,
-			Predicate<String> libraryPredicate) throws IOException {
-		Enumeration<JarEntry> entries = jarFile.entries();
-		while (entries.hasMoreElements()) {
-			JarArchiveEntry entry = new JarArchiveEntry(entries.nextElement());
+			Predicate<String> libraryPredicate, ClassLoadingOrder classLoadingOrder) throws IOException {
+		List<JarEntry> entries = Collections.list(jarFile.entries());
+		if (classLoadingOrder != null) {
+			classLoadingOrder.sort(entries, (entry) -> classLoadingOrder.getClassEntryPosition(entry.getName()));
+		}
+		for (JarEntry jarEntry : entries) {
+			JarArchiveEntry entry = new JarArchiveEntry(jarEntry);
 			setUpEntry(jarFile, entry);
 			try (ZipHeaderPeekInputStream inputStream = new ZipHeaderPeekInputStream(jarFile.getInputStream(entry))) {
 				EntryWriter entryWriter = new InputStreamEntryWriter(inputStream);
@@ -165,6 +169,51 @@ public abstract class AbstractJarWriter implements LoaderClassesWriter {
 		}
 	}
 
+	/**
+	 * Write a nested library, recording its SHA-1 digest in the comment of the entry so
+	 * that a later incremental repackaging can tell whether the library has changed.
+	 * @param location the destination of the library
+	 * @param library the library
+	 * @param sha1 the SHA-1 digest of the library
+	 * @throws IOException if the write fails
+	 */
+	void writeNestedLibrary(String location, Library library, String sha1) throws IOException {
+		JarArchiveEntry entry = new JarArchiveEntry(location + library.getName());
+		entry.setTime(getNestedLibraryTime(library));
+		new CrcAndSize(library::openStream).setupStoredEntry(entry);
+		entry.setComment((library.isUnpackRequired() ? "UNPACK:" : "SHA1:") + sha1);
+		try (InputStream inputStream = library.openStream()) {
+			writeEntry(entry, new InputStreamEntryWriter(inputStream), UnpackHandler.NEVER, false);
+			updateLayerIndex(entry.getName(), library);
+		}
+	}
+
+	/**
+	 * Write a nested library by copying the unchanged entry from a previously packaged
+	 * archive. The previous entry has already been matched to the library by its SHA-1
+	 * digest, so its time, CRC, size and comment are reused rather than being calculated
+	 * again and its content is copied in place of the content of the library.
+	 * @param location the destination of the library
+	 * @param library the library
+	 * @param previousEntry the previous stored entry for the library
+	 * @param previousContent the content of the previous entry
+	 * @throws IOException if the write fails
+	 */
+	void writeNestedLibrary(String location, Library library, ZipEntry previousEntry,
+			InputStreamSupplier previousContent) throws IOException {
+		JarArchiveEntry entry = new JarArchiveEntry(location + library.getName());
+		entry.setTime(previousEntry.getTime());
+		entry.setMethod(ZipEntry.STORED);
+		entry.setSize(previousEntry.getSize());
+		entry.setCompressedSize(previousEntry.getSize());
+		entry.setCrc(previousEntry.getCrc());
+		entry.setComment(previousEntry.getComment());
+		try (InputStream inputStream = previousContent.openStream()) {
+			writeEntry(entry, new InputStreamEntryWriter(inputStream), UnpackHandler.NEVER, false);
+			updateLayerIndex(entry.getName(), library);
+		}
+	}
+
 	private void updateLayerIndex(String name, Library library) {
 		if (this.layers != null) {
 			Layer layer = this.layers.getLayer(library);
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.util.Assert;
+
+/**
+ * The order in which classes were loaded during a recorded run of an application. Used to
+ * lay out archive entries so that the classes and libraries needed during startup can be
+ * read sequentially. A trace can be recorded using {@code -verbose:class} (or
+ * {@code -Xlog:class+load} on Java 9 and later) or can be a plain list containing one
+ * class name per line, such as the output of {@code -XX:DumpLoadedClassList}. Libraries
+ * can only be ordered when the trace includes the source of each class.
+ *
+ * @author Phillip Webb
+ * @since 2.5.0
+ */
+public final class ClassLoadingOrder {
+
+	/**
+	 * The position of entries that can be ordered but that were not loaded.
+	 */
+	public static final int NOT_LOADED = Integer.MAX_VALUE;
+
+	private static final Pattern LOADED_PATTERN = Pattern.compile("^\\[Loaded (\\S+) from (.+)\\]$");
+
+	private static final Pattern CLASS_LOAD_PATTERN = Pattern
+			.compile("^(?:\\[[^\\]]*\\])*\\s*(\\S+) source: (.+)$");
+
+	private static final Pattern CLASS_NAME_PATTERN = Pattern
+			.compile("^(?:[\\p{L}_$][\\p{L}\\p{N}_$]*[./])*[\\p{L}_$][\\p{L}\\p{N}_$]*$");
+
+	private static final String CLASS_EXTENSION = ".class";
+
+	private static final String JAR_EXTENSION = ".jar";
+
+	private final Map<String, Integer> classPositions = new HashMap<>();
+
+	private final Map<String, Integer> libraryPositions = new HashMap<>();
+
+	private ClassLoadingOrder() {
+	}
+
+	/**
+	 * Return the position at which the class stored in the given entry was loaded.
+	 * @param entryName the name of the entry relative to the root of the classes, for
+	 * example {@code com/example/Application.class}
+	 * @return the load position, {@link #NOT_LOADED} if the class was not loaded or
+	 * {@code -1} if the entry is not a class
+	 */
+	public int getClassEntryPosition(String entryName) {
+		if (!entryName.endsWith(CLASS_EXTENSION) || entryName.startsWith("META-INF/")
+				|| entryName.equals("module-info.class")) {
+			return -1;
+		}
+		String className = entryName.substring(0, entryName.length() - CLASS_EXTENSION.length()).replace('/', '.');
+		return this.classPositions.getOrDefault(className, NOT_LOADED);
+	}
+
+	/**
+	 * Return the position at which the first class was loaded from the library with the
+	 * given name.
+	 * @param libraryName the file name of the library
+	 * @return the load position or {@link #NOT_LOADED} if no class was loaded from the
+	 * library
+	 */
+	public int getLibraryPosition(String libraryName) {
+		return this.libraryPositions.getOrDefault(libraryName, NOT_LOADED);
+	}
+
+	/**
+	 * Sort the given items by load position. Items with a negative position keep their
+	 * place in the list and the remaining items are sorted amongst themselves, with items
+	 * that share a position keeping their relative order.
+	 * @param <T> the item type
+	 * @param items the items to sort
+	 * @param positionFunction function used to obtain the position of an item
+	 */
+	public <T> void sort(List<T> items, ToIntFunction<? super T> positionFunction) {
+		List<Integer> slots = new ArrayList<>();
+		List<T> sorted = new ArrayList<>();
+		for (int i = 0; i < items.size(); i++) {
+			T item = items.get(i);
+			if (positionFunction.applyAsInt(item) >= 0) {
+				slots.add(i);
+				sorted.add(item);
+			}
+		}
+		sorted.sort(Comparator.comparingInt(positionFunction));
+		for (int i = 0; i < slots.size(); i++) {
+			items.set(slots.get(i), sorted.get(i));
+		}
+	}
+
+	private void add(String className, String source) {
+		int position = this.classPositions.size();
+		if (this.classPositions.putIfAbsent(className, position) == null && source != null) {
+			String libraryName = getLibraryName(source.trim());
+			if (libraryName != null) {
+				this.libraryPositions.putIfAbsent(libraryName, position);
+			}
+		}
+	}
+
+	private String getLibraryName(String source) {
+		String location = source;
+		if (location.endsWith("!/")) {
+			location = location.substring(0, location.length() - 2);
+		}
+		if (!location.endsWith(JAR_EXTENSION)) {
+			return null;
+		}
+		int lastSeparator = Math.max(location.lastIndexOf('/'), location.lastIndexOf('\\'));
+		return location.substring(lastSeparator + 1);
+	}
+
+	private void addLine(String line) {
+		Matcher matcher = LOADED_PATTERN.matcher(line);
+		if (!matcher.matches()) {
+			matcher = CLASS_LOAD_PATTERN.matcher(line);
+		}
+		if (matcher.matches()) {
+			String className = matcher.group(1);
+			if (className.indexOf('/') == -1) {
+				add(className, matcher.group(2));
+			}
+			return;
+		}
+		String trimmed = line.trim();
+		int end = trimmed.indexOf(" id:");
+		String className = (end != -1) ? trimmed.substring(0, end) : trimmed;
+		if (CLASS_NAME_PATTERN.matcher(className).matches()) {
+			add(className.replace('/', '.'), null);
+		}
+	}
+
+	/**
+	 * Create a new {@link ClassLoadingOrder} from the given trace file.
+	 * @param trace the trace file
+	 * @return the class loading order
+	 * @throws IOException if the trace cannot be read
+	 */
+	public static ClassLoadingOrder fromTrace(File trace) throws IOException {
+		Assert.notNull(trace, "Trace must not be null");
+		Assert.isTrue(trace.isFile(), () -> "Trace '" + trace + "' must be an existing file");
+		try (Reader reader = new InputStreamReader(new FileInputStream(trace), StandardCharsets.UTF_8)) {
+			return fromTrace(reader);
+		}
+	}
+
+	/**
+	 * Create a new {@link ClassLoadingOrder} from the given trace content.
+	 * @param trace a reader for the trace content
+	 * @return the class loading order
+	 * @throws IOException if the trace cannot be read
+	 */
+	public static ClassLoadingOrder fromTrace(Reader trace) throws IOException {
+		Assert.notNull(trace, "Trace must not be null");
+		ClassLoadingOrder order = new ClassLoadingOrder();
+		BufferedReader reader = new BufferedReader(trace);
+		String line;
+		while ((line = reader.readLine()) != null) {
+			order.addLine(line);
+		}
+		return order;
+	}
+
+}
@@ -0,0 +1,453 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Finds the libraries of an application that are not used by analyzing the classes that
+ * are reachable from its main class. Analysis starts from the main class, the classes in
+ * the packages that are component scanned and the classes that are listed in
+ * {@code META-INF/spring.factories} and {@code META-INF/services} files. A class is
+ * considered to reference another class if its name appears in the class's constant
+ * pool, either as a type or as a string, so analysis errs on the side of finding a
+ * library to be used. Libraries that are only loaded using names that are computed at
+ * runtime cannot be detected.
+ *
+ * @author Phillip Webb
+ * @since 2.5.0
+ */
+public class ClassReachabilityAnalyzer {
+
+	private static final String CLASS_EXTENSION = ".class";
+
+	private static final String SPRING_FACTORIES = "META-INF/spring.factories";
+
+	private static final String SERVICES = "META-INF/services/";
+
+	private static final Set<String> COMPONENT_SCAN_ANNOTATIONS = Collections.unmodifiableSet(
+			new HashSet<>(Arrays.asList("Lorg/springframework/context/annotation/ComponentScan;",
+					"Lorg/springframework/boot/autoconfigure/SpringBootApplication;")));
+
+	private static final Pattern TYPE_DESCRIPTOR = Pattern.compile("L([^;<>:]+)[;<]");
+
+	private final List<ApplicationClasses> applicationClasses = new ArrayList<>();
+
+	private final List<Library> libraries = new ArrayList<>();
+
+	/**
+	 * Add a directory or jar file containing application classes.
+	 * @param root the directory or jar file
+	 */
+	public void addApplicationClasses(File root) {
+		addApplicationClasses(root, "");
+	}
+
+	/**
+	 * Add application classes contained in a jar file.
+	 * @param jarFile the jar file
+	 * @param classesLocation the location of the classes within the jar file
+	 */
+	public void addApplicationClasses(File jarFile, String classesLocation) {
+		Assert.notNull(jarFile, "JarFile must not be null");
+		Assert.notNull(classesLocation, "ClassesLocation must not be null");
+		this.applicationClasses.add(new ApplicationClasses(jarFile, classesLocation));
+	}
+
+	/**
+	 * Add a library that should be analyzed. Libraries without a file are always
+	 * considered to be used.
+	 * @param library the library to add
+	 */
+	public void addLibrary(Library library) {
+		Assert.notNull(library, "Library must not be null");
+		this.libraries.add(library);
+	}
+
+	/**
+	 * Find the libraries that are not used by classes reachable from the given main
+	 * class.
+	 * @param mainClass the name of the main class
+	 * @return the unused libraries
+	 * @throws IOException on IO error
+	 */
+	public List<Library> findUnusedLibraries(String mainClass) throws IOException {
+		Assert.hasText(mainClass, "MainClass must not be empty");
+		try (ClassIndex index = new ClassIndex()) {
+			for (ApplicationClasses classes : this.applicationClasses) {
+				index.addApplicationClasses(classes);
+			}
+			for (Library library : this.libraries) {
+				index.addLibrary(library);
+			}
+			Set<Library> used = index.findUsedLibraries(toInternalName(mainClass));
+			return this.libraries.stream().filter((library) -> index.hasClasses(library) && !used.contains(library))
+					.collect(Collectors.toList());
+		}
+	}
+
+	private static String toInternalName(String className) {
+		return className.replace('.', '/');
+	}
+
+	/**
+	 * A source of application classes.
+	 */
+	private static final class ApplicationClasses {
+
+		private final File root;
+
+		private final String classesLocation;
+
+		private ApplicationClasses(File root, String classesLocation) {
+			this.root = root;
+			this.classesLocation = classesLocation;
+		}
+
+	}
+
+	/**
+	 * Index of the classes and provider files that are available to the application.
+	 */
+	private static final class ClassIndex implements Closeable {
+
+		private final Map<String, ClassLocation> classes = new HashMap<>();
+
+		private final Set<String> applicationClasses = new LinkedHashSet<>();
+
+		private final Map<String, Set<String>> providers = new LinkedHashMap<>();
+
+		private final Set<Library> librariesWithClasses = new HashSet<>();
+
+		private final List<JarFile> jarFiles = new ArrayList<>();
+
+		void addApplicationClasses(ApplicationClasses classes) throws IOException {
+			if (classes.root.isDirectory()) {
+				addDirectory(classes.root.toPath());
+			}
+			else {
+				addJar(classes.root, classes.classesLocation, null);
+			}
+		}
+
+		void addLibrary(Library library) throws IOException {
+			if (library.getFile() != null) {
+				addJar(library.getFile(), "", library);
+			}
+		}
+
+		private void addDirectory(Path root) throws IOException {
+			try (Stream<Path> paths = Files.walk(root)) {
+				for (Path path : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+					String name = StringUtils.cleanPath(root.relativize(path).toString());
+					add(name, null, () -> Files.newInputStream(path));
+				}
+			}
+		}
+
+		private void addJar(File file, String location, Library library) throws IOException {
+			JarFile jarFile = new JarFile(file);
+			this.jarFiles.add(jarFile);
+			Enumeration<JarEntry> entries = jarFile.entries();
+			while (entries.hasMoreElements()) {
+				JarEntry entry = entries.nextElement();
+				if (!entry.isDirectory() && entry.getName().startsWith(location)) {
+					String name = entry.getName().substring(location.length());
+					add(name, library, () -> jarFile.getInputStream(entry));
+				}
+			}
+		}
+
+		private void add(String name, Library library, InputStreamSupplier content) throws IOException {
+			if (name.endsWith(CLASS_EXTENSION) && !name.startsWith("META-INF/")) {
+				String className = name.substring(0, name.length() - CLASS_EXTENSION.length());
+				if (library != null) {
+					this.librariesWithClasses.add(library);
+				}
+				else {
+					this.applicationClasses.add(className);
+				}
+				this.classes.putIfAbsent(className, new ClassLocation(library, content));
+			}
+			else if (name.equals(SPRING_FACTORIES)) {
+				addSpringFactories(content);
+			}
+			else if (name.startsWith(SERVICES) && name.length() > SERVICES.length()) {
+				addServices(toInternalName(name.substring(SERVICES.length())), content);
+			}
+		}
+
+		private void addSpringFactories(InputStreamSupplier content) throws IOException {
+			Properties properties = new Properties();
+			try (InputStream inputStream = content.openStream()) {
+				properties.load(inputStream);
+			}
+			for (String key : properties.stringPropertyNames()) {
+				Set<String> implementations = getProviders(toInternalName(key.trim()));
+				for (String implementation : StringUtils.commaDelimitedListToSet(properties.getProperty(key))) {
+					implementations.add(toInternalName(implementation.trim()));
+				}
+			}
+		}
+
+		private void addServices(String service, InputStreamSupplier content) throws IOException {
+			Set<String> implementations = getProviders(service);
+			try (BufferedReader reader = new BufferedReader(
+					new InputStreamReader(content.openStream(), StandardCharsets.UTF_8))) {
+				String line = reader.readLine();
+				while (line != null) {
+					int commentIndex = line.indexOf('#');
+					String implementation = ((commentIndex != -1) ? line.substring(0, commentIndex) : line).trim();
+					if (!implementation.isEmpty()) {
+						implementations.add(toInternalName(implementation));
+					}
+					line = reader.readLine();
+				}
+			}
+		}
+
+		private Set<String> getProviders(String key) {
+			return this.providers.computeIfAbsent(key, (k) -> new LinkedHashSet<>());
+		}
+
+		Set<Library> findUsedLibraries(String mainClass) throws IOException {
+			Assert.state(this.classes.containsKey(mainClass),
+					() -> "Main class '" + mainClass.replace('/', '.') + "' not found");
+			Set<Library> used = new HashSet<>();
+			Set<String> reachable = new HashSet<>();
+			Set<String> scannedPackages = new HashSet<>();
+			Deque<String> queue = new ArrayDeque<>();
+			enqueue(mainClass, reachable, queue);
+			int lastSlash = mainClass.lastIndexOf('/');
+			scanPackage((lastSlash != -1) ? mainClass.substring(0, lastSlash) : "", scannedPackages, reachable,
+					queue);
+			while (!queue.isEmpty()) {
+				while (!queue.isEmpty()) {
+					ClassLocation location = this.classes.get(queue.poll());
+					if (location.library != null) {
+						used.add(location.library);
+					}
+					ClassReferences references = ClassReferences.read(location.content);
+					for (String reference : references.getClassNames()) {
+						enqueue(reference, reachable, queue);
+					}
+					if (location.library == null && references.hasComponentScan()) {
+						for (String scannedPackage : references.getPackageNames()) {
+							scanPackage(scannedPackage, scannedPackages, reachable, queue);
+						}
+					}
+				}
+				this.providers.forEach((key, implementations) -> {
+					if (reachable.contains(key) || !this.classes.containsKey(key)) {
+						implementations.forEach((implementation) -> enqueue(implementation, reachable, queue));
+					}
+				});
+			}
+			return used;
+		}
+
+		boolean hasClasses(Library library) {
+			return this.librariesWithClasses.contains(library);
+		}
+
+		private void scanPackage(String packageName, Set<String> scannedPackages, Set<String> reachable,
+				Deque<String> queue) {
+			if (scannedPackages.add(packageName)) {
+				String prefix = packageName.isEmpty() ? "" : packageName + "/";
+				for (String applicationClass : this.applicationClasses) {
+					if (applicationClass.startsWith(prefix)) {
+						enqueue(applicationClass, reachable, queue);
+					}
+				}
+			}
+		}
+
+		private void enqueue(String className, Set<String> reachable, Deque<String> queue) {
+			if (this.classes.containsKey(className) && reachable.add(className)) {
+				queue.add(className);
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			for (JarFile jarFile : this.jarFiles) {
+				jarFile.close();
+			}
+		}
+
+	}
+
+	/**
+	 * The location of a class.
+	 */
+	private static final class ClassLocation {
+
+		private final Library library;
+
+		private final InputStreamSupplier content;
+
+		private ClassLocation(Library library, InputStreamSupplier content) {
+			this.library = library;
+			this.content = content;
+		}
+
+	}
+
+	/**
+	 * The class and package names referenced from the constant pool of a class file.
+	 */
+	private static final class ClassReferences {
+
+		private static final int MAGIC = 0xCAFEBABE;
+
+		private final Set<String> classNames = new HashSet<>();
+
+		private final Set<String> packageNames = new HashSet<>();
+
+		private boolean componentScan;
+
+		Set<String> getClassNames() {
+			return this.classNames;
+		}
+
+		Set<String> getPackageNames() {
+			return this.packageNames;
+		}
+
+		boolean hasComponentScan() {
+			return this.componentScan;
+		}
+
+		private void add(String value) {
+			if (COMPONENT_SCAN_ANNOTATIONS.contains(value)) {
+				this.componentScan = true;
+			}
+			Matcher matcher = TYPE_DESCRIPTOR.matcher(value);
+			while (matcher.find()) {
+				this.classNames.add(matcher.group(1));
+			}
+			if (isName(value)) {
+				this.classNames.add(toInternalName(value));
+				if (value.indexOf('.') != -1) {
+					this.packageNames.add(toInternalName(value));
+				}
+			}
+		}
+
+		private boolean isName(String value) {
+			if (value.isEmpty()) {
+				return false;
+			}
+			for (int i = 0; i < value.length(); i++) {
+				char ch = value.charAt(i);
+				if (ch != '/' && ch != '.' && !Character.isJavaIdentifierPart(ch)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		static ClassReferences read(InputStreamSupplier content) throws IOException {
+			ClassReferences references = new ClassReferences();
+			try (DataInputStream input = new DataInputStream(new BufferedInputStream(content.openStream()))) {
+				if (input.readInt() != MAGIC) {
+					return references;
+				}
+				input.readUnsignedShort();
+				input.readUnsignedShort();
+				int count = input.readUnsignedShort();
+				for (int i = 1; i < count; i++) {
+					int tag = input.readUnsignedByte();
+					switch (tag) {
+					case 1:
+						references.add(input.readUTF());
+						break;
+					case 7:
+					case 8:
+					case 16:
+					case 19:
+					case 20:
+						skip(input, 2);
+						break;
+					case 15:
+						skip(input, 3);
+						break;
+					case 3:
+					case 4:
+					case 9:
+					case 10:
+					case 11:
+					case 12:
+					case 17:
+					case 18:
+						skip(input, 4);
+						break;
+					case 5:
+					case 6:
+						skip(input, 8);
+						i++;
+						break;
+					default:
+						throw new IOException("Unexpected constant pool tag " + tag);
+					}
+				}
+			}
+			return references;
+		}
+
+		private static void skip(DataInputStream input, int length) throws IOException {
+			if (input.skipBytes(length) != length) {
+				throw new IOException("Unexpected end of class file");
+			}
+		}
+
+	}
+
+}
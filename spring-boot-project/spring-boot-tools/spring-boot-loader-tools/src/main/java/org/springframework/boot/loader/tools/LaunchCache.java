@@ -0,0 +1,337 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipFile;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Files that are kept between launches of an application during development to make
+ * each launch faster. The cache holds an argument file containing the classpath and a
+ * class data sharing (CDS) archive of the classes loaded from the JDK and from the
+ * application's jars. The first launch records the classes that are loaded, the next
+ * launch creates the archive from that list and later launches reuse it. Everything is
+ * discarded whenever the java executable or a jar changes. If the archive cannot be
+ * created, no further attempt is made until then.
+ * <p>
+ * The archive is created using a classpath that only contains the jars, as the JVM
+ * refuses to create one when the classpath contains a non-empty directory. It can then
+ * only be used when those jars are at the start of the classpath, so
+ * {@link #getClasspath()} moves directories after the jars. When a directory contains
+ * a resource that is also in a jar that follows it, doing so would change which of them
+ * is loaded. The original classpath is then used without an archive and the resource is
+ * available from {@link #getShadowingResource()}. Requires Java 13 or later, which can be
+ * checked using {@link #isSupported(File, String)}.
+ *
+ * @author Phillip Webb
+ * @since 2.5.0
+ */
+public final class LaunchCache {
+
+	private static final int MINIMUM_JAVA_VERSION = 13;
+
+	private static final Pattern JAVA_VERSION_PATTERN = Pattern.compile("version \"(1\\.)?(\\d+)");
+
+	private static final String JAVA_VERSION_FILE_NAME = "java.version";
+
+	private static final String FINGERPRINT_FILE_NAME = "classpath.fingerprint";
+
+	private static final String ARGUMENT_FILE_NAME = "classpath.args";
+
+	private static final String CLASS_LIST_FILE_NAME = "classpath.classlist";
+
+	private static final String ARCHIVE_FILE_NAME = "classpath.jsa";
+
+	private static final String ARCHIVE_LOG_FILE_NAME = "classpath-jsa.log";
+
+	private static final String ARCHIVE_FAILED_FILE_NAME = "classpath-jsa.failed";
+
+	private final List<File> classpath;
+
+	private final File argumentFile;
+
+	private final List<String> jvmArguments;
+
+	private final String shadowingResource;
+
+	private LaunchCache(List<File> classpath, File argumentFile, List<String> jvmArguments,
+			String shadowingResource) {
+		this.classpath = classpath;
+		this.argumentFile = argumentFile;
+		this.jvmArguments = jvmArguments;
+		this.shadowingResource = shadowingResource;
+	}
+
+	/**
+	 * Return the classpath that should be used to launch the application, with the jars
+	 * before any directories unless that would change which resource is loaded.
+	 * @return the classpath
+	 */
+	public List<File> getClasspath() {
+		return this.classpath;
+	}
+
+	/**
+	 * Return the argument file that contains the {@code -cp} option for the
+	 * {@link #getClasspath() classpath}.
+	 * @return the argument file
+	 */
+	public File getArgumentFile() {
+		return this.argumentFile;
+	}
+
+	/**
+	 * Return the JVM arguments that use the class data sharing archive or, if it does not
+	 * exist yet, that record the classes that are loaded so that it can be created. No
+	 * arguments are returned if the archive cannot be used or could not be created.
+	 * @return the JVM arguments
+	 */
+	public List<String> getJvmArguments() {
+		return this.jvmArguments;
+	}
+
+	/**
+	 * Return the name of a resource that is in a directory on the classpath and in a jar
+	 * that follows it. When there is such a resource, the original order of the classpath
+	 * is kept and the class data sharing archive is not used.
+	 * @return the name of the resource or {@code null}
+	 */
+	public String getShadowingResource() {
+		return this.shadowingResource;
+	}
+
+	/**
+	 * Return whether the given java executable supports a launch cache. The version of
+	 * the executable is determined by running it and is kept in the given directory
+	 * until the executable changes.
+	 * @param directory the directory of the cache
+	 * @param javaExecutable the java executable that will be used to launch the
+	 * application or {@code null} to use the current one
+	 * @return {@code true} if the java executable is Java 13 or later
+	 * @throws IOException if the version of the java executable cannot be determined
+	 */
+	public static boolean isSupported(File directory, String javaExecutable) throws IOException {
+		Assert.notNull(directory, "Directory must not be null");
+		String java = getJava(javaExecutable);
+		File versionFile = new File(directory, JAVA_VERSION_FILE_NAME);
+		String fingerprint = getFingerprint(new File(java));
+		String content = read(versionFile);
+		if (content == null || !content.startsWith(fingerprint)) {
+			Files.createDirectories(directory.toPath());
+			content = fingerprint + getJavaVersion(java) + "\n";
+			write(versionFile, content);
+		}
+		return Integer.parseInt(content.substring(fingerprint.length()).trim()) >= MINIMUM_JAVA_VERSION;
+	}
+
+	private static int getJavaVersion(String java) throws IOException {
+		ProcessBuilder builder = new ProcessBuilder(java, "-version");
+		builder.redirectErrorStream(true);
+		Process process = builder.start();
+		String output = StreamUtils.copyToString(process.getInputStream(), StandardCharsets.UTF_8);
+		waitFor(process, "Interrupted while determining the version of '" + java + "'");
+		Matcher matcher = JAVA_VERSION_PATTERN.matcher(output);
+		if (!matcher.find()) {
+			throw new IOException("Unable to determine the version of '" + java + "' from '" + output.trim() + "'");
+		}
+		return Integer.parseInt(matcher.group(2));
+	}
+
+	/**
+	 * Prepare the launch cache in the given directory for the given java executable and
+	 * classpath, discarding any previous content that no longer applies. If the classes
+	 * loaded by a previous launch have been recorded, the class data sharing archive is
+	 * created.
+	 * @param directory the directory of the cache
+	 * @param javaExecutable the java executable that will be used to launch the
+	 * application or {@code null} to use the current one
+	 * @param classpath the classpath of the application
+	 * @return the prepared launch cache
+	 * @throws IOException if the cache cannot be written or the archive cannot be
+	 * created
+	 */
+	public static LaunchCache prepare(File directory, String javaExecutable, List<File> classpath)
+			throws IOException {
+		Assert.notNull(directory, "Directory must not be null");
+		Assert.notNull(classpath, "Classpath must not be null");
+		String shadowingResource = findShadowingResource(classpath);
+		List<File> launchClasspath = new ArrayList<>(classpath);
+		if (shadowingResource == null) {
+			launchClasspath.sort((file1, file2) -> Boolean.compare(!file1.isFile(), !file2.isFile()));
+		}
+		File argumentFile = new File(directory, ARGUMENT_FILE_NAME);
+		File classListFile = new File(directory, CLASS_LIST_FILE_NAME);
+		File archiveFile = new File(directory, ARCHIVE_FILE_NAME);
+		File failedFile = new File(directory, ARCHIVE_FAILED_FILE_NAME);
+		File fingerprintFile = new File(directory, FINGERPRINT_FILE_NAME);
+		String java = getJava(javaExecutable);
+		String fingerprint = getFingerprint(java, launchClasspath);
+		if (!fingerprint.equals(read(fingerprintFile)) || !argumentFile.isFile()) {
+			Files.createDirectories(directory.toPath());
+			Files.deleteIfExists(classListFile.toPath());
+			Files.deleteIfExists(archiveFile.toPath());
+			Files.deleteIfExists(failedFile.toPath());
+			write(argumentFile, getArgumentFileContent(launchClasspath));
+			write(fingerprintFile, fingerprint);
+		}
+		List<String> jvmArguments = Collections.emptyList();
+		if (shadowingResource == null && !failedFile.exists()) {
+			if (!archiveFile.isFile() && classListFile.isFile()) {
+				createArchive(java, launchClasspath, classListFile, archiveFile, failedFile);
+			}
+			jvmArguments = Collections.singletonList(archiveFile.isFile()
+					? "-XX:SharedArchiveFile=" + archiveFile.getAbsolutePath()
+					: "-XX:DumpLoadedClassList=" + classListFile.getAbsolutePath());
+		}
+		return new LaunchCache(Collections.unmodifiableList(launchClasspath), argumentFile, jvmArguments,
+				shadowingResource);
+	}
+
+	private static String findShadowingResource(List<File> classpath) throws IOException {
+		Set<String> directoryResources = new LinkedHashSet<>();
+		for (File file : classpath) {
+			if (file.isDirectory()) {
+				addResources(file.toPath(), directoryResources);
+			}
+			else if (file.isFile() && !directoryResources.isEmpty()) {
+				try (ZipFile zipFile = new ZipFile(file)) {
+					for (String resource : directoryResources) {
+						if (zipFile.getEntry(resource) != null) {
+							return resource;
+						}
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	private static void addResources(Path directory, Set<String> resources) throws IOException {
+		try (Stream<Path> paths = Files.walk(directory)) {
+			paths.filter(Files::isRegularFile).map((path) -> directory.relativize(path).toString().replace('\\', '/'))
+					.filter((name) -> !isReadFromEveryLocation(name)).forEach(resources::add);
+		}
+	}
+
+	private static boolean isReadFromEveryLocation(String name) {
+		return name.equals("module-info.class")
+				|| (name.startsWith("META-INF/") && !name.startsWith("META-INF/resources/"));
+	}
+
+	private static void createArchive(String java, List<File> classpath, File classListFile, File archiveFile,
+			File failedFile) throws IOException {
+		try {
+			dumpArchive(java, classpath, classListFile, archiveFile);
+		}
+		catch (InterruptedIOException ex) {
+			throw ex;
+		}
+		catch (IOException ex) {
+			write(failedFile, ex.getMessage());
+			throw ex;
+		}
+	}
+
+	private static void dumpArchive(String java, List<File> classpath, File classListFile, File archiveFile)
+			throws IOException {
+		String jars = classpath.stream().filter(File::isFile).map(File::getAbsolutePath)
+				.collect(Collectors.joining(File.pathSeparator));
+		File logFile = new File(archiveFile.getParentFile(), ARCHIVE_LOG_FILE_NAME);
+		ProcessBuilder builder = new ProcessBuilder(java, "-Xshare:dump",
+				"-XX:SharedClassListFile=" + classListFile.getAbsolutePath(),
+				"-XX:SharedArchiveFile=" + archiveFile.getAbsolutePath(), "-cp", jars);
+		builder.redirectErrorStream(true);
+		builder.redirectOutput(logFile);
+		int exitCode;
+		try {
+			exitCode = waitFor(builder.start(), "Interrupted while creating class data sharing archive");
+		}
+		finally {
+			Files.deleteIfExists(classListFile.toPath());
+		}
+		if (exitCode != 0 || !archiveFile.isFile()) {
+			Files.deleteIfExists(archiveFile.toPath());
+			throw new IOException("Failed to create class data sharing archive (see '" + logFile
+					+ "'). It will not be created again until the classpath or java executable changes");
+		}
+	}
+
+	private static int waitFor(Process process, String interruptedMessage) throws InterruptedIOException {
+		try {
+			return process.waitFor();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			process.destroy();
+			throw new InterruptedIOException(interruptedMessage);
+		}
+	}
+
+	private static String getJava(String javaExecutable) {
+		return (javaExecutable != null) ? javaExecutable : new JavaExecutable().toString();
+	}
+
+	private static String getFingerprint(String java, List<File> classpath) {
+		StringBuilder fingerprint = new StringBuilder();
+		fingerprint.append(getFingerprint(new File(java)));
+		for (File file : classpath) {
+			fingerprint.append(getFingerprint(file));
+		}
+		return fingerprint.toString();
+	}
+
+	private static String getFingerprint(File file) {
+		if (!file.isFile()) {
+			return file.getAbsolutePath() + "\n";
+		}
+		return file.getAbsolutePath() + "\t" + file.length() + "\t" + file.lastModified() + "\n";
+	}
+
+	private static String getArgumentFileContent(List<File> classpath) {
+		String path = classpath.stream().map(File::getAbsolutePath).collect(Collectors.joining(File.pathSeparator));
+		return "-cp\n\"" + path.replace("\\", "\\\\").replace("\"", "\\\"") + "\"\n";
+	}
+
+	private static String read(File file) throws IOException {
+		if (!file.isFile()) {
+			return null;
+		}
+		return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+	}
+
+	private static void write(File file, String content) throws IOException {
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
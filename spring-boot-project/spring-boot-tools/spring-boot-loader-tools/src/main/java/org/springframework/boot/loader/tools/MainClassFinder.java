@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,11 +17,15 @@
 package org.springframework.boot.loader.tools;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.FileInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -33,6 +37,9 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
@@ -43,10 +50,13 @@ import org.springframework.asm.MethodVisitor;
 import org.springframework.asm.Opcodes;
 import org.springframework.asm.SpringAsmInfo;
 import org.springframework.asm.Type;
+import org.springframework.boot.loader.tools.MainClassFinderCache.CachedClass;
 
 /**
  * Finds any class with a {@code public static main} method by performing a breadth first
- * search.
+ * search. Larger searches read class files in parallel and reading of a class file stops
+ * once its constant pool shows that it cannot declare a {@code main} method. Results can
+ * be reused between builds using a {@link MainClassFinderCache}.
  *
  * @author Phillip Webb
  * @author Andy Wilkinson
@@ -62,6 +72,10 @@ public abstract class MainClassFinder {
 
 	private static final String MAIN_METHOD_NAME = "main";
 
+	private static final int CLASS_FILE_MAGIC = 0xCAFEBABE;
+
+	private static final int PARALLEL_THRESHOLD = 64;
+
 	private static final FileFilter CLASS_FILE_FILTER = MainClassFinder::isClassFile;
 
 	private static final FileFilter PACKAGE_DIRECTORY_FILTER = MainClassFinder::isPackageDirectory;
@@ -105,8 +119,25 @@ public abstract class MainClassFinder {
 	 * @throws IOException if the directory cannot be read
 	 */
 	public static String findSingleMainClass(File rootDirectory, String annotationName) throws IOException {
+		return findSingleMainClass(rootDirectory, annotationName, null);
+	}
+
+	/**
+	 * Find a single main class from the given {@code rootDirectory}. A main class
+	 * annotated with an annotation with the given {@code annotationName} will be
+	 * preferred over a main class with no such annotation.
+	 * @param rootDirectory the root directory to search
+	 * @param annotationName the name of the annotation that may be present on the main
+	 * class
+	 * @param cache the cache of previous results or {@code null}
+	 * @return the main class or {@code null}
+	 * @throws IOException if the directory cannot be read
+	 * @since 2.5.0
+	 */
+	public static String findSingleMainClass(File rootDirectory, String annotationName, MainClassFinderCache cache)
+			throws IOException {
 		SingleMainClassCallback callback = new SingleMainClassCallback(annotationName);
-		MainClassFinder.doWithMainClasses(rootDirectory, callback);
+		MainClassFinder.doWithMainClasses(rootDirectory, cache, callback);
 		return callback.getMainClassName();
 	}
 
@@ -120,6 +151,11 @@ public abstract class MainClassFinder {
 	 * @throws IOException in case of I/O errors
 	 */
 	static <T> T doWithMainClasses(File rootDirectory, MainClassCallback<T> callback) throws IOException {
+		return doWithMainClasses(rootDirectory, null, callback);
+	}
+
+	private static <T> T doWithMainClasses(File rootDirectory, MainClassFinderCache cache,
+			MainClassCallback<T> callback) throws IOException {
 		if (!rootDirectory.exists()) {
 			return null; // nothing to do
 		}
@@ -127,28 +163,22 @@ public abstract class MainClassFinder {
 			throw new IllegalArgumentException("Invalid root directory '" + rootDirectory + "'");
 		}
 		String prefix = rootDirectory.getAbsolutePath() + "/";
+		List<ClassFile> classFiles = new ArrayList<>();
 		Deque<File> stack = new ArrayDeque<>();
 		stack.push(rootDirectory);
 		while (!stack.isEmpty()) {
 			File file = stack.pop();
 			if (file.isFile()) {
-				try (InputStream inputStream = new FileInputStream(file)) {
-					ClassDescriptor classDescriptor = createClassDescriptor(inputStream);
-					if (classDescriptor != null && classDescriptor.isMainMethodFound()) {
-						String className = convertToClassName(file.getAbsolutePath(), prefix);
-						T result = callback.doWith(new MainClass(className, classDescriptor.getAnnotationNames()));
-						if (result != null) {
-							return result;
-						}
-					}
-				}
+				String path = file.getAbsolutePath();
+				classFiles.add(new ClassFile(convertToClassName(path, prefix), path, file.length(),
+						file.lastModified(), () -> new BufferedInputStream(new FileInputStream(file))));
 			}
 			if (file.isDirectory()) {
 				pushAllSorted(stack, file.listFiles(PACKAGE_DIRECTORY_FILTER));
 				pushAllSorted(stack, file.listFiles(CLASS_FILE_FILTER));
 			}
 		}
-		return null;
+		return doWithMainClasses(classFiles, cache, callback);
 	}
 
 	private static void pushAllSorted(Deque<File> stack, File[] files) {
@@ -193,8 +223,26 @@ public abstract class MainClassFinder {
 	 */
 	public static String findSingleMainClass(JarFile jarFile, String classesLocation, String annotationName)
 			throws IOException {
+		return findSingleMainClass(jarFile, classesLocation, annotationName, null);
+	}
+
+	/**
+	 * Find a single main class in a given jar file. A main class annotated with an
+	 * annotation with the given {@code annotationName} will be preferred over a main
+	 * class with no such annotation.
+	 * @param jarFile the jar file to search
+	 * @param classesLocation the location within the jar containing classes
+	 * @param annotationName the name of the annotation that may be present on the main
+	 * class
+	 * @param cache the cache of previous results or {@code null}
+	 * @return the main class or {@code null}
+	 * @throws IOException if the jar file cannot be read
+	 * @since 2.5.0
+	 */
+	public static String findSingleMainClass(JarFile jarFile, String classesLocation, String annotationName,
+			MainClassFinderCache cache) throws IOException {
 		SingleMainClassCallback callback = new SingleMainClassCallback(annotationName);
-		MainClassFinder.doWithMainClasses(jarFile, classesLocation, callback);
+		MainClassFinder.doWithMainClasses(jarFile, classesLocation, cache, callback);
 		return callback.getMainClassName();
 	}
 
@@ -209,21 +257,97 @@ public abstract class MainClassFinder {
 	 */
 	static <T> T doWithMainClasses(JarFile jarFile, String classesLocation, MainClassCallback<T> callback)
 			throws IOException {
+		return doWithMainClasses(jarFile, classesLocation, null, callback);
+	}
+
+	private static <T> T doWithMainClasses(JarFile jarFile, String classesLocation, MainClassFinderCache cache,
+			MainClassCallback<T> callback) throws IOException {
 		List<JarEntry> classEntries = getClassEntries(jarFile, classesLocation);
 		classEntries.sort(new ClassEntryComparator());
+		List<ClassFile> classFiles = new ArrayList<>(classEntries.size());
 		for (JarEntry entry : classEntries) {
-			try (InputStream inputStream = new BufferedInputStream(jarFile.getInputStream(entry))) {
-				ClassDescriptor classDescriptor = createClassDescriptor(inputStream);
-				if (classDescriptor != null && classDescriptor.isMainMethodFound()) {
-					String className = convertToClassName(entry.getName(), classesLocation);
-					T result = callback.doWith(new MainClass(className, classDescriptor.getAnnotationNames()));
-					if (result != null) {
-						return result;
-					}
+			classFiles.add(new ClassFile(convertToClassName(entry.getName(), classesLocation),
+					jarFile.getName() + "!/" + entry.getName(), entry.getSize(), entry.getCrc(),
+					() -> new BufferedInputStream(jarFile.getInputStream(entry))));
+		}
+		return doWithMainClasses(classFiles, cache, callback);
+	}
+
+	private static <T> T doWithMainClasses(List<ClassFile> classFiles, MainClassFinderCache cache,
+			MainClassCallback<T> callback) throws IOException {
+		if (classFiles.size() < PARALLEL_THRESHOLD) {
+			for (ClassFile classFile : classFiles) {
+				T result = doWithMainClass(getMainClass(classFile, cache), callback);
+				if (result != null) {
+					return result;
 				}
 			}
+			return null;
+		}
+		ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+		try {
+			List<Future<MainClass>> mainClasses = new ArrayList<>(classFiles.size());
+			for (ClassFile classFile : classFiles) {
+				mainClasses.add(pool.submit(() -> getMainClass(classFile, cache)));
+			}
+			for (Future<MainClass> mainClass : mainClasses) {
+				T result = doWithMainClass(getResult(mainClass), callback);
+				if (result != null) {
+					return result;
+				}
+			}
+			return null;
+		}
+		finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private static <T> T doWithMainClass(MainClass mainClass, MainClassCallback<T> callback) {
+		return (mainClass != null) ? callback.doWith(mainClass) : null;
+	}
+
+	private static MainClass getResult(Future<MainClass> mainClass) throws IOException {
+		try {
+			return mainClass.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while finding main class");
+		}
+		catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	private static MainClass getMainClass(ClassFile classFile, MainClassFinderCache cache) throws IOException {
+		if (cache != null) {
+			CachedClass cached = cache.get(classFile.location, classFile.size, classFile.stamp);
+			if (cached != null) {
+				return cached.isMainMethodFound() ? new MainClass(classFile.className, cached.getAnnotationNames())
+						: null;
+			}
+		}
+		ClassDescriptor classDescriptor;
+		try (InputStream inputStream = classFile.content.openStream()) {
+			classDescriptor = createClassDescriptor(inputStream);
 		}
-		return null;
+		if (classDescriptor == null) {
+			return null;
+		}
+		if (cache != null) {
+			cache.put(classFile.location, classFile.size, classFile.stamp, classDescriptor.isMainMethodFound(),
+					classDescriptor.getAnnotationNames());
+		}
+		return classDescriptor.isMainMethodFound()
+				? new MainClass(classFile.className, classDescriptor.getAnnotationNames()) : null;
 	}
 
 	private static String convertToClassName(String name, String prefix) {
@@ -251,9 +375,12 @@ public abstract class MainClassFinder {
 
 	private static ClassDescriptor createClassDescriptor(InputStream inputStream) {
 		try {
-			ClassReader classReader = new ClassReader(inputStream);
+			byte[] content = readIfMainMethodPossible(inputStream);
 			ClassDescriptor classDescriptor = new ClassDescriptor();
-			classReader.accept(classDescriptor, ClassReader.SKIP_CODE);
+			if (content != null) {
+				ClassReader classReader = new ClassReader(content);
+				classReader.accept(classDescriptor, ClassReader.SKIP_CODE);
+			}
 			return classDescriptor;
 		}
 		catch (IOException ex) {
@@ -261,6 +388,66 @@ public abstract class MainClassFinder {
 		}
 	}
 
+	/**
+	 * Read the content of a class file, stopping once its constant pool has been read if
+	 * it does not contain both the name and the descriptor of a {@code main} method.
+	 * @param inputStream the class file input stream
+	 * @return the content of the class file or {@code null} if it cannot declare a
+	 * {@code main} method
+	 * @throws IOException if the class file cannot be read
+	 */
+	private static byte[] readIfMainMethodPossible(InputStream inputStream) throws IOException {
+		RecordingInputStream recordingStream = new RecordingInputStream(inputStream);
+		DataInputStream input = new DataInputStream(recordingStream);
+		if (input.readInt() != CLASS_FILE_MAGIC) {
+			throw new IOException("Not a class file");
+		}
+		input.readUnsignedShort();
+		input.readUnsignedShort();
+		int constantPoolCount = input.readUnsignedShort();
+		boolean nameFound = false;
+		boolean descriptorFound = false;
+		byte[] skipBuffer = new byte[8];
+		for (int i = 1; i < constantPoolCount; i++) {
+			int tag = input.readUnsignedByte();
+			switch (tag) {
+			case 1:
+				String value = input.readUTF();
+				nameFound = nameFound || MAIN_METHOD_NAME.equals(value);
+				descriptorFound = descriptorFound || MAIN_METHOD_TYPE.getDescriptor().equals(value);
+				break;
+			case 7:
+			case 8:
+			case 16:
+			case 19:
+			case 20:
+				input.readFully(skipBuffer, 0, 2);
+				break;
+			case 15:
+				input.readFully(skipBuffer, 0, 3);
+				break;
+			case 3:
+			case 4:
+			case 9:
+			case 10:
+			case 11:
+			case 12:
+			case 17:
+			case 18:
+				input.readFully(skipBuffer, 0, 4);
+				break;
+			case 5:
+			case 6:
+				input.readFully(skipBuffer, 0, 8);
+				i++;
+				break;
+			default:
+				return recordingStream.readRemaining();
+			}
+		}
+		return (nameFound && descriptorFound) ? recordingStream.readRemaining() : null;
+	}
+
 	private static class ClassEntryComparator implements Comparator<JarEntry> {
 
 		@Override
@@ -280,6 +467,86 @@ public abstract class MainClassFinder {
 
 	}
 
+	/**
+	 * A class file that should be searched for a {@code main} method.
+	 */
+	private static final class ClassFile {
+
+		private final String className;
+
+		private final String location;
+
+		private final long size;
+
+		private final long stamp;
+
+		private final InputStreamSupplier content;
+
+		ClassFile(String className, String location, long size, long stamp, InputStreamSupplier content) {
+			this.className = className;
+			this.location = location;
+			this.size = size;
+			this.stamp = stamp;
+			this.content = content;
+		}
+
+	}
+
+	/**
+	 * {@link FilterInputStream} that records the bytes that have been read so that the
+	 * complete content can be provided once the remaining bytes are needed.
+	 */
+	private static final class RecordingInputStream extends FilterInputStream {
+
+		private final ByteArrayOutputStream recorded = new ByteArrayOutputStream(4096);
+
+		RecordingInputStream(InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b != -1) {
+				this.recorded.write(b);
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int read = super.read(b, off, len);
+			if (read > 0) {
+				this.recorded.write(b, off, read);
+			}
+			return read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			byte[] buffer = new byte[(int) Math.min(n, 4096)];
+			long skipped = 0;
+			while (skipped < n) {
+				int read = read(buffer, 0, (int) Math.min(n - skipped, buffer.length));
+				if (read == -1) {
+					break;
+				}
+				skipped += read;
+			}
+			return skipped;
+		}
+
+		byte[] readRemaining() throws IOException {
+			byte[] buffer = new byte[4096];
+			int read = read(buffer, 0, buffer.length);
+			while (read != -1) {
+				read = read(buffer, 0, buffer.length);
+			}
+			return this.recorded.toByteArray();
+		}
+
+	}
+
 	private static class ClassDescriptor extends ClassVisitor {
 
 		private final Set<String> annotationNames = new LinkedHashSet<>();
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Cache of the results of {@link MainClassFinder} that can be saved between builds. Each
+ * class file is identified by its location, its size and a stamp, which is the last
+ * modified time of files in directories and the CRC of jar entries. Only the classes
+ * that were used since the cache was loaded are saved.
+ *
+ * @author Phillip Webb
+ * @since 2.5.0
+ */
+public final class MainClassFinderCache {
+
+	private static final String HEADER = "# main class finder cache v1";
+
+	private static final String SEPARATOR = "\t";
+
+	private final File file;
+
+	private final Map<String, CachedClass> loaded;
+
+	private final Map<String, CachedClass> used = new ConcurrentHashMap<>();
+
+	private volatile boolean modified;
+
+	private MainClassFinderCache(File file, Map<String, CachedClass> loaded) {
+		this.file = file;
+		this.loaded = loaded;
+	}
+
+	CachedClass get(String location, long size, long stamp) {
+		CachedClass cached = this.loaded.get(location);
+		if (cached == null || cached.size != size || cached.stamp != stamp) {
+			return null;
+		}
+		this.used.put(location, cached);
+		return cached;
+	}
+
+	void put(String location, long size, long stamp, boolean mainMethodFound, Set<String> annotationNames) {
+		Set<String> names = mainMethodFound ? annotationNames : Collections.emptySet();
+		this.used.put(location, new CachedClass(size, stamp, mainMethodFound, names));
+		this.modified = true;
+	}
+
+	/**
+	 * Save the cache, if it has changed since it was loaded.
+	 * @throws IOException if the cache cannot be written
+	 */
+	public void save() throws IOException {
+		if (!this.modified && this.used.size() == this.loaded.size()) {
+			return;
+		}
+		File parent = this.file.getAbsoluteFile().getParentFile();
+		if (parent != null) {
+			parent.mkdirs();
+		}
+		try (BufferedWriter writer = new BufferedWriter(
+				new OutputStreamWriter(new FileOutputStream(this.file), StandardCharsets.UTF_8))) {
+			writer.write(HEADER);
+			writer.write("\n");
+			for (Map.Entry<String, CachedClass> entry : new TreeMap<>(this.used).entrySet()) {
+				CachedClass cached = entry.getValue();
+				writer.write(cached.size + SEPARATOR + cached.stamp + SEPARATOR + cached.mainMethodFound + SEPARATOR
+						+ StringUtils.collectionToCommaDelimitedString(cached.annotationNames) + SEPARATOR
+						+ entry.getKey());
+				writer.write("\n");
+			}
+		}
+	}
+
+	/**
+	 * Load the cache from the given file. A cache that is missing or that cannot be read
+	 * is treated as empty.
+	 * @param file the cache file
+	 * @return the loaded cache
+	 */
+	public static MainClassFinderCache load(File file) {
+		Assert.notNull(file, "File must not be null");
+		Map<String, CachedClass> loaded = new ConcurrentHashMap<>();
+		if (file.isFile()) {
+			try {
+				read(file, loaded);
+			}
+			catch (IOException | RuntimeException ex) {
+				loaded.clear();
+			}
+		}
+		return new MainClassFinderCache(file, loaded);
+	}
+
+	private static void read(File file, Map<String, CachedClass> loaded) throws IOException {
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+			if (!HEADER.equals(reader.readLine())) {
+				return;
+			}
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String[] fields = line.split(SEPARATOR, 5);
+				Assert.state(fields.length == 5, "Malformed cache entry");
+				Set<String> annotationNames = new LinkedHashSet<>(
+						Arrays.asList(StringUtils.commaDelimitedListToStringArray(fields[3])));
+				loaded.put(fields[4], new CachedClass(Long.parseLong(fields[0]), Long.parseLong(fields[1]),
+						Boolean.parseBoolean(fields[2]), annotationNames));
+			}
+		}
+	}
+
+	/**
+	 * The cached result for a single class file.
+	 */
+	static final class CachedClass {
+
+		private final long size;
+
+		private final long stamp;
+
+		private final boolean mainMethodFound;
+
+		private final Set<String> annotationNames;
+
+		private CachedClass(long size, long stamp, boolean mainMethodFound, Set<String> annotationNames) {
+			this.size = size;
+			this.stamp = stamp;
+			this.mainMethodFound = mainMethodFound;
+			this.annotationNames = annotationNames;
+		}
+
+		boolean isMainMethodFound() {
+			return this.mainMethodFound;
+		}
+
+		Set<String> getAnnotationNames() {
+			return this.annotationNames;
+		}
+
+	}
+
+}
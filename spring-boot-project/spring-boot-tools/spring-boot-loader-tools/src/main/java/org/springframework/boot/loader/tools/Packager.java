@@ -29,6 +29,7 @@ import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
 
 import org.apache.commons.compress.archivers.jar.JarArchiveEntry;
 
@@ -72,6 +73,8 @@ public abstract class Packager {
 
 	private final List<MainClassTimeoutWarningListener> mainClassTimeoutListeners = new ArrayList<>();
 
+	private final List<UnusedLibrariesListener> unusedLibrariesListeners = new ArrayList<>();
+
 	private String mainClass;
 
 	private final File source;
@@ -88,6 +91,12 @@ public abstract class Packager {
 
 	private boolean includeRelevantJarModeJars = true;
 
+	private boolean pruneUnusedLibraries;
+
+	private ClassLoadingOrder classLoadingOrder;
+
+	private MainClassFinderCache mainClassFinderCache;
+
 	/**
 	 * Create a new {@link Packager} instance.
 	 * @param source the source archive file to package
@@ -121,6 +130,54 @@ public abstract class Packager {
 		this.mainClassTimeoutListeners.add(listener);
 	}
 
+	/**
+	 * Add a listener that will be triggered with the libraries that are not used by
+	 * classes reachable from the main class. Adding a listener enables the analysis of
+	 * library usage.
+	 * @param listener the listener to add
+	 * @since 2.5.0
+	 * @see ClassReachabilityAnalyzer
+	 */
+	public void addUnusedLibrariesListener(UnusedLibrariesListener listener) {
+		Assert.notNull(listener, "Listener must not be null");
+		this.unusedLibrariesListeners.add(listener);
+	}
+
+	/**
+	 * Sets if libraries that are not used by classes reachable from the main class should
+	 * be left out of the archive. Libraries that are only loaded using names that are
+	 * computed at runtime cannot be detected so the result should be checked before
+	 * enabling pruning.
+	 * @param pruneUnusedLibraries if unused libraries should be pruned
+	 * @since 2.5.0
+	 * @see ClassReachabilityAnalyzer
+	 */
+	public void setPruneUnusedLibraries(boolean pruneUnusedLibraries) {
+		this.pruneUnusedLibraries = pruneUnusedLibraries;
+	}
+
+	/**
+	 * Sets the order in which classes were loaded during a recorded run of the
+	 * application. When set, application classes and nested libraries are written in
+	 * the order that they were first needed so that they can be read sequentially during
+	 * startup. The classpath index follows the order of the nested libraries.
+	 * @param classLoadingOrder the class loading order or {@code null}
+	 * @since 2.5.0
+	 */
+	public void setClassLoadingOrder(ClassLoadingOrder classLoadingOrder) {
+		this.classLoadingOrder = classLoadingOrder;
+	}
+
+	/**
+	 * Sets the cache that should be used, and saved, when searching the archive for the
+	 * main class.
+	 * @param mainClassFinderCache the main class finder cache or {@code null}
+	 * @since 2.5.0
+	 */
+	public void setMainClassFinderCache(MainClassFinderCache mainClassFinderCache) {
+		this.mainClassFinderCache = mainClassFinderCache;
+	}
+
 	/**
 	 * Sets the main class that should be run. If not specified the value from the
 	 * MANIFEST will be used, or if no manifest entry is found the archive will be
@@ -190,15 +247,28 @@ public abstract class Packager {
 	}
 
 	protected final void write(JarFile sourceJar, Libraries libraries, AbstractJarWriter writer) throws IOException {
+		write(sourceJar, libraries, writer, false, null);
+	}
+
+	final void write(JarFile sourceJar, Libraries libraries, AbstractJarWriter writer, boolean recordDigests,
+			PreviousArchive previousArchive) throws IOException {
 		Assert.notNull(libraries, "Libraries must not be null");
 		WritableLibraries writeableLibraries = new WritableLibraries(libraries);
 		if (isLayered()) {
 			writer.useLayers(this.layers, this.layersIndex);
 		}
-		writer.writeManifest(buildManifest(sourceJar));
+		Manifest manifest = buildManifest(sourceJar);
+		writer.writeManifest(manifest);
+		if (this.pruneUnusedLibraries || !this.unusedLibrariesListeners.isEmpty()) {
+			writeableLibraries.analyzeUsage(sourceJar, manifest);
+		}
+		if (this.classLoadingOrder != null) {
+			writeableLibraries.applyClassLoadingOrder(this.classLoadingOrder);
+		}
 		writeLoaderClasses(writer);
-		writer.writeEntries(sourceJar, getEntityTransformer(), writeableLibraries, writeableLibraries::containsEntry);
-		writeableLibraries.write(writer);
+		writer.writeEntries(sourceJar, getEntityTransformer(), writeableLibraries, writeableLibraries::containsEntry,
+				this.classLoadingOrder);
+		writeableLibraries.write(writer, recordDigests, previousArchive);
 		if (isLayered()) {
 			writeLayerIndex(writer);
 		}
@@ -303,8 +373,12 @@ public abstract class Packager {
 	}
 
 	protected String findMainMethod(JarFile source) throws IOException {
-		return MainClassFinder.findSingleMainClass(source, getLayout().getClassesLocation(),
-				SPRING_BOOT_APPLICATION_CLASS_NAME);
+		String mainClass = MainClassFinder.findSingleMainClass(source, getLayout().getClassesLocation(),
+				SPRING_BOOT_APPLICATION_CLASS_NAME, this.mainClassFinderCache);
+		if (this.mainClassFinderCache != null) {
+			this.mainClassFinderCache.save();
+		}
+		return mainClass;
 	}
 
 	/**
@@ -389,6 +463,22 @@ public abstract class Packager {
 
 	}
 
+	/**
+	 * Callback interface used to report libraries that are not used.
+	 *
+	 * @since 2.5.0
+	 */
+	@FunctionalInterface
+	public interface UnusedLibrariesListener {
+
+		/**
+		 * Handle libraries that are not used by classes reachable from the main class.
+		 * @param libraries the unused libraries
+		 */
+		void handleUnusedLibraries(List<Library> libraries);
+
+	}
+
 	/**
 	 * An {@code EntryTransformer} that renames entries by applying a prefix.
 	 */
@@ -492,18 +582,65 @@ public abstract class Packager {
 			return this.libraries.containsKey(name);
 		}
 
-		private void write(AbstractJarWriter writer) throws IOException {
+		private void analyzeUsage(JarFile sourceJar, Manifest manifest) throws IOException {
+			Attributes attributes = manifest.getMainAttributes();
+			String mainClass = (attributes.getValue(START_CLASS_ATTRIBUTE) != null)
+					? attributes.getValue(START_CLASS_ATTRIBUTE) : attributes.getValue(MAIN_CLASS_ATTRIBUTE);
+			Assert.state(mainClass != null, "Unable to find main class to analyze library usage");
+			ClassReachabilityAnalyzer analyzer = new ClassReachabilityAnalyzer();
+			analyzer.addApplicationClasses(new File(sourceJar.getName()), getLayout().getClassesLocation());
+			this.libraries.values().forEach(analyzer::addLibrary);
+			List<Library> unused = analyzer.findUnusedLibraries(mainClass);
+			for (UnusedLibrariesListener listener : Packager.this.unusedLibrariesListeners) {
+				listener.handleUnusedLibraries(unused);
+			}
+			if (Packager.this.pruneUnusedLibraries) {
+				this.libraries.values().removeAll(unused);
+			}
+		}
+
+		private void applyClassLoadingOrder(ClassLoadingOrder classLoadingOrder) {
+			List<String> paths = new ArrayList<>(this.libraries.keySet());
+			classLoadingOrder.sort(paths,
+					(path) -> classLoadingOrder.getLibraryPosition(this.libraries.get(path).getName()));
+			Map<String, Library> ordered = new LinkedHashMap<>();
+			paths.forEach((path) -> ordered.put(path, this.libraries.get(path)));
+			this.libraries.clear();
+			this.libraries.putAll(ordered);
+		}
+
+		private void write(AbstractJarWriter writer, boolean recordDigests, PreviousArchive previousArchive)
+				throws IOException {
 			for (Entry<String, Library> entry : this.libraries.entrySet()) {
 				String path = entry.getKey();
 				Library library = entry.getValue();
 				String location = path.substring(0, path.lastIndexOf('/') + 1);
-				writer.writeNestedLibrary(location, library);
+				if (recordDigests) {
+					writeWithDigest(writer, path, location, library, previousArchive);
+				}
+				else {
+					writer.writeNestedLibrary(location, library);
+				}
 			}
 			if (Packager.this.layout instanceof RepackagingLayout) {
 				writeClasspathIndex(getLayout(), writer);
 			}
 		}
 
+		private void writeWithDigest(AbstractJarWriter writer, String path, String location, Library library,
+				PreviousArchive previousArchive) throws IOException {
+			String sha1 = Digest.sha1(library::openStream);
+			ZipEntry previousEntry = (previousArchive != null) ? previousArchive.getReusableEntry(path, library, sha1)
+					: null;
+			if (previousEntry != null) {
+				writer.writeNestedLibrary(location, library, previousEntry,
+						() -> previousArchive.getInputStream(previousEntry));
+			}
+			else {
+				writer.writeNestedLibrary(location, library, sha1);
+			}
+		}
+
 		private void writeClasspathIndex(Layout layout, AbstractJarWriter writer) throws IOException {
 			List<String> names = this.libraries.keySet().stream().map((path) -> "- \"" + path + "\"")
 					.collect(Collectors.toList());
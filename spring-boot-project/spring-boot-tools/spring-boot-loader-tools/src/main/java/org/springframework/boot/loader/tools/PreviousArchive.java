@@ -0,0 +1,84 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * A previously packaged archive from which unchanged nested libraries can be copied
+ * rather than being written again. Nested libraries are always stored uncompressed so
+ * the content of a previous entry can be copied as-is. A library is only considered
+ * unchanged if its SHA-1 digest matches the one recorded in the comment of the previous
+ * entry, so each unchanged library is read once rather than three times.
+ *
+ * @author Phillip Webb
+ */
+class PreviousArchive implements Closeable {
+
+	private static final String UNPACK_MARKER = "UNPACK:";
+
+	private static final String DIGEST_MARKER = "SHA1:";
+
+	private final ZipFile zipFile;
+
+	PreviousArchive(File file) throws IOException {
+		this.zipFile = new ZipFile(file);
+	}
+
+	/**
+	 * Return the previous entry for the given library if it can be reused. An entry can be
+	 * reused if it was stored uncompressed with the same size and its comment records the
+	 * same unpack requirement and SHA-1 digest as the library.
+	 * @param name the name of the entry
+	 * @param library the library being written
+	 * @param sha1 the SHA-1 digest of the library
+	 * @return the reusable entry or {@code null}
+	 */
+	ZipEntry getReusableEntry(String name, Library library, String sha1) {
+		ZipEntry entry = this.zipFile.getEntry(name);
+		if (entry == null || entry.getMethod() != ZipEntry.STORED) {
+			return null;
+		}
+		File file = library.getFile();
+		if (file != null && entry.getSize() != file.length()) {
+			return null;
+		}
+		String marker = library.isUnpackRequired() ? UNPACK_MARKER : DIGEST_MARKER;
+		return (marker + sha1).equals(entry.getComment()) ? entry : null;
+	}
+
+	/**
+	 * Return the content of the given previous entry.
+	 * @param entry the entry
+	 * @return the entry content
+	 * @throws IOException on IO error
+	 */
+	InputStream getInputStream(ZipEntry entry) throws IOException {
+		return this.zipFile.getInputStream(entry);
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.zipFile.close();
+	}
+
+}
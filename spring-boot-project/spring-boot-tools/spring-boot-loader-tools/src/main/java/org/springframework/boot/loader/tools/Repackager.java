@@ -18,6 +18,8 @@ package org.springframework.boot.loader.tools;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.FileTime;
 import java.util.jar.JarFile;
 
@@ -38,6 +40,8 @@ public class Repackager extends Packager {
 
 	private boolean backupSource = true;
 
+	private boolean incremental;
+
 	/**
 	 * Create a new {@link Repackager} instance.
 	 * @param source the source archive file to package
@@ -66,6 +70,22 @@ public class Repackager extends Packager {
 		this.backupSource = backupSource;
 	}
 
+	/**
+	 * Sets if repackaging should be incremental. When incremental, nested libraries that
+	 * have not changed since the destination was previously repackaged are copied from
+	 * the previous archive rather than being written again. A library is considered
+	 * unchanged when its SHA-1 digest matches the digest that was recorded in the comment
+	 * of its entry in the previous archive. When the destination is the same as the
+	 * source, the previous archive is replaced by the source before repackaging, so a link
+	 * to (or copy of) the repackaged archive is kept in a {@code .previous} file next to
+	 * it for use by the next incremental repackaging.
+	 * @param incremental if repackaging should be incremental
+	 * @since 2.5.0
+	 */
+	public void setIncremental(boolean incremental) {
+		this.incremental = incremental;
+	}
+
 	/**
 	 * Repackage the source file so that it can be run using '{@literal java -jar}'.
 	 * @param libraries the libraries required to run the archive
@@ -125,23 +145,45 @@ public class Repackager extends Packager {
 			workingSource.delete();
 			renameFile(source, workingSource);
 		}
+		File previous = new File(destination.getParentFile(), destination.getName() + ".previous");
+		if (this.incremental && !source.equals(destination) && destination.isFile()) {
+			previous.delete();
+			renameFile(destination, previous);
+		}
+		boolean usePrevious = this.incremental && previous.isFile() && isAlreadyPackaged(previous);
 		destination.delete();
 		try {
-			try (JarFile sourceJar = new JarFile(workingSource)) {
-				repackage(sourceJar, destination, libraries, launchScript, lastModifiedTime);
+			try (JarFile sourceJar = new JarFile(workingSource);
+					PreviousArchive previousArchive = usePrevious ? new PreviousArchive(previous) : null) {
+				repackage(sourceJar, destination, libraries, launchScript, lastModifiedTime, previousArchive);
 			}
 		}
 		finally {
 			if (!this.backupSource && !source.equals(workingSource)) {
 				deleteFile(workingSource);
 			}
+			if (this.incremental && previous.exists()) {
+				deleteFile(previous);
+			}
+		}
+		if (this.incremental && source.equals(destination)) {
+			keepPrevious(destination, previous);
+		}
+	}
+
+	private void keepPrevious(File destination, File previous) throws IOException {
+		try {
+			Files.createLink(previous.toPath(), destination.toPath());
+		}
+		catch (IOException | UnsupportedOperationException ex) {
+			Files.copy(destination.toPath(), previous.toPath(), StandardCopyOption.REPLACE_EXISTING);
 		}
 	}
 
 	private void repackage(JarFile sourceJar, File destination, Libraries libraries, LaunchScript launchScript,
-			FileTime lastModifiedTime) throws IOException {
+			FileTime lastModifiedTime, PreviousArchive previousArchive) throws IOException {
 		try (JarWriter writer = new JarWriter(destination, launchScript, lastModifiedTime)) {
-			write(sourceJar, libraries, writer);
+			write(sourceJar, libraries, writer, this.incremental, previousArchive);
 		}
 		if (lastModifiedTime != null) {
 			destination.setLastModified(lastModifiedTime.toMillis());
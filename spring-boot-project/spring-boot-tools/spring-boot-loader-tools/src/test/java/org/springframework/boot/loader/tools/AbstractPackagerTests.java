@@ -20,6 +20,7 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -46,6 +47,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.zeroturnaround.zip.ZipUtil;
 
 import org.springframework.boot.loader.tools.sample.ClassWithMainMethod;
+import org.springframework.boot.loader.tools.sample.ClassWithReference;
 import org.springframework.boot.loader.tools.sample.ClassWithoutMainMethod;
 import org.springframework.util.FileCopyUtils;
 
@@ -211,6 +213,57 @@ abstract class AbstractPackagerTests<P extends Packager> {
 		assertThat(entry.getComment()).hasSize(47);
 	}
 
+	@Test
+	void unusedLibrariesArePrunedWhenPruningIsEnabled() throws Exception {
+		TestJarFile usedJar = new TestJarFile(this.tempDir);
+		usedJar.addClass("org/springframework/boot/loader/tools/sample/ClassWithoutMainMethod.class",
+				ClassWithoutMainMethod.class);
+		File usedJarFile = usedJar.getFile();
+		TestJarFile unusedJar = new TestJarFile(this.tempDir);
+		unusedJar.addClass("d/e/F.class", ClassWithoutMainMethod.class);
+		File unusedJarFile = unusedJar.getFile();
+		this.testJarFile.addClass("a/b/C.class", ClassWithReference.class);
+		P packager = createPackager();
+		List<Library> reported = new ArrayList<>();
+		packager.addUnusedLibrariesListener(reported::addAll);
+		packager.setPruneUnusedLibraries(true);
+		execute(packager, (callback) -> {
+			callback.library(new Library(usedJarFile, LibraryScope.COMPILE));
+			callback.library(new Library(unusedJarFile, LibraryScope.COMPILE));
+		});
+		assertThat(reported).extracting(Library::getFile).containsExactly(unusedJarFile);
+		assertThat(hasPackagedEntry("BOOT-INF/lib/" + usedJarFile.getName())).isTrue();
+		assertThat(hasPackagedEntry("BOOT-INF/lib/" + unusedJarFile.getName())).isFalse();
+		assertThat(getPackagedEntryContent("BOOT-INF/classpath.idx"))
+				.isEqualTo("- \"BOOT-INF/lib/" + usedJarFile.getName() + "\"\n");
+	}
+
+	@Test
+	void entriesAreOrderedByClassLoadingOrder() throws Exception {
+		TestJarFile libJar1 = new TestJarFile(this.tempDir);
+		libJar1.addClass("d/e/F.class", ClassWithoutMainMethod.class);
+		File libJarFile1 = libJar1.getFile();
+		TestJarFile libJar2 = new TestJarFile(this.tempDir);
+		libJar2.addClass("g/h/I.class", ClassWithoutMainMethod.class);
+		File libJarFile2 = libJar2.getFile();
+		this.testJarFile.addClass("a/b/C.class", ClassWithMainMethod.class);
+		this.testJarFile.addClass("a/b/D.class", ClassWithoutMainMethod.class);
+		this.testJarFile.addClass("a/b/E.class", ClassWithoutMainMethod.class);
+		P packager = createPackager();
+		packager.setClassLoadingOrder(ClassLoadingOrder.fromTrace(new StringReader(String.join("\n",
+				"[Loaded a.b.C from file:/app/classes/]", "[Loaded g.h.I from file:/" + libJarFile2.getName() + "]",
+				"[Loaded a.b.E from file:/app/classes/]", "[Loaded d.e.F from file:/" + libJarFile1.getName() + "]"))));
+		execute(packager, (callback) -> {
+			callback.library(new Library(libJarFile1, LibraryScope.COMPILE));
+			callback.library(new Library(libJarFile2, LibraryScope.COMPILE));
+		});
+		assertThat(getPackagedEntryNames()).containsSubsequence("BOOT-INF/classes/a/b/C.class",
+				"BOOT-INF/classes/a/b/E.class", "BOOT-INF/classes/a/b/D.class",
+				"BOOT-INF/lib/" + libJarFile2.getName(), "BOOT-INF/lib/" + libJarFile1.getName());
+		assertThat(getPackagedEntryContent("BOOT-INF/classpath.idx")).isEqualTo("- \"BOOT-INF/lib/"
+				+ libJarFile2.getName() + "\"\n- \"BOOT-INF/lib/" + libJarFile1.getName() + "\"\n");
+	}
+
 	@Test
 	void classPathIndex() throws Exception {
 		TestJarFile libJar1 = new TestJarFile(this.tempDir);
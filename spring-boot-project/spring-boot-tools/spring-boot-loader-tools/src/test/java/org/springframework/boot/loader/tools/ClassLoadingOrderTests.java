@@ -0,0 +1,109 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link ClassLoadingOrder}.
+ *
+ * @author Phillip Webb
+ */
+class ClassLoadingOrderTests {
+
+	@TempDir
+	File temp;
+
+	@Test
+	void fromTraceWhenFileIsMissingThrowsException() {
+		File trace = new File(this.temp, "missing.txt");
+		assertThatIllegalArgumentException().isThrownBy(() -> ClassLoadingOrder.fromTrace(trace))
+				.withMessageContaining("must be an existing file");
+	}
+
+	@Test
+	void fromTraceWithJava8VerboseOutput() throws IOException {
+		ClassLoadingOrder order = fromTrace("[Opened /opt/java/jre/lib/rt.jar]",
+				"[Loaded java.lang.Object from /opt/java/jre/lib/rt.jar]",
+				"[Loaded com.example.Application from jar:file:/app.jar!/BOOT-INF/classes!/]",
+				"[Loaded org.example.Library from jar:file:/app.jar!/BOOT-INF/lib/library-1.0.jar!/]",
+				"[Loaded com.example.Application$Inner from jar:file:/app.jar!/BOOT-INF/classes!/]");
+		assertThat(order.getClassEntryPosition("com/example/Application.class")).isEqualTo(1);
+		assertThat(order.getClassEntryPosition("com/example/Application$Inner.class")).isEqualTo(3);
+		assertThat(order.getLibraryPosition("library-1.0.jar")).isEqualTo(2);
+	}
+
+	@Test
+	void fromTraceWithUnifiedLoggingOutput() throws IOException {
+		ClassLoadingOrder order = fromTrace("[0.010s][info][class,load] java.lang.Object source: shared objects file",
+				"Application starting",
+				"[0.520s][info][class,load] org.example.Library source: /home/user/.m2/library-1.0.jar",
+				"[0.530s][info][class,load] com.example.Application$$Lambda$1/0x0000000800c0b440 source: "
+						+ "com.example.Application",
+				"[0.540s][info][class,load] com.example.Application source: file:/app/classes/");
+		assertThat(order.getLibraryPosition("library-1.0.jar")).isEqualTo(1);
+		assertThat(order.getClassEntryPosition("com/example/Application.class")).isEqualTo(2);
+	}
+
+	@Test
+	void fromTraceWithClassList() throws IOException {
+		ClassLoadingOrder order = fromTrace("# NOTE: Do not modify this file.", "java/lang/Object id: 0",
+				"com/example/Application", "@lambda-proxy com/example/Application run");
+		assertThat(order.getClassEntryPosition("com/example/Application.class")).isEqualTo(1);
+		assertThat(order.getLibraryPosition("library-1.0.jar")).isEqualTo(ClassLoadingOrder.NOT_LOADED);
+	}
+
+	@Test
+	void getClassEntryPositionWhenNotLoadedReturnsNotLoaded() throws IOException {
+		ClassLoadingOrder order = fromTrace("com.example.Application");
+		assertThat(order.getClassEntryPosition("com/example/Other.class")).isEqualTo(ClassLoadingOrder.NOT_LOADED);
+	}
+
+	@Test
+	void getClassEntryPositionWhenNotClassReturnsMinusOne() throws IOException {
+		ClassLoadingOrder order = fromTrace("com.example.Application");
+		assertThat(order.getClassEntryPosition("application.properties")).isEqualTo(-1);
+		assertThat(order.getClassEntryPosition("META-INF/versions/11/com/example/Application.class")).isEqualTo(-1);
+		assertThat(order.getClassEntryPosition("module-info.class")).isEqualTo(-1);
+	}
+
+	@Test
+	void sortOnlyMovesItemsWithPosition() throws IOException {
+		ClassLoadingOrder order = fromTrace("c.C", "b.B");
+		List<String> entries = new ArrayList<>(
+				Arrays.asList("META-INF/MANIFEST.MF", "a/A.class", "b/", "b/B.class", "c/", "c/C.class", "d.txt"));
+		order.sort(entries, (entry) -> entry.endsWith("/") ? -1 : order.getClassEntryPosition(entry));
+		assertThat(entries).containsExactly("META-INF/MANIFEST.MF", "c/C.class", "b/", "b/B.class", "c/",
+				"a/A.class", "d.txt");
+	}
+
+	private ClassLoadingOrder fromTrace(String... lines) throws IOException {
+		return ClassLoadingOrder.fromTrace(new StringReader(String.join("\n", lines)));
+	}
+
+}
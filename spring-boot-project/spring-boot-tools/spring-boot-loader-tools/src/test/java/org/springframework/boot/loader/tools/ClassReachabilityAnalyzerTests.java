@@ -0,0 +1,164 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.boot.loader.tools.sample.ClassWithReference;
+import org.springframework.boot.loader.tools.sample.ClassWithoutMainMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link ClassReachabilityAnalyzer}.
+ *
+ * @author Phillip Webb
+ */
+class ClassReachabilityAnalyzerTests {
+
+	private static final String REFERENCED_CLASS = "org/springframework/boot/loader/tools/sample/"
+			+ "ClassWithoutMainMethod.class";
+
+	@TempDir
+	File temp;
+
+	@Test
+	void findUnusedLibrariesReturnsLibrariesWithoutReachableClasses() throws IOException {
+		ClassReachabilityAnalyzer analyzer = new ClassReachabilityAnalyzer();
+		analyzer.addApplicationClasses(createApplication());
+		Library used = createLibrary(REFERENCED_CLASS);
+		Library unused = createLibrary("b/Unused.class");
+		analyzer.addLibrary(used);
+		analyzer.addLibrary(unused);
+		assertThat(analyzer.findUnusedLibraries("a.Application")).containsExactly(unused);
+	}
+
+	@Test
+	void findUnusedLibrariesWhenApplicationClassesAreInDirectory() throws IOException {
+		File classes = new File(this.temp, "classes");
+		File application = new File(classes, "a/Application.class");
+		application.getParentFile().mkdirs();
+		try (InputStream inputStream = getClass().getResourceAsStream("sample/ClassWithReference.class")) {
+			Files.copy(inputStream, application.toPath());
+		}
+		ClassReachabilityAnalyzer analyzer = new ClassReachabilityAnalyzer();
+		analyzer.addApplicationClasses(classes);
+		Library used = createLibrary(REFERENCED_CLASS);
+		Library unused = createLibrary("b/Unused.class");
+		analyzer.addLibrary(used);
+		analyzer.addLibrary(unused);
+		assertThat(analyzer.findUnusedLibraries("a.Application")).containsExactly(unused);
+	}
+
+	@Test
+	void findUnusedLibrariesWhenApplicationClassesAreInJarLocation() throws IOException {
+		TestJarFile jar = new TestJarFile(this.temp);
+		jar.addClass("BOOT-INF/classes/a/Application.class", ClassWithReference.class);
+		ClassReachabilityAnalyzer analyzer = new ClassReachabilityAnalyzer();
+		analyzer.addApplicationClasses(jar.getFile(), "BOOT-INF/classes/");
+		Library used = createLibrary(REFERENCED_CLASS);
+		Library unused = createLibrary("b/Unused.class");
+		analyzer.addLibrary(used);
+		analyzer.addLibrary(unused);
+		assertThat(analyzer.findUnusedLibraries("a.Application")).containsExactly(unused);
+	}
+
+	@Test
+	void findUnusedLibrariesConsidersApplicationClassesInMainClassPackage() throws IOException {
+		TestJarFile jar = new TestJarFile(this.temp);
+		jar.addClass("a/Application.class", ClassWithoutMainMethod.class);
+		jar.addClass("a/b/Component.class", ClassWithReference.class);
+		ClassReachabilityAnalyzer analyzer = new ClassReachabilityAnalyzer();
+		analyzer.addApplicationClasses(jar.getFile());
+		analyzer.addLibrary(createLibrary(REFERENCED_CLASS));
+		assertThat(analyzer.findUnusedLibraries("a.Application")).isEmpty();
+	}
+
+	@Test
+	void findUnusedLibrariesConsidersLibrariesWithoutClassesToBeUsed() throws IOException {
+		ClassReachabilityAnalyzer analyzer = new ClassReachabilityAnalyzer();
+		analyzer.addApplicationClasses(createApplication());
+		TestJarFile jar = new TestJarFile(this.temp);
+		jar.addFile("static/index.html", createFile("index.html", "<html></html>"));
+		analyzer.addLibrary(new Library(jar.getFile(), LibraryScope.COMPILE));
+		assertThat(analyzer.findUnusedLibraries("a.Application")).isEmpty();
+	}
+
+	@Test
+	void findUnusedLibrariesConsidersServiceProviders() throws IOException {
+		ClassReachabilityAnalyzer analyzer = new ClassReachabilityAnalyzer();
+		analyzer.addApplicationClasses(createApplication());
+		TestJarFile jar = new TestJarFile(this.temp);
+		jar.addClass("c/Driver.class", ClassWithoutMainMethod.class);
+		jar.addFile("META-INF/services/java.sql.Driver", createFile("java.sql.Driver", "# Driver\nc.Driver\n"));
+		analyzer.addLibrary(new Library(jar.getFile(), LibraryScope.COMPILE));
+		assertThat(analyzer.findUnusedLibraries("a.Application")).isEmpty();
+	}
+
+	@Test
+	void findUnusedLibrariesConsidersSpringFactoriesWithReachableKey() throws IOException {
+		ClassReachabilityAnalyzer analyzer = new ClassReachabilityAnalyzer();
+		analyzer.addApplicationClasses(createApplication());
+		TestJarFile jar = new TestJarFile(this.temp);
+		jar.addClass(REFERENCED_CLASS, ClassWithoutMainMethod.class);
+		jar.addClass("b/Unused.class", ClassWithoutMainMethod.class);
+		jar.addFile("META-INF/spring.factories", createFile("spring.factories",
+				"org.springframework.boot.loader.tools.sample.ClassWithoutMainMethod=d.Factory\nb.Unused=e.Factory\n"));
+		Library used = new Library(jar.getFile(), LibraryScope.COMPILE);
+		Library factory = createLibrary("d/Factory.class");
+		Library unused = createLibrary("e/Factory.class");
+		analyzer.addLibrary(used);
+		analyzer.addLibrary(factory);
+		analyzer.addLibrary(unused);
+		assertThat(analyzer.findUnusedLibraries("a.Application")).containsExactly(unused);
+	}
+
+	@Test
+	void findUnusedLibrariesWhenMainClassIsMissingThrowsException() throws IOException {
+		ClassReachabilityAnalyzer analyzer = new ClassReachabilityAnalyzer();
+		analyzer.addApplicationClasses(createApplication());
+		assertThatIllegalStateException().isThrownBy(() -> analyzer.findUnusedLibraries("a.Missing"))
+				.withMessage("Main class 'a.Missing' not found");
+	}
+
+	private File createApplication() throws IOException {
+		TestJarFile jar = new TestJarFile(this.temp);
+		jar.addClass("a/Application.class", ClassWithReference.class);
+		return jar.getFile();
+	}
+
+	private Library createLibrary(String className) throws IOException {
+		TestJarFile jar = new TestJarFile(this.temp);
+		jar.addClass(className, ClassWithoutMainMethod.class);
+		return new Library(jar.getFile(), LibraryScope.COMPILE);
+	}
+
+	private File createFile(String name, String content) throws IOException {
+		File file = new File(this.temp, name);
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+}
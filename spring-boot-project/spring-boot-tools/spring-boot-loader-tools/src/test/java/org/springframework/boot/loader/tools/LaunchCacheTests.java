@@ -0,0 +1,283 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+/**
+ * Tests for {@link LaunchCache}.
+ *
+ * @author Phillip Webb
+ */
+class LaunchCacheTests {
+
+	@TempDir
+	File temp;
+
+	private File directory;
+
+	private File classes;
+
+	private File library;
+
+	private File classList;
+
+	private File archive;
+
+	@BeforeEach
+	void setup() throws IOException {
+		this.directory = new File(this.temp, "cache");
+		this.classes = new File(this.temp, "classes");
+		this.classes.mkdirs();
+		this.library = new File(this.temp, "library.jar");
+		writeJar(this.library, "com/example/Library.class");
+		this.classList = new File(this.directory, "classpath.classlist");
+		this.archive = new File(this.directory, "classpath.jsa");
+	}
+
+	@Test
+	void getClasspathPlacesDirectoriesAfterFiles() throws IOException {
+		File other = new File(this.temp, "other.jar");
+		writeJar(other, "com/example/Other.class");
+		LaunchCache launchCache = prepare(this.classes, this.library, other);
+		assertThat(launchCache.getClasspath()).containsExactly(this.library, other, this.classes);
+	}
+
+	@Test
+	void argumentFileContainsClasspath() throws IOException {
+		LaunchCache launchCache = prepare(this.classes, this.library);
+		String content = new String(Files.readAllBytes(launchCache.getArgumentFile().toPath()),
+				StandardCharsets.UTF_8);
+		String classpath = this.library.getAbsolutePath() + File.pathSeparator + this.classes.getAbsolutePath();
+		assertThat(content).isEqualTo("-cp\n\"" + classpath.replace("\\", "\\\\") + "\"\n");
+	}
+
+	@Test
+	void getJvmArgumentsWhenArchiveIsMissingRecordsLoadedClasses() throws IOException {
+		LaunchCache launchCache = prepare(this.classes, this.library);
+		assertThat(launchCache.getJvmArguments())
+				.containsExactly("-XX:DumpLoadedClassList=" + this.classList.getAbsolutePath());
+	}
+
+	@Test
+	void getJvmArgumentsWhenArchiveExistsUsesArchive() throws IOException {
+		prepare(this.classes, this.library);
+		Files.write(this.archive.toPath(), new byte[] { 1 });
+		LaunchCache launchCache = prepare(this.classes, this.library);
+		assertThat(launchCache.getJvmArguments())
+				.containsExactly("-XX:SharedArchiveFile=" + this.archive.getAbsolutePath());
+	}
+
+	@Test
+	void prepareWhenClassesChangeKeepsArchive() throws IOException {
+		prepare(this.classes, this.library);
+		Files.write(this.archive.toPath(), new byte[] { 1 });
+		Files.write(new File(this.classes, "Example.class").toPath(), new byte[] { 1 });
+		prepare(this.classes, this.library);
+		assertThat(this.archive).exists();
+	}
+
+	@Test
+	void prepareWhenDependencyChangesDeletesArchive() throws IOException {
+		prepare(this.classes, this.library);
+		Files.write(this.archive.toPath(), new byte[] { 1 });
+		writeJar(this.library, "com/example/Library.class", "com/example/Changed.class");
+		prepare(this.classes, this.library);
+		assertThat(this.archive).doesNotExist();
+	}
+
+	@Test
+	void prepareWhenDependencyIsAddedDeletesArchive() throws IOException {
+		prepare(this.classes, this.library);
+		Files.write(this.archive.toPath(), new byte[] { 1 });
+		File other = new File(this.temp, "other.jar");
+		writeJar(other, "com/example/Other.class");
+		LaunchCache launchCache = prepare(this.classes, this.library, other);
+		assertThat(this.archive).doesNotExist();
+		assertThat(new String(Files.readAllBytes(launchCache.getArgumentFile().toPath()), StandardCharsets.UTF_8))
+				.contains("other.jar");
+	}
+
+	@Test
+	void prepareWhenJavaExecutableChangesDeletesArchive() throws IOException {
+		prepare(this.classes, this.library);
+		Files.write(this.archive.toPath(), new byte[] { 1 });
+		LaunchCache.prepare(this.directory, "/opt/other/bin/java", Arrays.asList(this.classes, this.library));
+		assertThat(this.archive).doesNotExist();
+	}
+
+	@Test
+	void prepareWhenArchiveCannotBeCreatedThrowsExceptionAndDeletesClassList() throws IOException {
+		prepare(this.classes, this.library);
+		Files.write(this.classList.toPath(), "java/lang/Object".getBytes(StandardCharsets.UTF_8));
+		assertThatIOException().isThrownBy(() -> prepare(this.classes, this.library));
+		assertThat(this.classList).doesNotExist();
+		assertThat(this.archive).doesNotExist();
+	}
+
+	@Test
+	void prepareWhenDependencyChangesDeletesClassList() throws IOException {
+		prepare(this.classes, this.library);
+		Files.write(this.classList.toPath(), "java/lang/Object".getBytes(StandardCharsets.UTF_8));
+		writeJar(this.library, "com/example/Library.class", "com/example/Changed.class");
+		prepare(this.classes, this.library);
+		assertThat(this.classList).doesNotExist();
+	}
+
+	@Test
+	void prepareWhenArchiveCannotBeCreatedDoesNotTryAgain() throws IOException {
+		prepare(this.classes, this.library);
+		Files.write(this.classList.toPath(), "java/lang/Object".getBytes(StandardCharsets.UTF_8));
+		assertThatIOException().isThrownBy(() -> prepare(this.classes, this.library));
+		Files.write(this.classList.toPath(), "java/lang/Object".getBytes(StandardCharsets.UTF_8));
+		LaunchCache launchCache = prepare(this.classes, this.library);
+		assertThat(launchCache.getJvmArguments()).isEmpty();
+		assertThat(this.classList).exists();
+	}
+
+	@Test
+	void prepareWhenArchiveCouldNotBeCreatedAndDependencyChangesTriesAgain() throws IOException {
+		prepare(this.classes, this.library);
+		Files.write(this.classList.toPath(), "java/lang/Object".getBytes(StandardCharsets.UTF_8));
+		assertThatIOException().isThrownBy(() -> prepare(this.classes, this.library));
+		writeJar(this.library, "com/example/Library.class", "com/example/Changed.class");
+		LaunchCache launchCache = prepare(this.classes, this.library);
+		assertThat(launchCache.getJvmArguments())
+				.containsExactly("-XX:DumpLoadedClassList=" + this.classList.getAbsolutePath());
+	}
+
+	@Test
+	void prepareWhenDirectoryResourceIsInLaterJarKeepsOrderWithoutArchive() throws IOException {
+		File resource = new File(this.classes, "com/example/Library.class");
+		resource.getParentFile().mkdirs();
+		Files.write(resource.toPath(), new byte[] { 1 });
+		LaunchCache launchCache = prepare(this.classes, this.library);
+		assertThat(launchCache.getShadowingResource()).isEqualTo("com/example/Library.class");
+		assertThat(launchCache.getClasspath()).containsExactly(this.classes, this.library);
+		assertThat(launchCache.getJvmArguments()).isEmpty();
+	}
+
+	@Test
+	void prepareWhenDirectoryResourceIsInEarlierJarPlacesDirectoriesAfterFiles() throws IOException {
+		File resource = new File(this.classes, "com/example/Library.class");
+		resource.getParentFile().mkdirs();
+		Files.write(resource.toPath(), new byte[] { 1 });
+		LaunchCache launchCache = prepare(this.library, this.classes);
+		assertThat(launchCache.getShadowingResource()).isNull();
+		assertThat(launchCache.getClasspath()).containsExactly(this.library, this.classes);
+	}
+
+	@Test
+	void prepareWhenDirectoryAndJarBothHaveMetaInfResourcesPlacesDirectoriesAfterFiles() throws IOException {
+		File resource = new File(this.classes, "META-INF/spring.factories");
+		resource.getParentFile().mkdirs();
+		Files.write(resource.toPath(), new byte[] { 1 });
+		writeJar(this.library, "META-INF/spring.factories");
+		LaunchCache launchCache = prepare(this.classes, this.library);
+		assertThat(launchCache.getShadowingResource()).isNull();
+		assertThat(launchCache.getClasspath()).containsExactly(this.library, this.classes);
+	}
+
+	@Test
+	void isSupportedWhenCurrentJavaDependsOnItsVersion() throws IOException {
+		boolean java13OrLater = Integer.parseInt(System.getProperty("java.specification.version")
+				.replaceFirst("^1\\.", "").replaceFirst("\\..*", "")) >= 13;
+		assertThat(LaunchCache.isSupported(this.directory, new JavaExecutable().toString())).isEqualTo(java13OrLater);
+	}
+
+	@Test
+	@DisabledOnOs(OS.WINDOWS)
+	void isSupportedWhenJavaIsOlderThan13ReturnsFalse() throws IOException {
+		File java = writeJava("openjdk version \"11.0.2\" 2019-01-15");
+		assertThat(LaunchCache.isSupported(this.directory, java.getAbsolutePath())).isFalse();
+	}
+
+	@Test
+	@DisabledOnOs(OS.WINDOWS)
+	void isSupportedWhenJavaIsOlderThan9ReturnsFalse() throws IOException {
+		File java = writeJava("java version \"1.8.0_292\"");
+		assertThat(LaunchCache.isSupported(this.directory, java.getAbsolutePath())).isFalse();
+	}
+
+	@Test
+	@DisabledOnOs(OS.WINDOWS)
+	void isSupportedWhenJavaIs13OrLaterReturnsTrue() throws IOException {
+		File java = writeJava("openjdk version \"16\" 2021-03-16");
+		assertThat(LaunchCache.isSupported(this.directory, java.getAbsolutePath())).isTrue();
+	}
+
+	@Test
+	@DisabledOnOs(OS.WINDOWS)
+	void isSupportedWhenVersionIsNotRecognizedThrowsException() throws IOException {
+		File java = writeJava("unknown");
+		assertThatIOException().isThrownBy(() -> LaunchCache.isSupported(this.directory, java.getAbsolutePath()))
+				.withMessageContaining("Unable to determine the version");
+	}
+
+	@Test
+	@DisabledOnOs(OS.WINDOWS)
+	void isSupportedRunsJavaOnlyOnce() throws IOException {
+		File java = writeJava("openjdk version \"16\" 2021-03-16");
+		File runs = new File(this.temp, "runs");
+		assertThat(LaunchCache.isSupported(this.directory, java.getAbsolutePath())).isTrue();
+		assertThat(LaunchCache.isSupported(this.directory, java.getAbsolutePath())).isTrue();
+		assertThat(new String(Files.readAllBytes(runs.toPath()), StandardCharsets.UTF_8)).isEqualTo("run\n");
+	}
+
+	private File writeJava(String version) throws IOException {
+		File java = new File(this.temp, "bin/java");
+		java.getParentFile().mkdirs();
+		String script = "#!/bin/sh\necho run >> '" + new File(this.temp, "runs").getAbsolutePath() + "'\necho '"
+				+ version + "' >&2\n";
+		Files.write(java.toPath(), script.getBytes(StandardCharsets.UTF_8));
+		Files.setPosixFilePermissions(java.toPath(), PosixFilePermissions.fromString("rwxr-xr-x"));
+		return java;
+	}
+
+	private void writeJar(File file, String... entries) throws IOException {
+		try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(file.toPath()))) {
+			for (String entry : entries) {
+				zip.putNextEntry(new ZipEntry(entry));
+				zip.write(new byte[] { 1 });
+				zip.closeEntry();
+			}
+		}
+	}
+
+	private LaunchCache prepare(File... classpath) throws IOException {
+		List<File> files = Arrays.asList(classpath);
+		return LaunchCache.prepare(this.directory, "/opt/java/bin/java", files);
+	}
+
+}
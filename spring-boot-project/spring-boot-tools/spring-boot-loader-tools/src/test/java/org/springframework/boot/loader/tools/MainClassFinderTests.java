@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,8 @@ package org.springframework.boot.loader.tools;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.jar.JarFile;
@@ -42,10 +44,13 @@ import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
  */
 class MainClassFinderTests {
 
+	private File tempDir;
+
 	private TestJarFile testJarFile;
 
 	@BeforeEach
 	void setup(@TempDir File tempDir) throws IOException {
+		this.tempDir = tempDir;
 		this.testJarFile = new TestJarFile(tempDir);
 	}
 
@@ -181,6 +186,68 @@ class MainClassFinderTests {
 		}
 	}
 
+	@Test
+	void findSingleDirectorySearchWithManyClasses() throws Exception {
+		for (int i = 0; i < 100; i++) {
+			this.testJarFile.addClass("a/b/C" + i + ".class", ClassWithoutMainMethod.class);
+		}
+		this.testJarFile.addClass("a/b/c/D.class", ClassWithMainMethod.class);
+		String mainClass = MainClassFinder.findSingleMainClass(this.testJarFile.getJarSource());
+		assertThat(mainClass).isEqualTo("a.b.c.D");
+	}
+
+	@Test
+	void findSingleDirectorySearchWithCacheUsesCachedResult() throws Exception {
+		this.testJarFile.addClass("a/B.class", ClassWithMainMethod.class);
+		File cacheFile = new File(this.tempDir, "main-class.cache");
+		MainClassFinderCache cache = MainClassFinderCache.load(cacheFile);
+		assertThat(MainClassFinder.findSingleMainClass(this.testJarFile.getJarSource(), null, cache))
+				.isEqualTo("a.B");
+		cache.save();
+		File classFile = new File(this.testJarFile.getJarSource(), "a/B.class");
+		long lastModified = classFile.lastModified();
+		Files.write(classFile.toPath(), new byte[(int) classFile.length()]);
+		classFile.setLastModified(lastModified);
+		assertThat(MainClassFinder.findSingleMainClass(this.testJarFile.getJarSource(), null,
+				MainClassFinderCache.load(cacheFile))).isEqualTo("a.B");
+	}
+
+	@Test
+	void findSingleDirectorySearchWithCacheWhenClassHasChangedRescans() throws Exception {
+		this.testJarFile.addClass("a/B.class", ClassWithMainMethod.class);
+		File cacheFile = new File(this.tempDir, "main-class.cache");
+		MainClassFinderCache cache = MainClassFinderCache.load(cacheFile);
+		assertThat(MainClassFinder.findSingleMainClass(this.testJarFile.getJarSource(), null, cache))
+				.isEqualTo("a.B");
+		cache.save();
+		this.testJarFile.addClass("a/B.class", ClassWithoutMainMethod.class, 0L);
+		assertThat(MainClassFinder.findSingleMainClass(this.testJarFile.getJarSource(), null,
+				MainClassFinderCache.load(cacheFile))).isNull();
+	}
+
+	@Test
+	void findSingleDirectorySearchWithCorruptCache() throws Exception {
+		this.testJarFile.addClass("a/B.class", ClassWithMainMethod.class);
+		File cacheFile = new File(this.tempDir, "main-class.cache");
+		Files.write(cacheFile.toPath(), "# main class finder cache v1\ncorrupt".getBytes(StandardCharsets.UTF_8));
+		assertThat(MainClassFinder.findSingleMainClass(this.testJarFile.getJarSource(), null,
+				MainClassFinderCache.load(cacheFile))).isEqualTo("a.B");
+	}
+
+	@Test
+	void findSingleJarSearchWithCacheUsesCachedResult() throws Exception {
+		this.testJarFile.addClass("a/B.class", ClassWithMainMethod.class);
+		File cacheFile = new File(this.tempDir, "main-class.cache");
+		try (JarFile jarFile = this.testJarFile.getJarFile()) {
+			MainClassFinderCache cache = MainClassFinderCache.load(cacheFile);
+			assertThat(MainClassFinder.findSingleMainClass(jarFile, "", null, cache)).isEqualTo("a.B");
+			cache.save();
+			assertThat(MainClassFinder.findSingleMainClass(jarFile, "", null, MainClassFinderCache.load(cacheFile)))
+					.isEqualTo("a.B");
+		}
+		assertThat(new String(Files.readAllBytes(cacheFile.toPath()), StandardCharsets.UTF_8)).contains("!/a/B.class");
+	}
+
 	static class ClassNameCollector implements MainClassCallback<Object> {
 
 		private final List<String> classNames = new ArrayList<>();
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,8 +18,10 @@ package org.springframework.boot.loader.tools;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.FileTime;
 import java.nio.file.attribute.PosixFilePermission;
 import java.time.OffsetDateTime;
@@ -31,12 +33,14 @@ import java.util.List;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
+import java.util.zip.CRC32;
 
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.boot.loader.tools.sample.ClassWithMainMethod;
+import org.springframework.boot.loader.tools.sample.ClassWithoutMainMethod;
 import org.springframework.util.FileCopyUtils;
 import org.springframework.util.StringUtils;
 
@@ -198,6 +202,187 @@ class RepackagerTests extends AbstractPackagerTests<Repackager> {
 		}
 	}
 
+	@Test
+	void incrementalRepackageCopiesUnchangedLibrariesFromPreviousDestination() throws Exception {
+		File libJarFile = createLibrary();
+		this.testJarFile.addClass("a/b/C.class", ClassWithMainMethod.class);
+		Repackager repackager = createRepackager(this.testJarFile.getFile(), true);
+		repackager.setIncremental(true);
+		CountingLibrary library = new CountingLibrary(libJarFile, true);
+		Libraries libraries = (callback) -> callback.library(library);
+		repackager.repackage(this.destination, libraries);
+		int writeOpenCount = library.openCount;
+		String comment = getEntry(this.destination, "BOOT-INF/lib/" + libJarFile.getName()).getComment();
+		libJarFile.setLastModified(System.currentTimeMillis() + 60000);
+		library.openCount = 0;
+		repackager.repackage(this.destination, libraries);
+		assertThat(library.openCount).isLessThan(writeOpenCount);
+		assertThat(getEntry(this.destination, "BOOT-INF/lib/" + libJarFile.getName()).getComment())
+				.isEqualTo(comment);
+		assertThat(getEntryContent(this.destination, "BOOT-INF/lib/" + libJarFile.getName()))
+				.isEqualTo(FileCopyUtils.copyToByteArray(libJarFile));
+		assertThat(hasLauncherClasses(this.destination)).isTrue();
+		assertThat(new File(this.tempDir, this.destination.getName() + ".previous")).doesNotExist();
+	}
+
+	@Test
+	void incrementalRepackageWritesChangedLibrariesWithSameSizeAndLastModifiedTime() throws Exception {
+		File libJarFile = createLibrary();
+		long libLastModified = libJarFile.lastModified();
+		this.testJarFile.addClass("a/b/C.class", ClassWithMainMethod.class);
+		Repackager repackager = createRepackager(this.testJarFile.getFile(), true);
+		repackager.setIncremental(true);
+		Libraries libraries = (callback) -> callback.library(new Library(libJarFile, LibraryScope.COMPILE));
+		repackager.repackage(this.destination, libraries);
+		String comment = getEntry(this.destination, "BOOT-INF/lib/" + libJarFile.getName()).getComment();
+		assertThat(comment).isEqualTo("SHA1:" + FileUtils.sha1Hash(libJarFile));
+		byte[] changed = modifyContent(libJarFile);
+		libJarFile.setLastModified(libLastModified);
+		repackager.repackage(this.destination, libraries);
+		assertThat(getEntryContent(this.destination, "BOOT-INF/lib/" + libJarFile.getName())).isEqualTo(changed);
+		assertThat(getEntry(this.destination, "BOOT-INF/lib/" + libJarFile.getName()).getComment())
+				.isEqualTo("SHA1:" + FileUtils.sha1Hash(libJarFile)).isNotEqualTo(comment);
+		assertThat(new File(this.tempDir, this.destination.getName() + ".previous")).doesNotExist();
+	}
+
+	@Test
+	void incrementalRepackageWritesChangedUnpackLibraries() throws Exception {
+		File libJarFile = createLibrary();
+		long libLastModified = libJarFile.lastModified();
+		this.testJarFile.addClass("a/b/C.class", ClassWithMainMethod.class);
+		Repackager repackager = createRepackager(this.testJarFile.getFile(), true);
+		repackager.setIncremental(true);
+		Libraries libraries = (callback) -> callback.library(new Library(libJarFile, LibraryScope.COMPILE, true));
+		repackager.repackage(this.destination, libraries);
+		String comment = getEntry(this.destination, "BOOT-INF/lib/" + libJarFile.getName()).getComment();
+		byte[] changed = modifyContent(libJarFile);
+		libJarFile.setLastModified(libLastModified);
+		repackager.repackage(this.destination, libraries);
+		assertThat(getEntryContent(this.destination, "BOOT-INF/lib/" + libJarFile.getName())).isEqualTo(changed);
+		assertThat(getEntry(this.destination, "BOOT-INF/lib/" + libJarFile.getName()).getComment())
+				.isEqualTo("UNPACK:" + FileUtils.sha1Hash(libJarFile)).isNotEqualTo(comment);
+	}
+
+	@Test
+	void incrementalRepackageWhenSourceIsDestinationKeepsPreviousArchive() throws Exception {
+		File libJarFile = createLibrary();
+		this.testJarFile.addClass("a/b/C.class", ClassWithMainMethod.class);
+		File source = this.testJarFile.getFile();
+		CountingLibrary library = new CountingLibrary(libJarFile, false);
+		Libraries libraries = (callback) -> callback.library(library);
+		Repackager repackager = createRepackager(source, false);
+		repackager.setIncremental(true);
+		repackager.repackage(this.destination, libraries);
+		int writeOpenCount = library.openCount;
+		File previous = new File(source.getParentFile(), source.getName() + ".previous");
+		assertThat(previous).exists();
+		Files.copy(this.testJarFile.getFile().toPath(), source.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		library.openCount = 0;
+		repackager = createRepackager(source, false);
+		repackager.setIncremental(true);
+		repackager.repackage(this.destination, libraries);
+		assertThat(library.openCount).isLessThan(writeOpenCount);
+		assertThat(getEntryContent(this.destination, "BOOT-INF/lib/" + libJarFile.getName()))
+				.isEqualTo(FileCopyUtils.copyToByteArray(libJarFile));
+		assertThat(hasLauncherClasses(this.destination)).isTrue();
+		assertThat(previous).exists();
+		assertThat(FileCopyUtils.copyToByteArray(previous))
+				.isEqualTo(FileCopyUtils.copyToByteArray(this.destination));
+	}
+
+	@Test
+	void incrementalRepackageWritesChangedLibrariesWithSameCrc() throws Exception {
+		File libJarFile = createLibrary();
+		this.testJarFile.addClass("a/b/C.class", ClassWithMainMethod.class);
+		Repackager repackager = createRepackager(this.testJarFile.getFile(), true);
+		repackager.setIncremental(true);
+		Libraries libraries = (callback) -> callback.library(new Library(libJarFile, LibraryScope.COMPILE));
+		repackager.repackage(this.destination, libraries);
+		byte[] changed = modifyContentKeepingCrc(libJarFile);
+		repackager.repackage(this.destination, libraries);
+		assertThat(getEntryContent(this.destination, "BOOT-INF/lib/" + libJarFile.getName())).isEqualTo(changed);
+	}
+
+	@Test
+	void repackageWhenNotIncrementalDoesNotRecordLibraryDigests() throws Exception {
+		File libJarFile = createLibrary();
+		this.testJarFile.addClass("a/b/C.class", ClassWithMainMethod.class);
+		Repackager repackager = createRepackager(this.testJarFile.getFile(), true);
+		repackager.repackage(this.destination,
+				(callback) -> callback.library(new Library(libJarFile, LibraryScope.COMPILE)));
+		assertThat(getEntry(this.destination, "BOOT-INF/lib/" + libJarFile.getName()).getComment()).isNull();
+	}
+
+	private File createLibrary() throws IOException {
+		TestJarFile libJar = new TestJarFile(this.tempDir);
+		libJar.addClass("a/b/C.class", ClassWithoutMainMethod.class);
+		File libJarFile = libJar.getFile();
+		long lastModified = OffsetDateTime.of(2000, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli();
+		libJarFile.setLastModified(lastModified);
+		return libJarFile;
+	}
+
+	private byte[] modifyContentKeepingCrc(File file) throws IOException {
+		byte[] content = FileCopyUtils.copyToByteArray(file);
+		byte[] modified = content.clone();
+		modified[content.length / 4]++;
+		// CRC32 is linear, so the change can be cancelled out by flipping a combination
+		// of the bits in a 32 bit window elsewhere in the content
+		int window = content.length / 2;
+		long[] rows = new long[32];
+		for (int bit = 0; bit < 32; bit++) {
+			byte[] flipped = content.clone();
+			flipped[window + bit / 8] ^= (1 << (bit % 8));
+			rows[bit] = (crc(flipped) ^ crc(content)) | (1L << (32 + bit));
+		}
+		long target = crc(modified) ^ crc(content);
+		for (int pivot = 0; pivot < 32; pivot++) {
+			for (int row = pivot; row < 32; row++) {
+				if ((rows[row] & (1L << pivot)) != 0) {
+					long swap = rows[pivot];
+					rows[pivot] = rows[row];
+					rows[row] = swap;
+					break;
+				}
+			}
+			for (int row = 0; row < 32; row++) {
+				if (row != pivot && (rows[row] & (1L << pivot)) != 0) {
+					rows[row] ^= rows[pivot];
+				}
+			}
+			if ((target & (1L << pivot)) != 0) {
+				target ^= rows[pivot];
+			}
+		}
+		for (int bit = 0; bit < 32; bit++) {
+			if ((target & (1L << (32 + bit))) != 0) {
+				modified[window + bit / 8] ^= (1 << (bit % 8));
+			}
+		}
+		assertThat(crc(modified)).isEqualTo(crc(content));
+		FileCopyUtils.copy(modified, file);
+		return modified;
+	}
+
+	private long crc(byte[] content) {
+		CRC32 crc = new CRC32();
+		crc.update(content);
+		return crc.getValue();
+	}
+
+	private byte[] modifyContent(File file) throws IOException {
+		byte[] content = FileCopyUtils.copyToByteArray(file);
+		content[content.length / 2]++;
+		FileCopyUtils.copy(content, file);
+		return content;
+	}
+
+	private byte[] getEntryContent(File file, String name) throws IOException {
+		try (JarFile jarFile = new JarFile(file)) {
+			return FileCopyUtils.copyToByteArray(jarFile.getInputStream(jarFile.getJarEntry(name)));
+		}
+	}
+
 	private boolean hasLauncherClasses(File file) throws IOException {
 		return hasEntry(file, "org/springframework/boot/")
 				&& hasEntry(file, "org/springframework/boot/loader/JarLauncher.class");
@@ -285,4 +470,20 @@ class RepackagerTests extends AbstractPackagerTests<Repackager> {
 
 	}
 
+	static class CountingLibrary extends Library {
+
+		private int openCount;
+
+		CountingLibrary(File file, boolean unpackRequired) {
+			super(file, LibraryScope.COMPILE, unpackRequired);
+		}
+
+		@Override
+		InputStream openStream() throws IOException {
+			this.openCount++;
+			return super.openStream();
+		}
+
+	}
+
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.maven;
+
+import java.io.File;
+
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the Maven plugin's config data snapshot support.
+ *
+ * @author Phillip Webb
+ */
+@ExtendWith(MavenBuildExtension.class)
+class ConfigDataSnapshotIntegrationTests extends AbstractArchiveIntegrationTests {
+
+	@TestTemplate
+	void snapshotsAreGeneratedForApplicationConfigFiles(MavenBuild mavenBuild) {
+		mavenBuild.project("config-data-snapshot").execute((project) -> {
+			File classes = new File(project, "target/classes");
+			assertThat(new File(classes, "application.yml.snapshot")).isFile();
+			assertThat(new File(classes, "config/application-dev.properties.snapshot")).isFile();
+			assertThat(new File(classes, "messages.properties.snapshot")).doesNotExist();
+		});
+	}
+
+	@TestTemplate
+	void snapshotsArePackagedNextToTheirConfigFiles(MavenBuild mavenBuild) {
+		mavenBuild.project("config-data-snapshot").execute((project) -> {
+			File jar = new File(project, "target/config-data-snapshot-0.0.1.BUILD-SNAPSHOT.jar");
+			assertThat(jar(jar)).hasEntryWithName("BOOT-INF/classes/application.yml.snapshot")
+					.hasEntryWithName("BOOT-INF/classes/config/application-dev.properties.snapshot");
+		});
+	}
+
+}
@@ -99,6 +99,7 @@ class MavenBuild {
 		putReplacement(replacements, bom, "spring-framework.version");
 		putReplacement(replacements, bom, "jakarta-servlet.version");
 		putReplacement(replacements, bom, "kotlin.version");
+		putReplacement(replacements, bom, "snakeyaml.version");
 		return Collections.unmodifiableMap(replacements);
 	}
 
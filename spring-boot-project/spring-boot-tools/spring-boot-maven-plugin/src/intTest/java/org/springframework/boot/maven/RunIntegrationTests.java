@@ -21,6 +21,8 @@ import java.lang.reflect.Method;
 
 import org.junit.jupiter.api.TestTemplate;
 import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 import org.junit.jupiter.api.condition.OS;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -127,6 +129,27 @@ class RunIntegrationTests {
 				.execute((project) -> assertThat(buildLog(project)).contains("The Maven Toolchains is awesome!"));
 	}
 
+	@TestTemplate
+	@EnabledForJreRange(min = JRE.JAVA_13)
+	void whenFastLaunchIsEnabledTheSecondRunUsesAClassDataSharingArchive(MavenBuild mavenBuild) {
+		mavenBuild.project("run-fast-launch").goals("spring-boot:run", "spring-boot:run", "-X").execute((project) -> {
+			File directory = new File(project, "target/spring-boot-run");
+			String argumentFile = "@" + new File(directory, "classpath.args").getAbsolutePath();
+			assertThat(buildLog(project)).contains("I haz been run").contains("-XX:DumpLoadedClassList=")
+					.contains("-XX:SharedArchiveFile=").contains(argumentFile);
+			assertThat(new File(directory, "classpath.jsa")).isFile();
+		});
+	}
+
+	@TestTemplate
+	@DisabledOnOs(OS.WINDOWS)
+	void whenFastLaunchIsEnabledAndTheToolchainIsOlderThanJava13FastLaunchIsDisabled(MavenBuild mavenBuild) {
+		mavenBuild.project("run-fast-launch-toolchains").goals("verify", "-t", "toolchains.xml")
+				.execute((project) -> assertThat(buildLog(project))
+						.contains("Fast launch requires Java 13 or later and has been disabled")
+						.contains("The Maven Toolchains is awesome!"));
+	}
+
 	@TestTemplate
 	void whenPomSpecifiesRunArgumentsContainingCommasTheyArePassedToTheApplicationCorrectly(MavenBuild mavenBuild) {
 		mavenBuild.project("run-arguments").goals("spring-boot:run").execute((project) -> assertThat(buildLog(project))
@@ -47,6 +47,7 @@ import org.springframework.boot.loader.tools.Layouts.Jar;
 import org.springframework.boot.loader.tools.Layouts.None;
 import org.springframework.boot.loader.tools.Layouts.War;
 import org.springframework.boot.loader.tools.Libraries;
+import org.springframework.boot.loader.tools.MainClassFinderCache;
 import org.springframework.boot.loader.tools.Packager;
 import org.springframework.boot.loader.tools.layer.CustomLayers;
 
@@ -59,6 +60,8 @@ import org.springframework.boot.loader.tools.layer.CustomLayers;
  */
 public abstract class AbstractPackagerMojo extends AbstractDependencyFilterMojo {
 
+	private static final String MAIN_CLASS_FINDER_CACHE = "spring-boot-packager-main-class.cache";
+
 	private static final org.springframework.boot.loader.tools.Layers IMPLICIT_LAYERS = org.springframework.boot.loader.tools.Layers.IMPLICIT;
 
 	/**
@@ -141,6 +144,10 @@ public abstract class AbstractPackagerMojo extends AbstractDependencyFilterMojo
 		packager.setLayoutFactory(getLayoutFactory());
 		packager.addMainClassTimeoutWarningListener(new LoggingMainClassTimeoutWarningListener(this::getLog));
 		packager.setMainClass(this.mainClass);
+		if (this.mainClass == null) {
+			File cacheFile = new File(this.project.getBuild().getDirectory(), MAIN_CLASS_FINDER_CACHE);
+			packager.setMainClassFinderCache(MainClassFinderCache.load(cacheFile));
+		}
 		LayoutType layout = getLayout();
 		if (layout != null) {
 			getLog().info("Layout: " + layout);
@@ -45,6 +45,7 @@ import org.apache.maven.toolchain.ToolchainManager;
 import org.springframework.boot.loader.tools.FileUtils;
 import org.springframework.boot.loader.tools.JavaExecutable;
 import org.springframework.boot.loader.tools.MainClassFinder;
+import org.springframework.boot.loader.tools.MainClassFinderCache;
 
 /**
  * Base class to run a spring application.
@@ -60,6 +61,8 @@ import org.springframework.boot.loader.tools.MainClassFinder;
  */
 public abstract class AbstractRunMojo extends AbstractDependencyFilterMojo {
 
+	private static final String MAIN_CLASS_FINDER_CACHE = "spring-boot-run-main-class.cache";
+
 	private static final String SPRING_BOOT_APPLICATION_CLASS_NAME = "org.springframework.boot.autoconfigure.SpringBootApplication";
 
 	/**
@@ -402,30 +405,43 @@ public abstract class AbstractRunMojo extends AbstractDependencyFilterMojo {
 
 	private void addClasspath(List<String> args) throws MojoExecutionException {
 		try {
-			StringBuilder classpath = new StringBuilder();
+			List<File> classpath = new ArrayList<>();
 			for (URL ele : getClassPathUrls()) {
-				if (classpath.length() > 0) {
-					classpath.append(File.pathSeparator);
-				}
-				classpath.append(new File(ele.toURI()));
+				classpath.add(new File(ele.toURI()));
 			}
 			if (getLog().isDebugEnabled()) {
-				getLog().debug("Classpath for forked process: " + classpath);
+				getLog().debug("Classpath for forked process: " + toClasspathString(classpath));
 			}
-			args.add("-cp");
-			args.add(classpath.toString());
+			args.addAll(resolveClasspathArguments(classpath));
 		}
 		catch (Exception ex) {
 			throw new MojoExecutionException("Could not build classpath", ex);
 		}
 	}
 
+	/**
+	 * Resolve the arguments that configure the classpath of the forked process.
+	 * @param classpath the classpath
+	 * @return the classpath arguments
+	 * @since 2.5.0
+	 */
+	protected List<String> resolveClasspathArguments(List<File> classpath) {
+		return Arrays.asList("-cp", toClasspathString(classpath));
+	}
+
+	private String toClasspathString(List<File> classpath) {
+		return classpath.stream().map(File::toString).collect(Collectors.joining(File.pathSeparator));
+	}
+
 	private String getStartClass() throws MojoExecutionException {
 		String mainClass = this.mainClass;
 		if (mainClass == null) {
 			try {
+				File cacheFile = new File(this.project.getBuild().getDirectory(), MAIN_CLASS_FINDER_CACHE);
+				MainClassFinderCache cache = MainClassFinderCache.load(cacheFile);
 				mainClass = MainClassFinder.findSingleMainClass(this.classesDirectory,
-						SPRING_BOOT_APPLICATION_CLASS_NAME);
+						SPRING_BOOT_APPLICATION_CLASS_NAME, cache);
+				cache.save();
 			}
 			catch (IOException ex) {
 				throw new MojoExecutionException(ex.getMessage(), ex);
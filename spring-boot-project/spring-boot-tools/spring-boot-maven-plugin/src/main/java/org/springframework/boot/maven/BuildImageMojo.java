@@ -102,8 +102,8 @@ public class BuildImageMojo extends AbstractPackagerMojo {
 
 	/**
 	 * Image configuration, with {@code builder}, {@code runImage}, {@code name},
-	 * {@code env}, {@code cleanCache}, {@code verboseLogging}, {@code pullPolicy}, and
-	 * {@code publish} options.
+	 * {@code env}, {@code cleanCache}, {@code reuseBuilder}, {@code verboseLogging},
+	 * {@code pullPolicy}, and {@code publish} options.
 	 * @since 2.3.0
 	 */
 	@Parameter
@@ -139,6 +139,14 @@ public class BuildImageMojo extends AbstractPackagerMojo {
 	@Parameter(property = "spring-boot.build-image.cleanCache", readonly = true)
 	Boolean cleanCache;
 
+	/**
+	 * Alias for {@link Image#reuseBuilder} to support configuration via command-line
+	 * property.
+	 * @since 2.5.0
+	 */
+	@Parameter(property = "spring-boot.build-image.reuseBuilder", readonly = true)
+	Boolean reuseBuilder;
+
 	/**
 	 * Alias for {@link Image#pullPolicy} to support configuration via command-line
 	 * property.
@@ -202,6 +210,9 @@ public class BuildImageMojo extends AbstractPackagerMojo {
 		if (image.cleanCache == null && this.cleanCache != null) {
 			image.setCleanCache(this.cleanCache);
 		}
+		if (image.reuseBuilder == null && this.reuseBuilder != null) {
+			image.setReuseBuilder(this.reuseBuilder);
+		}
 		if (image.pullPolicy == null && this.pullPolicy != null) {
 			image.setPullPolicy(this.pullPolicy);
 		}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.maven;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Component;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.toolchain.Toolchain;
+import org.apache.maven.toolchain.ToolchainManager;
+import org.sonatype.plexus.build.incremental.BuildContext;
+
+import org.springframework.boot.loader.tools.JavaExecutable;
+import org.springframework.boot.loader.tools.RunProcess;
+
+/**
+ * Generate a snapshot of each {@code application} config file in the project's output
+ * directory. A snapshot holds the config file's pre-parsed property sources, including
+ * the origin of each value, and is read by the application in place of the config file
+ * for as long as the config file's content is unchanged.
+ *
+ * @author Phillip Webb
+ * @since 2.5.0
+ */
+@Mojo(name = "config-data-snapshot", defaultPhase = LifecyclePhase.PROCESS_CLASSES, threadSafe = true,
+		requiresDependencyResolution = ResolutionScope.RUNTIME)
+public class ConfigDataSnapshotMojo extends AbstractMojo {
+
+	private static final String GENERATOR_CLASS_NAME = "org.springframework.boot.env.PropertySourceSnapshotGenerator";
+
+	@Component
+	private BuildContext buildContext;
+
+	/**
+	 * The Maven session. This is used for toolchain manager API calls.
+	 */
+	@Parameter(defaultValue = "${session}", readonly = true, required = true)
+	private MavenSession session;
+
+	/**
+	 * The toolchain manager to use to locate a custom JDK.
+	 */
+	@Component
+	private ToolchainManager toolchainManager;
+
+	/**
+	 * The Maven project.
+	 */
+	@Parameter(defaultValue = "${project}", readonly = true, required = true)
+	private MavenProject project;
+
+	/**
+	 * Directory containing the config files. The snapshots are written next to the
+	 * config files that they belong to.
+	 */
+	@Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+	private File outputDirectory;
+
+	/**
+	 * Skip the execution.
+	 */
+	@Parameter(property = "spring-boot.config-data-snapshot.skip", defaultValue = "false")
+	private boolean skip;
+
+	@Override
+	public void execute() throws MojoExecutionException, MojoFailureException {
+		if (this.skip) {
+			getLog().debug("skipping config data snapshot as per configuration.");
+			return;
+		}
+		if (!this.outputDirectory.isDirectory()) {
+			getLog().debug("skipping config data snapshot as " + this.outputDirectory + " does not exist.");
+			return;
+		}
+		int exitCode = generate();
+		if (exitCode != 0) {
+			throw new MojoExecutionException("Config data snapshot generation finished with exit code: " + exitCode);
+		}
+		this.buildContext.refresh(this.outputDirectory);
+	}
+
+	private int generate() throws MojoExecutionException {
+		try {
+			List<String> args = new ArrayList<>();
+			args.add("-cp");
+			args.add(String.join(File.pathSeparator, this.project.getRuntimeClasspathElements()));
+			args.add(GENERATOR_CLASS_NAME);
+			args.add(this.outputDirectory.getAbsolutePath());
+			args.add(this.outputDirectory.getAbsolutePath());
+			RunProcess runProcess = new RunProcess(this.project.getBasedir(), getJavaExecutable());
+			return runProcess.run(true, args.toArray(new String[0]));
+		}
+		catch (Exception ex) {
+			throw new MojoExecutionException("Could not exec java", ex);
+		}
+	}
+
+	private String getJavaExecutable() {
+		Toolchain toolchain = this.toolchainManager.getToolchainFromBuildContext("jdk", this.session);
+		String javaExecutable = (toolchain != null) ? toolchain.findTool("java") : null;
+		return (javaExecutable != null) ? javaExecutable : new JavaExecutable().toString();
+	}
+
+}
@@ -53,6 +53,8 @@ public class Image {
 
 	Boolean cleanCache;
 
+	Boolean reuseBuilder;
+
 	boolean verboseLogging;
 
 	PullPolicy pullPolicy;
@@ -119,6 +121,20 @@ public class Image {
 		this.cleanCache = cleanCache;
 	}
 
+	/**
+	 * If the builder image should be kept and reused by later builds when its content is
+	 * unchanged.
+	 * @return {@code true} if the builder image should be reused
+	 * @since 2.5.0
+	 */
+	public Boolean getReuseBuilder() {
+		return this.reuseBuilder;
+	}
+
+	void setReuseBuilder(Boolean reuseBuilder) {
+		this.reuseBuilder = reuseBuilder;
+	}
+
 	/**
 	 * If verbose logging is required.
 	 * @return {@code true} for verbose logging
@@ -176,6 +192,9 @@ public class Image {
 		if (this.cleanCache != null) {
 			request = request.withCleanCache(this.cleanCache);
 		}
+		if (this.reuseBuilder != null) {
+			request = request.withReuseBuilder(this.reuseBuilder);
+		}
 		request = request.withVerboseLogging(this.verboseLogging);
 		if (this.pullPolicy != null) {
 			request = request.withPullPolicy(this.pullPolicy);
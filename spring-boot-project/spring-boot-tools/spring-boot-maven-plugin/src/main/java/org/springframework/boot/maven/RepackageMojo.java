@@ -34,10 +34,12 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 
+import org.springframework.boot.loader.tools.ClassLoadingOrder;
 import org.springframework.boot.loader.tools.DefaultLaunchScript;
 import org.springframework.boot.loader.tools.LaunchScript;
 import org.springframework.boot.loader.tools.LayoutFactory;
 import org.springframework.boot.loader.tools.Libraries;
+import org.springframework.boot.loader.tools.Library;
 import org.springframework.boot.loader.tools.Repackager;
 
 /**
@@ -172,6 +174,45 @@ public class RepackageMojo extends AbstractPackagerMojo {
 	@Parameter
 	private LayoutFactory layoutFactory;
 
+	/**
+	 * Whether nested libraries that are unchanged since the archive was previously
+	 * repackaged should be copied from the previous archive rather than being written
+	 * again. When no {@code classifier} is configured, the previous archive is kept in a
+	 * {@code .previous} file next to the repackaged archive.
+	 * @since 2.5.0
+	 */
+	@Parameter(property = "spring-boot.repackage.incremental", defaultValue = "false")
+	private boolean incremental;
+
+	/**
+	 * Whether to report the libraries that are not used by classes reachable from the
+	 * main class, the component scanned packages and the classes listed in
+	 * {@code META-INF/spring.factories} and {@code META-INF/services} files.
+	 * @since 2.5.0
+	 */
+	@Parameter(property = "spring-boot.repackage.reportUnusedLibraries", defaultValue = "false")
+	private boolean reportUnusedLibraries;
+
+	/**
+	 * Whether to leave libraries that are not used by classes reachable from the main
+	 * class out of the repackaged archive. Libraries that are only loaded using names that
+	 * are computed at runtime cannot be detected so the report should be checked before
+	 * enabling pruning.
+	 * @since 2.5.0
+	 */
+	@Parameter(property = "spring-boot.repackage.pruneUnusedLibraries", defaultValue = "false")
+	private boolean pruneUnusedLibraries;
+
+	/**
+	 * Trace of the classes loaded during a run of the application, as produced by
+	 * {@code -verbose:class}. When set, application classes and nested libraries are
+	 * written in the order that they were first loaded so that they can be read
+	 * sequentially during startup.
+	 * @since 2.5.0
+	 */
+	@Parameter(property = "spring-boot.repackage.classLoadingTrace")
+	private File classLoadingTrace;
+
 	/**
 	 * Return the type of archive that should be packaged by this MOJO.
 	 * @return the value of the {@code layout} parameter, or {@code null} if the parameter
@@ -213,6 +254,9 @@ public class RepackageMojo extends AbstractPackagerMojo {
 		Libraries libraries = getLibraries(this.requiresUnpack);
 		try {
 			LaunchScript launchScript = getLaunchScript();
+			if (this.classLoadingTrace != null) {
+				repackager.setClassLoadingOrder(ClassLoadingOrder.fromTrace(this.classLoadingTrace));
+			}
 			repackager.repackage(target, libraries, launchScript, parseOutputTimestamp());
 		}
 		catch (IOException ex) {
@@ -240,7 +284,26 @@ public class RepackageMojo extends AbstractPackagerMojo {
 	}
 
 	private Repackager getRepackager(File source) {
-		return getConfiguredPackager(() -> new Repackager(source));
+		Repackager repackager = getConfiguredPackager(() -> new Repackager(source));
+		repackager.setIncremental(this.incremental);
+		if (this.reportUnusedLibraries || this.pruneUnusedLibraries) {
+			repackager.addUnusedLibrariesListener(this::logUnusedLibraries);
+		}
+		repackager.setPruneUnusedLibraries(this.pruneUnusedLibraries);
+		return repackager;
+	}
+
+	private void logUnusedLibraries(List<Library> libraries) {
+		if (libraries.isEmpty()) {
+			getLog().info("No unused libraries found");
+			return;
+		}
+		String action = (this.pruneUnusedLibraries) ? "Pruning" : "Found";
+		String noun = (libraries.size() != 1) ? "libraries" : "library";
+		getLog().info(action + " " + libraries.size() + " unused " + noun);
+		for (Library library : libraries) {
+			getLog().info("  " + library.getName());
+		}
 	}
 
 	private LaunchScript getLaunchScript() throws IOException {
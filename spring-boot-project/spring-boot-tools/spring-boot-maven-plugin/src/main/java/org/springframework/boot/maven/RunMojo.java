@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,9 +17,11 @@
 package org.springframework.boot.maven;
 
 import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -30,6 +32,7 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 
+import org.springframework.boot.loader.tools.LaunchCache;
 import org.springframework.boot.loader.tools.RunProcess;
 
 /**
@@ -62,6 +65,27 @@ public class RunMojo extends AbstractRunMojo {
 	@Parameter(property = "spring-boot.run.optimizedLaunch", defaultValue = "true")
 	private boolean optimizedLaunch;
 
+	/**
+	 * Whether files that make subsequent launches faster should be kept between runs.
+	 * These are a class data sharing archive of the JDK and dependency classes that are
+	 * loaded and an argument file containing the classpath. Both are recreated when the
+	 * dependencies or the java executable change. Directories are moved after jars on the
+	 * classpath unless a directory contains a resource that is also in a jar that follows
+	 * it, in which case the archive is not used. NOTE: a forked process and Java 13 or
+	 * later are required to use this feature.
+	 * @since 2.5.0
+	 */
+	@Parameter(property = "spring-boot.run.fastLaunch", defaultValue = "false")
+	private boolean fastLaunch;
+
+	/**
+	 * Directory containing the files that are kept between runs when fast launch is
+	 * enabled.
+	 * @since 2.5.0
+	 */
+	@Parameter(defaultValue = "${project.build.directory}/spring-boot-run", required = true)
+	private File fastLaunchDirectory;
+
 	@Override
 	protected void logDisabledFork() {
 		super.logDisabledFork();
@@ -82,6 +106,34 @@ public class RunMojo extends AbstractRunMojo {
 		return jvmArguments;
 	}
 
+	@Override
+	protected List<String> resolveClasspathArguments(List<File> classpath) {
+		if (!this.fastLaunch) {
+			return super.resolveClasspathArguments(classpath);
+		}
+		try {
+			String javaExecutable = getJavaExecutable();
+			if (!LaunchCache.isSupported(this.fastLaunchDirectory, javaExecutable)) {
+				getLog().warn("Fast launch requires Java 13 or later and has been disabled");
+				return super.resolveClasspathArguments(classpath);
+			}
+			LaunchCache launchCache = LaunchCache.prepare(this.fastLaunchDirectory, javaExecutable, classpath);
+			if (launchCache.getShadowingResource() != null) {
+				getLog().warn("Fast launch is not using a class data sharing archive as '"
+						+ launchCache.getShadowingResource() + "' is in both a directory and a jar on the classpath "
+						+ "and placing the jars first would change which one is used");
+			}
+			List<String> arguments = new ArrayList<>(launchCache.getJvmArguments());
+			arguments.add("@" + launchCache.getArgumentFile().getAbsolutePath());
+			getLog().debug("Fast launch argument(s): " + arguments);
+			return arguments;
+		}
+		catch (IOException ex) {
+			getLog().warn("Fast launch has been disabled as its files could not be prepared: " + ex.getMessage());
+			return super.resolveClasspathArguments(classpath);
+		}
+	}
+
 	private boolean isJava13OrLater() {
 		for (Method method : String.class.getMethods()) {
 			if (method.getName().equals("stripIndent")) {
@@ -104,6 +104,14 @@ class ImageTests {
 		assertThat(request.isCleanCache()).isTrue();
 	}
 
+	@Test
+	void getBuildRequestWhenHasReuseBuilderUsesReuseBuilder() {
+		Image image = new Image();
+		image.reuseBuilder = true;
+		BuildRequest request = image.getBuildRequest(createArtifact(), mockApplicationContent());
+		assertThat(request.isReuseBuilder()).isTrue();
+	}
+
 	@Test
 	void getBuildRequestWhenHasVerboseLoggingUsesVerboseLogging() {
 		Image image = new Image();
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.cache;
+
+/**
+ * Callback used by a {@link TwoLevelCacheManager} to notify other nodes that entries of
+ * a {@link TwoLevelCache} have changed and should be removed from their local caches.
+ *
+ * @author Phillip Webb
+ * @since 2.5.0
+ */
+@FunctionalInterface
+public interface CacheInvalidationPublisher {
+
+	/**
+	 * Publish the invalidation of an entry or of the whole cache.
+	 * @param cacheName the name of the cache
+	 * @param key the key of the entry that has changed or {@code null} if all entries
+	 * should be invalidated
+	 */
+	void publish(String cacheName, Object key);
+
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.cache.Cache;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link Cache} that combines a fast local cache with a shared remote cache. Reads are
+ * served from the local cache when possible and fall back to the remote cache, with
+ * remote hits being copied to the local cache. Writes and evictions are applied to both
+ * caches and are {@link CacheInvalidationPublisher published} so that other nodes can
+ * remove stale entries from their local caches.
+ *
+ * @author Phillip Webb
+ * @since 2.5.0
+ * @see TwoLevelCacheManager
+ */
+public class TwoLevelCache implements Cache {
+
+	private final String name;
+
+	private final Cache localCache;
+
+	private final Cache remoteCache;
+
+	private final CacheInvalidationPublisher invalidationPublisher;
+
+	/**
+	 * Create a new {@link TwoLevelCache} instance.
+	 * @param name the name of the cache
+	 * @param localCache the local (first level) cache
+	 * @param remoteCache the remote (second level) cache
+	 * @param invalidationPublisher the publisher used to notify other nodes of changes
+	 */
+	public TwoLevelCache(String name, Cache localCache, Cache remoteCache,
+			CacheInvalidationPublisher invalidationPublisher) {
+		Assert.notNull(name, "Name must not be null");
+		Assert.notNull(localCache, "LocalCache must not be null");
+		Assert.notNull(remoteCache, "RemoteCache must not be null");
+		Assert.notNull(invalidationPublisher, "InvalidationPublisher must not be null");
+		this.name = name;
+		this.localCache = localCache;
+		this.remoteCache = remoteCache;
+		this.invalidationPublisher = invalidationPublisher;
+	}
+
+	@Override
+	public String getName() {
+		return this.name;
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return this;
+	}
+
+	/**
+	 * Return the local (first level) cache.
+	 * @return the local cache
+	 */
+	public Cache getLocalCache() {
+		return this.localCache;
+	}
+
+	/**
+	 * Return the remote (second level) cache.
+	 * @return the remote cache
+	 */
+	public Cache getRemoteCache() {
+		return this.remoteCache;
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+		ValueWrapper value = this.localCache.get(key);
+		if (value == null) {
+			value = this.remoteCache.get(key);
+			if (value != null) {
+				putLocal(key, value.get());
+			}
+		}
+		return value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Class<T> type) {
+		ValueWrapper wrapper = get(key);
+		Object value = (wrapper != null) ? wrapper.get() : null;
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException(
+					"Cached value is not of required type [" + type.getName() + "]: " + value);
+		}
+		return (T) value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		ValueWrapper wrapper = get(key);
+		if (wrapper != null) {
+			return (T) wrapper.get();
+		}
+		AtomicBoolean loaded = new AtomicBoolean();
+		T value = this.remoteCache.get(key, () -> {
+			loaded.set(true);
+			return valueLoader.call();
+		});
+		putLocal(key, value);
+		if (loaded.get()) {
+			this.invalidationPublisher.publish(this.name, key);
+		}
+		return value;
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		this.remoteCache.put(key, value);
+		putLocal(key, value);
+		this.invalidationPublisher.publish(this.name, key);
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(Object key, Object value) {
+		ValueWrapper existing = this.remoteCache.putIfAbsent(key, value);
+		if (existing != null) {
+			putLocal(key, existing.get());
+			return existing;
+		}
+		putLocal(key, value);
+		this.invalidationPublisher.publish(this.name, key);
+		return null;
+	}
+
+	private void putLocal(Object key, Object value) {
+		if (value != null) {
+			this.localCache.put(key, value);
+		}
+		else {
+			this.localCache.evict(key);
+		}
+	}
+
+	@Override
+	public void evict(Object key) {
+		this.remoteCache.evict(key);
+		this.localCache.evict(key);
+		this.invalidationPublisher.publish(this.name, key);
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		boolean evicted = this.remoteCache.evictIfPresent(key);
+		evicted = this.localCache.evictIfPresent(key) || evicted;
+		this.invalidationPublisher.publish(this.name, key);
+		return evicted;
+	}
+
+	@Override
+	public void clear() {
+		this.remoteCache.clear();
+		this.localCache.clear();
+		this.invalidationPublisher.publish(this.name, null);
+	}
+
+	@Override
+	public boolean invalidate() {
+		boolean invalidated = this.remoteCache.invalidate();
+		invalidated = this.localCache.invalidate() || invalidated;
+		this.invalidationPublisher.publish(this.name, null);
+		return invalidated;
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link CacheManager} that creates {@link TwoLevelCache TwoLevelCaches} from a local
+ * and a remote {@link CacheManager}. A cache is only available when both cache managers
+ * provide a cache with the requested name. Invalidations received from other nodes can
+ * be applied using {@link #invalidateLocal(String, Object)}.
+ *
+ * @author Phillip Webb
+ * @since 2.5.0
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+	private final CacheManager localCacheManager;
+
+	private final CacheManager remoteCacheManager;
+
+	private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+	private volatile CacheInvalidationPublisher invalidationPublisher = (cacheName, key) -> {
+	};
+
+	/**
+	 * Create a new {@link TwoLevelCacheManager} instance.
+	 * @param localCacheManager the cache manager for the local (first level) caches
+	 * @param remoteCacheManager the cache manager for the remote (second level) caches
+	 */
+	public TwoLevelCacheManager(CacheManager localCacheManager, CacheManager remoteCacheManager) {
+		Assert.notNull(localCacheManager, "LocalCacheManager must not be null");
+		Assert.notNull(remoteCacheManager, "RemoteCacheManager must not be null");
+		this.localCacheManager = localCacheManager;
+		this.remoteCacheManager = remoteCacheManager;
+	}
+
+	/**
+	 * Set the {@link CacheInvalidationPublisher} used to notify other nodes of changes.
+	 * @param invalidationPublisher the invalidation publisher
+	 */
+	public void setInvalidationPublisher(CacheInvalidationPublisher invalidationPublisher) {
+		Assert.notNull(invalidationPublisher, "InvalidationPublisher must not be null");
+		this.invalidationPublisher = invalidationPublisher;
+	}
+
+	/**
+	 * Return the cache manager for the local (first level) caches.
+	 * @return the local cache manager
+	 */
+	public CacheManager getLocalCacheManager() {
+		return this.localCacheManager;
+	}
+
+	/**
+	 * Return the cache manager for the remote (second level) caches.
+	 * @return the remote cache manager
+	 */
+	public CacheManager getRemoteCacheManager() {
+		return this.remoteCacheManager;
+	}
+
+	@Override
+	public Cache getCache(String name) {
+		TwoLevelCache cache = this.caches.get(name);
+		if (cache == null) {
+			Cache localCache = this.localCacheManager.getCache(name);
+			Cache remoteCache = this.remoteCacheManager.getCache(name);
+			if (localCache == null || remoteCache == null) {
+				return null;
+			}
+			cache = this.caches.computeIfAbsent(name, (key) -> new TwoLevelCache(name, localCache, remoteCache,
+					(cacheName, entryKey) -> this.invalidationPublisher.publish(cacheName, entryKey)));
+		}
+		return cache;
+	}
+
+	@Override
+	public Collection<String> getCacheNames() {
+		Set<String> names = new LinkedHashSet<>(this.remoteCacheManager.getCacheNames());
+		names.addAll(this.caches.keySet());
+		return Collections.unmodifiableSet(names);
+	}
+
+	/**
+	 * Remove an entry, or all entries, from the local cache with the given name. Typically
+	 * called when an invalidation published by another node is received.
+	 * @param cacheName the name of the cache
+	 * @param key the key of the entry to remove or {@code null} to remove all entries
+	 */
+	public void invalidateLocal(String cacheName, Object key) {
+		TwoLevelCache cache = this.caches.get(cacheName);
+		if (cache == null) {
+			return;
+		}
+		if (key != null) {
+			cache.getLocalCache().evict(key);
+		}
+		else {
+			cache.getLocalCache().clear();
+		}
+	}
+
+}
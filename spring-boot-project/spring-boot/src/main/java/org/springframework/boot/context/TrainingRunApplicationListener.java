@@ -0,0 +1,74 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.context;
+
+import java.util.function.IntConsumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.Ordered;
+
+/**
+ * An {@link ApplicationListener} that exits the JVM as soon as the application is ready
+ * when {@code spring.context.training-run} is {@code true}. Such a training run can be
+ * combined with the {@code -XX:ArchiveClassesAtExit} JVM option to create a class data
+ * sharing archive that contains the classes that are loaded during startup. Exiting the
+ * JVM, rather than just closing the context, allows the archive to be written even when
+ * the application has non-daemon threads.
+ *
+ * @author Phillip Webb
+ * @since 2.5.0
+ */
+public class TrainingRunApplicationListener implements ApplicationListener<ApplicationReadyEvent>, Ordered {
+
+	/**
+	 * The name of the property that enables a training run.
+	 */
+	public static final String TRAINING_RUN_PROPERTY = "spring.context.training-run";
+
+	private static final Log logger = LogFactory.getLog(TrainingRunApplicationListener.class);
+
+	private final IntConsumer exit;
+
+	public TrainingRunApplicationListener() {
+		this(System::exit);
+	}
+
+	TrainingRunApplicationListener(IntConsumer exit) {
+		this.exit = exit;
+	}
+
+	@Override
+	public int getOrder() {
+		return Ordered.LOWEST_PRECEDENCE;
+	}
+
+	@Override
+	public void onApplicationEvent(ApplicationReadyEvent event) {
+		if (!event.getApplicationContext().getEnvironment().getProperty(TRAINING_RUN_PROPERTY, Boolean.class,
+				false)) {
+			return;
+		}
+		logger.info("Training run complete, exiting");
+		this.exit.accept(SpringApplication.exit(event.getApplicationContext()));
+	}
+
+}
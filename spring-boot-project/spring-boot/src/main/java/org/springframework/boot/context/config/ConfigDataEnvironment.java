@@ -42,6 +42,7 @@ import org.springframework.core.env.MutablePropertySources;
 import org.springframework.core.env.PropertySource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.core.log.LogMessage;
+import org.springframework.core.metrics.ApplicationStartup;
 import org.springframework.util.StringUtils;
 
 /**
@@ -81,6 +82,12 @@ class ConfigDataEnvironment {
 	 */
 	static final String ON_NOT_FOUND_PROPERTY = "spring.config.on-not-found";
 
+	/**
+	 * Property used to determine if resources imported together should be loaded
+	 * concurrently.
+	 */
+	static final String CONCURRENT_LOADING_PROPERTY = "spring.config.concurrent-loading";
+
 	/**
 	 * Default search locations used if not {@link #LOCATION_PROPERTY} is found.
 	 */
@@ -112,6 +119,8 @@ class ConfigDataEnvironment {
 
 	private final ConfigDataNotFoundAction notFoundAction;
 
+	private final boolean concurrentLoading;
+
 	private final ConfigurableBootstrapContext bootstrapContext;
 
 	private final ConfigurableEnvironment environment;
@@ -122,6 +131,8 @@ class ConfigDataEnvironment {
 
 	private final ConfigDataEnvironmentUpdateListener environmentUpdateListener;
 
+	private final ApplicationStartup applicationStartup;
+
 	private final ConfigDataLoaders loaders;
 
 	private final ConfigDataEnvironmentContributors contributors;
@@ -140,18 +151,40 @@ class ConfigDataEnvironment {
 	ConfigDataEnvironment(DeferredLogFactory logFactory, ConfigurableBootstrapContext bootstrapContext,
 			ConfigurableEnvironment environment, ResourceLoader resourceLoader, Collection<String> additionalProfiles,
 			ConfigDataEnvironmentUpdateListener environmentUpdateListener) {
+		this(logFactory, bootstrapContext, environment, resourceLoader, additionalProfiles, environmentUpdateListener,
+				ApplicationStartup.DEFAULT);
+	}
+
+	/**
+	 * Create a new {@link ConfigDataEnvironment} instance.
+	 * @param logFactory the deferred log factory
+	 * @param bootstrapContext the bootstrap context
+	 * @param environment the Spring {@link Environment}.
+	 * @param resourceLoader {@link ResourceLoader} to load resource locations
+	 * @param additionalProfiles any additional profiles to activate
+	 * @param environmentUpdateListener optional
+	 * {@link ConfigDataEnvironmentUpdateListener} that can be used to track
+	 * {@link Environment} updates.
+	 * @param applicationStartup the {@link ApplicationStartup} used to record the loading
+	 * of each resource
+	 */
+	ConfigDataEnvironment(DeferredLogFactory logFactory, ConfigurableBootstrapContext bootstrapContext,
+			ConfigurableEnvironment environment, ResourceLoader resourceLoader, Collection<String> additionalProfiles,
+			ConfigDataEnvironmentUpdateListener environmentUpdateListener, ApplicationStartup applicationStartup) {
 		Binder binder = Binder.get(environment);
 		UseLegacyConfigProcessingException.throwIfRequested(binder);
 		this.logFactory = logFactory;
 		this.logger = logFactory.getLog(getClass());
 		this.notFoundAction = binder.bind(ON_NOT_FOUND_PROPERTY, ConfigDataNotFoundAction.class)
 				.orElse(ConfigDataNotFoundAction.FAIL);
+		this.concurrentLoading = binder.bind(CONCURRENT_LOADING_PROPERTY, Boolean.class).orElse(false);
 		this.bootstrapContext = bootstrapContext;
 		this.environment = environment;
 		this.resolvers = createConfigDataLocationResolvers(logFactory, bootstrapContext, binder, resourceLoader);
 		this.additionalProfiles = additionalProfiles;
 		this.environmentUpdateListener = (environmentUpdateListener != null) ? environmentUpdateListener
 				: ConfigDataEnvironmentUpdateListener.NONE;
+		this.applicationStartup = (applicationStartup != null) ? applicationStartup : ApplicationStartup.DEFAULT;
 		this.loaders = new ConfigDataLoaders(logFactory, bootstrapContext);
 		this.contributors = createContributors(binder);
 	}
@@ -225,7 +258,7 @@ class ConfigDataEnvironment {
 	 */
 	void processAndApply() {
 		ConfigDataImporter importer = new ConfigDataImporter(this.logFactory, this.notFoundAction, this.resolvers,
-				this.loaders);
+				this.loaders, this.concurrentLoading, this.applicationStartup);
 		registerBootstrapBinder(this.contributors, null, DENY_INACTIVE_BINDING);
 		ConfigDataEnvironmentContributors contributors = processInitial(this.contributors, importer);
 		ConfigDataActivationContext activationContext = createActivationContext(
@@ -34,6 +34,7 @@ import org.springframework.core.env.Environment;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.core.log.LogMessage;
+import org.springframework.core.metrics.ApplicationStartup;
 
 /**
  * {@link EnvironmentPostProcessor} that loads and applies {@link ConfigData} to Spring's
@@ -86,15 +87,22 @@ public class ConfigDataEnvironmentPostProcessor implements EnvironmentPostProces
 
 	@Override
 	public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
-		postProcessEnvironment(environment, application.getResourceLoader(), application.getAdditionalProfiles());
+		postProcessEnvironment(environment, application.getResourceLoader(), application.getAdditionalProfiles(),
+				application.getApplicationStartup());
 	}
 
 	void postProcessEnvironment(ConfigurableEnvironment environment, ResourceLoader resourceLoader,
 			Collection<String> additionalProfiles) {
+		postProcessEnvironment(environment, resourceLoader, additionalProfiles, ApplicationStartup.DEFAULT);
+	}
+
+	void postProcessEnvironment(ConfigurableEnvironment environment, ResourceLoader resourceLoader,
+			Collection<String> additionalProfiles, ApplicationStartup applicationStartup) {
 		try {
 			this.logger.trace("Post-processing environment to add config data");
 			resourceLoader = (resourceLoader != null) ? resourceLoader : new DefaultResourceLoader();
-			getConfigDataEnvironment(environment, resourceLoader, additionalProfiles).processAndApply();
+			getConfigDataEnvironment(environment, resourceLoader, additionalProfiles, applicationStartup)
+					.processAndApply();
 		}
 		catch (UseLegacyConfigProcessingException ex) {
 			this.logger.debug(LogMessage.format("Switching to legacy config file processing [%s]",
@@ -104,9 +112,9 @@ public class ConfigDataEnvironmentPostProcessor implements EnvironmentPostProces
 	}
 
 	ConfigDataEnvironment getConfigDataEnvironment(ConfigurableEnvironment environment, ResourceLoader resourceLoader,
-			Collection<String> additionalProfiles) {
+			Collection<String> additionalProfiles, ApplicationStartup applicationStartup) {
 		return new ConfigDataEnvironment(this.logFactory, this.bootstrapContext, environment, resourceLoader,
-				additionalProfiles, this.environmentUpdateListener);
+				additionalProfiles, this.environmentUpdateListener, applicationStartup);
 	}
 
 	private void postProcessUsingLegacyApplicationListener(ConfigurableEnvironment environment,
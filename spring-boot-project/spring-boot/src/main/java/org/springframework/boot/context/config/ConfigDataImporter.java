@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,15 +24,30 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.logging.Log;
 
 import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * Imports {@link ConfigData} by {@link ConfigDataLocationResolver resolving} and
  * {@link ConfigDataLoader loading} locations. {@link ConfigDataResource resources} are
- * tracked to ensure that they are not imported multiple times.
+ * tracked to ensure that they are not imported multiple times. Resources resolved from
+ * the same set of locations may optionally be loaded concurrently, in which case the
+ * order of the results remains the same as if they had been loaded one after another.
+ * <p>
+ * A {@code spring.boot.config-data.load} {@link StartupStep} tagged with the resource is
+ * recorded for each loaded resource. Steps are only ever started and ended by the
+ * calling thread so, when resources are loaded concurrently, each step records how long
+ * the import waited for that resource.
  *
  * @author Phillip Webb
  * @author Madhura Bhave
@@ -47,6 +62,10 @@ class ConfigDataImporter {
 
 	private final ConfigDataNotFoundAction notFoundAction;
 
+	private final boolean concurrentLoading;
+
+	private final ApplicationStartup applicationStartup;
+
 	private final Set<ConfigDataResource> loaded = new HashSet<>();
 
 	/**
@@ -58,10 +77,29 @@ class ConfigDataImporter {
 	 */
 	ConfigDataImporter(DeferredLogFactory logFactory, ConfigDataNotFoundAction notFoundAction,
 			ConfigDataLocationResolvers resolvers, ConfigDataLoaders loaders) {
+		this(logFactory, notFoundAction, resolvers, loaders, false, ApplicationStartup.DEFAULT);
+	}
+
+	/**
+	 * Create a new {@link ConfigDataImporter} instance.
+	 * @param logFactory the log factory
+	 * @param notFoundAction the action to take when a location cannot be found
+	 * @param resolvers the config data location resolvers
+	 * @param loaders the config data loaders
+	 * @param concurrentLoading if resources resolved together should be loaded
+	 * concurrently
+	 * @param applicationStartup the application startup used to record the loading of
+	 * each resource
+	 */
+	ConfigDataImporter(DeferredLogFactory logFactory, ConfigDataNotFoundAction notFoundAction,
+			ConfigDataLocationResolvers resolvers, ConfigDataLoaders loaders, boolean concurrentLoading,
+			ApplicationStartup applicationStartup) {
 		this.logger = logFactory.getLog(getClass());
 		this.resolvers = resolvers;
 		this.loaders = loaders;
 		this.notFoundAction = notFoundAction;
+		this.concurrentLoading = concurrentLoading;
+		this.applicationStartup = applicationStartup;
 	}
 
 	/**
@@ -108,24 +146,97 @@ class ConfigDataImporter {
 
 	private Map<ConfigDataResolutionResult, ConfigData> load(ConfigDataLoaderContext loaderContext,
 			List<ConfigDataResolutionResult> candidates) throws IOException {
-		Map<ConfigDataResolutionResult, ConfigData> result = new LinkedHashMap<>();
+		List<ConfigDataResolutionResult> toLoad = new ArrayList<>(candidates.size());
 		for (int i = candidates.size() - 1; i >= 0; i--) {
 			ConfigDataResolutionResult candidate = candidates.get(i);
-			ConfigDataLocation location = candidate.getLocation();
-			ConfigDataResource resource = candidate.getResource();
-			if (this.loaded.add(resource)) {
+			if (this.loaded.add(candidate.getResource())) {
+				toLoad.add(candidate);
+			}
+		}
+		if (this.concurrentLoading && toLoad.size() > 1) {
+			return loadConcurrently(loaderContext, toLoad);
+		}
+		Map<ConfigDataResolutionResult, ConfigData> result = new LinkedHashMap<>();
+		for (ConfigDataResolutionResult candidate : toLoad) {
+			StartupStep step = startLoadStep(candidate);
+			try {
+				ConfigData loaded = this.loaders.load(loaderContext, candidate.getResource());
+				if (loaded != null) {
+					result.put(candidate, loaded);
+				}
+			}
+			catch (ConfigDataNotFoundException ex) {
+				handle(ex, candidate.getLocation());
+			}
+			finally {
+				step.end();
+			}
+		}
+		return Collections.unmodifiableMap(result);
+	}
+
+	private Map<ConfigDataResolutionResult, ConfigData> loadConcurrently(ConfigDataLoaderContext loaderContext,
+			List<ConfigDataResolutionResult> candidates) throws IOException {
+		ExecutorService executor = createExecutor(candidates.size());
+		try {
+			List<Future<ConfigData>> futures = new ArrayList<>(candidates.size());
+			for (ConfigDataResolutionResult candidate : candidates) {
+				futures.add(executor.submit(() -> this.loaders.load(loaderContext, candidate.getResource())));
+			}
+			Map<ConfigDataResolutionResult, ConfigData> result = new LinkedHashMap<>();
+			for (int i = 0; i < candidates.size(); i++) {
+				ConfigDataResolutionResult candidate = candidates.get(i);
+				StartupStep step = startLoadStep(candidate);
 				try {
-					ConfigData loaded = this.loaders.load(loaderContext, resource);
+					ConfigData loaded = getLoaded(futures.get(i), candidate);
 					if (loaded != null) {
 						result.put(candidate, loaded);
 					}
 				}
-				catch (ConfigDataNotFoundException ex) {
-					handle(ex, location);
+				finally {
+					step.end();
 				}
 			}
+			return Collections.unmodifiableMap(result);
 		}
-		return Collections.unmodifiableMap(result);
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private ExecutorService createExecutor(int candidates) {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("config-data-loader-");
+		threadFactory.setDaemon(true);
+		int threads = Math.min(candidates, Runtime.getRuntime().availableProcessors());
+		return Executors.newFixedThreadPool(threads, threadFactory);
+	}
+
+	private ConfigData getLoaded(Future<ConfigData> future, ConfigDataResolutionResult candidate) throws IOException {
+		try {
+			return future.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while loading " + candidate.getResource(), ex);
+		}
+		catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof ConfigDataNotFoundException) {
+				handle((ConfigDataNotFoundException) cause, candidate.getLocation());
+				return null;
+			}
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			ReflectionUtils.rethrowRuntimeException(cause);
+			return null;
+		}
+	}
+
+	private StartupStep startLoadStep(ConfigDataResolutionResult candidate) {
+		StartupStep step = this.applicationStartup.start("spring.boot.config-data.load");
+		step.tag("resource", candidate.getResource().toString());
+		return step;
 	}
 
 	private void handle(ConfigDataNotFoundException ex, ConfigDataLocation location) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,11 +20,24 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Collections;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
 import org.springframework.boot.env.ConfigTreePropertySource;
 import org.springframework.boot.env.ConfigTreePropertySource.Option;
+import org.springframework.boot.env.ConfigTreeWatcher;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ApplicationContextEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
 
 /**
- * {@link ConfigDataLoader} for config tree locations.
+ * {@link ConfigDataLoader} for config tree locations. When
+ * {@code spring.config.configtree.watch} is {@code true}, the config tree is loaded as a
+ * {@link Option#REFRESHABLE refreshable} property source and a {@link ConfigTreeWatcher}
+ * refreshes it while the application context is running.
  *
  * @author Madhura Bhave
  * @author Phillip Webb
@@ -38,8 +51,59 @@ public class ConfigTreeConfigDataLoader implements ConfigDataLoader<ConfigTreeCo
 		Path path = resource.getPath();
 		ConfigDataResourceNotFoundException.throwIfDoesNotExist(resource, path);
 		String name = "Config tree '" + path + "'";
-		ConfigTreePropertySource source = new ConfigTreePropertySource(name, path, Option.AUTO_TRIM_TRAILING_NEW_LINE);
+		if (!resource.isWatched()) {
+			ConfigTreePropertySource source = new ConfigTreePropertySource(name, path,
+					Option.AUTO_TRIM_TRAILING_NEW_LINE);
+			return new ConfigData(Collections.singletonList(source));
+		}
+		ConfigTreePropertySource source = new ConfigTreePropertySource(name, path, Option.AUTO_TRIM_TRAILING_NEW_LINE,
+				Option.REFRESHABLE);
+		context.getBootstrapContext().addCloseListener((event) -> {
+			ConfigurableApplicationContext applicationContext = event.getApplicationContext();
+			ConfigTreeWatcher watcher = new ConfigTreeWatcher(source, applicationContext);
+			applicationContext.addApplicationListener(new WatcherLifecycleListener(applicationContext, watcher));
+		});
 		return new ConfigData(Collections.singletonList(source));
 	}
 
+	/**
+	 * Starts a {@link ConfigTreeWatcher} once the application context has been refreshed,
+	 * so that change events can be published, and stops it when the context is closed.
+	 */
+	private static class WatcherLifecycleListener implements ApplicationListener<ApplicationContextEvent> {
+
+		private static final Log logger = LogFactory.getLog(WatcherLifecycleListener.class);
+
+		private final ApplicationContext applicationContext;
+
+		private final ConfigTreeWatcher watcher;
+
+		private boolean started;
+
+		WatcherLifecycleListener(ApplicationContext applicationContext, ConfigTreeWatcher watcher) {
+			this.applicationContext = applicationContext;
+			this.watcher = watcher;
+		}
+
+		@Override
+		public void onApplicationEvent(ApplicationContextEvent event) {
+			if (event.getApplicationContext() != this.applicationContext) {
+				return;
+			}
+			try {
+				if (event instanceof ContextRefreshedEvent && !this.started) {
+					this.watcher.start();
+					this.started = true;
+				}
+				else if (event instanceof ContextClosedEvent) {
+					this.watcher.close();
+				}
+			}
+			catch (IOException ex) {
+				logger.warn("Unable to watch config tree for changes", ex);
+			}
+		}
+
+	}
+
 }
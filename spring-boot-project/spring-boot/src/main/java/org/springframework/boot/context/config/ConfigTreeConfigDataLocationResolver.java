@@ -37,6 +37,8 @@ public class ConfigTreeConfigDataLocationResolver implements ConfigDataLocationR
 
 	private static final String PREFIX = "configtree:";
 
+	static final String WATCH_PROPERTY = "spring.config.configtree.watch";
+
 	private final LocationResourceLoader resourceLoader;
 
 	public ConfigTreeConfigDataLocationResolver(ResourceLoader resourceLoader) {
@@ -52,23 +54,24 @@ public class ConfigTreeConfigDataLocationResolver implements ConfigDataLocationR
 	public List<ConfigTreeConfigDataResource> resolve(ConfigDataLocationResolverContext context,
 			ConfigDataLocation location) {
 		try {
-			return resolve(location.getNonPrefixedValue(PREFIX));
+			boolean watch = context.getBinder().bind(WATCH_PROPERTY, Boolean.class).orElse(false);
+			return resolve(location.getNonPrefixedValue(PREFIX), watch);
 		}
 		catch (IOException ex) {
 			throw new ConfigDataLocationNotFoundException(location, ex);
 		}
 	}
 
-	private List<ConfigTreeConfigDataResource> resolve(String location) throws IOException {
+	private List<ConfigTreeConfigDataResource> resolve(String location, boolean watch) throws IOException {
 		Assert.isTrue(location.endsWith("/"),
 				() -> String.format("Config tree location '%s' must end with '/'", location));
 		if (!this.resourceLoader.isPattern(location)) {
-			return Collections.singletonList(new ConfigTreeConfigDataResource(location));
+			return Collections.singletonList(new ConfigTreeConfigDataResource(location, watch));
 		}
 		Resource[] resources = this.resourceLoader.getResources(location, ResourceType.DIRECTORY);
 		List<ConfigTreeConfigDataResource> resolved = new ArrayList<>(resources.length);
 		for (Resource resource : resources) {
-			resolved.add(new ConfigTreeConfigDataResource(resource.getFile().toPath()));
+			resolved.add(new ConfigTreeConfigDataResource(resource.getFile().toPath(), watch));
 		}
 		return resolved;
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -35,20 +35,36 @@ public class ConfigTreeConfigDataResource extends ConfigDataResource {
 
 	private final Path path;
 
+	private final boolean watched;
+
 	ConfigTreeConfigDataResource(String path) {
+		this(path, false);
+	}
+
+	ConfigTreeConfigDataResource(String path, boolean watched) {
 		Assert.notNull(path, "Path must not be null");
 		this.path = Paths.get(path).toAbsolutePath();
+		this.watched = watched;
 	}
 
 	ConfigTreeConfigDataResource(Path path) {
+		this(path, false);
+	}
+
+	ConfigTreeConfigDataResource(Path path, boolean watched) {
 		Assert.notNull(path, "Path must not be null");
 		this.path = path.toAbsolutePath();
+		this.watched = watched;
 	}
 
 	Path getPath() {
 		return this.path;
 	}
 
+	boolean isWatched() {
+		return this.watched;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj) {
@@ -58,7 +74,7 @@ public class ConfigTreeConfigDataResource extends ConfigDataResource {
 			return false;
 		}
 		ConfigTreeConfigDataResource other = (ConfigTreeConfigDataResource) obj;
-		return Objects.equals(this.path, other.path);
+		return Objects.equals(this.path, other.path) && this.watched == other.watched;
 	}
 
 	@Override
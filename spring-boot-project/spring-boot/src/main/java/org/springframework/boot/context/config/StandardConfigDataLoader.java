@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,13 +19,16 @@ package org.springframework.boot.context.config;
 import java.io.IOException;
 import java.util.List;
 
+import org.springframework.boot.env.PropertySourceLoader;
+import org.springframework.boot.env.PropertySourceSnapshot;
 import org.springframework.boot.origin.Origin;
 import org.springframework.boot.origin.OriginTrackedResource;
 import org.springframework.core.env.PropertySource;
 import org.springframework.core.io.Resource;
 
 /**
- * {@link ConfigDataLoader} for {@link Resource} backed locations.
+ * {@link ConfigDataLoader} for {@link Resource} backed locations. A resource is read from
+ * its {@link PropertySourceSnapshot snapshot} when it has an up-to-date one.
  *
  * @author Phillip Webb
  * @author Madhura Bhave
@@ -45,7 +48,11 @@ public class StandardConfigDataLoader implements ConfigDataLoader<StandardConfig
 				Origin.from(reference.getConfigDataLocation()));
 		String name = String.format("Config resource '%s' via location '%s'", resource,
 				reference.getConfigDataLocation());
-		List<PropertySource<?>> propertySources = reference.getPropertySourceLoader().load(name, originTrackedResource);
+		PropertySourceLoader loader = reference.getPropertySourceLoader();
+		List<PropertySource<?>> propertySources = PropertySourceSnapshot.read(loader, name, originTrackedResource);
+		if (propertySources == null) {
+			propertySources = loader.load(name, originTrackedResource);
+		}
 		return new ConfigData(propertySources);
 	}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -37,6 +37,10 @@ class BufferedStartupStep implements StartupStep {
 
 	private final Long parentId;
 
+	private final long threadId;
+
+	private final String threadName;
+
 	private long startTime;
 
 	private long endTime;
@@ -48,6 +52,9 @@ class BufferedStartupStep implements StartupStep {
 	BufferedStartupStep(long id, String name, Long parentId, Consumer<BufferedStartupStep> recorder) {
 		this.id = id;
 		this.parentId = parentId;
+		Thread thread = Thread.currentThread();
+		this.threadId = thread.getId();
+		this.threadName = thread.getName();
 		this.tags = new DefaultTags();
 		this.name = name;
 		this.recorder = recorder;
@@ -92,6 +99,14 @@ class BufferedStartupStep implements StartupStep {
 		this.recorder.accept(this);
 	}
 
+	long getThreadId() {
+		return this.threadId;
+	}
+
+	String getThreadName() {
+		return this.threadName;
+	}
+
 	long getStartTime() {
 		return this.startTime;
 	}
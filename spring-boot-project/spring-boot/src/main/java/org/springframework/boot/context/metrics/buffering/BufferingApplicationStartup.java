@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,11 +19,13 @@ package org.springframework.boot.context.metrics.buffering;
 import java.time.Instant;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.springframework.core.metrics.ApplicationStartup;
 import org.springframework.core.metrics.StartupStep;
@@ -41,6 +43,8 @@ import org.springframework.util.Assert;
  * <ul>
  * <li>configuring {@link #addFilter(Predicate) filters} to only record steps that are
  * relevant to us.
+ * <li>configuring {@link #addStepNameFilter(Predicate) step name filters} so that
+ * irrelevant steps are not even timed.
  * <li>{@link #drainBufferedTimeline() draining} the buffered steps.
  * </ul>
  *
@@ -61,6 +65,8 @@ public class BufferingApplicationStartup implements ApplicationStartup {
 
 	private Predicate<StartupStep> stepFilters = (step) -> true;
 
+	private Predicate<String> stepNameFilters = (name) -> true;
+
 	/**
 	 * Create a new buffered {@link ApplicationStartup} with a limited capacity and starts
 	 * the recording of steps.
@@ -96,6 +102,21 @@ public class BufferingApplicationStartup implements ApplicationStartup {
 		this.stepFilters = this.stepFilters.and(filter);
 	}
 
+	/**
+	 * Add a predicate filter on step names to the list of existing ones. Unlike
+	 * {@link #addFilter(Predicate) filters}, step name filters are applied when a step
+	 * starts.
+	 * <p>
+	 * A {@link StartupStep step} whose name doesn't match all step name filters is neither
+	 * timed nor recorded and its tags are discarded. Steps that start while it is running
+	 * are still recorded.
+	 * @param filter the predicate filter to add.
+	 * @since 2.5.0
+	 */
+	public void addStepNameFilter(Predicate<String> filter) {
+		this.stepNameFilters = this.stepNameFilters.and(filter);
+	}
+
 	/**
 	 * Return the {@link StartupTimeline timeline} as a snapshot of currently buffered
 	 * steps.
@@ -123,6 +144,12 @@ public class BufferingApplicationStartup implements ApplicationStartup {
 
 	@Override
 	public StartupStep start(String name) {
+		if (!this.stepNameFilters.test(name)) {
+			UnrecordedStartupStep step = new UnrecordedStartupStep(++this.currentSequenceId, name,
+					this.currentSteps.peekFirst());
+			this.currentSteps.offerFirst(this.currentSequenceId);
+			return step;
+		}
 		BufferedStartupStep step = new BufferedStartupStep(++this.currentSequenceId, name,
 				this.currentSteps.peekFirst(), this::record);
 		step.recordStartTime(getCurrentTime());
@@ -142,4 +169,59 @@ public class BufferingApplicationStartup implements ApplicationStartup {
 		return System.nanoTime();
 	}
 
+	/**
+	 * {@link StartupStep} for a step that is rejected by the step name filters. It only
+	 * keeps track of the current step so that the parent of nested steps is correct.
+	 */
+	private final class UnrecordedStartupStep implements StartupStep {
+
+		private final long id;
+
+		private final String name;
+
+		private final Long parentId;
+
+		private UnrecordedStartupStep(long id, String name, Long parentId) {
+			this.id = id;
+			this.name = name;
+			this.parentId = parentId;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+
+		@Override
+		public long getId() {
+			return this.id;
+		}
+
+		@Override
+		public Long getParentId() {
+			return this.parentId;
+		}
+
+		@Override
+		public Tags getTags() {
+			return Collections::emptyIterator;
+		}
+
+		@Override
+		public StartupStep tag(String key, String value) {
+			return this;
+		}
+
+		@Override
+		public StartupStep tag(String key, Supplier<String> value) {
+			return this;
+		}
+
+		@Override
+		public void end() {
+			BufferingApplicationStartup.this.currentSteps.removeFirst();
+		}
+
+	}
+
 }
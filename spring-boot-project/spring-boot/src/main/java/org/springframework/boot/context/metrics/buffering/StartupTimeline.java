@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -75,8 +75,14 @@ public class StartupTimeline {
 
 		private final Duration duration;
 
+		private final long threadId;
+
+		private final String threadName;
+
 		TimelineEvent(BufferedStartupStep startupStep, Instant startupDate, long startupNanoTime) {
 			this.startupStep = startupStep;
+			this.threadId = startupStep.getThreadId();
+			this.threadName = startupStep.getThreadName();
 			this.startTime = startupDate.plus(Duration.ofNanos(startupStep.getStartTime() - startupNanoTime));
 			this.endTime = startupDate.plus(Duration.ofNanos(startupStep.getEndTime() - startupNanoTime));
 			this.duration = Duration.ofNanos(startupStep.getEndTime() - startupStep.getStartTime());
@@ -115,6 +121,14 @@ public class StartupTimeline {
 			return this.startupStep;
 		}
 
+		long getThreadId() {
+			return this.threadId;
+		}
+
+		String getThreadName() {
+			return this.threadName;
+		}
+
 	}
 
 }
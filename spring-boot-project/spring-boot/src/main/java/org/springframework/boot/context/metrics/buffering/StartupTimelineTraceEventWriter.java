@@ -0,0 +1,174 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.context.metrics.buffering;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.boot.system.ApplicationPid;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.core.metrics.StartupStep.Tag;
+import org.springframework.util.Assert;
+
+/**
+ * Writes a {@link StartupTimeline} using the Trace Event Format that is understood by
+ * tools such as {@code chrome://tracing} and Perfetto. Each {@link TimelineEvent} is
+ * written as a complete ({@code "ph":"X"}) event with its timestamp and duration in
+ * microseconds relative to the start of the timeline. Events are attributed to the
+ * current process and to the thread that started their step, and a metadata event names
+ * each of those threads. Events are written directly to the given {@link Appendable}
+ * without creating an intermediate document.
+ *
+ * @author Phillip Webb
+ * @since 2.5.0
+ */
+public class StartupTimelineTraceEventWriter {
+
+	private static final String CATEGORY = "spring.startup";
+
+	/**
+	 * Write the given timeline to the given output.
+	 * @param timeline the timeline to write
+	 * @param out the output to write to
+	 * @throws IOException on IO error
+	 */
+	public void write(StartupTimeline timeline, Appendable out) throws IOException {
+		Assert.notNull(timeline, "Timeline must not be null");
+		Assert.notNull(out, "Out must not be null");
+		String pid = getPid();
+		Map<Long, String> threadNames = new LinkedHashMap<>();
+		out.append("{\"traceEvents\":[");
+		boolean first = true;
+		for (TimelineEvent event : timeline.getEvents()) {
+			if (!first) {
+				out.append(',');
+			}
+			writeEvent(pid, timeline.getStartTime(), event, out);
+			threadNames.putIfAbsent(event.getThreadId(), event.getThreadName());
+			first = false;
+		}
+		for (Map.Entry<Long, String> threadName : threadNames.entrySet()) {
+			if (!first) {
+				out.append(',');
+			}
+			writeThreadName(pid, threadName.getKey(), threadName.getValue(), out);
+			first = false;
+		}
+		out.append("],\"displayTimeUnit\":\"ms\"}");
+	}
+
+	/**
+	 * Return the given timeline as a Trace Event Format JSON string.
+	 * @param timeline the timeline to write
+	 * @return the JSON string
+	 */
+	public String toJson(StartupTimeline timeline) {
+		StringBuilder out = new StringBuilder();
+		try {
+			write(timeline, out);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		return out.toString();
+	}
+
+	private String getPid() {
+		String pid = new ApplicationPid().toString();
+		for (int i = 0; i < pid.length(); i++) {
+			if (!Character.isDigit(pid.charAt(i))) {
+				return "1";
+			}
+		}
+		return pid;
+	}
+
+	private void writeEvent(String pid, Instant timelineStart, TimelineEvent event, Appendable out)
+			throws IOException {
+		StartupStep step = event.getStartupStep();
+		out.append("{\"name\":");
+		writeString(step.getName(), out);
+		out.append(",\"cat\":\"").append(CATEGORY).append("\",\"ph\":\"X\",\"ts\":");
+		out.append(Long.toString(toMicros(Duration.between(timelineStart, event.getStartTime()))));
+		out.append(",\"dur\":").append(Long.toString(toMicros(event.getDuration())));
+		out.append(",\"pid\":").append(pid).append(",\"tid\":").append(Long.toString(event.getThreadId()));
+		out.append(",\"args\":{\"id\":").append(Long.toString(step.getId()));
+		if (step.getParentId() != null) {
+			out.append(",\"parentId\":").append(Long.toString(step.getParentId()));
+		}
+		for (Tag tag : step.getTags()) {
+			out.append(',');
+			writeString(tag.getKey(), out);
+			out.append(':');
+			writeString(tag.getValue(), out);
+		}
+		out.append("}}");
+	}
+
+	private void writeThreadName(String pid, long tid, String name, Appendable out) throws IOException {
+		out.append("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":").append(pid);
+		out.append(",\"tid\":").append(Long.toString(tid)).append(",\"args\":{\"name\":");
+		writeString(name, out);
+		out.append("}}");
+	}
+
+	private long toMicros(Duration duration) {
+		return duration.getSeconds() * 1000000 + duration.getNano() / 1000;
+	}
+
+	private void writeString(String value, Appendable out) throws IOException {
+		if (value == null) {
+			out.append("null");
+			return;
+		}
+		out.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char ch = value.charAt(i);
+			switch (ch) {
+			case '"':
+				out.append("\\\"");
+				break;
+			case '\\':
+				out.append("\\\\");
+				break;
+			case '\n':
+				out.append("\\n");
+				break;
+			case '\r':
+				out.append("\\r");
+				break;
+			case '\t':
+				out.append("\\t");
+				break;
+			default:
+				if (ch < 0x20) {
+					out.append(String.format("\\u%04x", (int) ch));
+				}
+				else {
+					out.append(ch);
+				}
+			}
+		}
+		out.append('"');
+	}
+
+}
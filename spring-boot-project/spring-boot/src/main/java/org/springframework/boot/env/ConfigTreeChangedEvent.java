@@ -0,0 +1,61 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.env;
+
+import java.util.Set;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event published by a {@link ConfigTreeWatcher} when a {@link ConfigTreePropertySource}
+ * has been refreshed following a change to its directory tree. Listeners can use the
+ * {@link #getChangedPropertyNames() changed property names} to decide which
+ * {@link org.springframework.boot.context.properties.ConfigurationProperties
+ * configuration properties} need to be rebound.
+ *
+ * @author Phillip Webb
+ * @since 2.5.0
+ */
+public class ConfigTreeChangedEvent extends ApplicationEvent {
+
+	private final Set<String> changedPropertyNames;
+
+	/**
+	 * Create a new {@link ConfigTreeChangedEvent} instance.
+	 * @param propertySource the property source that was refreshed
+	 * @param changedPropertyNames the names of the properties that were added, removed
+	 * or changed
+	 */
+	public ConfigTreeChangedEvent(ConfigTreePropertySource propertySource, Set<String> changedPropertyNames) {
+		super(propertySource);
+		this.changedPropertyNames = changedPropertyNames;
+	}
+
+	@Override
+	public ConfigTreePropertySource getSource() {
+		return (ConfigTreePropertySource) super.getSource();
+	}
+
+	/**
+	 * Return the names of the properties that were added, removed or changed.
+	 * @return the changed property names
+	 */
+	public Set<String> getChangedPropertyNames() {
+		return this.changedPropertyNames;
+	}
+
+}
@@ -30,6 +30,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
 
 import org.springframework.boot.convert.ApplicationConversionService;
 import org.springframework.boot.origin.Origin;
@@ -54,10 +55,12 @@ import org.springframework.util.StringUtils;
  * value will be the contents of the file.
  * <p>
  * Directories are only scanned when the source is first created. The directory is not
- * monitored for updates, so files should not be added or removed. However, the contents
- * of a file can be updated as long as the property source was created with a
- * {@link Option#ALWAYS_READ} option. Nested directories are included in the source, but
- * with a {@code '.'} rather than {@code '/'} used as the path separator.
+ * monitored for updates, so files should not be added or removed unless the property
+ * source was created with a {@link Option#REFRESHABLE} option and is {@link #refresh()
+ * refreshed} (typically by a {@link ConfigTreeWatcher}). The contents of a file can be
+ * updated as long as the property source was created with a {@link Option#ALWAYS_READ}
+ * option. Nested directories are included in the source, but with a {@code '.'} rather
+ * than {@code '/'} used as the path separator.
  * <p>
  * Property values are returned as {@link Value} instances which allows them to be treated
  * either as an {@link InputStreamSource} or as a {@link CharSequence}. In addition, if
@@ -75,9 +78,7 @@ public class ConfigTreePropertySource extends EnumerablePropertySource<Path> imp
 
 	private static final int MAX_DEPTH = 100;
 
-	private final Map<String, PropertyFile> propertyFiles;
-
-	private final String[] names;
+	private volatile PropertyFiles propertyFiles;
 
 	private final Set<Option> options;
 
@@ -104,31 +105,62 @@ public class ConfigTreePropertySource extends EnumerablePropertySource<Path> imp
 		super(name, sourceDirectory);
 		Assert.isTrue(Files.exists(sourceDirectory), () -> "Directory '" + sourceDirectory + "' does not exist");
 		Assert.isTrue(Files.isDirectory(sourceDirectory), () -> "File '" + sourceDirectory + "' is not a directory");
-		this.propertyFiles = PropertyFile.findAll(sourceDirectory, options);
+		this.propertyFiles = new PropertyFiles(PropertyFile.findAll(sourceDirectory, options));
 		this.options = options;
-		this.names = StringUtils.toStringArray(this.propertyFiles.keySet());
 	}
 
 	@Override
 	public String[] getPropertyNames() {
-		return this.names.clone();
+		return this.propertyFiles.names.clone();
 	}
 
 	@Override
 	public Value getProperty(String name) {
-		PropertyFile propertyFile = this.propertyFiles.get(name);
+		PropertyFile propertyFile = this.propertyFiles.files.get(name);
 		return (propertyFile != null) ? propertyFile.getContent() : null;
 	}
 
 	@Override
 	public Origin getOrigin(String name) {
-		PropertyFile propertyFile = this.propertyFiles.get(name);
+		PropertyFile propertyFile = this.propertyFiles.files.get(name);
 		return (propertyFile != null) ? propertyFile.getOrigin() : null;
 	}
 
 	@Override
 	public boolean isImmutable() {
-		return !this.options.contains(Option.ALWAYS_READ);
+		return !this.options.contains(Option.ALWAYS_READ) && !this.options.contains(Option.REFRESHABLE);
+	}
+
+	/**
+	 * Rescan the source directory and atomically replace any property files that have
+	 * been added, removed or changed. Files are considered changed if the file that they
+	 * resolve to, its size, or its last modified time is different. This allows
+	 * Kubernetes-style {@code ..data} symlink swaps to be detected.
+	 * @return the names of the properties that have been added, removed or changed
+	 * @throws IllegalStateException if the source is not {@link Option#REFRESHABLE}
+	 * @since 2.5.0
+	 */
+	public synchronized Set<String> refresh() {
+		Assert.state(this.options.contains(Option.REFRESHABLE), "Property source is not refreshable");
+		Map<String, PropertyFile> previous = this.propertyFiles.files;
+		Map<String, PropertyFile> found = PropertyFile.findAll(getSource(), this.options);
+		Map<String, PropertyFile> refreshed = new TreeMap<>();
+		Set<String> changed = new TreeSet<>();
+		found.forEach((name, propertyFile) -> {
+			PropertyFile existing = previous.get(name);
+			if (existing != null && existing.isSameFile(propertyFile)) {
+				refreshed.put(name, existing);
+			}
+			else {
+				refreshed.put(name, propertyFile);
+				changed.add(name);
+			}
+		});
+		previous.keySet().stream().filter((name) -> !found.containsKey(name)).forEach(changed::add);
+		if (!changed.isEmpty()) {
+			this.propertyFiles = new PropertyFiles(Collections.unmodifiableMap(refreshed));
+		}
+		return Collections.unmodifiableSet(changed);
 	}
 
 	/**
@@ -151,7 +183,15 @@ public class ConfigTreePropertySource extends EnumerablePropertySource<Path> imp
 		/**
 		 * Automatically attempt trim trailing new-line characters.
 		 */
-		AUTO_TRIM_TRAILING_NEW_LINE
+		AUTO_TRIM_TRAILING_NEW_LINE,
+
+		/**
+		 * Allow the property source to be {@link ConfigTreePropertySource#refresh()
+		 * refreshed} when the directory tree changes. Refreshable sources are not
+		 * considered immutable.
+		 * @since 2.5.0
+		 */
+		REFRESHABLE
 
 	}
 
@@ -164,6 +204,22 @@ public class ConfigTreePropertySource extends EnumerablePropertySource<Path> imp
 
 	}
 
+	/**
+	 * The property files and names found by a single scan of the source directory.
+	 */
+	private static final class PropertyFiles {
+
+		private final Map<String, PropertyFile> files;
+
+		private final String[] names;
+
+		private PropertyFiles(Map<String, PropertyFile> files) {
+			this.files = files;
+			this.names = StringUtils.toStringArray(files.keySet());
+		}
+
+	}
+
 	/**
 	 * A single property file that was found when when the source was created.
 	 */
@@ -173,6 +229,12 @@ public class ConfigTreePropertySource extends EnumerablePropertySource<Path> imp
 
 		private final Path path;
 
+		private final Path realPath;
+
+		private final long size;
+
+		private final long lastModified;
+
 		private final PathResource resource;
 
 		private final Origin origin;
@@ -183,6 +245,10 @@ public class ConfigTreePropertySource extends EnumerablePropertySource<Path> imp
 
 		private PropertyFile(Path path, Set<Option> options) {
 			this.path = path;
+			this.realPath = getRealPath(path);
+			BasicFileAttributes attributes = getAttributes(path);
+			this.size = (attributes != null) ? attributes.size() : -1;
+			this.lastModified = (attributes != null) ? attributes.lastModifiedTime().toMillis() : -1;
 			this.resource = new PathResource(path);
 			this.origin = new TextResourceOrigin(this.resource, START_OF_FILE);
 			this.autoTrimTrailingNewLine = options.contains(Option.AUTO_TRIM_TRAILING_NEW_LINE);
@@ -201,6 +267,29 @@ public class ConfigTreePropertySource extends EnumerablePropertySource<Path> imp
 			return this.origin;
 		}
 
+		boolean isSameFile(PropertyFile other) {
+			return this.path.equals(other.path) && this.realPath.equals(other.realPath) && this.size == other.size
+					&& this.lastModified == other.lastModified;
+		}
+
+		private static Path getRealPath(Path path) {
+			try {
+				return path.toRealPath();
+			}
+			catch (IOException ex) {
+				return path;
+			}
+		}
+
+		private static BasicFileAttributes getAttributes(Path path) {
+			try {
+				return Files.readAttributes(path, BasicFileAttributes.class);
+			}
+			catch (IOException ex) {
+				return null;
+			}
+		}
+
 		static Map<String, PropertyFile> findAll(Path sourceDirectory, Set<Option> options) {
 			try {
 				Map<String, PropertyFile> propertyFiles = new TreeMap<>();
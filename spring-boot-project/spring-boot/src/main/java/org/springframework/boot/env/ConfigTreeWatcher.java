@@ -0,0 +1,191 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.env;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.boot.env.ConfigTreePropertySource.Option;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.util.Assert;
+
+/**
+ * Watches the directory tree of a {@link Option#REFRESHABLE refreshable}
+ * {@link ConfigTreePropertySource} using a {@link WatchService}. When a change is
+ * detected, the property source is {@link ConfigTreePropertySource#refresh() refreshed}
+ * and, if any properties were added, removed or changed, a
+ * {@link ConfigTreeChangedEvent} is published. Changes that occur within a short quiet
+ * period of each other, such as the individual steps of a Kubernetes {@code ..data}
+ * symlink swap, result in a single refresh.
+ *
+ * @author Phillip Webb
+ * @since 2.5.0
+ */
+public class ConfigTreeWatcher implements Closeable {
+
+	private static final Log logger = LogFactory.getLog(ConfigTreeWatcher.class);
+
+	private static final Duration DEFAULT_QUIET_PERIOD = Duration.ofMillis(200);
+
+	private final ConfigTreePropertySource propertySource;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final Duration quietPeriod;
+
+	private WatchService watchService;
+
+	private Thread thread;
+
+	/**
+	 * Create a new {@link ConfigTreeWatcher} instance.
+	 * @param propertySource the refreshable property source to watch
+	 * @param eventPublisher the publisher used to publish {@link ConfigTreeChangedEvent
+	 * change events}
+	 */
+	public ConfigTreeWatcher(ConfigTreePropertySource propertySource, ApplicationEventPublisher eventPublisher) {
+		this(propertySource, eventPublisher, DEFAULT_QUIET_PERIOD);
+	}
+
+	/**
+	 * Create a new {@link ConfigTreeWatcher} instance.
+	 * @param propertySource the refreshable property source to watch
+	 * @param eventPublisher the publisher used to publish {@link ConfigTreeChangedEvent
+	 * change events}
+	 * @param quietPeriod the amount of time to wait for further changes before
+	 * refreshing
+	 */
+	public ConfigTreeWatcher(ConfigTreePropertySource propertySource, ApplicationEventPublisher eventPublisher,
+			Duration quietPeriod) {
+		Assert.notNull(propertySource, "PropertySource must not be null");
+		Assert.notNull(eventPublisher, "EventPublisher must not be null");
+		Assert.notNull(quietPeriod, "QuietPeriod must not be null");
+		this.propertySource = propertySource;
+		this.eventPublisher = eventPublisher;
+		this.quietPeriod = quietPeriod;
+	}
+
+	/**
+	 * Start watching for changes.
+	 * @throws IOException if the directory tree cannot be watched
+	 */
+	public synchronized void start() throws IOException {
+		Assert.state(this.thread == null, "Watcher has already been started");
+		WatchService watchService = this.propertySource.getSource().getFileSystem().newWatchService();
+		registerDirectories(watchService);
+		this.watchService = watchService;
+		this.thread = new Thread(() -> watch(watchService), "config-tree-watcher");
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+
+	private void registerDirectories(WatchService watchService) throws IOException {
+		Path root = this.propertySource.getSource();
+		try (Stream<Path> paths = Files.walk(root)) {
+			paths.filter((path) -> path.equals(root) || isWatchableDirectory(root.relativize(path)))
+					.forEach((directory) -> register(watchService, directory));
+		}
+	}
+
+	private boolean isWatchableDirectory(Path relativePath) {
+		for (Path element : relativePath) {
+			if (element.toString().startsWith("..")) {
+				return false;
+			}
+		}
+		return Files.isDirectory(this.propertySource.getSource().resolve(relativePath));
+	}
+
+	private void register(WatchService watchService, Path directory) {
+		try {
+			directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+					StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+		}
+		catch (IOException ex) {
+			logger.debug("Unable to watch directory '" + directory + "'", ex);
+		}
+	}
+
+	private void watch(WatchService watchService) {
+		try {
+			while (!Thread.currentThread().isInterrupted()) {
+				reset(watchService.take());
+				WatchKey next = watchService.poll(this.quietPeriod.toMillis(), TimeUnit.MILLISECONDS);
+				while (next != null) {
+					reset(next);
+					next = watchService.poll(this.quietPeriod.toMillis(), TimeUnit.MILLISECONDS);
+				}
+				refresh(watchService);
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		catch (ClosedWatchServiceException ex) {
+			// Watcher has been closed
+		}
+	}
+
+	private void reset(WatchKey key) {
+		key.pollEvents();
+		key.reset();
+	}
+
+	private void refresh(WatchService watchService) {
+		try {
+			Set<String> changed = this.propertySource.refresh();
+			registerDirectories(watchService);
+			if (!changed.isEmpty()) {
+				this.eventPublisher.publishEvent(new ConfigTreeChangedEvent(this.propertySource, changed));
+			}
+		}
+		catch (ClosedWatchServiceException ex) {
+			throw ex;
+		}
+		catch (Exception ex) {
+			logger.warn("Unable to refresh config tree '" + this.propertySource.getSource() + "'", ex);
+		}
+	}
+
+	/**
+	 * Stop watching for changes.
+	 * @throws IOException on IO error
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (this.thread != null) {
+			this.thread.interrupt();
+			this.watchService.close();
+			this.thread = null;
+			this.watchService = null;
+		}
+	}
+
+}
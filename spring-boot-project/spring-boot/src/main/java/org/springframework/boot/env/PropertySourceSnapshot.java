@@ -0,0 +1,349 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.env;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.origin.Origin;
+import org.springframework.boot.origin.OriginTrackedValue;
+import org.springframework.boot.origin.TextResourceOrigin;
+import org.springframework.boot.origin.TextResourceOrigin.Location;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+
+/**
+ * A binary snapshot of the {@link PropertySource property sources} that a
+ * {@link PropertySourceLoader} loads from a {@link Resource}. A snapshot is stored next
+ * to the resource, in a file with the same name followed by {@value #FILE_EXTENSION},
+ * and preserves the {@link TextResourceOrigin origin} of each value. It records a
+ * SHA-256 digest of the resource's content and the loader that created it and is only
+ * read when both still match, so that a stale snapshot is ignored.
+ *
+ * @author Phillip Webb
+ * @since 2.5.0
+ * @see PropertySourceSnapshotGenerator
+ */
+public final class PropertySourceSnapshot {
+
+	/**
+	 * The extension that is added to the name of a resource to locate its snapshot.
+	 */
+	public static final String FILE_EXTENSION = ".snapshot";
+
+	private static final String NAME = "snapshot";
+
+	private static final int MAGIC = 0x53425053;
+
+	private static final int VERSION = 1;
+
+	private static final byte STRING = 0;
+
+	private static final byte BOOLEAN = 1;
+
+	private static final byte INTEGER = 2;
+
+	private static final byte LONG = 3;
+
+	private static final byte BIG_INTEGER = 4;
+
+	private static final byte DOUBLE = 5;
+
+	private static final byte BYTES = 6;
+
+	private static final byte EMPTY_LIST = 7;
+
+	private static final byte EMPTY_MAP = 8;
+
+	private PropertySourceSnapshot() {
+	}
+
+	/**
+	 * Read the property sources from the snapshot of the given resource.
+	 * @param loader the loader that would otherwise load the resource
+	 * @param name the root name of the property sources
+	 * @param resource the resource
+	 * @return the property sources or {@code null} if the resource does not have a
+	 * snapshot or the snapshot is stale
+	 * @throws IOException on read error
+	 */
+	public static List<PropertySource<?>> read(PropertySourceLoader loader, String name, Resource resource)
+			throws IOException {
+		Assert.notNull(loader, "Loader must not be null");
+		Assert.notNull(resource, "Resource must not be null");
+		Resource snapshot = getSnapshot(resource);
+		if (snapshot == null || !snapshot.exists()) {
+			return null;
+		}
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(snapshot.getInputStream()))) {
+			if (input.readInt() != MAGIC || input.readInt() != VERSION
+					|| !loader.getClass().getName().equals(readString(input))) {
+				return null;
+			}
+			if (!Arrays.equals(readBytes(input), digest(resource))) {
+				return null;
+			}
+			int count = input.readInt();
+			List<PropertySource<?>> propertySources = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				propertySources.add(readPropertySource(input, name, resource));
+			}
+			return propertySources;
+		}
+	}
+
+	private static PropertySource<?> readPropertySource(DataInputStream input, String name, Resource resource)
+			throws IOException {
+		String documentName = name + readString(input);
+		boolean immutable = input.readBoolean();
+		int size = input.readInt();
+		Map<String, Object> source = new LinkedHashMap<>(size);
+		for (int i = 0; i < size; i++) {
+			String key = readString(input);
+			Object value = readValue(input);
+			Origin origin = input.readBoolean() ? readOrigin(input, resource) : null;
+			source.put(key, (origin != null) ? OriginTrackedValue.of(value, origin) : value);
+		}
+		return new OriginTrackedMapPropertySource(documentName, Collections.unmodifiableMap(source), immutable);
+	}
+
+	private static Object readValue(DataInputStream input) throws IOException {
+		byte type = input.readByte();
+		switch (type) {
+		case STRING:
+			return readString(input);
+		case BOOLEAN:
+			return input.readBoolean();
+		case INTEGER:
+			return input.readInt();
+		case LONG:
+			return input.readLong();
+		case BIG_INTEGER:
+			return new BigInteger(readString(input));
+		case DOUBLE:
+			return input.readDouble();
+		case BYTES:
+			return readBytes(input);
+		case EMPTY_LIST:
+			return new ArrayList<>();
+		case EMPTY_MAP:
+			return new LinkedHashMap<>();
+		}
+		throw new IOException("Unknown value type " + type);
+	}
+
+	private static Origin readOrigin(DataInputStream input, Resource resource) throws IOException {
+		int line = input.readInt();
+		int column = input.readInt();
+		return new TextResourceOrigin(resource, new Location(line, column));
+	}
+
+	/**
+	 * Load the given resource with the given loader and write a snapshot of the result.
+	 * Nothing is written if the result contains a property source or a value that cannot
+	 * be stored in a snapshot.
+	 * @param loader the loader to use
+	 * @param resource the resource to load
+	 * @param output the output stream that receives the snapshot
+	 * @return {@code true} if the snapshot was written, otherwise {@code false}
+	 * @throws IOException on load or write error
+	 */
+	public static boolean write(PropertySourceLoader loader, Resource resource, OutputStream output)
+			throws IOException {
+		Assert.notNull(loader, "Loader must not be null");
+		Assert.notNull(resource, "Resource must not be null");
+		Assert.notNull(output, "Output must not be null");
+		List<PropertySource<?>> propertySources = loader.load(NAME, resource);
+		if (!isSupported(propertySources, resource)) {
+			return false;
+		}
+		DataOutputStream data = new DataOutputStream(output);
+		data.writeInt(MAGIC);
+		data.writeInt(VERSION);
+		writeString(data, loader.getClass().getName());
+		writeBytes(data, digest(resource));
+		data.writeInt(propertySources.size());
+		for (PropertySource<?> propertySource : propertySources) {
+			writePropertySource(data, (OriginTrackedMapPropertySource) propertySource);
+		}
+		data.flush();
+		return true;
+	}
+
+	private static boolean isSupported(List<PropertySource<?>> propertySources, Resource resource) {
+		for (PropertySource<?> propertySource : propertySources) {
+			if (!(propertySource instanceof OriginTrackedMapPropertySource)
+					|| !propertySource.getName().startsWith(NAME)) {
+				return false;
+			}
+			for (Object value : ((OriginTrackedMapPropertySource) propertySource).getSource().values()) {
+				if (!isSupported(value, resource)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static boolean isSupported(Object value, Resource resource) {
+		if (value instanceof OriginTrackedValue) {
+			Origin origin = ((OriginTrackedValue) value).getOrigin();
+			return (origin == null || (origin instanceof TextResourceOrigin
+					&& ((TextResourceOrigin) origin).getResource() == resource
+					&& ((TextResourceOrigin) origin).getLocation() != null))
+					&& isSupported(((OriginTrackedValue) value).getValue(), resource);
+		}
+		return getType(value) != -1;
+	}
+
+	private static void writePropertySource(DataOutputStream output, OriginTrackedMapPropertySource propertySource)
+			throws IOException {
+		writeString(output, propertySource.getName().substring(NAME.length()));
+		output.writeBoolean(propertySource.isImmutable());
+		Map<String, Object> source = propertySource.getSource();
+		output.writeInt(source.size());
+		for (Map.Entry<String, Object> entry : source.entrySet()) {
+			writeString(output, entry.getKey());
+			Object value = entry.getValue();
+			Origin origin = (value instanceof OriginTrackedValue) ? ((OriginTrackedValue) value).getOrigin() : null;
+			writeValue(output, (value instanceof OriginTrackedValue) ? ((OriginTrackedValue) value).getValue() : value);
+			output.writeBoolean(origin != null);
+			if (origin != null) {
+				Location location = ((TextResourceOrigin) origin).getLocation();
+				output.writeInt(location.getLine());
+				output.writeInt(location.getColumn());
+			}
+		}
+	}
+
+	private static void writeValue(DataOutputStream output, Object value) throws IOException {
+		byte type = getType(value);
+		output.writeByte(type);
+		switch (type) {
+		case STRING:
+			writeString(output, value.toString());
+			break;
+		case BOOLEAN:
+			output.writeBoolean((Boolean) value);
+			break;
+		case INTEGER:
+			output.writeInt((Integer) value);
+			break;
+		case LONG:
+			output.writeLong((Long) value);
+			break;
+		case BIG_INTEGER:
+			writeString(output, value.toString());
+			break;
+		case DOUBLE:
+			output.writeDouble((Double) value);
+			break;
+		case BYTES:
+			writeBytes(output, (byte[]) value);
+			break;
+		}
+	}
+
+	private static byte getType(Object value) {
+		if (value instanceof CharSequence) {
+			return STRING;
+		}
+		if (value instanceof Boolean) {
+			return BOOLEAN;
+		}
+		if (value instanceof Integer) {
+			return INTEGER;
+		}
+		if (value instanceof Long) {
+			return LONG;
+		}
+		if (value instanceof BigInteger) {
+			return BIG_INTEGER;
+		}
+		if (value instanceof Double) {
+			return DOUBLE;
+		}
+		if (value instanceof byte[]) {
+			return BYTES;
+		}
+		if (value instanceof List && ((List<?>) value).isEmpty()) {
+			return EMPTY_LIST;
+		}
+		if (value instanceof Map && ((Map<?, ?>) value).isEmpty()) {
+			return EMPTY_MAP;
+		}
+		return -1;
+	}
+
+	private static Resource getSnapshot(Resource resource) throws IOException {
+		String filename = resource.getFilename();
+		if (filename == null) {
+			return null;
+		}
+		try {
+			return resource.createRelative(filename + FILE_EXTENSION);
+		}
+		catch (UnsupportedOperationException ex) {
+			return null;
+		}
+	}
+
+	private static byte[] digest(Resource resource) throws IOException {
+		try (InputStream input = resource.getInputStream()) {
+			return MessageDigest.getInstance("SHA-256").digest(StreamUtils.copyToByteArray(input));
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		return new String(readBytes(input), StandardCharsets.UTF_8);
+	}
+
+	private static byte[] readBytes(DataInputStream input) throws IOException {
+		byte[] bytes = new byte[input.readInt()];
+		input.readFully(bytes);
+		return bytes;
+	}
+
+	private static void writeString(DataOutputStream output, String string) throws IOException {
+		writeBytes(output, string.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static void writeBytes(DataOutputStream output, byte[] bytes) throws IOException {
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+}
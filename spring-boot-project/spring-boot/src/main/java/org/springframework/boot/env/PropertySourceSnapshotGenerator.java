@@ -0,0 +1,128 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.env;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Generates a {@link PropertySourceSnapshot} for each {@code application} config file
+ * in a directory and in its {@code config} subdirectory, using the
+ * {@link PropertySourceLoader loaders} that would load it at runtime. Intended to be
+ * run by the build plugins with the directory containing the application's packaged
+ * resources.
+ *
+ * @author Phillip Webb
+ * @since 2.5.0
+ */
+public final class PropertySourceSnapshotGenerator {
+
+	private static final String CONFIG_NAME = "application";
+
+	private static final String[] LOCATIONS = { "", "config/" };
+
+	private final List<PropertySourceLoader> loaders;
+
+	/**
+	 * Create a new {@link PropertySourceSnapshotGenerator} that uses the
+	 * {@link PropertySourceLoader loaders} from {@code spring.factories}.
+	 */
+	public PropertySourceSnapshotGenerator() {
+		this(SpringFactoriesLoader.loadFactories(PropertySourceLoader.class,
+				PropertySourceSnapshotGenerator.class.getClassLoader()));
+	}
+
+	PropertySourceSnapshotGenerator(List<PropertySourceLoader> loaders) {
+		this.loaders = loaders;
+	}
+
+	/**
+	 * Generate snapshots of the config files in the given source directory.
+	 * @param sourceDirectory the directory containing the config files
+	 * @param outputDirectory the directory that receives the snapshots, at the same
+	 * relative location as their config file
+	 * @return the snapshots that were written
+	 * @throws IOException on load or write error
+	 */
+	public List<File> generate(File sourceDirectory, File outputDirectory) throws IOException {
+		Assert.notNull(sourceDirectory, "SourceDirectory must not be null");
+		Assert.notNull(outputDirectory, "OutputDirectory must not be null");
+		List<File> snapshots = new ArrayList<>();
+		for (String location : LOCATIONS) {
+			File[] files = new File(sourceDirectory, location).listFiles(File::isFile);
+			if (files != null) {
+				for (File file : files) {
+					PropertySourceLoader loader = getLoader(file.getName());
+					if (loader != null) {
+						File snapshot = new File(outputDirectory, location + file.getName()
+								+ PropertySourceSnapshot.FILE_EXTENSION);
+						if (generate(loader, file, snapshot)) {
+							snapshots.add(snapshot);
+						}
+					}
+				}
+			}
+		}
+		return snapshots;
+	}
+
+	private PropertySourceLoader getLoader(String filename) {
+		if (filename.startsWith(CONFIG_NAME)) {
+			String extension = StringUtils.getFilenameExtension(filename);
+			for (PropertySourceLoader loader : this.loaders) {
+				for (String fileExtension : loader.getFileExtensions()) {
+					if (fileExtension.equalsIgnoreCase(extension)) {
+						return loader;
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	private boolean generate(PropertySourceLoader loader, File file, File snapshot) throws IOException {
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		if (!PropertySourceSnapshot.write(loader, new FileSystemResource(file), content)) {
+			Files.deleteIfExists(snapshot.toPath());
+			return false;
+		}
+		Files.createDirectories(snapshot.getParentFile().toPath());
+		Files.write(snapshot.toPath(), content.toByteArray());
+		return true;
+	}
+
+	/**
+	 * Generate snapshots of the config files in the directory given by the first
+	 * argument into the directory given by the second.
+	 * @param args the source and output directories
+	 * @throws IOException on load or write error
+	 */
+	public static void main(String[] args) throws IOException {
+		Assert.state(args.length == 2, "Usage: PropertySourceSnapshotGenerator <source directory> <output directory>");
+		new PropertySourceSnapshotGenerator().generate(new File(args[0]), new File(args[1]));
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,7 +17,11 @@
 package org.springframework.boot.jackson;
 
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiConsumer;
 
 import com.fasterxml.jackson.databind.JsonDeserializer;
@@ -54,6 +58,10 @@ public class JsonComponentModule extends SimpleModule implements BeanFactoryAwar
 
 	private BeanFactory beanFactory;
 
+	private final Set<Class<?>> serializedTypes = new LinkedHashSet<>();
+
+	private final Set<Class<?>> deserializedTypes = new LinkedHashSet<>();
+
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 		this.beanFactory = beanFactory;
@@ -75,6 +83,25 @@ public class JsonComponentModule extends SimpleModule implements BeanFactoryAwar
 		}
 	}
 
+	/**
+	 * Return the types that have a {@link JsonSerializer} registered as a
+	 * {@link Scope#VALUES value} serializer by this module.
+	 * @return the serialized types
+	 * @since 2.5.0
+	 */
+	public Set<Class<?>> getSerializedTypes() {
+		return Collections.unmodifiableSet(this.serializedTypes);
+	}
+
+	/**
+	 * Return the types that have a {@link JsonDeserializer} registered by this module.
+	 * @return the deserialized types
+	 * @since 2.5.0
+	 */
+	public Set<Class<?>> getDeserializedTypes() {
+		return Collections.unmodifiableSet(this.deserializedTypes);
+	}
+
 	private void addJsonBeans(ListableBeanFactory beanFactory) {
 		Map<String, Object> beans = beanFactory.getBeansWithAnnotation(JsonComponent.class);
 		for (Object bean : beans.values()) {
@@ -120,6 +147,9 @@ public class JsonComponentModule extends SimpleModule implements BeanFactoryAwar
 				.resolveGeneric();
 		addBeanToModule(serializer, baseType, types,
 				(scope == Scope.VALUES) ? this::addSerializer : this::addKeySerializer);
+		if (scope == Scope.VALUES) {
+			addHandledTypes(this.serializedTypes, baseType, types);
+		}
 
 	}
 
@@ -128,6 +158,16 @@ public class JsonComponentModule extends SimpleModule implements BeanFactoryAwar
 		Class<T> baseType = (Class<T>) ResolvableType.forClass(JsonDeserializer.class, deserializer.getClass())
 				.resolveGeneric();
 		addBeanToModule(deserializer, baseType, types, this::addDeserializer);
+		addHandledTypes(this.deserializedTypes, baseType, types);
+	}
+
+	private void addHandledTypes(Set<Class<?>> handledTypes, Class<?> baseType, Class<?>[] types) {
+		if (ObjectUtils.isEmpty(types)) {
+			handledTypes.add(baseType);
+		}
+		else {
+			handledTypes.addAll(Arrays.asList(types));
+		}
 	}
 
 	private void addKeyDeserializerBean(KeyDeserializer deserializer, Class<?>[] types) {
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.jdbc.init;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.datasource.init.CannotReadScriptException;
+import org.springframework.jdbc.datasource.init.DatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptException;
+import org.springframework.jdbc.datasource.init.ScriptStatementFailedException;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.util.FileCopyUtils;
+
+/**
+ * {@link DatabasePopulator} that executes the statements of SQL scripts using JDBC
+ * batches. When the connection is in auto-commit mode, each batch is executed and
+ * committed in its own transaction.
+ *
+ * @author Andy Wilkinson
+ */
+class BatchingScriptDatabasePopulator implements DatabasePopulator {
+
+	private static final Log logger = LogFactory.getLog(BatchingScriptDatabasePopulator.class);
+
+	private final List<Resource> scripts;
+
+	private final int batchSize;
+
+	private final boolean continueOnError;
+
+	private final String separator;
+
+	private final Charset encoding;
+
+	BatchingScriptDatabasePopulator(List<Resource> scripts, int batchSize, boolean continueOnError, String separator,
+			Charset encoding) {
+		this.scripts = scripts;
+		this.batchSize = batchSize;
+		this.continueOnError = continueOnError;
+		this.separator = (separator != null) ? separator : ScriptUtils.DEFAULT_STATEMENT_SEPARATOR;
+		this.encoding = encoding;
+	}
+
+	@Override
+	public void populate(Connection connection) throws SQLException, ScriptException {
+		boolean autoCommit = connection.getAutoCommit();
+		if (autoCommit) {
+			connection.setAutoCommit(false);
+		}
+		try {
+			for (Resource script : this.scripts) {
+				executeScript(connection, new EncodedResource(script, this.encoding), autoCommit);
+			}
+		}
+		finally {
+			if (autoCommit) {
+				connection.setAutoCommit(true);
+			}
+		}
+	}
+
+	private void executeScript(Connection connection, EncodedResource resource, boolean commit) throws SQLException {
+		List<String> statements = getStatements(resource);
+		long startTime = System.currentTimeMillis();
+		try (Statement statement = connection.createStatement()) {
+			int batchStart = 0;
+			while (batchStart < statements.size()) {
+				int batchEnd = Math.min(batchStart + this.batchSize, statements.size());
+				for (int i = batchStart; i < batchEnd; i++) {
+					statement.addBatch(statements.get(i));
+				}
+				executeBatch(connection, statement, resource, statements.subList(batchStart, batchEnd), batchStart,
+						commit);
+				batchStart = batchEnd;
+			}
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Executed " + statements.size() + " statements from " + resource + " in batches of "
+					+ this.batchSize + " in " + (System.currentTimeMillis() - startTime) + " ms.");
+		}
+	}
+
+	private void executeBatch(Connection connection, Statement statement, EncodedResource resource,
+			List<String> batch, int batchStart, boolean commit) throws SQLException {
+		try {
+			statement.executeBatch();
+			if (commit) {
+				connection.commit();
+			}
+		}
+		catch (SQLException ex) {
+			statement.clearBatch();
+			if (commit) {
+				connection.rollback();
+			}
+			int failed = getFailedIndex(ex, batch);
+			ScriptStatementFailedException failure = new ScriptStatementFailedException(batch.get(failed),
+					batchStart + failed + 1, resource, ex);
+			if (!this.continueOnError) {
+				throw failure;
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug(failure.getMessage() + ". Continuing with the next batch.", ex);
+			}
+		}
+	}
+
+	private int getFailedIndex(SQLException ex, List<String> batch) {
+		if (ex instanceof BatchUpdateException) {
+			int[] updateCounts = ((BatchUpdateException) ex).getUpdateCounts();
+			if (updateCounts != null) {
+				for (int i = 0; i < updateCounts.length; i++) {
+					if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+						return i;
+					}
+				}
+				return Math.min(updateCounts.length, batch.size() - 1);
+			}
+		}
+		return 0;
+	}
+
+	private List<String> getStatements(EncodedResource resource) {
+		String script = readScript(resource);
+		String separator = this.separator;
+		if (!ScriptUtils.EOF_STATEMENT_SEPARATOR.equals(separator)
+				&& !ScriptUtils.containsSqlScriptDelimiters(script, separator)) {
+			separator = ScriptUtils.FALLBACK_STATEMENT_SEPARATOR;
+		}
+		List<String> statements = new ArrayList<>();
+		ScriptUtils.splitSqlScript(resource, script, separator, ScriptUtils.DEFAULT_COMMENT_PREFIXES,
+				ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER, ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER,
+				statements);
+		return statements;
+	}
+
+	private String readScript(EncodedResource resource) {
+		try {
+			return FileCopyUtils.copyToString(resource.getReader());
+		}
+		catch (IOException ex) {
+			throw new CannotReadScriptException(resource, ex);
+		}
+	}
+
+}
@@ -17,7 +17,13 @@
 package org.springframework.boot.jdbc.init;
 
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.sql.DataSource;
 
@@ -25,12 +31,15 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.boot.sql.init.AbstractScriptDatabaseInitializer;
 import org.springframework.boot.sql.init.DatabaseInitializationSettings;
 import org.springframework.core.io.Resource;
+import org.springframework.jdbc.datasource.init.DatabasePopulator;
 import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
 import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 /**
  * {@link InitializingBean} that performs {@link DataSource} initialization using schema
- * (DDL) and data (DML) scripts.
+ * (DDL) and data (DML) scripts. Statements can optionally be executed in JDBC batches and
+ * independent scripts can optionally be applied in parallel using separate connections.
  *
  * @author Andy Wilkinson
  * @since 2.5.0
@@ -39,6 +48,8 @@ public class DataSourceScriptDatabaseInitializer extends AbstractScriptDatabaseI
 
 	private final DataSource dataSource;
 
+	private final DatabaseInitializationSettings settings;
+
 	/**
 	 * Creates a new {@link DataSourceScriptDatabaseInitializer} that will initialize the
 	 * given {@code DataSource} using the given settings.
@@ -48,6 +59,7 @@ public class DataSourceScriptDatabaseInitializer extends AbstractScriptDatabaseI
 	public DataSourceScriptDatabaseInitializer(DataSource dataSource, DatabaseInitializationSettings settings) {
 		super(settings);
 		this.dataSource = dataSource;
+		this.settings = settings;
 	}
 
 	/**
@@ -60,6 +72,36 @@ public class DataSourceScriptDatabaseInitializer extends AbstractScriptDatabaseI
 
 	@Override
 	protected void runScripts(List<Resource> resources, boolean continueOnError, String separator, Charset encoding) {
+		if (!this.settings.isParallel() || resources.size() == 1) {
+			DatabasePopulatorUtils.execute(createPopulator(resources, continueOnError, separator, encoding),
+					this.dataSource);
+			return;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(
+				Math.min(resources.size(), Runtime.getRuntime().availableProcessors()),
+				new CustomizableThreadFactory("sql-init-"));
+		try {
+			List<Future<?>> results = new ArrayList<>(resources.size());
+			for (Resource resource : resources) {
+				DatabasePopulator populator = createPopulator(Collections.singletonList(resource), continueOnError,
+						separator, encoding);
+				results.add(executor.submit(() -> DatabasePopulatorUtils.execute(populator, this.dataSource)));
+			}
+			for (Future<?> result : results) {
+				getResult(result);
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private DatabasePopulator createPopulator(List<Resource> resources, boolean continueOnError, String separator,
+			Charset encoding) {
+		if (this.settings.getBatchSize() > 0) {
+			return new BatchingScriptDatabasePopulator(resources, this.settings.getBatchSize(), continueOnError,
+					separator, encoding);
+		}
 		ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
 		populator.setContinueOnError(continueOnError);
 		populator.setSeparator(separator);
@@ -69,7 +111,24 @@ public class DataSourceScriptDatabaseInitializer extends AbstractScriptDatabaseI
 		for (Resource resource : resources) {
 			populator.addScript(resource);
 		}
-		DatabasePopulatorUtils.execute(populator, this.dataSource);
+		return populator;
+	}
+
+	private void getResult(Future<?> result) {
+		try {
+			result.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while applying scripts", ex);
+		}
+		catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new IllegalStateException(cause);
+		}
 	}
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,14 +20,20 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-
-import org.springframework.util.StringUtils;
+import java.util.function.Function;
 
 /**
  * Really basic JSON parser for when you have nothing else available. Comes with some
  * limitations with respect to the JSON specification (e.g. only supports String values),
  * so users will probably prefer to have a library handle things instead (Jackson or Snake
  * YAML are supported).
+ * <p>
+ * JSON is parsed in a single pass over the source string without creating intermediate
+ * substrings for nested elements, so large documents such as {@code VCAP_SERVICES} can
+ * be parsed in linear time. The parser is lenient: keys do not need to be quoted,
+ * unquoted values may contain any character other than {@code ','}, <code>'&#125;'</code>
+ * and {@code ']'}, and trailing commas are ignored. Escape sequences in quoted strings,
+ * including <code>&#92;uXXXX</code>, are decoded.
  *
  * @author Dave Syer
  * @author Jean de Klerk
@@ -37,123 +43,251 @@ import org.springframework.util.StringUtils;
  */
 public class BasicJsonParser extends AbstractJsonParser {
 
+	private static final int MAX_DEPTH = 1000;
+
 	@Override
 	public Map<String, Object> parseMap(String json) {
-		return parseMap(json, this::parseMapInternal);
+		return parseMap(json, (trimmed) -> new Parser(trimmed).parse(Parser::readMap));
 	}
 
 	@Override
 	public List<Object> parseList(String json) {
-		return parseList(json, this::parseListInternal);
+		return parseList(json, (trimmed) -> new Parser(trimmed).parse(Parser::readList));
 	}
 
-	private List<Object> parseListInternal(String json) {
-		List<Object> list = new ArrayList<>();
-		json = trimLeadingCharacter(trimTrailingCharacter(json, ']'), '[').trim();
-		for (String value : tokenize(json)) {
-			list.add(parseInternal(value));
-		}
-		return list;
-	}
+	/**
+	 * Cursor based parser for a single JSON document.
+	 */
+	private static final class Parser {
+
+		private final String json;
+
+		private int index;
 
-	private Object parseInternal(String json) {
-		if (json.startsWith("[")) {
-			return parseListInternal(json);
+		private int depth;
+
+		private Parser(String json) {
+			this.json = json;
 		}
-		if (json.startsWith("{")) {
-			return parseMapInternal(json);
+
+		private <T> T parse(Function<Parser, T> reader) {
+			T result = reader.apply(this);
+			skipWhitespace();
+			if (this.index != this.json.length()) {
+				throw new JsonParseException();
+			}
+			return result;
 		}
-		if (json.startsWith("\"")) {
-			return trimTrailingCharacter(trimLeadingCharacter(json, '"'), '"');
+
+		private Object readValue() {
+			skipWhitespace();
+			switch (peek()) {
+			case '{':
+				return readMap();
+			case '[':
+				return readList();
+			case '"':
+				return readString();
+			default:
+				return readLiteral();
+			}
 		}
-		try {
-			return Long.valueOf(json);
+
+		private Map<String, Object> readMap() {
+			expect('{');
+			increaseDepth();
+			Map<String, Object> map = new LinkedHashMap<>();
+			skipWhitespace();
+			if (peek() == '}') {
+				this.index++;
+				this.depth--;
+				return map;
+			}
+			do {
+				skipWhitespace();
+				String key = readKey();
+				skipWhitespace();
+				expect(':');
+				map.put(key, readValue());
+				skipWhitespace();
+			}
+			while (readSeparator('}'));
+			this.depth--;
+			return map;
 		}
-		catch (NumberFormatException ex) {
-			// ignore
+
+		private List<Object> readList() {
+			expect('[');
+			increaseDepth();
+			List<Object> list = new ArrayList<>();
+			skipWhitespace();
+			if (peek() == ']') {
+				this.index++;
+				this.depth--;
+				return list;
+			}
+			do {
+				list.add(readValue());
+				skipWhitespace();
+			}
+			while (readSeparator(']'));
+			this.depth--;
+			return list;
 		}
-		try {
-			return Double.valueOf(json);
+
+		private boolean readSeparator(char end) {
+			char ch = next();
+			if (ch == ',') {
+				skipWhitespace();
+				if (peek() == end) {
+					this.index++;
+					return false;
+				}
+				return true;
+			}
+			if (ch == end) {
+				return false;
+			}
+			throw new JsonParseException();
 		}
-		catch (NumberFormatException ex) {
-			// ignore
+
+		private String readKey() {
+			if (peek() == '"') {
+				return readString();
+			}
+			int start = this.index;
+			while (peek() != ':') {
+				this.index++;
+			}
+			String key = this.json.substring(start, this.index).trim();
+			if (key.isEmpty()) {
+				throw new JsonParseException();
+			}
+			return key;
 		}
-		return json;
-	}
 
-	private static String trimTrailingCharacter(String string, char c) {
-		if (!string.isEmpty() && string.charAt(string.length() - 1) == c) {
-			return string.substring(0, string.length() - 1);
+		private String readString() {
+			expect('"');
+			StringBuilder builder = null;
+			int start = this.index;
+			while (true) {
+				char ch = next();
+				if (ch == '"') {
+					if (builder == null) {
+						return this.json.substring(start, this.index - 1);
+					}
+					return builder.append(this.json, start, this.index - 1).toString();
+				}
+				if (ch == '\\') {
+					if (builder == null) {
+						builder = new StringBuilder();
+					}
+					builder.append(this.json, start, this.index - 1);
+					builder.append(readEscape());
+					start = this.index;
+				}
+			}
 		}
-		return string;
-	}
 
-	private static String trimLeadingCharacter(String string, char c) {
-		if (!string.isEmpty() && string.charAt(0) == c) {
-			return string.substring(1);
+		private char readEscape() {
+			char ch = next();
+			switch (ch) {
+			case 'b':
+				return '\b';
+			case 'f':
+				return '\f';
+			case 'n':
+				return '\n';
+			case 'r':
+				return '\r';
+			case 't':
+				return '\t';
+			case 'u':
+				return readUnicodeEscape();
+			default:
+				return ch;
+			}
 		}
-		return string;
-	}
 
-	private Map<String, Object> parseMapInternal(String json) {
-		Map<String, Object> map = new LinkedHashMap<>();
-		json = trimLeadingCharacter(trimTrailingCharacter(json, '}'), '{').trim();
-		for (String pair : tokenize(json)) {
-			String[] values = StringUtils.trimArrayElements(StringUtils.split(pair, ":"));
-			String key = trimLeadingCharacter(trimTrailingCharacter(values[0], '"'), '"');
-			Object value = parseInternal(values[1]);
-			map.put(key, value);
+		private char readUnicodeEscape() {
+			int value = 0;
+			for (int i = 0; i < 4; i++) {
+				int digit = Character.digit(next(), 16);
+				if (digit == -1) {
+					throw new JsonParseException();
+				}
+				value = (value << 4) + digit;
+			}
+			return (char) value;
 		}
-		return map;
-	}
 
-	private List<String> tokenize(String json) {
-		List<String> list = new ArrayList<>();
-		int index = 0;
-		int inObject = 0;
-		int inList = 0;
-		boolean inValue = false;
-		boolean inEscape = false;
-		StringBuilder build = new StringBuilder();
-		while (index < json.length()) {
-			char current = json.charAt(index);
-			if (inEscape) {
-				build.append(current);
-				index++;
-				inEscape = false;
-				continue;
+		private Object readLiteral() {
+			int start = this.index;
+			while (this.index < this.json.length() && !isLiteralEnd(this.json.charAt(this.index))) {
+				this.index++;
 			}
-			if (current == '{') {
-				inObject++;
+			if (this.index == start) {
+				throw new JsonParseException();
 			}
-			if (current == '}') {
-				inObject--;
+			String literal = this.json.substring(start, this.index).trim();
+			char first = literal.charAt(0);
+			if (first == '-' || (first >= '0' && first <= '9')) {
+				return parseNumber(literal);
 			}
-			if (current == '[') {
-				inList++;
+			return literal;
+		}
+
+		private boolean isLiteralEnd(char ch) {
+			return ch == ',' || ch == '}' || ch == ']';
+		}
+
+		private Object parseNumber(String literal) {
+			try {
+				return Long.valueOf(literal);
 			}
-			if (current == ']') {
-				inList--;
+			catch (NumberFormatException ex) {
+				// ignore
 			}
-			if (current == '"') {
-				inValue = !inValue;
+			try {
+				return Double.valueOf(literal);
 			}
-			if (current == ',' && inObject == 0 && inList == 0 && !inValue) {
-				list.add(build.toString());
-				build.setLength(0);
+			catch (NumberFormatException ex) {
+				// ignore
 			}
-			else if (current == '\\') {
-				inEscape = true;
+			return literal;
+		}
+
+		private void increaseDepth() {
+			if (++this.depth > MAX_DEPTH) {
+				throw new JsonParseException();
 			}
-			else {
-				build.append(current);
+		}
+
+		private void skipWhitespace() {
+			while (this.index < this.json.length() && this.json.charAt(this.index) <= ' ') {
+				this.index++;
 			}
-			index++;
 		}
-		if (build.length() > 0) {
-			list.add(build.toString().trim());
+
+		private void expect(char expected) {
+			if (next() != expected) {
+				throw new JsonParseException();
+			}
 		}
-		return list;
+
+		private char peek() {
+			if (this.index >= this.json.length()) {
+				throw new JsonParseException();
+			}
+			return this.json.charAt(this.index);
+		}
+
+		private char next() {
+			char ch = peek();
+			this.index++;
+			return ch;
+		}
+
 	}
 
 }
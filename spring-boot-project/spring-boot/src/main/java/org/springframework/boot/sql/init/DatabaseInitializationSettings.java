@@ -37,6 +37,10 @@ public class DatabaseInitializationSettings {
 
 	private Charset encoding;
 
+	private int batchSize = 0;
+
+	private boolean parallel = false;
+
 	/**
 	 * Returns the locations of the schema (DDL) scripts to apply to the database.
 	 * @return the locations of the schema scripts
@@ -123,4 +127,44 @@ public class DatabaseInitializationSettings {
 		this.encoding = encoding;
 	}
 
+	/**
+	 * Returns the number of statements to execute in a single batch when applying the
+	 * schema and data scripts. A value of {@code 0} or less disables batching.
+	 * @return the batch size
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Sets the number of statements to execute in a single batch when applying the schema
+	 * and data scripts. When batching is enabled, each batch is committed in its own
+	 * transaction and scripts must not contain queries. A value of {@code 0} or less
+	 * disables batching.
+	 * @param batchSize the batch size
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Returns whether schema scripts and data scripts may each be applied in parallel.
+	 * @return whether scripts are applied in parallel
+	 */
+	public boolean isParallel() {
+		return this.parallel;
+	}
+
+	/**
+	 * Sets whether schema scripts and data scripts may each be applied in parallel. When
+	 * enabled, the scripts found for the schema locations are applied concurrently, each
+	 * using its own connection, followed by the scripts found for the data locations.
+	 * Only enable parallel application when the scripts of each kind are independent of
+	 * each other.
+	 * @param parallel whether scripts are applied in parallel
+	 */
+	public void setParallel(boolean parallel) {
+		this.parallel = parallel;
+	}
+
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TwoLevelCacheManager}.
+ *
+ * @author Phillip Webb
+ */
+class TwoLevelCacheManagerTests {
+
+	private final ConcurrentMapCacheManager localCacheManager = new ConcurrentMapCacheManager();
+
+	private final ConcurrentMapCacheManager remoteCacheManager = new ConcurrentMapCacheManager("one", "two");
+
+	private final TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(this.localCacheManager,
+			this.remoteCacheManager);
+
+	@Test
+	void getCacheReturnsTwoLevelCache() {
+		Cache cache = this.cacheManager.getCache("one");
+		assertThat(cache).isInstanceOf(TwoLevelCache.class);
+		assertThat(((TwoLevelCache) cache).getLocalCache()).isSameAs(this.localCacheManager.getCache("one"));
+		assertThat(((TwoLevelCache) cache).getRemoteCache()).isSameAs(this.remoteCacheManager.getCache("one"));
+		assertThat(this.cacheManager.getCache("one")).isSameAs(cache);
+	}
+
+	@Test
+	void getCacheWhenRemoteCacheIsMissingReturnsNull() {
+		assertThat(this.cacheManager.getCache("three")).isNull();
+	}
+
+	@Test
+	void getCacheNamesReturnsRemoteCacheNames() {
+		assertThat(this.cacheManager.getCacheNames()).containsExactly("one", "two");
+	}
+
+	@Test
+	void putPublishesInvalidation() {
+		List<String> invalidations = new ArrayList<>();
+		this.cacheManager.setInvalidationPublisher((cacheName, key) -> invalidations.add(cacheName + ":" + key));
+		this.cacheManager.getCache("one").put("a", "value");
+		assertThat(invalidations).containsExactly("one:a");
+	}
+
+	@Test
+	void invalidateLocalRemovesFromLocalCacheOnly() {
+		Cache cache = this.cacheManager.getCache("one");
+		cache.put("a", "value");
+		cache.put("b", "value");
+		this.cacheManager.invalidateLocal("one", "a");
+		assertThat(this.localCacheManager.getCache("one").get("a")).isNull();
+		assertThat(this.localCacheManager.getCache("one").get("b")).isNotNull();
+		assertThat(this.remoteCacheManager.getCache("one").get("a")).isNotNull();
+		this.cacheManager.invalidateLocal("one", null);
+		assertThat(this.localCacheManager.getCache("one").get("b")).isNull();
+		assertThat(cache.get("a").get()).isEqualTo("value");
+	}
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link TwoLevelCache}.
+ *
+ * @author Phillip Webb
+ */
+class TwoLevelCacheTests {
+
+	private final Cache localCache = new ConcurrentMapCache("test");
+
+	private final Cache remoteCache = new ConcurrentMapCache("test");
+
+	private final List<Object> invalidations = new ArrayList<>();
+
+	private final TwoLevelCache cache = new TwoLevelCache("test", this.localCache, this.remoteCache,
+			(cacheName, key) -> this.invalidations.add(cacheName + ":" + key));
+
+	@Test
+	void getWhenInLocalCacheDoesNotUseRemoteCache() {
+		this.localCache.put("a", "local");
+		this.remoteCache.put("a", "remote");
+		assertThat(this.cache.get("a").get()).isEqualTo("local");
+	}
+
+	@Test
+	void getWhenOnlyInRemoteCacheCopiesToLocalCache() {
+		this.remoteCache.put("a", "remote");
+		assertThat(this.cache.get("a").get()).isEqualTo("remote");
+		assertThat(this.localCache.get("a").get()).isEqualTo("remote");
+		assertThat(this.invalidations).isEmpty();
+	}
+
+	@Test
+	void getWhenMissingReturnsNull() {
+		assertThat(this.cache.get("a")).isNull();
+		assertThat(this.cache.get("a", String.class)).isNull();
+	}
+
+	@Test
+	void getWithTypeWhenWrongTypeThrowsException() {
+		this.remoteCache.put("a", "remote");
+		assertThatIllegalStateException().isThrownBy(() -> this.cache.get("a", Integer.class))
+				.withMessageContaining("Cached value is not of required type");
+	}
+
+	@Test
+	void getWithValueLoaderLoadsIntoBothCaches() {
+		assertThat(this.cache.get("a", () -> "loaded")).isEqualTo("loaded");
+		assertThat(this.localCache.get("a").get()).isEqualTo("loaded");
+		assertThat(this.remoteCache.get("a").get()).isEqualTo("loaded");
+		assertThat(this.cache.get("a", () -> "other")).isEqualTo("loaded");
+	}
+
+	@Test
+	void getWithValueLoaderWhenLoadedPublishesInvalidation() {
+		this.cache.get("a", () -> "loaded");
+		assertThat(this.invalidations).containsExactly("test:a");
+	}
+
+	@Test
+	void getWithValueLoaderWhenInRemoteCacheDoesNotPublishInvalidation() {
+		this.remoteCache.put("a", "remote");
+		assertThat(this.cache.get("a", () -> "loaded")).isEqualTo("remote");
+		assertThat(this.localCache.get("a").get()).isEqualTo("remote");
+		assertThat(this.invalidations).isEmpty();
+	}
+
+	@Test
+	void putWritesToBothCachesAndPublishesInvalidation() {
+		this.cache.put("a", "value");
+		assertThat(this.localCache.get("a").get()).isEqualTo("value");
+		assertThat(this.remoteCache.get("a").get()).isEqualTo("value");
+		assertThat(this.invalidations).containsExactly("test:a");
+	}
+
+	@Test
+	void putIfAbsentWhenPresentInRemoteCacheReturnsExistingValue() {
+		this.remoteCache.put("a", "existing");
+		assertThat(this.cache.putIfAbsent("a", "value").get()).isEqualTo("existing");
+		assertThat(this.localCache.get("a").get()).isEqualTo("existing");
+		assertThat(this.invalidations).isEmpty();
+	}
+
+	@Test
+	void evictRemovesFromBothCachesAndPublishesInvalidation() {
+		this.cache.put("a", "value");
+		this.invalidations.clear();
+		this.cache.evict("a");
+		assertThat(this.localCache.get("a")).isNull();
+		assertThat(this.remoteCache.get("a")).isNull();
+		assertThat(this.invalidations).containsExactly("test:a");
+	}
+
+	@Test
+	void clearClearsBothCachesAndPublishesInvalidation() {
+		this.cache.put("a", "value");
+		this.invalidations.clear();
+		this.cache.clear();
+		assertThat(this.localCache.get("a")).isNull();
+		assertThat(this.remoteCache.get("a")).isNull();
+		assertThat(this.invalidations).containsExactly("test:null");
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.context;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.test.context.support.TestPropertySourceUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TrainingRunApplicationListener}.
+ *
+ * @author Phillip Webb
+ */
+class TrainingRunApplicationListenerTests {
+
+	private final List<Integer> exitCodes = new ArrayList<>();
+
+	private final TrainingRunApplicationListener listener = new TrainingRunApplicationListener(this.exitCodes::add);
+
+	@Test
+	void onApplicationEventWhenTrainingRunIsNotEnabledDoesNotExit() {
+		StaticApplicationContext context = new StaticApplicationContext();
+		context.refresh();
+		this.listener.onApplicationEvent(new ApplicationReadyEvent(new SpringApplication(), new String[0], context));
+		assertThat(this.exitCodes).isEmpty();
+		assertThat(context.isActive()).isTrue();
+		context.close();
+	}
+
+	@Test
+	void onApplicationEventWhenTrainingRunIsEnabledClosesContextAndExits() {
+		StaticApplicationContext context = new StaticApplicationContext();
+		TestPropertySourceUtils.addInlinedPropertiesToEnvironment(context, "spring.context.training-run=true");
+		context.refresh();
+		this.listener.onApplicationEvent(new ApplicationReadyEvent(new SpringApplication(), new String[0], context));
+		assertThat(this.exitCodes).containsExactly(0);
+		assertThat(context.isActive()).isFalse();
+	}
+
+}
@@ -20,6 +20,8 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -27,6 +29,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -47,6 +50,7 @@ import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.context.properties.source.ConfigurationProperty;
 import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.boot.env.ConfigTreeChangedEvent;
 import org.springframework.boot.origin.Origin;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Configuration;
@@ -66,6 +70,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.awaitility.Awaitility.await;
 
 /**
  * Integration tests for {@link ConfigDataEnvironmentPostProcessor}.
@@ -690,6 +695,30 @@ class ConfigDataEnvironmentPostProcessorIntegrationTests {
 		assertThat(environment.getProperty("test2")).isEqualTo("test2");
 	}
 
+	@Test
+	void runWhenWatchingConfigTreeRefreshesPropertiesOnChange() throws IOException {
+		File directory = new File(this.temp, "configtree");
+		directory.mkdirs();
+		File file = new File(directory, "the.property");
+		FileCopyUtils.copy("initial".getBytes(StandardCharsets.UTF_8), file);
+		List<ConfigTreeChangedEvent> events = new CopyOnWriteArrayList<>();
+		this.application.addListeners((event) -> {
+			if (event instanceof ConfigTreeChangedEvent) {
+				events.add((ConfigTreeChangedEvent) event);
+			}
+		});
+		try (ConfigurableApplicationContext context = this.application.run(
+				"--spring.config.import=configtree:" + directory.getAbsolutePath() + "/",
+				"--spring.config.configtree.watch=true")) {
+			ConfigurableEnvironment environment = context.getEnvironment();
+			assertThat(environment.getProperty("the.property")).isEqualTo("initial");
+			FileCopyUtils.copy("updated".getBytes(StandardCharsets.UTF_8), file);
+			await().atMost(Duration.ofSeconds(30)).until(() -> !events.isEmpty());
+			assertThat(events.get(0).getChangedPropertyNames()).containsExactly("the.property");
+			assertThat(environment.getProperty("the.property")).isEqualTo("updated");
+		}
+	}
+
 	private Condition<ConfigurableEnvironment> matchingPropertySource(final String sourceName) {
 		return new Condition<ConfigurableEnvironment>("environment containing property source " + sourceName) {
 
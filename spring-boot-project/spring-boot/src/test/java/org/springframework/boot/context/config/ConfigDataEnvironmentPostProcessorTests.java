@@ -30,6 +30,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.boot.DefaultBootstrapContext;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.core.env.StandardEnvironment;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.ResourceLoader;
@@ -77,9 +78,11 @@ class ConfigDataEnvironmentPostProcessorTests {
 
 	@Test
 	void postProcessEnvironmentWhenNoLoaderCreatesDefaultLoaderInstance() {
-		willReturn(this.configDataEnvironment).given(this.postProcessor).getConfigDataEnvironment(any(), any(), any());
+		willReturn(this.configDataEnvironment).given(this.postProcessor).getConfigDataEnvironment(any(), any(), any(),
+				any());
 		this.postProcessor.postProcessEnvironment(this.environment, this.application);
-		verify(this.postProcessor).getConfigDataEnvironment(any(), this.resourceLoaderCaptor.capture(), any());
+		verify(this.postProcessor).getConfigDataEnvironment(any(), this.resourceLoaderCaptor.capture(), any(),
+				any());
 		verify(this.configDataEnvironment).processAndApply();
 		assertThat(this.resourceLoaderCaptor.getValue()).isInstanceOf(DefaultResourceLoader.class);
 	}
@@ -88,9 +91,11 @@ class ConfigDataEnvironmentPostProcessorTests {
 	void postProcessEnvironmentWhenCustomLoaderUsesSpecifiedLoaderInstance() {
 		ResourceLoader resourceLoader = mock(ResourceLoader.class);
 		this.application.setResourceLoader(resourceLoader);
-		willReturn(this.configDataEnvironment).given(this.postProcessor).getConfigDataEnvironment(any(), any(), any());
+		willReturn(this.configDataEnvironment).given(this.postProcessor).getConfigDataEnvironment(any(), any(), any(),
+				any());
 		this.postProcessor.postProcessEnvironment(this.environment, this.application);
-		verify(this.postProcessor).getConfigDataEnvironment(any(), this.resourceLoaderCaptor.capture(), any());
+		verify(this.postProcessor).getConfigDataEnvironment(any(), this.resourceLoaderCaptor.capture(), any(),
+				any());
 		verify(this.configDataEnvironment).processAndApply();
 		assertThat(this.resourceLoaderCaptor.getValue()).isSameAs(resourceLoader);
 	}
@@ -98,19 +103,32 @@ class ConfigDataEnvironmentPostProcessorTests {
 	@Test
 	void postProcessEnvironmentWhenHasAdditionalProfilesOnSpringApplicationUsesAdditionalProfiles() {
 		this.application.setAdditionalProfiles("dev");
-		willReturn(this.configDataEnvironment).given(this.postProcessor).getConfigDataEnvironment(any(), any(), any());
+		willReturn(this.configDataEnvironment).given(this.postProcessor).getConfigDataEnvironment(any(), any(), any(),
+				any());
 		this.postProcessor.postProcessEnvironment(this.environment, this.application);
-		verify(this.postProcessor).getConfigDataEnvironment(any(), any(), this.additionalProfilesCaptor.capture());
+		verify(this.postProcessor).getConfigDataEnvironment(any(), any(), this.additionalProfilesCaptor.capture(),
+				any());
 		verify(this.configDataEnvironment).processAndApply();
 		assertThat(this.additionalProfilesCaptor.getValue()).containsExactly("dev");
 	}
 
+	@Test
+	void postProcessEnvironmentUsesApplicationStartupOfSpringApplication() {
+		BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(10);
+		this.application.setApplicationStartup(applicationStartup);
+		willReturn(this.configDataEnvironment).given(this.postProcessor).getConfigDataEnvironment(any(), any(), any(),
+				any());
+		this.postProcessor.postProcessEnvironment(this.environment, this.application);
+		verify(this.postProcessor).getConfigDataEnvironment(any(), any(), any(), eq(applicationStartup));
+		verify(this.configDataEnvironment).processAndApply();
+	}
+
 	@Test
 	void postProcessEnvironmentWhenUseLegacyProcessingSwitchesToLegacyMethod() {
 		ConfigDataEnvironmentPostProcessor.LegacyConfigFileApplicationListener legacyListener = mock(
 				ConfigDataEnvironmentPostProcessor.LegacyConfigFileApplicationListener.class);
 		willThrow(new UseLegacyConfigProcessingException(null)).given(this.postProcessor)
-				.getConfigDataEnvironment(any(), any(), any());
+				.getConfigDataEnvironment(any(), any(), any(), any());
 		willReturn(legacyListener).given(this.postProcessor).getLegacyListener();
 		this.postProcessor.postProcessEnvironment(this.environment, this.application);
 		verifyNoInteractions(this.configDataEnvironment);
@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,11 +29,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep.Tag;
 import org.springframework.mock.env.MockPropertySource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.BDDMockito.given;
 
 /**
@@ -125,6 +131,101 @@ class ConfigDataImporterTests {
 		assertThat(loaded2and3).containsExactly(configData3);
 	}
 
+	@Test
+	void loadImportsWhenConcurrentLoadingLoadsInOrder() throws Exception {
+		ConfigDataLocation location1 = ConfigDataLocation.of("test1");
+		ConfigDataLocation location2 = ConfigDataLocation.of("test2");
+		ConfigDataLocation location3 = ConfigDataLocation.of("test3");
+		TestResource resource1 = new TestResource("r1");
+		TestResource resource2 = new TestResource("r2");
+		TestResource resource3 = new TestResource("r3");
+		ConfigData configData1 = new ConfigData(Collections.singleton(new MockPropertySource()));
+		ConfigData configData2 = new ConfigData(Collections.singleton(new MockPropertySource()));
+		ConfigData configData3 = new ConfigData(Collections.singleton(new MockPropertySource()));
+		given(this.resolvers.resolve(this.locationResolverContext, location1, this.profiles))
+				.willReturn(Collections.singletonList(new ConfigDataResolutionResult(location1, resource1, false)));
+		given(this.resolvers.resolve(this.locationResolverContext, location2, this.profiles))
+				.willReturn(Collections.singletonList(new ConfigDataResolutionResult(location2, resource2, false)));
+		given(this.resolvers.resolve(this.locationResolverContext, location3, this.profiles))
+				.willReturn(Collections.singletonList(new ConfigDataResolutionResult(location3, resource3, false)));
+		given(this.loaders.load(this.loaderContext, resource1)).willAnswer((invocation) -> {
+			Thread.sleep(50);
+			return configData1;
+		});
+		given(this.loaders.load(this.loaderContext, resource2)).willReturn(configData2);
+		given(this.loaders.load(this.loaderContext, resource3)).willReturn(configData3);
+		ConfigDataImporter importer = new ConfigDataImporter(this.logFactory, ConfigDataNotFoundAction.FAIL,
+				this.resolvers, this.loaders, true, ApplicationStartup.DEFAULT);
+		Collection<ConfigData> loaded = importer.resolveAndLoad(this.activationContext, this.locationResolverContext,
+				this.loaderContext, Arrays.asList(location1, location2, location3)).values();
+		assertThat(loaded).containsExactly(configData3, configData2, configData1);
+	}
+
+	@Test
+	void loadImportsWhenConcurrentLoadingAndResourceNotFoundThrowsException() throws Exception {
+		ConfigDataLocation location1 = ConfigDataLocation.of("test1");
+		ConfigDataLocation location2 = ConfigDataLocation.of("test2");
+		TestResource resource1 = new TestResource("r1");
+		TestResource resource2 = new TestResource("r2");
+		ConfigData configData2 = new ConfigData(Collections.singleton(new MockPropertySource()));
+		given(this.resolvers.resolve(this.locationResolverContext, location1, this.profiles))
+				.willReturn(Collections.singletonList(new ConfigDataResolutionResult(location1, resource1, false)));
+		given(this.resolvers.resolve(this.locationResolverContext, location2, this.profiles))
+				.willReturn(Collections.singletonList(new ConfigDataResolutionResult(location2, resource2, false)));
+		given(this.loaders.load(this.loaderContext, resource1))
+				.willThrow(new ConfigDataResourceNotFoundException(resource1));
+		given(this.loaders.load(this.loaderContext, resource2)).willReturn(configData2);
+		ConfigDataImporter importer = new ConfigDataImporter(this.logFactory, ConfigDataNotFoundAction.FAIL,
+				this.resolvers, this.loaders, true, ApplicationStartup.DEFAULT);
+		assertThatExceptionOfType(ConfigDataResourceNotFoundException.class)
+				.isThrownBy(() -> importer.resolveAndLoad(this.activationContext, this.locationResolverContext,
+						this.loaderContext, Arrays.asList(location1, location2)))
+				.satisfies((ex) -> assertThat(ex.getLocation()).isEqualTo(location1));
+	}
+
+	@Test
+	void loadImportsRecordsStartupStepForEachResource() throws Exception {
+		assertThat(loadAndGetStepResources(false)).containsExactly("r2", "r1");
+	}
+
+	@Test
+	void loadImportsWhenConcurrentLoadingRecordsStartupStepForEachResource() throws Exception {
+		assertThat(loadAndGetStepResources(true)).containsExactly("r2", "r1");
+	}
+
+	private List<String> loadAndGetStepResources(boolean concurrentLoading) throws Exception {
+		ConfigDataLocation location1 = ConfigDataLocation.of("test1");
+		ConfigDataLocation location2 = ConfigDataLocation.of("test2");
+		TestResource resource1 = new TestResource("r1");
+		TestResource resource2 = new TestResource("r2");
+		given(this.resolvers.resolve(this.locationResolverContext, location1, this.profiles))
+				.willReturn(Collections.singletonList(new ConfigDataResolutionResult(location1, resource1, false)));
+		given(this.resolvers.resolve(this.locationResolverContext, location2, this.profiles))
+				.willReturn(Collections.singletonList(new ConfigDataResolutionResult(location2, resource2, false)));
+		given(this.loaders.load(this.loaderContext, resource1))
+				.willReturn(new ConfigData(Collections.singleton(new MockPropertySource())));
+		given(this.loaders.load(this.loaderContext, resource2))
+				.willReturn(new ConfigData(Collections.singleton(new MockPropertySource())));
+		BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(10);
+		ConfigDataImporter importer = new ConfigDataImporter(this.logFactory, ConfigDataNotFoundAction.FAIL,
+				this.resolvers, this.loaders, concurrentLoading, applicationStartup);
+		importer.resolveAndLoad(this.activationContext, this.locationResolverContext, this.loaderContext,
+				Arrays.asList(location1, location2));
+		List<TimelineEvent> events = applicationStartup.getBufferedTimeline().getEvents();
+		assertThat(events).extracting((event) -> event.getStartupStep().getName())
+				.containsOnly("spring.boot.config-data.load");
+		return events.stream().map(this::getResourceTag).collect(Collectors.toList());
+	}
+
+	private String getResourceTag(TimelineEvent event) {
+		for (Tag tag : event.getStartupStep().getTags()) {
+			if (tag.getKey().equals("resource")) {
+				return tag.getValue();
+			}
+		}
+		return null;
+	}
+
 	static class TestResource extends ConfigDataResource {
 
 		private final String name;
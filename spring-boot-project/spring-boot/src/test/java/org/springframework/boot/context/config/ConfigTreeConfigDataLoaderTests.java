@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,12 +24,18 @@ import java.nio.file.Path;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import org.springframework.boot.ConfigurableBootstrapContext;
+import org.springframework.boot.env.ConfigTreePropertySource;
 import org.springframework.core.env.PropertySource;
 import org.springframework.util.FileCopyUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 /**
  * Tests for {@link ConfigTreeConfigDataLoader}.
@@ -59,6 +65,28 @@ public class ConfigTreeConfigDataLoaderTests {
 		assertThat(source.getProperty("hello").toString()).isEqualTo("world");
 	}
 
+	@Test
+	void loadWhenNotWatchedReturnsPropertySourceThatIsNotRefreshable() throws IOException {
+		ConfigurableBootstrapContext bootstrapContext = mock(ConfigurableBootstrapContext.class);
+		given(this.loaderContext.getBootstrapContext()).willReturn(bootstrapContext);
+		ConfigTreeConfigDataResource location = new ConfigTreeConfigDataResource(this.directory.toString());
+		ConfigData configData = this.loader.load(this.loaderContext, location);
+		ConfigTreePropertySource source = (ConfigTreePropertySource) configData.getPropertySources().get(0);
+		assertThat(source.isImmutable()).isTrue();
+		verify(bootstrapContext, never()).addCloseListener(any());
+	}
+
+	@Test
+	void loadWhenWatchedReturnsRefreshablePropertySourceAndRegistersWatcher() throws IOException {
+		ConfigurableBootstrapContext bootstrapContext = mock(ConfigurableBootstrapContext.class);
+		given(this.loaderContext.getBootstrapContext()).willReturn(bootstrapContext);
+		ConfigTreeConfigDataResource location = new ConfigTreeConfigDataResource(this.directory.toString(), true);
+		ConfigData configData = this.loader.load(this.loaderContext, location);
+		ConfigTreePropertySource source = (ConfigTreePropertySource) configData.getPropertySources().get(0);
+		assertThat(source.isImmutable()).isFalse();
+		verify(bootstrapContext).addCloseListener(any());
+	}
+
 	@Test
 	void loadWhenPathDoesNotExistThrowsException() {
 		File missing = this.directory.resolve("missing").toFile();
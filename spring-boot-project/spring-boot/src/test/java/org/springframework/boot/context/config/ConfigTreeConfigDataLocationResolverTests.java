@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,15 +17,20 @@
 package org.springframework.boot.context.config;
 
 import java.io.File;
+import java.util.Collections;
 import java.util.List;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.util.FileCopyUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -44,6 +49,11 @@ class ConfigTreeConfigDataLocationResolverTests {
 	@TempDir
 	File temp;
 
+	@BeforeEach
+	void setup() {
+		given(this.context.getBinder()).willReturn(new Binder());
+	}
+
 	@Test
 	void isResolvableWhenPrefixMatchesReturnsTrue() {
 		assertThat(this.resolver.isResolvable(this.context, ConfigDataLocation.of("configtree:/etc/config"))).isTrue();
@@ -80,4 +90,21 @@ class ConfigTreeConfigDataLocationResolverTests {
 				"config tree [" + directoryB.getAbsolutePath() + "]");
 	}
 
+	@Test
+	void resolveWhenWatchPropertyIsSetReturnsWatchedResource() {
+		MapConfigurationPropertySource source = new MapConfigurationPropertySource(
+				Collections.singletonMap("spring.config.configtree.watch", "true"));
+		given(this.context.getBinder()).willReturn(new Binder(source));
+		List<ConfigTreeConfigDataResource> locations = this.resolver.resolve(this.context,
+				ConfigDataLocation.of("configtree:/etc/config/"));
+		assertThat(locations).singleElement().satisfies((location) -> assertThat(location.isWatched()).isTrue());
+	}
+
+	@Test
+	void resolveWhenWatchPropertyIsNotSetReturnsUnwatchedResource() {
+		List<ConfigTreeConfigDataResource> locations = this.resolver.resolve(this.context,
+				ConfigDataLocation.of("configtree:/etc/config/"));
+		assertThat(locations).singleElement().satisfies((location) -> assertThat(location.isWatched()).isFalse());
+	}
+
 }
@@ -16,14 +16,26 @@
 
 package org.springframework.boot.context.config;
 
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.boot.env.PropertiesPropertySourceLoader;
+import org.springframework.boot.env.PropertySourceSnapshot;
 import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.boot.origin.OriginLookup;
+import org.springframework.boot.origin.TextResourceOrigin;
 import org.springframework.core.env.PropertySource;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -40,6 +52,9 @@ public class StandardConfigDataLoaderTests {
 
 	private ConfigDataLoaderContext loaderContext = mock(ConfigDataLoaderContext.class);
 
+	@TempDir
+	File temp;
+
 	@Test
 	void loadWhenLocationResultsInMultiplePropertySourcesAddsAllToConfigData() throws IOException {
 		ClassPathResource resource = new ClassPathResource("configdata/yaml/application.yml");
@@ -72,4 +87,61 @@ public class StandardConfigDataLoaderTests {
 		assertThat(configData.getPropertySources().size()).isEqualTo(0);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void loadWhenResourceHasSnapshotUsesSnapshot() throws IOException {
+		File file = new File(this.temp, "application.yml");
+		Files.write(file.toPath(), "a:\n  b: c\n".getBytes(StandardCharsets.UTF_8));
+		writeSnapshot(file);
+		CountingYamlPropertySourceLoader propertySourceLoader = new CountingYamlPropertySourceLoader();
+		ConfigData configData = this.loader.load(this.loaderContext, createResource(file, propertySourceLoader));
+		assertThat(propertySourceLoader.loads).isZero();
+		assertThat(configData.getPropertySources()).hasSize(1);
+		PropertySource<?> propertySource = configData.getPropertySources().get(0);
+		assertThat(propertySource.getName()).isEqualTo("Config resource 'file [" + file.getAbsolutePath() + "]' "
+				+ "via location 'file:" + file.getAbsolutePath() + "'");
+		assertThat(propertySource.getProperty("a.b")).isEqualTo("c");
+		TextResourceOrigin origin = (TextResourceOrigin) ((OriginLookup<String>) propertySource).getOrigin("a.b");
+		assertThat(origin.getLocation().getLine()).isEqualTo(1);
+		assertThat(origin.getResource().getFilename()).isEqualTo("application.yml");
+	}
+
+	@Test
+	void loadWhenResourceHasStaleSnapshotLoadsResource() throws IOException {
+		File file = new File(this.temp, "application.yml");
+		Files.write(file.toPath(), "a: b".getBytes(StandardCharsets.UTF_8));
+		writeSnapshot(file);
+		Files.write(file.toPath(), "a: c".getBytes(StandardCharsets.UTF_8));
+		CountingYamlPropertySourceLoader propertySourceLoader = new CountingYamlPropertySourceLoader();
+		ConfigData configData = this.loader.load(this.loaderContext, createResource(file, propertySourceLoader));
+		assertThat(propertySourceLoader.loads).isOne();
+		assertThat(configData.getPropertySources().get(0).getProperty("a")).isEqualTo("c");
+	}
+
+	private void writeSnapshot(File file) throws IOException {
+		File snapshot = new File(file.getAbsolutePath() + PropertySourceSnapshot.FILE_EXTENSION);
+		try (OutputStream output = new FileOutputStream(snapshot)) {
+			PropertySourceSnapshot.write(new CountingYamlPropertySourceLoader(), new FileSystemResource(file), output);
+		}
+	}
+
+	private StandardConfigDataResource createResource(File file, YamlPropertySourceLoader propertySourceLoader) {
+		String location = "file:" + file.getAbsolutePath();
+		StandardConfigDataReference reference = new StandardConfigDataReference(ConfigDataLocation.of(location), null,
+				location.substring(0, location.length() - ".yml".length()), null, "yml", propertySourceLoader);
+		return new StandardConfigDataResource(reference, new FileSystemResource(file));
+	}
+
+	static class CountingYamlPropertySourceLoader extends YamlPropertySourceLoader {
+
+		int loads;
+
+		@Override
+		public List<PropertySource<?>> load(String name, Resource resource) throws IOException {
+			this.loads++;
+			return super.load(name, resource);
+		}
+
+	}
+
 }
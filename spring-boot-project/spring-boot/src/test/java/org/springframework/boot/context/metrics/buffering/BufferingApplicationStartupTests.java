@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -56,6 +56,25 @@ class BufferingApplicationStartupTests {
 		assertThat(secondEvent.getStartupStep().getParentId()).isEqualTo(2);
 	}
 
+	@Test
+	void shouldNotRecordEventsWhenFilteredByStepName() {
+		BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(5);
+		applicationStartup.addStepNameFilter((name) -> name.startsWith("spring"));
+		applicationStartup.start("spring.first").end();
+		StartupStep filtered = applicationStartup.start("filtered.second").tag("name", "value");
+		applicationStartup.start("spring.third").end();
+		filtered.end();
+		applicationStartup.start("spring.fourth").end();
+		assertThat(filtered.getTags()).isEmpty();
+		assertThat(applicationStartup.getBufferedTimeline().getEvents()).hasSize(3);
+		StartupTimeline.TimelineEvent secondEvent = applicationStartup.getBufferedTimeline().getEvents().get(1);
+		assertThat(secondEvent.getStartupStep().getId()).isEqualTo(3);
+		assertThat(secondEvent.getStartupStep().getParentId()).isEqualTo(2);
+		StartupTimeline.TimelineEvent thirdEvent = applicationStartup.getBufferedTimeline().getEvents().get(2);
+		assertThat(thirdEvent.getStartupStep().getId()).isEqualTo(4);
+		assertThat(thirdEvent.getStartupStep().getParentId()).isEqualTo(0);
+	}
+
 	@Test
 	void bufferShouldNotBeEmptyWhenGettingSnapshot() {
 		BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(2);
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.context.metrics.buffering;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.json.BasicJsonParser;
+import org.springframework.boot.system.ApplicationPid;
+import org.springframework.core.metrics.StartupStep;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link StartupTimelineTraceEventWriter}.
+ *
+ * @author Phillip Webb
+ */
+class StartupTimelineTraceEventWriterTests {
+
+	private final StartupTimelineTraceEventWriter writer = new StartupTimelineTraceEventWriter();
+
+	@Test
+	void writeWhenTimelineIsEmpty() {
+		BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(2);
+		String json = this.writer.toJson(applicationStartup.getBufferedTimeline());
+		assertThat(json).isEqualTo("{\"traceEvents\":[],\"displayTimeUnit\":\"ms\"}");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void writeWritesCompleteEvents() {
+		BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(4);
+		StartupStep outer = applicationStartup.start("spring.outer");
+		applicationStartup.start("spring.inner").tag("beanName", "testBean").end();
+		outer.end();
+		String json = this.writer.toJson(applicationStartup.getBufferedTimeline());
+		Map<String, Object> trace = new BasicJsonParser().parseMap(json);
+		List<Object> events = (List<Object>) trace.get("traceEvents");
+		assertThat(events).hasSize(3);
+		Map<String, Object> inner = (Map<String, Object>) events.get(0);
+		assertThat(inner).containsEntry("name", "spring.inner").containsEntry("ph", "X").containsEntry("cat",
+				"spring.startup");
+		assertThat(inner).containsKeys("ts", "dur");
+		Map<String, Object> args = (Map<String, Object>) inner.get("args");
+		assertThat(args).containsEntry("id", 2L).containsEntry("parentId", 1L).containsEntry("beanName",
+				"testBean");
+		Map<String, Object> outerEvent = (Map<String, Object>) events.get(1);
+		assertThat(outerEvent).containsEntry("name", "spring.outer");
+		assertThat((Long) outerEvent.get("dur")).isGreaterThanOrEqualTo((Long) inner.get("dur"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void writeAttributesEventsToProcessAndThread() throws Exception {
+		BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(4);
+		applicationStartup.start("spring.main").end();
+		Thread thread = new Thread(() -> applicationStartup.start("spring.background").end(), "background");
+		thread.start();
+		thread.join();
+		String json = this.writer.toJson(applicationStartup.getBufferedTimeline());
+		List<Object> events = (List<Object>) new BasicJsonParser().parseMap(json).get("traceEvents");
+		assertThat(events).hasSize(4);
+		Map<String, Object> main = (Map<String, Object>) events.get(0);
+		Map<String, Object> background = (Map<String, Object>) events.get(1);
+		assertThat(main).containsEntry("pid", Long.valueOf(new ApplicationPid().toString())).containsEntry("tid",
+				Thread.currentThread().getId());
+		assertThat(background).containsEntry("tid", thread.getId());
+		Map<String, Object> backgroundThreadName = (Map<String, Object>) events.get(3);
+		assertThat(backgroundThreadName).containsEntry("name", "thread_name").containsEntry("ph", "M")
+				.containsEntry("tid", thread.getId());
+		assertThat((Map<String, Object>) backgroundThreadName.get("args")).containsEntry("name", "background");
+	}
+
+	@Test
+	void writeEscapesStrings() {
+		BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(2);
+		applicationStartup.start("spring.\"quoted\"").tag("path", "C:\\test\n").end();
+		String json = this.writer.toJson(applicationStartup.getBufferedTimeline());
+		assertThat(json).contains("\"name\":\"spring.\\\"quoted\\\"\"")
+				.contains("\"path\":\"C:\\\\test\\n\"");
+	}
+
+}
@@ -233,6 +233,64 @@ class ConfigTreePropertySourceTests {
 		assertThat(propertySource.getProperty("a").toString()).isEqualTo("a");
 	}
 
+	@Test
+	void refreshWhenNotRefreshableThrowsException() throws Exception {
+		ConfigTreePropertySource propertySource = getFlatPropertySource();
+		assertThatIllegalStateException().isThrownBy(propertySource::refresh)
+				.withMessage("Property source is not refreshable");
+	}
+
+	@Test
+	void isImmutableWhenRefreshableReturnsFalse() throws Exception {
+		addProperty("a", "A");
+		ConfigTreePropertySource propertySource = new ConfigTreePropertySource("test", this.directory,
+				Option.REFRESHABLE);
+		assertThat(propertySource.isImmutable()).isFalse();
+	}
+
+	@Test
+	void refreshWhenUnchangedReturnsEmptySet() throws Exception {
+		addProperty("a", "A");
+		ConfigTreePropertySource propertySource = new ConfigTreePropertySource("test", this.directory,
+				Option.REFRESHABLE);
+		Value value = propertySource.getProperty("a");
+		assertThat(propertySource.refresh()).isEmpty();
+		assertThat(propertySource.getProperty("a")).isSameAs(value);
+	}
+
+	@Test
+	void refreshWhenFilesAddedAndRemovedReturnsChangedNames() throws Exception {
+		addProperty("a", "A");
+		addProperty("b", "B");
+		ConfigTreePropertySource propertySource = new ConfigTreePropertySource("test", this.directory,
+				Option.REFRESHABLE);
+		Files.delete(this.directory.resolve("a"));
+		addProperty("c", "C");
+		assertThat(propertySource.refresh()).containsExactly("a", "c");
+		assertThat(propertySource.getPropertyNames()).containsExactly("b", "c");
+		assertThat(propertySource.getProperty("a")).isNull();
+		assertThat(propertySource.getProperty("c").toString()).isEqualTo("C");
+	}
+
+	@Test
+	void refreshWhenDataSymlinkSwappedReturnsChangedNames() throws Exception {
+		addProperty("..2021_01/a", "A1");
+		addProperty("..2021_01/b", "B");
+		createSymbolicLink("..data", "..2021_01");
+		createSymbolicLink("a", "..data/a");
+		createSymbolicLink("b", "..data/b");
+		ConfigTreePropertySource propertySource = new ConfigTreePropertySource("test", this.directory,
+				Option.REFRESHABLE);
+		assertThat(propertySource.getProperty("a").toString()).isEqualTo("A1");
+		addProperty("..2021_02/a", "A2");
+		Files.copy(this.directory.resolve("..2021_01/b"), this.directory.resolve("..2021_02/b"));
+		Files.delete(this.directory.resolve("..data"));
+		createSymbolicLink("..data", "..2021_02");
+		assertThat(propertySource.refresh()).contains("a");
+		assertThat(propertySource.getProperty("a").toString()).isEqualTo("A2");
+		assertThat(propertySource.getProperty("b").toString()).isEqualTo("B");
+	}
+
 	private ConfigTreePropertySource getFlatPropertySource() throws IOException {
 		addProperty("a", "A");
 		addProperty("b", "B");
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.env;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.boot.env.ConfigTreePropertySource.Option;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.util.FileCopyUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for {@link ConfigTreeWatcher}.
+ *
+ * @author Phillip Webb
+ */
+class ConfigTreeWatcherTests {
+
+	@TempDir
+	Path directory;
+
+	private final List<Object> events = new CopyOnWriteArrayList<>();
+
+	private final ApplicationEventPublisher eventPublisher = this.events::add;
+
+	@Test
+	void createWhenPropertySourceIsNullThrowsException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new ConfigTreeWatcher(null, this.eventPublisher))
+				.withMessage("PropertySource must not be null");
+	}
+
+	@Test
+	void changeToFilePublishesEvent() throws Exception {
+		addProperty("a", "A");
+		addProperty("b", "B");
+		ConfigTreePropertySource propertySource = new ConfigTreePropertySource("test", this.directory,
+				Option.REFRESHABLE);
+		try (ConfigTreeWatcher watcher = new ConfigTreeWatcher(propertySource, this.eventPublisher,
+				Duration.ofMillis(50))) {
+			watcher.start();
+			addProperty("a", "AA");
+			addProperty("c", "C");
+			await().atMost(Duration.ofSeconds(30)).until(() -> !this.events.isEmpty());
+		}
+		ConfigTreeChangedEvent event = (ConfigTreeChangedEvent) this.events.get(0);
+		assertThat(event.getSource()).isSameAs(propertySource);
+		assertThat(event.getChangedPropertyNames()).contains("c");
+		assertThat(propertySource.getProperty("c").toString()).isEqualTo("C");
+	}
+
+	private void addProperty(String path, String value) throws IOException {
+		File file = this.directory.resolve(path).toFile();
+		file.getParentFile().mkdirs();
+		FileCopyUtils.copy(value.getBytes(StandardCharsets.UTF_8), file);
+	}
+
+}
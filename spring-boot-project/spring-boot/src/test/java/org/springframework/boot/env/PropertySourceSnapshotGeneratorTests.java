@@ -0,0 +1,85 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.env;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.io.FileSystemResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PropertySourceSnapshotGenerator}.
+ *
+ * @author Phillip Webb
+ */
+class PropertySourceSnapshotGeneratorTests {
+
+	@TempDir
+	File temp;
+
+	@Test
+	void generateWritesSnapshotOfEachApplicationConfigFile() throws IOException {
+		File source = new File(this.temp, "source");
+		File output = new File(this.temp, "output");
+		write(new File(source, "application.yml"), "a: b");
+		write(new File(source, "application-dev.properties"), "a=c");
+		write(new File(source, "config/application.yaml"), "a: d");
+		write(new File(source, "other.yml"), "a: e");
+		write(new File(source, "nested/application.yml"), "a: f");
+		List<File> snapshots = new PropertySourceSnapshotGenerator().generate(source, output);
+		assertThat(snapshots).containsExactlyInAnyOrder(new File(output, "application.yml.snapshot"),
+				new File(output, "application-dev.properties.snapshot"),
+				new File(output, "config/application.yaml.snapshot"));
+		assertThat(snapshots).allMatch(File::isFile);
+		assertThat(new File(output, "other.yml.snapshot")).doesNotExist();
+		assertThat(new File(output, "nested")).doesNotExist();
+	}
+
+	@Test
+	void generatedSnapshotIsReadForConfigFile() throws IOException {
+		File config = new File(this.temp, "application.yml");
+		write(config, "a: b");
+		new PropertySourceSnapshotGenerator().generate(this.temp, this.temp);
+		assertThat(PropertySourceSnapshot.read(new YamlPropertySourceLoader(), "test", new FileSystemResource(config)))
+				.singleElement().satisfies((propertySource) -> assertThat(propertySource.getProperty("a"))
+						.isEqualTo("b"));
+	}
+
+	@Test
+	void generateWhenConfigFileCannotBeSnapshotDeletesExistingSnapshot() throws IOException {
+		File config = new File(this.temp, "application.yml");
+		write(config, "a: b");
+		new PropertySourceSnapshotGenerator().generate(this.temp, this.temp);
+		write(config, "a: !!timestamp 2021-01-01");
+		assertThat(new PropertySourceSnapshotGenerator().generate(this.temp, this.temp)).isEmpty();
+		assertThat(new File(this.temp, "application.yml.snapshot")).doesNotExist();
+	}
+
+	private void write(File file, String content) throws IOException {
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
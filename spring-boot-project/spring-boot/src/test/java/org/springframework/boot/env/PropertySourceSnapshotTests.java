@@ -0,0 +1,165 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.env;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PropertySourceSnapshot}.
+ *
+ * @author Phillip Webb
+ */
+class PropertySourceSnapshotTests {
+
+	@TempDir
+	File temp;
+
+	@Test
+	void readWhenYamlSnapshotExistsReturnsSameValuesAndOriginsAsLoader() throws IOException {
+		Resource resource = createResource("application.yml",
+				"string: text\nnumber: 123\nlong: 12345678901\nbig: 123456789012345678901\ndecimal: 1.5\n"
+						+ "flag: true\nempty:\nlist: []\nmap: {}\nbinary: !!binary AQID\nitems:\n  - one\n  - two\n"
+						+ "---\nspring.config.activate.on-profile: dev\nstring: dev\n");
+		YamlPropertySourceLoader loader = new YamlPropertySourceLoader();
+		writeSnapshot(loader, resource);
+		List<PropertySource<?>> snapshot = PropertySourceSnapshot.read(loader, "test", resource);
+		assertSameAsLoaded(snapshot, loader.load("test", resource));
+		assertThat(snapshot.get(0).getName()).isEqualTo("test (document #0)");
+		assertThat(snapshot.get(0).getProperty("big")).isEqualTo(new BigInteger("123456789012345678901"));
+		assertThat(snapshot.get(0).getProperty("binary")).isEqualTo(new byte[] { 1, 2, 3 });
+		assertThat(snapshot.get(1).getProperty("string")).isEqualTo("dev");
+	}
+
+	@Test
+	void readWhenPropertiesSnapshotExistsReturnsSameValuesAndOriginsAsLoader() throws IOException {
+		Resource resource = createResource("application.properties", "a=1\nb=two\\\n  lines\nc[0]=x\n");
+		PropertiesPropertySourceLoader loader = new PropertiesPropertySourceLoader();
+		writeSnapshot(loader, resource);
+		List<PropertySource<?>> snapshot = PropertySourceSnapshot.read(loader, "test", resource);
+		assertSameAsLoaded(snapshot, loader.load("test", resource));
+		assertThat(snapshot.get(0).getName()).isEqualTo("test");
+		assertThat(((OriginTrackedMapPropertySource) snapshot.get(0)).isImmutable()).isTrue();
+	}
+
+	@Test
+	void readWhenResourceIsEmptyReturnsNoPropertySources() throws IOException {
+		Resource resource = createResource("application.yml", "");
+		YamlPropertySourceLoader loader = new YamlPropertySourceLoader();
+		writeSnapshot(loader, resource);
+		assertThat(PropertySourceSnapshot.read(loader, "test", resource)).isEmpty();
+	}
+
+	@Test
+	void readWhenSnapshotDoesNotExistReturnsNull() throws IOException {
+		Resource resource = createResource("application.yml", "a: b");
+		assertThat(PropertySourceSnapshot.read(new YamlPropertySourceLoader(), "test", resource)).isNull();
+	}
+
+	@Test
+	void readWhenContentHasChangedReturnsNull() throws IOException {
+		Resource resource = createResource("application.yml", "a: b");
+		YamlPropertySourceLoader loader = new YamlPropertySourceLoader();
+		writeSnapshot(loader, resource);
+		createResource("application.yml", "a: c");
+		assertThat(PropertySourceSnapshot.read(loader, "test", resource)).isNull();
+	}
+
+	@Test
+	void readWhenSnapshotWasWrittenByAnotherLoaderReturnsNull() throws IOException {
+		Resource resource = createResource("application.yml", "a: b");
+		writeSnapshot(new YamlPropertySourceLoader(), resource);
+		YamlPropertySourceLoader loader = new YamlPropertySourceLoader() {
+		};
+		assertThat(PropertySourceSnapshot.read(loader, "test", resource)).isNull();
+	}
+
+	@Test
+	void writeWhenPropertySourceIsNotSupportedWritesNothing() throws IOException {
+		Resource resource = createResource("application.custom", "a=b");
+		PropertySourceLoader loader = new PropertySourceLoader() {
+
+			@Override
+			public String[] getFileExtensions() {
+				return new String[] { "custom" };
+			}
+
+			@Override
+			public List<PropertySource<?>> load(String name, Resource resource) {
+				return Collections.singletonList(new MapPropertySource(name, Collections.singletonMap("a", "b")));
+			}
+
+		};
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		assertThat(PropertySourceSnapshot.write(loader, resource, output)).isFalse();
+		assertThat(output.toByteArray()).isEmpty();
+	}
+
+	@Test
+	void writeWhenValueIsNotSupportedWritesNothing() throws IOException {
+		Resource resource = createResource("application.yml", "date: !!timestamp 2021-01-01");
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		assertThat(PropertySourceSnapshot.write(new YamlPropertySourceLoader(), resource, output)).isFalse();
+		assertThat(output.toByteArray()).isEmpty();
+	}
+
+	private void assertSameAsLoaded(List<PropertySource<?>> snapshot, List<PropertySource<?>> loaded) {
+		assertThat(snapshot).hasSameSizeAs(loaded);
+		for (int i = 0; i < loaded.size(); i++) {
+			OriginTrackedMapPropertySource expected = (OriginTrackedMapPropertySource) loaded.get(i);
+			OriginTrackedMapPropertySource actual = (OriginTrackedMapPropertySource) snapshot.get(i);
+			assertThat(actual.getName()).isEqualTo(expected.getName());
+			assertThat(actual.getPropertyNames()).containsExactly(expected.getPropertyNames());
+			for (String name : expected.getPropertyNames()) {
+				assertThat(actual.getProperty(name)).isEqualTo(expected.getProperty(name));
+				assertThat(actual.getOrigin(name)).isEqualTo(expected.getOrigin(name));
+			}
+		}
+	}
+
+	private Resource createResource(String name, String content) throws IOException {
+		File file = new File(this.temp, name);
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		return new FileSystemResource(file);
+	}
+
+	private void writeSnapshot(PropertySourceLoader loader, Resource resource) throws IOException {
+		File snapshot = new File(this.temp, resource.getFilename() + PropertySourceSnapshot.FILE_EXTENSION);
+		try (OutputStream output = new FileOutputStream(snapshot)) {
+			assertThat(PropertySourceSnapshot.write(loader, resource, output)).isTrue();
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -112,6 +112,14 @@ class JsonComponentModuleTests {
 		assertDeserializeForSpecifiedClasses(module);
 	}
 
+	@Test
+	void moduleShouldExposeHandledTypes() {
+		load(NameAndAgeJsonComponent.class, NameAndCareerJsonComponent.class, NameAndAgeJsonKeyComponent.class);
+		JsonComponentModule module = this.context.getBean(JsonComponentModule.class);
+		assertThat(module.getSerializedTypes()).containsExactlyInAnyOrder(NameAndAge.class, NameAndCareer.class);
+		assertThat(module.getDeserializedTypes()).containsExactlyInAnyOrder(NameAndAge.class, NameAndCareer.class);
+	}
+
 	private void load(Class<?>... configs) {
 		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
 		context.register(configs);
@@ -16,16 +16,23 @@
 
 package org.springframework.boot.jdbc.init;
 
+import java.util.Arrays;
 import java.util.UUID;
 
 import com.zaxxer.hikari.HikariDataSource;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
 
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.boot.sql.init.AbstractScriptDatabaseInitializer;
 import org.springframework.boot.sql.init.AbstractScriptDatabaseInitializerTests;
 import org.springframework.boot.sql.init.DatabaseInitializationSettings;
+import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptStatementFailedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * Tests for {@link DataSourceScriptDatabaseInitializer}.
@@ -34,6 +41,8 @@ import org.springframework.jdbc.core.JdbcTemplate;
  */
 class DataSourceScriptDatabaseInitializerTests extends AbstractScriptDatabaseInitializerTests {
 
+	private static final String RESOURCES = "org/springframework/boot/jdbc/init/";
+
 	private final HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class)
 			.url("jdbc:h2:mem:" + UUID.randomUUID()).build();
 
@@ -42,6 +51,60 @@ class DataSourceScriptDatabaseInitializerTests extends AbstractScriptDatabaseIni
 		this.dataSource.close();
 	}
 
+	@Test
+	void whenBatchSizeIsSetThenScriptsAreAppliedInBatches() {
+		DatabaseInitializationSettings settings = new DatabaseInitializationSettings();
+		settings.setSchemaLocations(Arrays.asList("schema.sql"));
+		settings.setDataLocations(Arrays.asList(RESOURCES + "batch-data-1.sql", RESOURCES + "batch-data-2.sql"));
+		settings.setBatchSize(3);
+		assertThat(createInitializer(settings).initializeDatabase()).isTrue();
+		assertThat(numberOfRows("SELECT COUNT(*) FROM EXAMPLE")).isEqualTo(12);
+	}
+
+	@Test
+	void whenBatchSizeIsSetAndContinueOnErrorIsFalseThenInitializationFailsOnError() {
+		DatabaseInitializationSettings settings = new DatabaseInitializationSettings();
+		settings.setSchemaLocations(Arrays.asList("schema.sql"));
+		settings.setDataLocations(Arrays.asList(RESOURCES + "batch-data-error.sql"));
+		settings.setBatchSize(2);
+		AbstractScriptDatabaseInitializer initializer = createInitializer(settings);
+		assertThatExceptionOfType(ScriptStatementFailedException.class).isThrownBy(initializer::initializeDatabase)
+				.withMessageContaining("statement #2");
+		assertThat(numberOfRows("SELECT COUNT(*) FROM EXAMPLE")).isEqualTo(0);
+	}
+
+	@Test
+	void whenBatchSizeIsSetAndContinueOnErrorIsTrueThenFailedBatchIsSkipped() {
+		DatabaseInitializationSettings settings = new DatabaseInitializationSettings();
+		settings.setSchemaLocations(Arrays.asList("schema.sql"));
+		settings.setDataLocations(Arrays.asList(RESOURCES + "batch-data-error.sql"));
+		settings.setBatchSize(2);
+		settings.setContinueOnError(true);
+		assertThat(createInitializer(settings).initializeDatabase()).isTrue();
+		assertThat(numberOfRows("SELECT COUNT(*) FROM EXAMPLE")).isEqualTo(2);
+	}
+
+	@Test
+	void whenParallelIsTrueThenScriptsAreApplied() {
+		DatabaseInitializationSettings settings = new DatabaseInitializationSettings();
+		settings.setSchemaLocations(Arrays.asList("schema.sql"));
+		settings.setDataLocations(Arrays.asList(RESOURCES + "batch-data-1.sql", RESOURCES + "batch-data-2.sql"));
+		settings.setParallel(true);
+		settings.setBatchSize(4);
+		assertThat(createInitializer(settings).initializeDatabase()).isTrue();
+		assertThat(numberOfRows("SELECT COUNT(*) FROM EXAMPLE")).isEqualTo(12);
+	}
+
+	@Test
+	void whenParallelIsTrueAndScriptFailsThenInitializationFails() {
+		DatabaseInitializationSettings settings = new DatabaseInitializationSettings();
+		settings.setSchemaLocations(Arrays.asList("schema.sql"));
+		settings.setDataLocations(Arrays.asList(RESOURCES + "batch-data-1.sql", RESOURCES + "batch-data-error.sql"));
+		settings.setParallel(true);
+		AbstractScriptDatabaseInitializer initializer = createInitializer(settings);
+		assertThatExceptionOfType(DataAccessException.class).isThrownBy(initializer::initializeDatabase);
+	}
+
 	@Override
 	protected AbstractScriptDatabaseInitializer createInitializer(DatabaseInitializationSettings settings) {
 		return new DataSourceScriptDatabaseInitializer(this.dataSource, settings);
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,17 @@
 
 package org.springframework.boot.json;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+
 /**
  * Tests for {@link BasicJsonParser}.
  *
@@ -28,4 +39,101 @@ public class BasicJsonParserTests extends AbstractJsonParserTests {
 		return new BasicJsonParser();
 	}
 
+	@Test
+	void escapeSequences() {
+		Map<String, Object> map = getParser().parseMap("{\"foo\": \"a\\nb\\t\\\\c\\/\\u0041\"}");
+		assertThat(map.get("foo")).isEqualTo("a\nb\t\\c/A");
+	}
+
+	@Test
+	void stringContainingStructuralCharacters() {
+		Map<String, Object> map = getParser().parseMap("{\"foo\":\"[{a:b}]\",\"bar\":\"https://example.com\"}");
+		assertThat(map).containsEntry("foo", "[{a:b}]").containsEntry("bar", "https://example.com");
+	}
+
+	@Test
+	void literalsAreReturnedAsStrings() {
+		List<Object> list = getParser().parseList("[true, false, null]");
+		assertThat(list).containsExactly("true", "false", "null");
+	}
+
+	@Test
+	void deeplyNestedList() {
+		List<Object> list = getParser().parseList("[[[[[[[[[[\"foo\"]]]]]]]]]]");
+		for (int i = 0; i < 9; i++) {
+			list = castToList(list.get(0));
+		}
+		assertThat(list).containsExactly("foo");
+	}
+
+	@Test
+	void excessivelyNestedListThrowsException() {
+		String json = String.join("", Collections.nCopies(2000, "["));
+		assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> getParser().parseList(json));
+	}
+
+	@Test
+	void trailingContentThrowsException() {
+		assertThatExceptionOfType(JsonParseException.class)
+				.isThrownBy(() -> getParser().parseMap("{\"foo\":\"bar\"} {}"));
+	}
+
+	@Test
+	void unterminatedMapThrowsException() {
+		assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> getParser().parseMap("{\"foo\":\"bar\""));
+	}
+
+	@Test
+	void missingValueThrowsException() {
+		assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> getParser().parseMap("{\"foo\":}"));
+	}
+
+	@Test
+	void unquotedKeys() {
+		Map<String, Object> map = getParser().parseMap("{foo:\"bar\", spam : 1}");
+		assertThat(map).containsEntry("foo", "bar").containsEntry("spam", 1L);
+	}
+
+	@Test
+	void unquotedValueContainingColonAndWhitespace() {
+		Map<String, Object> map = getParser().parseMap("{\"foo\": https://example.com , \"bar\": a b}");
+		assertThat(map).containsEntry("foo", "https://example.com").containsEntry("bar", "a b");
+	}
+
+	@Test
+	void trailingCommaInMapIsIgnored() {
+		Map<String, Object> map = getParser().parseMap("{\"a\":1,}");
+		assertThat(map).containsOnly(entry("a", 1L));
+	}
+
+	@Test
+	void trailingCommaInListIsIgnored() {
+		List<Object> list = getParser().parseList("[1,2, ]");
+		assertThat(list).containsExactly(1L, 2L);
+	}
+
+	@Test
+	void unknownEscapeSequenceReturnsEscapedCharacter() {
+		Map<String, Object> map = getParser().parseMap("{\"foo\": \"a\\qb\"}");
+		assertThat(map.get("foo")).isEqualTo("aqb");
+	}
+
+	@Test
+	void largeDocument() {
+		StringBuilder json = new StringBuilder("{");
+		for (int i = 0; i < 10000; i++) {
+			json.append((i > 0) ? "," : "").append("\"key").append(i).append("\":{\"value\":[\"a\",").append(i)
+					.append("]}");
+		}
+		json.append("}");
+		Map<String, Object> map = getParser().parseMap(json.toString());
+		assertThat(map).hasSize(10000);
+		assertThat(map.get("key9999")).isEqualTo(Collections.singletonMap("value", Arrays.asList("a", 9999L)));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Object> castToList(Object value) {
+		return (List<Object>) value;
+	}
+
 }
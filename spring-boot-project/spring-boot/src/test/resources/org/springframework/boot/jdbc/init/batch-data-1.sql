@@ -0,0 +1,8 @@
+-- First batch of example data
+INSERT INTO EXAMPLE VALUES (1, 'Name 1');
+INSERT INTO EXAMPLE VALUES (2, 'Name 2');
+INSERT INTO EXAMPLE VALUES (3, 'Name 3');
+INSERT INTO EXAMPLE VALUES (4, 'Name 4');
+INSERT INTO EXAMPLE VALUES (5, 'Name 5');
+INSERT INTO EXAMPLE VALUES (6, 'Name 6');
+INSERT INTO EXAMPLE VALUES (7, 'Name 7');
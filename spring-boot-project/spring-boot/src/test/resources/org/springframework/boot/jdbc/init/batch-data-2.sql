@@ -0,0 +1,5 @@
+INSERT INTO EXAMPLE VALUES (8, 'Name 8');
+INSERT INTO EXAMPLE VALUES (9, 'Name 9');
+INSERT INTO EXAMPLE VALUES (10, 'Name 10');
+INSERT INTO EXAMPLE VALUES (11, 'Name 11');
+INSERT INTO EXAMPLE VALUES (12, 'Name 12');
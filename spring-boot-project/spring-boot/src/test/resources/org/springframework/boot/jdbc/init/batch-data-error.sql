@@ -0,0 +1,4 @@
+INSERT INTO EXAMPLE VALUES (1, 'Andy');
+INSERT INTO EXAMPLE VALUES (1, 'Duplicate');
+INSERT INTO EXAMPLE VALUES (2, 'Phil');
+INSERT INTO EXAMPLE VALUES (3, 'Stephane');